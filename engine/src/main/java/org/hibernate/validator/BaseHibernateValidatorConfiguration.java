@@ -23,6 +23,7 @@
 import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.ParameterScriptAssert;
 import org.hibernate.validator.constraints.ScriptAssert;
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.messageinterpolation.LocaleResolver;
@@ -179,6 +180,33 @@
 	@Incubating
 	String FAIL_FAST_ON_PROPERTY_VIOLATION = "hibernate.validator.fail_fast_on_property_violation";
 
+	/**
+	 * Property corresponding to the {@link #patternMatchingStrategy(PatternMatchingStrategy)} method.
+	 * Accepts {@code java-regex} or {@code linear-time}. Defaults to {@code java-regex}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String PATTERN_MATCHING_STRATEGY = "hibernate.validator.pattern_matching_strategy";
+
+	/**
+	 * Property corresponding to the {@link #uniqueElementsParallelThreshold(int)} method.
+	 * Accepts an integer. Defaults to {@code 0}, i.e. the parallel check is disabled.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String UNIQUE_ELEMENTS_PARALLEL_THRESHOLD = "hibernate.validator.unique_elements_parallel_threshold";
+
+	/**
+	 * Property corresponding to the {@link #skipMessageInterpolation(boolean)} method.
+	 * Accepts {@code true} or {@code false}. Defaults to {@code false}.
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	String SKIP_MESSAGE_INTERPOLATION = "hibernate.validator.skip_message_interpolation";
+
 	/**
 	 * <p>
 	 * Returns the {@link ResourceBundleLocator} used by the
@@ -522,4 +550,49 @@ default S locales(Locale... locales) {
 	 */
 	@Incubating
 	S processedBeansTrackingVoter(ProcessedBeansTrackingVoter processedBeanTrackingVoter);
+
+	/**
+	 * Allows setting how the regular expressions of {@link jakarta.validation.constraints.Pattern} constraints are
+	 * matched.
+	 * <p>
+	 * The strategy can be overridden for a given constraint via its payload, see {@link PatternMatchingStrategy}.
+	 *
+	 * @param patternMatchingStrategy the {@link PatternMatchingStrategy} to be used
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S patternMatchingStrategy(PatternMatchingStrategy patternMatchingStrategy);
+
+	/**
+	 * Allows setting the size from which the collections validated by
+	 * {@link org.hibernate.validator.constraints.UniqueElements} constraints are checked in parallel, using the
+	 * common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>
+	 * When the check is parallel and several elements are equal, which of them are reported as duplicates is not
+	 * deterministic.
+	 *
+	 * @param uniqueElementsParallelThreshold the minimum size of the collections checked in parallel, a value lower
+	 * than or equal to 0 disables the parallel check, which is the default
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S uniqueElementsParallelThreshold(int uniqueElementsParallelThreshold);
+
+	/**
+	 * En- or disables the interpolation of the messages of the constraint violations.
+	 * <p>
+	 * When the interpolation is skipped, the {@link jakarta.validation.MessageInterpolator} is not called and
+	 * {@link jakarta.validation.ConstraintViolation#getMessage()} returns the message template. The constraint
+	 * attributes and the message parameters are still available from the violation, see
+	 * {@link org.hibernate.validator.engine.HibernateConstraintViolation}, so that the message can be rendered by the
+	 * client, e.g. after having been written by a {@link org.hibernate.validator.engine.ConstraintViolationJsonWriter}.
+	 *
+	 * @param skipMessageInterpolation {@code true} to skip the interpolation of the messages, {@code false} otherwise
+	 * @return {@code this} following the chaining method pattern
+	 * @since 9.2
+	 */
+	@Incubating
+	S skipMessageInterpolation(boolean skipMessageInterpolation);
 }
@@ -190,4 +190,17 @@ public interface HibernateValidatorContext extends ValidatorContext {
 	 */
 	@Incubating
 	HibernateValidatorContext failFastOnPropertyViolation(boolean failFastOnPropertyViolation);
+
+	/**
+	 * En- or disables the interpolation of the messages of the constraint violations. When the interpolation is
+	 * skipped, {@link jakarta.validation.ConstraintViolation#getMessage()} returns the message template.
+	 *
+	 * @param skipMessageInterpolation {@code true} to skip the interpolation of the messages, {@code false} otherwise.
+	 *
+	 * @return {@code this} following the chaining method pattern
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	HibernateValidatorContext skipMessageInterpolation(boolean skipMessageInterpolation);
 }
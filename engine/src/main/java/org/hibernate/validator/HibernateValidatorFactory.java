@@ -67,6 +67,23 @@ public interface HibernateValidatorFactory extends ValidatorFactory {
 	@Incubating
 	PropertyNodeNameProvider getPropertyNodeNameProvider();
 
+	/**
+	 * Discards the metadata of the given types and of all their sub-types, as well as the constraint validators and
+	 * the value extraction information cached for them. They will be rebuilt the next time they are needed.
+	 * <p>
+	 * This is useful when classes are reloaded, e.g. in development mode, as it avoids rebuilding the whole
+	 * {@link ValidatorFactory}. The metadata of the other types are kept.
+	 *
+	 * @param types the types to invalidate
+	 *
+	 * @throws jakarta.validation.ValidationException if the factory does not support invalidation, e.g. if the
+	 * metadata are initialized upfront
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	void invalidate(Class<?>... types);
+
 	/**
 	 * Returns a context for validator configuration via options from the
 	 * Bean Validation API as well as specific ones from Hibernate Validator.
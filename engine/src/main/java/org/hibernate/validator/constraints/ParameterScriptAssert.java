@@ -45,6 +45,12 @@
  * }
  * </pre>
  * <p>
+ * Simple expressions can also be written in the {@code hv-expression}
+ * language, which is provided by the default script evaluator factory and does
+ * not require any script engine. It is not available when a custom
+ * {@code ScriptEvaluatorFactory} is configured.
+ * </p>
+ * <p>
  * Can be specified on any method or constructor.
  * </p>
  *
@@ -62,6 +62,16 @@
  * }
  * </pre>
  * <p>
+ * Simple expressions - property accesses, method invocations, comparisons
+ * and logical operators - can also be written in the {@code hv-expression}
+ * language, which is provided by the default script evaluator factory and does
+ * not require any script engine. It is not available when a custom
+ * {@code ScriptEvaluatorFactory} is configured:
+ * </p>
+ * <pre>
+ * {@code @ScriptAssert(lang = "hv-expression", script = "_this.startDate.before(_this.endDate)")}
+ * </pre>
+ * <p>
  * Accepts any type.
  * </p>
  *
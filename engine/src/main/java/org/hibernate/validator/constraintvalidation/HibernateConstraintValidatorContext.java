@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator.constraintvalidation;
 
+import java.time.Instant;
+
 import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
@@ -125,4 +127,23 @@ public interface HibernateConstraintValidatorContext extends ConstraintValidator
 	@Incubating
 	<C> C getConstraintValidatorPayload(Class<C> type);
 
+	/**
+	 * Returns the current instant as provided by the {@link jakarta.validation.ClockProvider}.
+	 * <p>
+	 * The clock is read once per validation call (e.g. per {@code validate()} call) and the same instant is returned
+	 * to all the constraint validators involved, so that all the temporal constraints of a graph are validated against
+	 * the same time reference.
+	 *
+	 * The default implementation returns {@code null}, in which case the built-in constraint validators read the clock
+	 * themselves.
+	 *
+	 * @return the current instant of the validation call, or {@code null} if it is not available
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	default Instant getValidationInstant() {
+		return null;
+	}
+
 }
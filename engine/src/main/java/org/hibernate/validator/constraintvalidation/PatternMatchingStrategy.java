@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.constraintvalidation;
+
+import jakarta.validation.Payload;
+import jakarta.validation.constraints.Pattern;
+
+import org.hibernate.validator.Incubating;
+
+/**
+ * Defines how the regular expressions of {@link Pattern} constraints are matched.
+ * <p>
+ * The strategy can be defined globally via
+ * {@link org.hibernate.validator.BaseHibernateValidatorConfiguration#patternMatchingStrategy(PatternMatchingStrategy)}
+ * or the {@link org.hibernate.validator.BaseHibernateValidatorConfiguration#PATTERN_MATCHING_STRATEGY} property, and
+ * overridden for a given constraint by adding {@link LinearTime} or {@link JavaRegex} to its payload:
+ * <pre>
+ * {@code
+ * @Pattern(regexp = "[a-z]+(-[a-z]+)*", payload = PatternMatchingStrategy.LinearTime.class)
+ * private String slug;
+ * }
+ * </pre>
+ *
+ * @since 9.2
+ */
+@Incubating
+public enum PatternMatchingStrategy {
+
+	/**
+	 * Regular expressions are matched with {@link java.util.regex.Pattern}.
+	 * <p>
+	 * This is the default strategy.
+	 */
+	JAVA_REGEX( "java-regex" ),
+
+	/**
+	 * Regular expressions are matched by simulating an automaton, in a time proportional to the length of the
+	 * validated value, whatever the regular expression. This protects against catastrophic backtracking.
+	 * <p>
+	 * Only the most common regular expression features are supported: literals, character classes (including the
+	 * {@code \d}, {@code \w} and {@code \s} predefined ones), {@code .}, groups, alternations and quantifiers, as
+	 * well as the {@code CASE_INSENSITIVE}, {@code DOTALL}, {@code MULTILINE} and {@code UNIX_LINES} flags.
+	 * Regular expressions using other features, e.g. back references, lookarounds, boundaries, possessive
+	 * quantifiers or Unicode properties, are matched with {@link java.util.regex.Pattern}.
+	 */
+	LINEAR_TIME( "linear-time" );
+
+	private final String externalRepresentation;
+
+	PatternMatchingStrategy(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static PatternMatchingStrategy of(String value) {
+		for ( PatternMatchingStrategy strategy : values() ) {
+			if ( strategy.externalRepresentation.equals( value ) ) {
+				return strategy;
+			}
+		}
+
+		return PatternMatchingStrategy.valueOf( value );
+	}
+
+	/**
+	 * Payload requesting the {@link #LINEAR_TIME} strategy for a given {@link Pattern} constraint.
+	 */
+	public interface LinearTime extends Payload {
+	}
+
+	/**
+	 * Payload requesting the {@link #JAVA_REGEX} strategy for a given {@link Pattern} constraint.
+	 */
+	public interface JavaRegex extends Payload {
+	}
+}
@@ -0,0 +1,361 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.engine;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.util.Contracts;
+
+/**
+ * Writes constraint violations as a JSON array, encoded in UTF-8.
+ * <p>
+ * Each violation is written as an object containing the property path, the message template, the message if it is
+ * not the template itself, the type of the constraint annotation, the constraint attributes (except the
+ * {@code message}, {@code groups} and {@code payload} ones) and, for {@link HibernateConstraintViolation}s, the
+ * message parameters and the expression variables:
+ * <pre>
+ * [{"path":"name","messageTemplate":"{jakarta.validation.constraints.Size.message}",
+ *   "constraint":"jakarta.validation.constraints.Size","attributes":{"min":2,"max":10}}]
+ * </pre>
+ * The invalid values are not written as they might contain sensitive data. For the same reason, only the message
+ * parameters and expression variables which are {@code null}, booleans, numbers, characters, strings, enums or classes
+ * are written, the other ones - e.g. beans or collections - being omitted.
+ * <p>
+ * It is typically used along with {@link org.hibernate.validator.HibernateValidatorConfiguration#skipMessageInterpolation(boolean)}
+ * so that the messages are rendered by the client and are never interpolated.
+ * <p>
+ * The characters are encoded directly into a buffer flushed to the target, without building an intermediate
+ * {@code String} for the document.
+ *
+ * @since 9.2
+ */
+@Incubating
+public final class ConstraintViolationJsonWriter {
+
+	private static final int BUFFER_SIZE = 4096;
+
+	/**
+	 * The attributes common to all the constraints, which are not written.
+	 */
+	private static final Set<String> IGNORED_ATTRIBUTES = Set.of( "message", "groups", "payload" );
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes( StandardCharsets.US_ASCII );
+
+	private final OutputStream out;
+
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+
+	private int position;
+
+	private ConstraintViolationJsonWriter(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * Writes the given violations to the given stream. The stream is neither flushed nor closed.
+	 *
+	 * @param violations the violations to write
+	 * @param out the stream to write the violations to
+	 * @throws IOException if an error occurs while writing to the stream
+	 */
+	public static void write(Collection<? extends ConstraintViolation<?>> violations, OutputStream out) throws IOException {
+		Contracts.assertNotNull( violations, "violations" );
+		Contracts.assertNotNull( out, "out" );
+
+		ConstraintViolationJsonWriter writer = new ConstraintViolationJsonWriter( out );
+		writer.writeViolations( violations );
+		writer.flushBuffer();
+	}
+
+	/**
+	 * Writes the given violations to the given buffer, starting at its current position.
+	 *
+	 * @param violations the violations to write
+	 * @param target the buffer to write the violations to
+	 * @throws java.nio.BufferOverflowException if the buffer is too small
+	 */
+	public static void write(Collection<? extends ConstraintViolation<?>> violations, ByteBuffer target) {
+		Contracts.assertNotNull( target, "target" );
+
+		try {
+			write( violations, new ByteBufferOutputStream( target ) );
+		}
+		catch (IOException e) {
+			// never thrown by the buffer
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private void writeViolations(Collection<? extends ConstraintViolation<?>> violations) throws IOException {
+		writeByte( '[' );
+		boolean first = true;
+		for ( ConstraintViolation<?> violation : violations ) {
+			if ( !first ) {
+				writeByte( ',' );
+			}
+			first = false;
+			writeViolation( violation );
+		}
+		writeByte( ']' );
+	}
+
+	private void writeViolation(ConstraintViolation<?> violation) throws IOException {
+		writeByte( '{' );
+		writeName( "path", true );
+		writeString( violation.getPropertyPath() != null ? violation.getPropertyPath().toString() : null );
+
+		String messageTemplate = violation.getMessageTemplate();
+		writeName( "messageTemplate", false );
+		writeString( messageTemplate );
+
+		String message = violation.getMessage();
+		if ( message != null && !message.equals( messageTemplate ) ) {
+			writeName( "message", false );
+			writeString( message );
+		}
+
+		ConstraintDescriptor<?> descriptor = violation.getConstraintDescriptor();
+		if ( descriptor != null ) {
+			writeName( "constraint", false );
+			writeString( descriptor.getAnnotation().annotationType().getName() );
+			writeName( "attributes", false );
+			writeByte( '{' );
+			boolean first = true;
+			for ( Map.Entry<String, Object> attribute : descriptor.getAttributes().entrySet() ) {
+				String name = attribute.getKey();
+				if ( IGNORED_ATTRIBUTES.contains( name ) ) {
+					continue;
+				}
+				writeName( name, first );
+				writeAttributeValue( attribute.getValue() );
+				first = false;
+			}
+			writeByte( '}' );
+		}
+
+		if ( violation instanceof HibernateConstraintViolation<?> hibernateViolation ) {
+			writeMap( "messageParameters", hibernateViolation.getMessageParameters() );
+			writeMap( "expressionVariables", hibernateViolation.getExpressionVariables() );
+		}
+		writeByte( '}' );
+	}
+
+	private void writeMap(String name, Map<String, Object> map) throws IOException {
+		if ( map == null ) {
+			return;
+		}
+
+		boolean first = true;
+		for ( Map.Entry<String, Object> entry : map.entrySet() ) {
+			if ( !isScalar( entry.getValue() ) ) {
+				continue;
+			}
+			if ( first ) {
+				writeName( name, false );
+				writeByte( '{' );
+			}
+			writeName( entry.getKey(), first );
+			writeScalar( entry.getValue() );
+			first = false;
+		}
+		if ( !first ) {
+			writeByte( '}' );
+		}
+	}
+
+	private void writeName(String name, boolean first) throws IOException {
+		if ( !first ) {
+			writeByte( ',' );
+		}
+		writeString( name );
+		writeByte( ':' );
+	}
+
+	/**
+	 * Writes the value of a constraint attribute. The elements of the arrays are written as scalars, annotation
+	 * attributes being single-dimensional arrays, so that the values never need to be traversed recursively.
+	 */
+	private void writeAttributeValue(Object value) throws IOException {
+		if ( value != null && value.getClass().isArray() ) {
+			writeByte( '[' );
+			int length = Array.getLength( value );
+			for ( int i = 0; i < length; i++ ) {
+				if ( i > 0 ) {
+					writeByte( ',' );
+				}
+				writeAttributeElement( Array.get( value, i ) );
+			}
+			writeByte( ']' );
+		}
+		else {
+			writeAttributeElement( value );
+		}
+	}
+
+	private void writeAttributeElement(Object value) throws IOException {
+		if ( isScalar( value ) ) {
+			writeScalar( value );
+		}
+		else {
+			// e.g. nested annotations
+			writeString( value.toString() );
+		}
+	}
+
+	private static boolean isScalar(Object value) {
+		return value == null || value instanceof Boolean || value instanceof Number || value instanceof CharSequence
+				|| value instanceof Character || value instanceof Enum || value instanceof Class;
+	}
+
+	private void writeScalar(Object value) throws IOException {
+		if ( value == null ) {
+			writeAscii( "null" );
+		}
+		else if ( value instanceof Boolean ) {
+			writeAscii( value.toString() );
+		}
+		else if ( value instanceof Double || value instanceof Float ) {
+			double doubleValue = ( (Number) value ).doubleValue();
+			if ( Double.isNaN( doubleValue ) || Double.isInfinite( doubleValue ) ) {
+				// not representable as a JSON number
+				writeString( value.toString() );
+			}
+			else {
+				writeAscii( value.toString() );
+			}
+		}
+		else if ( value instanceof Number ) {
+			writeAscii( value.toString() );
+		}
+		else if ( value instanceof Enum<?> enumValue ) {
+			writeString( enumValue.name() );
+		}
+		else if ( value instanceof Class<?> classValue ) {
+			writeString( classValue.getName() );
+		}
+		else {
+			writeString( value.toString() );
+		}
+	}
+
+	/**
+	 * Writes the given ASCII characters, without escaping them.
+	 */
+	private void writeAscii(String value) throws IOException {
+		for ( int i = 0; i < value.length(); i++ ) {
+			writeByte( value.charAt( i ) );
+		}
+	}
+
+	private void writeString(String value) throws IOException {
+		if ( value == null ) {
+			writeAscii( "null" );
+			return;
+		}
+
+		writeByte( '"' );
+		int length = value.length();
+		int i = 0;
+		while ( i < length ) {
+			char c = value.charAt( i );
+			int charCount = 1;
+			if ( c == '"' || c == '\\' ) {
+				writeByte( '\\' );
+				writeByte( c );
+			}
+			else if ( c < 0x20 ) {
+				switch ( c ) {
+					case '\n':
+						writeByte( '\\' );
+						writeByte( 'n' );
+						break;
+					case '\r':
+						writeByte( '\\' );
+						writeByte( 'r' );
+						break;
+					case '\t':
+						writeByte( '\\' );
+						writeByte( 't' );
+						break;
+					default:
+						writeByte( '\\' );
+						writeByte( 'u' );
+						writeByte( '0' );
+						writeByte( '0' );
+						writeByte( HEX_DIGITS[c >> 4] );
+						writeByte( HEX_DIGITS[c & 0xF] );
+				}
+			}
+			else if ( c < 0x80 ) {
+				writeByte( c );
+			}
+			else if ( c < 0x800 ) {
+				writeByte( 0xC0 | ( c >> 6 ) );
+				writeByte( 0x80 | ( c & 0x3F ) );
+			}
+			else if ( Character.isHighSurrogate( c ) && i + 1 < length && Character.isLowSurrogate( value.charAt( i + 1 ) ) ) {
+				int codePoint = Character.toCodePoint( c, value.charAt( i + 1 ) );
+				charCount = 2;
+				writeByte( 0xF0 | ( codePoint >> 18 ) );
+				writeByte( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) );
+				writeByte( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) );
+				writeByte( 0x80 | ( codePoint & 0x3F ) );
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				// unpaired surrogate, replaced as done by the UTF-8 encoder of the JDK
+				writeByte( '?' );
+			}
+			else {
+				writeByte( 0xE0 | ( c >> 12 ) );
+				writeByte( 0x80 | ( ( c >> 6 ) & 0x3F ) );
+				writeByte( 0x80 | ( c & 0x3F ) );
+			}
+			i += charCount;
+		}
+		writeByte( '"' );
+	}
+
+	private void writeByte(int b) throws IOException {
+		if ( position == buffer.length ) {
+			flushBuffer();
+		}
+		buffer[position++] = (byte) b;
+	}
+
+	private void flushBuffer() throws IOException {
+		out.write( buffer, 0, position );
+		position = 0;
+	}
+
+	private static class ByteBufferOutputStream extends OutputStream {
+
+		private final ByteBuffer target;
+
+		private ByteBufferOutputStream(ByteBuffer target) {
+			this.target = target;
+		}
+
+		@Override
+		public void write(int b) {
+			target.put( (byte) b );
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			target.put( bytes, offset, length );
+		}
+	}
+}
@@ -4,8 +4,12 @@
  */
 package org.hibernate.validator.engine;
 
+import java.util.Collections;
+import java.util.Map;
+
 import jakarta.validation.ConstraintViolation;
 
+import org.hibernate.validator.Incubating;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 
 /**
@@ -23,4 +27,24 @@
 	 * if the given type has been set.
 	 */
 	<C> C getDynamicPayload(Class<C> type);
+
+	/**
+	 * @return the message parameters added using
+	 * {@link HibernateConstraintValidatorContext#addMessageParameter(String, Object)}, never {@code null}
+	 * @since 9.2
+	 */
+	@Incubating
+	default Map<String, Object> getMessageParameters() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * @return the expression variables added using
+	 * {@link HibernateConstraintValidatorContext#addExpressionVariable(String, Object)}, never {@code null}
+	 * @since 9.2
+	 */
+	@Incubating
+	default Map<String, Object> getExpressionVariables() {
+		return Collections.emptyMap();
+	}
 }
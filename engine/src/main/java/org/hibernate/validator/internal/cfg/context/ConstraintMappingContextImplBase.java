@@ -73,8 +73,6 @@ private <A extends Annotation> MetaConstraint<A> asMetaConstraint(ConfiguredCons
 				getConstraintType()
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, config.getLocation() );
+		return MetaConstraints.create( constraintCreationContext, constraintDescriptor, config.getLocation() );
 	}
 }
@@ -4,11 +4,7 @@
  */
 package org.hibernate.validator.internal.constraintvalidators;
 
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
-
 import java.lang.annotation.Annotation;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
@@ -25,6 +21,8 @@
  * <a href="http://www.regular-expressions.info/email.html">article</a> discusses it is not necessarily practical to
  * implement a 100% compliant email validator. This implementation is a trade-off trying to match most email while ignoring
  * for example emails with double quotes or comments.
+ * <p>
+ * The email is parsed by hand, in a single pass and without any allocation for the most common email addresses.
  *
  * @author Emmanuel Bernard
  * @author Hardy Ferentschik
@@ -34,16 +32,16 @@
 
 	private static final int MAX_LOCAL_PART_LENGTH = 64;
 
-	private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
-	private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
 	/**
-	 * Regular expression for the local part of an email address (everything before '@')
+	 * The ASCII characters, besides letters and digits, allowed in an atom of the local part.
+	 */
+	private static final String LOCAL_PART_ATOM_SPECIAL_CHARACTERS = "!#$%&'*+/=?^_`{|}~-";
+
+	/**
+	 * The ASCII characters, besides letters and digits, allowed in a quoted string of the local part, without being
+	 * escaped. A backslash can be used to escape a backslash or a double quote.
 	 */
-	private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
-			"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
-					"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*",
-			CASE_INSENSITIVE
-	);
+	private static final String LOCAL_PART_INSIDE_QUOTES_SPECIAL_CHARACTERS = "!#$%&'*.(),<>[]:; @+/=?^_`{|}~-";
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -53,29 +51,131 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 
 		// cannot split email string at @ as it can be a part of quoted local part of email.
 		// so we need to split at a position of last @ present in the string:
-		String stringValue = value.toString();
-		int splitPosition = stringValue.lastIndexOf( '@' );
+		int splitPosition = lastIndexOf( value, '@' );
 
 		// need to check if
 		if ( splitPosition < 0 ) {
 			return false;
 		}
 
-		String localPart = stringValue.substring( 0, splitPosition );
-		String domainPart = stringValue.substring( splitPosition + 1 );
-
-		if ( !isValidEmailLocalPart( localPart ) ) {
+		if ( !isValidEmailLocalPart( value, splitPosition ) ) {
 			return false;
 		}
 
-		return DomainNameUtil.isValidEmailDomainAddress( domainPart );
+		return DomainNameUtil.isValidEmailDomainAddress( value, splitPosition + 1, value.length() );
 	}
 
-	private boolean isValidEmailLocalPart(String localPart) {
-		if ( localPart.length() > MAX_LOCAL_PART_LENGTH ) {
+	/**
+	 * The local part (everything before '@') is a sequence of words separated by dots. A word is either a sequence of
+	 * atom characters or a quoted string, containing at least one character.
+	 */
+	private boolean isValidEmailLocalPart(CharSequence value, int end) {
+		if ( end > MAX_LOCAL_PART_LENGTH ) {
 			return false;
 		}
-		Matcher matcher = LOCAL_PART_PATTERN.matcher( localPart );
-		return matcher.matches();
+
+		LocalPartState state = LocalPartState.WORD_START;
+		for ( int i = 0; i < end; i++ ) {
+			char c = value.charAt( i );
+			// the supplementary code points are not accepted
+			if ( Character.isHighSurrogate( c ) && i + 1 < end && Character.isLowSurrogate( value.charAt( i + 1 ) ) ) {
+				return false;
+			}
+
+			switch ( state ) {
+				case WORD_START:
+				case ATOM:
+					if ( isLocalPartAtomCharacter( c ) ) {
+						state = LocalPartState.ATOM;
+					}
+					else if ( c == '.' && state == LocalPartState.ATOM ) {
+						state = LocalPartState.WORD_START;
+					}
+					else if ( c == '"' && state == LocalPartState.WORD_START ) {
+						state = LocalPartState.QUOTED_STRING_START;
+					}
+					else {
+						return false;
+					}
+					break;
+				case QUOTED_STRING_START:
+				case QUOTED_STRING:
+					if ( isLocalPartInsideQuotesCharacter( c ) ) {
+						state = LocalPartState.QUOTED_STRING;
+					}
+					else if ( c == '\\' ) {
+						state = LocalPartState.QUOTED_PAIR;
+					}
+					else if ( c == '"' && state == LocalPartState.QUOTED_STRING ) {
+						state = LocalPartState.QUOTED_STRING_END;
+					}
+					else {
+						return false;
+					}
+					break;
+				case QUOTED_PAIR:
+					if ( c != '\\' && c != '"' ) {
+						return false;
+					}
+					state = LocalPartState.QUOTED_STRING;
+					break;
+				case QUOTED_STRING_END:
+					if ( c != '.' ) {
+						return false;
+					}
+					state = LocalPartState.WORD_START;
+					break;
+			}
+		}
+
+		return state == LocalPartState.ATOM || state == LocalPartState.QUOTED_STRING_END;
+	}
+
+	private static boolean isLocalPartAtomCharacter(char c) {
+		return isAsciiLetterOrDigit( c ) || c >= 0x80 || LOCAL_PART_ATOM_SPECIAL_CHARACTERS.indexOf( c ) >= 0;
+	}
+
+	private static boolean isLocalPartInsideQuotesCharacter(char c) {
+		return isAsciiLetterOrDigit( c ) || c >= 0x80 || LOCAL_PART_INSIDE_QUOTES_SPECIAL_CHARACTERS.indexOf( c ) >= 0;
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' );
+	}
+
+	private static int lastIndexOf(CharSequence value, char c) {
+		for ( int i = value.length() - 1; i >= 0; i-- ) {
+			if ( value.charAt( i ) == c ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private enum LocalPartState {
+		/**
+		 * At the beginning of the local part or after a dot.
+		 */
+		WORD_START,
+		/**
+		 * After an atom character.
+		 */
+		ATOM,
+		/**
+		 * After the opening double quote of a quoted string.
+		 */
+		QUOTED_STRING_START,
+		/**
+		 * After a character of a quoted string.
+		 */
+		QUOTED_STRING,
+		/**
+		 * After a backslash in a quoted string.
+		 */
+		QUOTED_PAIR,
+		/**
+		 * After the closing double quote of a quoted string.
+		 */
+		QUOTED_STRING_END
 	}
 }
@@ -42,7 +42,52 @@ public boolean isValid(CharSequence charSequence, ConstraintValidatorContext con
 			return true;
 		}
 
-		BigDecimal bigNum = getBigDecimalValue( charSequence );
+		// plain decimal numbers are scanned in place, the integer and fraction part lengths are the ones of the
+		// corresponding BigDecimal
+		int length = charSequence.length();
+		int i = 0;
+		if ( length > 0 && ( charSequence.charAt( 0 ) == '-' || charSequence.charAt( 0 ) == '+' ) ) {
+			i++;
+		}
+
+		int digits = 0;
+		int leadingZeros = 0;
+		int fractionPartLength = 0;
+		boolean hasDecimalPoint = false;
+		for ( ; i < length; i++ ) {
+			char c = charSequence.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				if ( c == '0' && leadingZeros == digits ) {
+					leadingZeros++;
+				}
+				digits++;
+				if ( hasDecimalPoint ) {
+					fractionPartLength++;
+				}
+			}
+			else if ( c == '.' && !hasDecimalPoint ) {
+				hasDecimalPoint = true;
+			}
+			else if ( c < 128 && c != 'e' && c != 'E' ) {
+				return false;
+			}
+			else {
+				// exponents and non ASCII digits are left to BigDecimal
+				return isValid( getBigDecimalValue( charSequence ) );
+			}
+		}
+
+		if ( digits == 0 ) {
+			return false;
+		}
+
+		int precision = digits == leadingZeros ? 1 : digits - leadingZeros;
+		int integerPartLength = precision - fractionPartLength;
+
+		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
+	}
+
+	private boolean isValid(BigDecimal bigNum) {
 		if ( bigNum == null ) {
 			return false;
 		}
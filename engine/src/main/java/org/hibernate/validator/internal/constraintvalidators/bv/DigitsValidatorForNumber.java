@@ -42,6 +42,11 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 			return true;
 		}
 
+		// the integer types have no fraction part, their integer part length is their number of digits
+		if ( num instanceof Integer || num instanceof Long || num instanceof Short || num instanceof Byte ) {
+			return maxIntegerLength >= countDigits( num.longValue() );
+		}
+
 		BigDecimal bigNum;
 		if ( num instanceof BigDecimal ) {
 			bigNum = (BigDecimal) num;
@@ -56,6 +61,17 @@ public boolean isValid(Number num, ConstraintValidatorContext constraintValidato
 		return ( maxIntegerLength >= integerPartLength && maxFractionLength >= fractionPartLength );
 	}
 
+	private static int countDigits(long number) {
+		int digits = 1;
+		// work with a negative value to support Long.MIN_VALUE
+		long value = number > 0 ? -number : number;
+		while ( value <= -10 ) {
+			value /= 10;
+			digits++;
+		}
+		return digits;
+	}
+
 	private void validateParameters() {
 		if ( maxIntegerLength < 0 ) {
 			throw LOG.getInvalidLengthForIntegerPartException();
@@ -6,20 +6,25 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.PatternSyntaxException;
 
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.internal.engine.messageinterpolation.util.InterpolationHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
 
 /**
  * @author Hardy Ferentschik
@@ -29,6 +34,7 @@ public class PatternValidator implements HibernateConstraintValidator<Pattern, C
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private java.util.regex.Pattern pattern;
+	private LinearTimePattern linearTimePattern;
 	private String escapedRegexp;
 
 	@Override
@@ -40,14 +46,20 @@ public void initialize(ConstraintDescriptor<Pattern> constraintDescriptor, Hiber
 			intFlag = intFlag | flag.getValue();
 		}
 
+		PatternConstraintInitializer patternConstraintInitializer = initializationContext.getSharedData( PatternConstraintInitializer.class,
+				PatternConstraintInitializer::getInstance );
 		try {
-			pattern = initializationContext.getSharedData( PatternConstraintInitializer.class, PatternConstraintInitializer::getInstance )
-					.of( parameters.regexp(), intFlag );
+			pattern = patternConstraintInitializer.of( parameters.regexp(), intFlag );
 		}
 		catch (PatternSyntaxException e) {
 			throw LOG.getInvalidRegularExpressionException( e );
 		}
 
+		// the regular expression has been validated above so the errors are the same whatever the strategy
+		if ( getPatternMatchingStrategy( constraintDescriptor, initializationContext ) == PatternMatchingStrategy.LINEAR_TIME ) {
+			linearTimePattern = patternConstraintInitializer.linearTimeOf( parameters.regexp(), intFlag );
+		}
+
 		escapedRegexp = InterpolationHelper.escapeMessageParameter( parameters.regexp() );
 	}
 
@@ -61,12 +73,31 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class ).addMessageParameter( "regexp", escapedRegexp );
 		}
 
+		if ( linearTimePattern != null ) {
+			return linearTimePattern.matches( value );
+		}
+
 		Matcher m = pattern.matcher( value );
 		return m.matches();
 	}
 
+	private static PatternMatchingStrategy getPatternMatchingStrategy(ConstraintDescriptor<Pattern> constraintDescriptor,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		Set<Class<? extends Payload>> payload = constraintDescriptor.getPayload();
+		if ( payload.contains( PatternMatchingStrategy.JavaRegex.class ) ) {
+			return PatternMatchingStrategy.JAVA_REGEX;
+		}
+		if ( payload.contains( PatternMatchingStrategy.LinearTime.class ) ) {
+			return PatternMatchingStrategy.LINEAR_TIME;
+		}
+
+		PatternMatchingStrategy patternMatchingStrategy = initializationContext.getSharedData( PatternMatchingStrategy.class );
+		return patternMatchingStrategy != null ? patternMatchingStrategy : PatternMatchingStrategy.JAVA_REGEX;
+	}
+
 	private static final class PatternConstraintInitializer {
 		private final Map<PatternKey, java.util.regex.Pattern> cache;
+		private final Map<PatternKey, Optional<LinearTimePattern>> linearTimeCache;
 
 		public static PatternConstraintInitializer getInstance() {
 			//TODO: do we cache the instance and share it?
@@ -75,12 +106,27 @@ public static PatternConstraintInitializer getInstance() {
 
 		private PatternConstraintInitializer() {
 			this.cache = new ConcurrentHashMap<>();
+			this.linearTimeCache = new ConcurrentHashMap<>();
 		}
 
 		public java.util.regex.Pattern of(String pattern, int flags) {
 			return cache.computeIfAbsent( new PatternKey( pattern, flags ), key -> java.util.regex.Pattern.compile( pattern, flags ) );
 		}
 
+		/**
+		 * @return the linear-time version of the pattern or {@code null} if it uses unsupported features, in which case
+		 * {@code java.util.regex} should be used
+		 */
+		public LinearTimePattern linearTimeOf(String pattern, int flags) {
+			return linearTimeCache.computeIfAbsent( new PatternKey( pattern, flags ), key -> {
+				LinearTimePattern linearTimePattern = LinearTimePattern.compile( pattern, flags );
+				if ( linearTimePattern == null ) {
+					LOG.unsupportedLinearTimeRegularExpression( pattern );
+				}
+				return Optional.ofNullable( linearTimePattern );
+			} ).orElse( null );
+		}
+
 		private record PatternKey(String pattern, int flags) {
 		}
 	}
@@ -27,12 +27,14 @@
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	protected BigDecimal maxValue;
+	protected DecimalBound maxBound;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMax maxValue) {
 		try {
 			this.maxValue = new BigDecimal( maxValue.value() );
+			this.maxBound = new DecimalBound( this.maxValue );
 		}
 		catch (NumberFormatException nfe) {
 			throw LOG.getInvalidBigDecimalFormatException( maxValue.value(), nfe );
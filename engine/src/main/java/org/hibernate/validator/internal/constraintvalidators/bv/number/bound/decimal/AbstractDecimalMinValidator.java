@@ -27,12 +27,14 @@
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	protected BigDecimal minValue;
+	protected DecimalBound minBound;
 	private boolean inclusive;
 
 	@Override
 	public void initialize(DecimalMin minValue) {
 		try {
 			this.minValue = new BigDecimal( minValue.value() );
+			this.minBound = new DecimalBound( this.minValue );
 		}
 		catch (NumberFormatException nfe) {
 			throw LOG.getInvalidBigDecimalFormatException( minValue.value(), nfe );
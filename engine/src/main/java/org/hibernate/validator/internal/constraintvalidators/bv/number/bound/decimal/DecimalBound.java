@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
+
+import java.math.BigDecimal;
+
+/**
+ * The bound of a {@code @DecimalMin} or {@code @DecimalMax} constraint.
+ * <p>
+ * When the bound can be represented as an unscaled {@code long} and a scale, integers and plain decimal character
+ * sequences (e.g. {@code -123.45}) are compared to it with primitive arithmetic. The other values are compared with
+ * {@link BigDecimal}s.
+ */
+public final class DecimalBound {
+
+	/**
+	 * The maximum number of significant digits of the unscaled values, so that they can be multiplied by 10 without
+	 * overflowing.
+	 */
+	private static final int MAX_UNSCALED_DIGITS = 18;
+
+	private static final long[] POWERS_OF_TEN = new long[MAX_UNSCALED_DIGITS + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1L;
+		for ( int i = 1; i < POWERS_OF_TEN.length; i++ ) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+		}
+	}
+
+	private final BigDecimal value;
+
+	private final boolean primitive;
+
+	private final long unscaledValue;
+
+	private final int scale;
+
+	DecimalBound(BigDecimal value) {
+		this.value = value;
+
+		BigDecimal normalized = value.stripTrailingZeros();
+		this.primitive = normalized.precision() <= MAX_UNSCALED_DIGITS
+				&& normalized.precision() - normalized.scale() <= MAX_UNSCALED_DIGITS;
+		if ( primitive ) {
+			// the scale is negative for bounds such as 1E+3
+			if ( normalized.scale() < 0 ) {
+				normalized = normalized.setScale( 0 );
+			}
+			this.unscaledValue = normalized.unscaledValue().longValue();
+			this.scale = normalized.scale();
+		}
+		else {
+			this.unscaledValue = 0L;
+			this.scale = 0;
+		}
+	}
+
+	BigDecimal getValue() {
+		return value;
+	}
+
+	int compare(long number) {
+		if ( !primitive ) {
+			return BigDecimal.valueOf( number ).compareTo( value );
+		}
+		return compare( number, 0, unscaledValue, scale );
+	}
+
+	/**
+	 * Compares the number represented by the character sequence to the bound.
+	 *
+	 * @return the result of the comparison or {@code unparseableResult} if the character sequence is not a number
+	 */
+	int compare(CharSequence number, int unparseableResult) {
+		if ( primitive ) {
+			int length = number.length();
+			int i = 0;
+			boolean negative = false;
+			if ( length > 0 && ( number.charAt( 0 ) == '-' || number.charAt( 0 ) == '+' ) ) {
+				negative = number.charAt( 0 ) == '-';
+				i++;
+			}
+
+			long unscaled = 0L;
+			int significantDigits = 0;
+			int numberScale = 0;
+			boolean hasDigits = false;
+			boolean hasDecimalPoint = false;
+			for ( ; i < length; i++ ) {
+				char c = number.charAt( i );
+				if ( c >= '0' && c <= '9' ) {
+					hasDigits = true;
+					if ( hasDecimalPoint ) {
+						numberScale++;
+					}
+					if ( significantDigits > 0 || c != '0' ) {
+						if ( ++significantDigits > MAX_UNSCALED_DIGITS ) {
+							break;
+						}
+						unscaled = unscaled * 10L + ( c - '0' );
+					}
+				}
+				else if ( c == '.' && !hasDecimalPoint ) {
+					hasDecimalPoint = true;
+				}
+				else if ( c < 128 && c != 'e' && c != 'E' ) {
+					return unparseableResult;
+				}
+				else {
+					// exponents and non ASCII digits are left to BigDecimal
+					break;
+				}
+			}
+
+			if ( i == length ) {
+				if ( !hasDigits ) {
+					return unparseableResult;
+				}
+				return compare( negative ? -unscaled : unscaled, numberScale, unscaledValue, scale );
+			}
+		}
+
+		try {
+			return new BigDecimal( number.toString() ).compareTo( value );
+		}
+		catch (NumberFormatException nfe) {
+			return unparseableResult;
+		}
+	}
+
+	/**
+	 * Compares {@code unscaled1 * 10^-scale1} to {@code unscaled2 * 10^-scale2}.
+	 */
+	private static int compare(long unscaled1, int scale1, long unscaled2, int scale2) {
+		if ( scale1 == scale2 ) {
+			return Long.compare( unscaled1, unscaled2 );
+		}
+		if ( scale1 < scale2 ) {
+			return compareScaled( unscaled1, scale2 - scale1, unscaled2 );
+		}
+		return -compareScaled( unscaled2, scale1 - scale2, unscaled1 );
+	}
+
+	/**
+	 * Compares {@code unscaled * 10^exponent} to {@code other}.
+	 */
+	private static int compareScaled(long unscaled, int exponent, long other) {
+		if ( unscaled == 0L ) {
+			return -Long.signum( other );
+		}
+		if ( exponent < POWERS_OF_TEN.length && unscaled != Long.MIN_VALUE
+				&& Math.abs( unscaled ) <= Long.MAX_VALUE / POWERS_OF_TEN[exponent] ) {
+			return Long.compare( unscaled * POWERS_OF_TEN[exponent], other );
+		}
+		// the absolute value of unscaled * 10^exponent is greater than Long.MAX_VALUE so greater than the one of other
+		return Long.signum( unscaled );
+	}
+}
@@ -16,6 +16,6 @@ public class DecimalMaxValidatorForBigInteger extends AbstractDecimalMaxValidato
 
 	@Override
 	protected int compare(BigInteger number) {
-		return DecimalNumberComparatorHelper.compare( number, maxValue );
+		return DecimalNumberComparatorHelper.compare( number, maxBound );
 	}
 }
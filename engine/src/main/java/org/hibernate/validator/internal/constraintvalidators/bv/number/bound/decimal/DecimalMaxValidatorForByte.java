@@ -14,6 +14,6 @@ public class DecimalMaxValidatorForByte extends AbstractDecimalMaxValidator<Byte
 
 	@Override
 	protected int compare(Byte number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), maxValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), maxBound );
 	}
 }
@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
 
-import java.math.BigDecimal;
-
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value
  * less than or equal to the maximum value specified.
@@ -17,11 +15,6 @@ public class DecimalMaxValidatorForCharSequence extends AbstractDecimalMaxValida
 
 	@Override
 	protected int compare(CharSequence number) {
-		try {
-			return DecimalNumberComparatorHelper.compare( new BigDecimal( number.toString() ), maxValue );
-		}
-		catch (NumberFormatException nfe) {
-			return 1;
-		}
+		return DecimalNumberComparatorHelper.compare( number, maxBound, 1 );
 	}
 }
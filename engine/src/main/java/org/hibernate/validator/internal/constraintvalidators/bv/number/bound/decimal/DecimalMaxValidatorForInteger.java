@@ -14,6 +14,6 @@ public class DecimalMaxValidatorForInteger extends AbstractDecimalMaxValidator<I
 
 	@Override
 	protected int compare(Integer number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), maxValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), maxBound );
 	}
 }
@@ -14,6 +14,6 @@ public class DecimalMaxValidatorForLong extends AbstractDecimalMaxValidator<Long
 
 	@Override
 	protected int compare(Long number) {
-		return DecimalNumberComparatorHelper.compare( number, maxValue );
+		return DecimalNumberComparatorHelper.compare( number, maxBound );
 	}
 }
@@ -16,6 +16,6 @@ public class DecimalMaxValidatorForNumber extends AbstractDecimalMaxValidator<Nu
 
 	@Override
 	protected int compare(Number number) {
-		return DecimalNumberComparatorHelper.compare( number, maxValue, InfinityNumberComparatorHelper.GREATER_THAN );
+		return DecimalNumberComparatorHelper.compare( number, maxBound, InfinityNumberComparatorHelper.GREATER_THAN );
 	}
 }
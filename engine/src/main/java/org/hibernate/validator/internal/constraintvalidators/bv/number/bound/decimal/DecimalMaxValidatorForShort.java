@@ -14,6 +14,6 @@ public class DecimalMaxValidatorForShort extends AbstractDecimalMaxValidator<Sho
 
 	@Override
 	protected int compare(Short number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), maxValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), maxBound );
 	}
 }
@@ -16,6 +16,6 @@ public class DecimalMinValidatorForBigInteger extends AbstractDecimalMinValidato
 
 	@Override
 	protected int compare(BigInteger number) {
-		return DecimalNumberComparatorHelper.compare( number, minValue );
+		return DecimalNumberComparatorHelper.compare( number, minBound );
 	}
 }
@@ -14,6 +14,6 @@ public class DecimalMinValidatorForByte extends AbstractDecimalMinValidator<Byte
 
 	@Override
 	protected int compare(Byte number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), minValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), minBound );
 	}
 }
@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal;
 
-import java.math.BigDecimal;
-
 /**
  * Check that the character sequence (e.g. string) being validated represents a number, and has a value greater than or
  * equal to the minimum value specified.
@@ -17,11 +15,6 @@ public class DecimalMinValidatorForCharSequence extends AbstractDecimalMinValida
 
 	@Override
 	protected int compare(CharSequence number) {
-		try {
-			return DecimalNumberComparatorHelper.compare( new BigDecimal( number.toString() ), minValue );
-		}
-		catch (NumberFormatException nfe) {
-			return -1;
-		}
+		return DecimalNumberComparatorHelper.compare( number, minBound, -1 );
 	}
 }
@@ -14,6 +14,6 @@ public class DecimalMinValidatorForInteger extends AbstractDecimalMinValidator<I
 
 	@Override
 	protected int compare(Integer number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), minValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), minBound );
 	}
 }
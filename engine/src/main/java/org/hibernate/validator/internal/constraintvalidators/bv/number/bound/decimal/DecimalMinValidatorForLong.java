@@ -14,6 +14,6 @@ public class DecimalMinValidatorForLong extends AbstractDecimalMinValidator<Long
 
 	@Override
 	protected int compare(Long number) {
-		return DecimalNumberComparatorHelper.compare( number, minValue );
+		return DecimalNumberComparatorHelper.compare( number, minBound );
 	}
 }
@@ -16,6 +16,6 @@ public class DecimalMinValidatorForNumber extends AbstractDecimalMinValidator<Nu
 
 	@Override
 	protected int compare(Number number) {
-		return DecimalNumberComparatorHelper.compare( number, minValue, InfinityNumberComparatorHelper.LESS_THAN );
+		return DecimalNumberComparatorHelper.compare( number, minBound, InfinityNumberComparatorHelper.LESS_THAN );
 	}
 }
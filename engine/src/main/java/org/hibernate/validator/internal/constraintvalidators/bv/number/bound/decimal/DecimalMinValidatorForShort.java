@@ -14,6 +14,6 @@ public class DecimalMinValidatorForShort extends AbstractDecimalMinValidator<Sho
 
 	@Override
 	protected int compare(Short number) {
-		return DecimalNumberComparatorHelper.compare( number.longValue(), minValue );
+		return DecimalNumberComparatorHelper.compare( number.longValue(), minBound );
 	}
 }
@@ -22,15 +22,25 @@ public static int compare(BigDecimal number, BigDecimal value) {
 		return number.compareTo( value );
 	}
 
-	public static int compare(BigInteger number, BigDecimal value) {
-		return new BigDecimal( number ).compareTo( value );
+	public static int compare(BigInteger number, DecimalBound bound) {
+		// integers fitting in a long are compared without creating a BigDecimal
+		if ( number.bitLength() < Long.SIZE ) {
+			return bound.compare( number.longValue() );
+		}
+		return new BigDecimal( number ).compareTo( bound.getValue() );
 	}
 
-	public static int compare(Long number, BigDecimal value) {
-		return BigDecimal.valueOf( number ).compareTo( value );
+	public static int compare(long number, DecimalBound bound) {
+		return bound.compare( number );
 	}
 
-	public static int compare(Number number, BigDecimal value, OptionalInt treatNanAs) {
+	public static int compare(CharSequence number, DecimalBound bound, int unparseableResult) {
+		return bound.compare( number, unparseableResult );
+	}
+
+	public static int compare(Number number, DecimalBound bound, OptionalInt treatNanAs) {
+		BigDecimal value = bound.getValue();
+
 		// In case of comparing numbers we need to check for special cases:
 		// 1. Floating point numbers should consider nan/infinity as values hence they should
 		// be directed to corresponding overloaded methods:
@@ -46,13 +56,12 @@ public static int compare(Number number, BigDecimal value, OptionalInt treatNanA
 			return compare( (BigDecimal) number, value );
 		}
 		if ( number instanceof BigInteger ) {
-			return compare( (BigInteger) number, value );
+			return compare( (BigInteger) number, bound );
 		}
 
-		// 3. For any integer types we convert them to long as we would do that anyway
-		// to create a BigDecimal instance. And use corresponding method for longs:
+		// 3. For any integer types we convert them to long and compare them to the precomputed bound:
 		if ( number instanceof Byte || number instanceof Integer || number instanceof Long || number instanceof Short ) {
-			return compare( number.longValue(), value );
+			return compare( number.longValue(), bound );
 		}
 
 		// 4. As a fallback we convert the number to double:
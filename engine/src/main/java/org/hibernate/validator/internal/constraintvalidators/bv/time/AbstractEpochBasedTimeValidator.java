@@ -8,12 +8,14 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 
 import jakarta.validation.ClockProvider;
 import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -30,13 +32,19 @@
 
 	protected Clock referenceClock;
 
+	private Duration tolerance;
+
+	/**
+	 * The reference clock created for the latest validation call. The validator is shared, so it is fine if a
+	 * concurrent update is lost: the clock is simply created again.
+	 */
+	private volatile ReferenceClock lastReferenceClock;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
 		try {
-			this.referenceClock = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
+			this.referenceClock = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -50,11 +58,33 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = Long.compare( getEpochMillis( value, referenceClock ), referenceClock.millis() );
+		ReferenceClock reference = getReferenceClock( context );
+		int result = Long.compare( getEpochMillis( value, reference.clock ), reference.millis );
 
 		return isValid( result );
 	}
 
+	/**
+	 * Returns a clock fixed at the instant of the current validation call, as provided by the context, with the
+	 * tolerance applied. It is only created once per validation call. Falls back to the reference clock if the context
+	 * does not provide the instant.
+	 */
+	private ReferenceClock getReferenceClock(ConstraintValidatorContext context) {
+		Instant validationInstant = context instanceof HibernateConstraintValidatorContext
+				? ( (HibernateConstraintValidatorContext) context ).getValidationInstant()
+				: null;
+		if ( validationInstant == null ) {
+			return new ReferenceClock( null, referenceClock );
+		}
+
+		ReferenceClock reference = lastReferenceClock;
+		if ( reference == null || !reference.validationInstant.equals( validationInstant ) ) {
+			reference = new ReferenceClock( validationInstant, Clock.fixed( validationInstant.plus( tolerance ), referenceClock.getZone() ) );
+			lastReferenceClock = reference;
+		}
+		return reference;
+	}
+
 	/**
 	 * Returns the temporal validation tolerance to apply.
 	 */
@@ -72,4 +102,18 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 	 */
 	protected abstract boolean isValid(int result);
 
+	private static final class ReferenceClock {
+
+		private final Instant validationInstant;
+
+		private final Clock clock;
+
+		private final long millis;
+
+		private ReferenceClock(Instant validationInstant, Clock clock) {
+			this.validationInstant = validationInstant;
+			this.clock = clock;
+			this.millis = clock.millis();
+		}
+	}
 }
@@ -14,6 +14,7 @@
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -30,13 +31,13 @@
 
 	protected Clock referenceClock;
 
+	private Duration tolerance;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
 		try {
-			this.referenceClock = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
+			this.referenceClock = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -50,11 +51,25 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = getInstant( value ).compareTo( referenceClock.instant() );
+		int result = getInstant( value ).compareTo( getReferenceInstant( context ) );
 
 		return isValid( result );
 	}
 
+	/**
+	 * Returns the instant of the current validation call, as provided by the context, with the tolerance applied.
+	 * Falls back to the reference clock if the context does not provide the instant.
+	 */
+	private Instant getReferenceInstant(ConstraintValidatorContext context) {
+		Instant validationInstant = context instanceof HibernateConstraintValidatorContext
+				? ( (HibernateConstraintValidatorContext) context ).getValidationInstant()
+				: null;
+		if ( validationInstant == null ) {
+			return referenceClock.instant();
+		}
+		return validationInstant.plus( tolerance );
+	}
+
 	/**
 	 * Returns the temporal validation tolerance to apply.
 	 */
@@ -8,6 +8,7 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.temporal.TemporalAccessor;
 
 import jakarta.validation.ClockProvider;
@@ -15,6 +16,7 @@
 import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
@@ -32,13 +34,19 @@
 
 	protected Clock referenceClock;
 
+	private Duration tolerance;
+
+	/**
+	 * The reference value computed for the latest validation call. The validator is shared, so it is fine if a
+	 * concurrent update is lost: the value is simply computed again.
+	 */
+	private volatile ReferenceValue<T> lastReferenceValue;
+
 	@Override
 	public void initialize(ConstraintDescriptor<C> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
 		try {
-			this.referenceClock = Clock.offset(
-					initializationContext.getClockProvider().getClock(),
-					getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() )
-			);
+			this.tolerance = getEffectiveTemporalValidationTolerance( initializationContext.getTemporalValidationTolerance() );
+			this.referenceClock = Clock.offset( initializationContext.getClockProvider().getClock(), tolerance );
 		}
 		catch (Exception e) {
 			throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
@@ -52,11 +60,33 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		int result = value.compareTo( getReferenceValue( referenceClock ) );
+		int result = value.compareTo( getReferenceValue( context ) );
 
 		return isValid( result );
 	}
 
+	/**
+	 * Returns the reference value for the instant of the current validation call, as provided by the context, with the
+	 * tolerance applied. It is only computed once per validation call. Falls back to the reference clock if the
+	 * context does not provide the instant.
+	 */
+	private T getReferenceValue(ConstraintValidatorContext context) {
+		Instant validationInstant = context instanceof HibernateConstraintValidatorContext
+				? ( (HibernateConstraintValidatorContext) context ).getValidationInstant()
+				: null;
+		if ( validationInstant == null ) {
+			return getReferenceValue( referenceClock );
+		}
+
+		ReferenceValue<T> referenceValue = lastReferenceValue;
+		if ( referenceValue == null || !referenceValue.validationInstant.equals( validationInstant ) ) {
+			referenceValue = new ReferenceValue<>( validationInstant,
+					getReferenceValue( Clock.fixed( validationInstant.plus( tolerance ), referenceClock.getZone() ) ) );
+			lastReferenceValue = referenceValue;
+		}
+		return referenceValue.value;
+	}
+
 	/**
 	 * Returns the temporal validation tolerance to apply.
 	 */
@@ -74,4 +104,15 @@ public boolean isValid(T value, ConstraintValidatorContext context) {
 	 */
 	protected abstract boolean isValid(int result);
 
+	private static final class ReferenceValue<T> {
+
+		private final Instant validationInstant;
+
+		private final T value;
+
+		private ReferenceValue(Instant validationInstant, T value) {
+			this.validationInstant = validationInstant;
+			this.value = value;
+		}
+	}
 }
@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import java.util.regex.Pattern;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -19,11 +17,6 @@
  */
 public class ISBNValidator implements ConstraintValidator<ISBN, CharSequence> {
 
-	/**
-	 * Pattern to replace all non ISBN characters. ISBN can have digits or 'X'.
-	 */
-	private static Pattern NOT_DIGITS_OR_NOT_X = Pattern.compile( "[^\\dX]" );
-
 	private ISBNValidationAlgorithm isbnValidationAlgorithm;
 
 	@Override
@@ -37,21 +30,33 @@ public boolean isValid(CharSequence isbn, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		// Replace all non-digit (or !=X) chars
-		String digits = NOT_DIGITS_OR_NOT_X.matcher( isbn ).replaceAll( "" );
+		// Ignore all non-digit (or !=X) chars
+		int length = 0;
+		for ( int i = 0; i < isbn.length(); i++ ) {
+			if ( isIsbnCharacter( isbn.charAt( i ) ) ) {
+				length++;
+			}
+		}
 
-		// Check if the length of resulting string matches the expecting one
-		if ( !isbnValidationAlgorithm.isValidLength( digits.length() ) ) {
+		// Check if the length of the ISBN characters matches the expecting one
+		if ( !isbnValidationAlgorithm.isValidLength( length ) ) {
 			return false;
 		}
 
-		return isbnValidationAlgorithm.isValidChecksum( digits );
+		return isbnValidationAlgorithm.isValidChecksum( isbn, length );
+	}
+
+	/**
+	 * ISBN can have digits or 'X'.
+	 */
+	private static boolean isIsbnCharacter(char c) {
+		return ( c >= '0' && c <= '9' ) || c == 'X';
 	}
 
 	private interface ISBNValidationAlgorithm {
 		boolean isValidLength(int length);
 
-		boolean isValidChecksum(String isbn);
+		boolean isValidChecksum(CharSequence isbn, int length);
 
 		static ISBNValidationAlgorithmImpl from(ISBN.Type type) {
 			Contracts.assertNotNull( type );
@@ -71,7 +76,7 @@ private enum ISBNValidationAlgorithmImpl implements ISBNValidationAlgorithm {
 
 		ISBN_10 {
 			@Override
-			public boolean isValidChecksum(String isbn) {
+			public boolean isValidChecksum(CharSequence isbn, int length) {
 				return checkChecksumISBN10( isbn );
 			}
 
@@ -82,7 +87,7 @@ public boolean isValidLength(int length) {
 		},
 		ISBN_13 {
 			@Override
-			public boolean isValidChecksum(String isbn) {
+			public boolean isValidChecksum(CharSequence isbn, int length) {
 				return checkChecksumISBN13( isbn );
 			}
 
@@ -98,8 +103,7 @@ public boolean isValidLength(int length) {
 			}
 
 			@Override
-			public boolean isValidChecksum(String isbn) {
-				int length = isbn.length();
+			public boolean isValidChecksum(CharSequence isbn, int length) {
 				if ( length == 10 ) {
 					return checkChecksumISBN10( isbn );
 				}
@@ -114,12 +118,22 @@ else if ( length == 13 ) {
 		 * Check the digits for ISBN 10 using algorithm from
 		 * <a href="https://en.wikipedia.org/wiki/International_Standard_Book_Number#ISBN-10_check_digits">Wikipedia</a>.
 		 */
-		private static boolean checkChecksumISBN10(String isbn) {
+		private static boolean checkChecksumISBN10(CharSequence isbn) {
 			int sum = 0;
-			for ( int i = 0; i < isbn.length() - 1; i++ ) {
-				sum += ( isbn.charAt( i ) - '0' ) * ( 10 - i );
+			int i = 0;
+			for ( int index = 0; index < isbn.length(); index++ ) {
+				char c = isbn.charAt( index );
+				if ( !isIsbnCharacter( c ) ) {
+					continue;
+				}
+				if ( i < 9 ) {
+					sum += ( c - '0' ) * ( 10 - i );
+				}
+				else {
+					sum += c == 'X' ? 10 : c - '0';
+				}
+				i++;
 			}
-			sum += isbn.charAt( 9 ) == 'X' ? 10 : isbn.charAt( 9 ) - '0';
 
 			return ( sum % 11 ) == 0;
 		}
@@ -128,10 +142,16 @@ private static boolean checkChecksumISBN10(String isbn) {
 		 * Check the digits for ISBN 13 using algorithm from
 		 * <a href="https://en.wikipedia.org/wiki/International_Standard_Book_Number#ISBN-13_check_digit_calculation">Wikipedia</a>.
 		 */
-		private static boolean checkChecksumISBN13(String isbn) {
+		private static boolean checkChecksumISBN13(CharSequence isbn) {
 			int sum = 0;
-			for ( int i = 0; i < isbn.length(); i++ ) {
-				sum += ( isbn.charAt( i ) - '0' ) * ( i % 2 == 0 ? 1 : 3 );
+			int i = 0;
+			for ( int index = 0; index < isbn.length(); index++ ) {
+				char c = isbn.charAt( index );
+				if ( !isIsbnCharacter( c ) ) {
+					continue;
+				}
+				sum += ( c - '0' ) * ( i % 2 == 0 ? 1 : 3 );
+				i++;
 			}
 
 			return ( sum % 10 ) == 0;
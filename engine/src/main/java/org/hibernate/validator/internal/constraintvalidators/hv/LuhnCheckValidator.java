@@ -33,6 +33,24 @@ public void initialize(LuhnCheck constraintAnnotation) {
 		);
 	}
 
+	/**
+	 * Validate check digit using Luhn algorithm
+	 *
+	 * @param value the validated value
+	 * @param startIndex the index of the first character to verify, inclusive
+	 * @param endIndex the index of the last character to verify, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not digits are skipped
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the luhn check result matches the check digit, {@code false} otherwise
+	 */
+	@Override
+	public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+		int modResult = ModUtil.calculateLuhnMod10Check( value, startIndex, endIndex, ignoreNonDigitCharacters );
+
+		return modResult != ModUtil.NOT_A_DIGIT && Character.isDigit( checkDigit ) && Character.digit( checkDigit, 10 ) == modResult;
+	}
+
 	/**
 	 * Validate check digit using Luhn algorithm
 	 *
@@ -40,7 +58,10 @@ public void initialize(LuhnCheck constraintAnnotation) {
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the luhn check result matches the check digit, {@code false} otherwise
+	 *
+	 * @deprecated use {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)} instead
 	 */
+	@Deprecated
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		int modResult = ModUtil.calculateLuhnMod10Check( digits );
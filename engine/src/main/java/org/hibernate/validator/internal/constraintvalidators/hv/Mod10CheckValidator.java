@@ -58,6 +58,24 @@ public void initialize(Mod10Check constraintAnnotation) {
 		}
 	}
 
+	/**
+	 * Validate check digit using Mod10
+	 *
+	 * @param value the validated value
+	 * @param startIndex the index of the first character to verify, inclusive
+	 * @param endIndex the index of the last character to verify, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not digits are skipped
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the mod 10 result matches the check digit, {@code false} otherwise
+	 */
+	@Override
+	public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+		int modResult = ModUtil.calculateMod10Check( value, startIndex, endIndex, ignoreNonDigitCharacters, this.multiplier, this.weight );
+
+		return modResult != ModUtil.NOT_A_DIGIT && Character.isDigit( checkDigit ) && Character.digit( checkDigit, 10 ) == modResult;
+	}
+
 	/**
 	 * Validate check digit using Mod10
 	 *
@@ -65,7 +83,10 @@ public void initialize(Mod10Check constraintAnnotation) {
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the mod 10 result matches the check digit, {@code false} otherwise
+	 *
+	 * @deprecated use {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)} instead
 	 */
+	@Deprecated
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		int modResult = ModUtil.calculateMod10Check( digits, this.multiplier, this.weight );
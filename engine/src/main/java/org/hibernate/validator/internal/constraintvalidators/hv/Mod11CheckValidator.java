@@ -103,6 +103,33 @@ public void initialize(
 		}
 	}
 
+	/**
+	 * Validate check digit using Mod11 checksum
+	 *
+	 * @param value the validated value
+	 * @param startIndex the index of the first character to verify, inclusive
+	 * @param endIndex the index of the last character to verify, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not digits are skipped
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the mod11 result matches the check digit, {@code false} otherwise
+	 */
+	@Override
+	public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+		int modResult = ModUtil.calculateModXCheckWithWeights( value, startIndex, endIndex, ignoreNonDigitCharacters, reverseOrder, 11,
+				this.threshold, customWeights );
+		switch ( modResult ) {
+			case ModUtil.NOT_A_DIGIT:
+				return false;
+			case 10:
+				return checkDigit == this.treatCheck10As;
+			case 11:
+				return checkDigit == this.treatCheck11As;
+			default:
+				return Character.isDigit( checkDigit ) && modResult == Character.digit( checkDigit, 10 );
+		}
+	}
+
 	/**
 	 * Validate check digit using Mod11 checksum
 	 *
@@ -110,7 +137,10 @@ public void initialize(
 	 * @param checkDigit the check digit
 	 *
 	 * @return {@code true} if the mod11 result matches the check digit, {@code false} otherwise
+	 *
+	 * @deprecated use {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)} instead
 	 */
+	@Deprecated
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		if ( reverseOrder ) {
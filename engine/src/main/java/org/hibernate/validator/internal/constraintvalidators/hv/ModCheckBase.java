@@ -11,6 +11,7 @@
 
 import jakarta.validation.ConstraintValidatorContext;
 
+import org.hibernate.validator.internal.util.actions.GetDeclaredMethod;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -53,17 +54,55 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return true;
 		}
 
-		String valueAsString = value.toString();
-		String digitsAsString;
-		char checkDigit;
-		try {
-			digitsAsString = extractVerificationString( valueAsString );
-			checkDigit = extractCheckDigit( valueAsString );
+		int length = value.length();
+		int digitsStartIndex;
+		int digitsEndIndex;
+		int checkDigitPosition;
+		// the range of the digits to verify and the position of the check digit
+		if ( endIndex == Integer.MAX_VALUE ) {
+			digitsStartIndex = 0;
+			digitsEndIndex = length - 1;
+			checkDigitPosition = checkDigitIndex == -1 ? length - 1 : checkDigitIndex;
+		}
+		else if ( checkDigitIndex == -1 ) {
+			digitsStartIndex = startIndex;
+			digitsEndIndex = endIndex;
+			checkDigitPosition = endIndex;
 		}
-		catch (IndexOutOfBoundsException e) {
+		else {
+			digitsStartIndex = startIndex;
+			digitsEndIndex = endIndex + 1;
+			checkDigitPosition = checkDigitIndex;
+		}
+
+		if ( digitsEndIndex < digitsStartIndex || digitsEndIndex > length || checkDigitPosition < 0 || checkDigitPosition >= length ) {
 			return false;
 		}
-		digitsAsString = stripNonDigitsIfRequired( digitsAsString );
+
+		return isCheckDigitValid( value, digitsStartIndex, digitsEndIndex, ignoreDelimitingCharacters, value.charAt( checkDigitPosition ) );
+	}
+
+	/**
+	 * Validates the check digit against the digits of the given characters.
+	 * <p>
+	 * Implementations are expected to read the digits directly from the characters, without any allocation.
+	 * The default implementation converts the digits to a list and delegates to
+	 * {@link #isCheckDigitValid(List, char)}: subclasses have to override at least one of these two methods, which is
+	 * checked when the validator is initialized.
+	 *
+	 * @param value the validated value
+	 * @param startIndex the index of the first character to verify, inclusive
+	 * @param endIndex the index of the last character to verify, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not ASCII digits are skipped
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the check digit is valid, {@code false} otherwise
+	 */
+	public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+		String digitsAsString = value.subSequence( startIndex, endIndex ).toString();
+		if ( ignoreNonDigitCharacters ) {
+			digitsAsString = stripNonDigitsIfRequired( digitsAsString );
+		}
 
 		List<Integer> digits;
 		try {
@@ -73,10 +112,30 @@ public boolean isValid(final CharSequence value, final ConstraintValidatorContex
 			return false;
 		}
 
-		return this.isCheckDigitValid( digits, checkDigit );
+		return isCheckDigitValid( digits, checkDigit );
 	}
 
-	public abstract boolean isCheckDigitValid(List<Integer> digits, char checkDigit);
+	/**
+	 * Validates the check digit against the given digits.
+	 * <p>
+	 * The default implementation delegates to {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)}.
+	 *
+	 * @param digits the digits to verify
+	 * @param checkDigit the check digit
+	 *
+	 * @return {@code true} if the check digit is valid, {@code false} otherwise
+	 *
+	 * @deprecated use {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)} which does not require to
+	 * box the digits into a list
+	 */
+	@Deprecated
+	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+		StringBuilder digitsAsString = new StringBuilder( digits.size() );
+		for ( Integer digit : digits ) {
+			digitsAsString.append( Character.forDigit( digit, DEC_RADIX ) );
+		}
+		return isCheckDigitValid( digitsAsString, 0, digitsAsString.length(), false, checkDigit );
+	}
 
 	protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boolean ignoreDelimitingCharacters) {
 		this.startIndex = startIndex;
@@ -85,10 +144,38 @@ protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boo
 		this.ignoreDelimitingCharacters = ignoreDelimitingCharacters;
 
 		this.validateOptions();
+
+		// the default implementations of the two variants delegate to each other
+		if ( !isOverriddenBelow( ModCheckBase.class, "isCheckDigitValid", CharSequence.class, int.class, int.class, boolean.class, char.class )
+				&& !isOverriddenBelow( ModCheckBase.class, "isCheckDigitValid", List.class, char.class ) ) {
+			throw LOG.getValidatorMustOverrideOneOfMethodsException( getClass(), "isCheckDigitValid(CharSequence, int, int, boolean, char)",
+					"isCheckDigitValid(List, char)" );
+		}
+	}
+
+	/**
+	 * Checks whether the given method is declared by the class of this validator or by one of its superclasses, up to
+	 * the given base class, excluded.
+	 *
+	 * @param baseClass the class declaring the default implementation of the method
+	 * @param methodName the name of the method
+	 * @param parameterTypes the parameter types of the method
+	 *
+	 * @return {@code true} if the method is overridden, {@code false} otherwise
+	 */
+	protected boolean isOverriddenBelow(Class<?> baseClass, String methodName, Class<?>... parameterTypes) {
+		for ( Class<?> clazz = getClass(); clazz != baseClass; clazz = clazz.getSuperclass() ) {
+			if ( GetDeclaredMethod.action( clazz, methodName, parameterTypes ) != null ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
 	 * Returns the numeric {@code int} value of a {@code char}
+	 * <p>
+	 * Only used when the digits are converted to a list, see {@link #isCheckDigitValid(List, char)}.
 	 *
 	 * @param value the input {@code char} to be parsed
 	 *
@@ -143,6 +230,9 @@ private boolean validateOptions() {
 		return true;
 	}
 
+	/**
+	 * Only used when the digits are converted to a list, see {@link #isCheckDigitValid(List, char)}.
+	 */
 	protected String stripNonDigitsIfRequired(String value) {
 		if ( ignoreDelimitingCharacters ) {
 			return NUMBERS_ONLY_REGEXP.matcher( value ).replaceAll( "" );
@@ -152,32 +242,4 @@ protected String stripNonDigitsIfRequired(String value) {
 		}
 	}
 
-	private String extractVerificationString(String value) throws IndexOutOfBoundsException {
-		// the string contains the check digit, just return the digits to verify
-		if ( endIndex == Integer.MAX_VALUE ) {
-			return value.substring( 0, value.length() - 1 );
-		}
-		else if ( checkDigitIndex == -1 ) {
-			return value.substring( startIndex, endIndex );
-		}
-		else {
-			return value.substring( startIndex, endIndex + 1 );
-		}
-	}
-
-	private char extractCheckDigit(String value) throws IndexOutOfBoundsException {
-		// take last character of string to be validated unless the index is given explicitly
-		if ( checkDigitIndex == -1 ) {
-			if ( endIndex == Integer.MAX_VALUE ) {
-				return value.charAt( value.length() - 1 );
-			}
-			else {
-				return value.charAt( endIndex );
-			}
-		}
-		else {
-			return value.charAt( checkDigitIndex );
-		}
-	}
-
 }
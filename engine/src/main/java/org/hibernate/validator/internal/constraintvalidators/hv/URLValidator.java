@@ -12,10 +12,40 @@
 
 /**
  * Validate that the character sequence (e.g. string) is a valid URL using the {@code java.net.URL} constructor.
+ * <p>
+ * To avoid creating the {@code java.net.URL} - and the exceptions thrown for the invalid values - the value is first
+ * parsed by hand:
+ * <ul>
+ * <li>a value which cannot be an absolute URI or contains characters never allowed in an URI is invalid,</li>
+ * <li>a value whose scheme does not match the expected protocol is invalid,</li>
+ * <li>the {@code http}, {@code https} and {@code ftp} URLs with a simple authority (a host name or an IPv4 address
+ * and an optional port) and only unescaped ASCII characters are checked in place.</li>
+ * </ul>
+ * The other values are validated with the {@code java.net.URL} constructor.
  *
  * @author Hardy Ferentschik
  */
 public class URLValidator implements ConstraintValidator<org.hibernate.validator.constraints.URL, CharSequence> {
+
+	/**
+	 * The ASCII characters allowed in the path of an URI by {@link java.net.URI}, besides letters and digits.
+	 */
+	private static final String PATH_SPECIAL_CHARACTERS = "-_.!~*'():@&=+$,;/";
+
+	/**
+	 * The ASCII characters allowed in the query and the fragment of an URI by {@link java.net.URI}, besides letters
+	 * and digits.
+	 */
+	private static final String QUERY_SPECIAL_CHARACTERS = "-_.!~*'();/?:@&=+$,[]";
+
+	/**
+	 * The ASCII characters which are not allowed anywhere in an URI by {@link java.net.URI}, besides the control
+	 * characters.
+	 */
+	private static final String FORBIDDEN_CHARACTERS = " \"<>\\^`{|}";
+
+	private static final int MAX_SIMPLE_PORT_DIGITS = 9;
+
 	private String protocol;
 	private String host;
 	private int port;
@@ -33,6 +63,17 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 			return true;
 		}
 
+		switch ( parse( value ) ) {
+			case VALID:
+				return true;
+			case INVALID:
+				return false;
+			default:
+				return isValidJavaNetURL( value );
+		}
+	}
+
+	private boolean isValidJavaNetURL(CharSequence value) {
 		java.net.URL url;
 		try {
 			url = new java.net.URI( value.toString() ).toURL();
@@ -55,4 +96,238 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext constraint
 
 		return true;
 	}
+
+	private ParsingResult parse(CharSequence value) {
+		int length = value.length();
+
+		// an URL is an absolute URI so it starts with a scheme, followed by ':' before any '/', '?' or '#'
+		if ( !isAsciiLetter( value.charAt( 0 ) ) ) {
+			return ParsingResult.INVALID;
+		}
+		int schemeEnd = 1;
+		while ( schemeEnd < length && value.charAt( schemeEnd ) != ':' ) {
+			if ( !isSchemeCharacter( value.charAt( schemeEnd ) ) ) {
+				return ParsingResult.INVALID;
+			}
+			schemeEnd++;
+		}
+		if ( schemeEnd == length ) {
+			return ParsingResult.INVALID;
+		}
+
+		// the protocol of the URL is the lower case scheme, except for the url:<url> form handled by java.net.URL
+		if ( lowerCaseRegionEquals( value, 0, schemeEnd, "url" ) ) {
+			return ParsingResult.UNKNOWN;
+		}
+		// an expected protocol containing upper case letters never matches
+		if ( protocol != null && protocol.length() > 0 && !lowerCaseRegionEquals( value, 0, schemeEnd, protocol ) ) {
+			return ParsingResult.INVALID;
+		}
+
+		ParsingResult result = ParsingResult.UNKNOWN;
+		if ( lowerCaseRegionEquals( value, 0, schemeEnd, "http" )
+				|| lowerCaseRegionEquals( value, 0, schemeEnd, "https" )
+				|| lowerCaseRegionEquals( value, 0, schemeEnd, "ftp" ) ) {
+			result = parseHierarchicalPart( value, schemeEnd + 1 );
+		}
+
+		if ( result == ParsingResult.UNKNOWN && containsForbiddenCharacter( value, schemeEnd + 1 ) ) {
+			return ParsingResult.INVALID;
+		}
+		return result;
+	}
+
+	/**
+	 * Parses {@code //host[:port][/path][?query][#fragment]}.
+	 */
+	private ParsingResult parseHierarchicalPart(CharSequence value, int start) {
+		int length = value.length();
+		if ( start + 1 >= length || value.charAt( start ) != '/' || value.charAt( start + 1 ) != '/' ) {
+			return ParsingResult.UNKNOWN;
+		}
+
+		int hostStart = start + 2;
+		int hostEnd = hostStart;
+		while ( hostEnd < length && !isAuthorityDelimiter( value.charAt( hostEnd ) ) ) {
+			hostEnd++;
+		}
+		if ( !isIPv4Address( value, hostStart, hostEnd ) && !isHostName( value, hostStart, hostEnd ) ) {
+			return ParsingResult.UNKNOWN;
+		}
+
+		int i = hostEnd;
+		int urlPort = -1;
+		if ( i < length && value.charAt( i ) == ':' ) {
+			i++;
+			int portStart = i;
+			while ( i < length && isAsciiDigit( value.charAt( i ) ) ) {
+				urlPort = ( i == portStart ? 0 : urlPort * 10 ) + ( value.charAt( i ) - '0' );
+				i++;
+			}
+			if ( i - portStart > MAX_SIMPLE_PORT_DIGITS ) {
+				return ParsingResult.UNKNOWN;
+			}
+		}
+
+		// the authority is followed by an absolute path, a query, a fragment or nothing
+		if ( i < length && value.charAt( i ) != '/' && value.charAt( i ) != '?' && value.charAt( i ) != '#' ) {
+			return ParsingResult.UNKNOWN;
+		}
+		while ( i < length && value.charAt( i ) != '?' && value.charAt( i ) != '#' ) {
+			if ( !isPathCharacter( value.charAt( i ) ) ) {
+				return ParsingResult.UNKNOWN;
+			}
+			i++;
+		}
+		if ( i < length && value.charAt( i ) == '?' ) {
+			i++;
+			while ( i < length && value.charAt( i ) != '#' ) {
+				if ( !isQueryCharacter( value.charAt( i ) ) ) {
+					return ParsingResult.UNKNOWN;
+				}
+				i++;
+			}
+		}
+		if ( i < length ) {
+			// we are on the '#' starting the fragment
+			i++;
+			while ( i < length ) {
+				if ( !isQueryCharacter( value.charAt( i ) ) ) {
+					return ParsingResult.UNKNOWN;
+				}
+				i++;
+			}
+		}
+
+		if ( host != null && host.length() > 0 && !regionEquals( value, hostStart, hostEnd, host ) ) {
+			return ParsingResult.INVALID;
+		}
+
+		if ( port != -1 && urlPort != port ) {
+			return ParsingResult.INVALID;
+		}
+
+		return ParsingResult.VALID;
+	}
+
+	/**
+	 * Checks a host name as defined by RFC 2396, which is what {@link java.net.URI} expects: dot-separated labels made
+	 * of letters, digits and inner dashes, the rightmost one starting with a letter if there are several.
+	 */
+	private static boolean isHostName(CharSequence value, int start, int end) {
+		int labelStart = start;
+		for ( int i = start; i <= end; i++ ) {
+			if ( i == end || value.charAt( i ) == '.' ) {
+				if ( i == labelStart || value.charAt( labelStart ) == '-' || value.charAt( i - 1 ) == '-' ) {
+					return false;
+				}
+				if ( i < end ) {
+					labelStart = i + 1;
+				}
+			}
+			else if ( !isAsciiLetter( value.charAt( i ) ) && !isAsciiDigit( value.charAt( i ) ) && value.charAt( i ) != '-' ) {
+				return false;
+			}
+		}
+		// when there are several labels, the rightmost one starts with a letter
+		return labelStart == start || isAsciiLetter( value.charAt( labelStart ) );
+	}
+
+	/**
+	 * Checks four dot-separated groups of one to three digits, each one at most 255.
+	 */
+	private static boolean isIPv4Address(CharSequence value, int start, int end) {
+		int groups = 1;
+		int digits = 0;
+		int group = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( isAsciiDigit( c ) ) {
+				group = group * 10 + ( c - '0' );
+				if ( ++digits > 3 || group > 255 ) {
+					return false;
+				}
+			}
+			else if ( c == '.' && digits > 0 && groups < 4 ) {
+				groups++;
+				digits = 0;
+				group = 0;
+			}
+			else {
+				return false;
+			}
+		}
+		return groups == 4 && digits > 0;
+	}
+
+	private static boolean containsForbiddenCharacter(CharSequence value, int start) {
+		for ( int i = start; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c < 0x20 || c == 0x7f || FORBIDDEN_CHARACTERS.indexOf( c ) >= 0 ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isAuthorityDelimiter(char c) {
+		return c == ':' || c == '/' || c == '?' || c == '#';
+	}
+
+	private static boolean isSchemeCharacter(char c) {
+		return isAsciiLetter( c ) || isAsciiDigit( c ) || c == '+' || c == '-' || c == '.';
+	}
+
+	private static boolean isPathCharacter(char c) {
+		return isAsciiLetter( c ) || isAsciiDigit( c ) || PATH_SPECIAL_CHARACTERS.indexOf( c ) >= 0;
+	}
+
+	private static boolean isQueryCharacter(char c) {
+		return isAsciiLetter( c ) || isAsciiDigit( c ) || QUERY_SPECIAL_CHARACTERS.indexOf( c ) >= 0;
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' );
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean regionEquals(CharSequence value, int start, int end, String expected) {
+		if ( end - start != expected.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.length(); i++ ) {
+			if ( value.charAt( start + i ) != expected.charAt( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Compares the lower case version of an ASCII region of the value, e.g. the scheme, with the given string.
+	 */
+	private static boolean lowerCaseRegionEquals(CharSequence value, int start, int end, String expected) {
+		if ( end - start != expected.length() ) {
+			return false;
+		}
+		for ( int i = 0; i < expected.length(); i++ ) {
+			char c = value.charAt( start + i );
+			if ( ( c >= 'A' && c <= 'Z' ? (char) ( c + ( 'a' - 'A' ) ) : c ) != expected.charAt( i ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private enum ParsingResult {
+		VALID,
+		INVALID,
+		/**
+		 * The value is outside of what we parse by hand, it needs to be validated with {@code java.net.URL}.
+		 */
+		UNKNOWN
+	}
 }
@@ -4,19 +4,21 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv;
 
-import static java.util.stream.Collectors.toList;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.metadata.ConstraintDescriptor;
 
 import org.hibernate.validator.constraints.UniqueElements;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.util.CollectionHelper;
 
 /**
@@ -24,6 +26,10 @@
  * collection.
  * <p>
  * Uniqueness is defined by the {@code equals()} method of the objects being compared.
+ * <p>
+ * The duplicates are only collected when they can be reported to the constraint validator context and the validation
+ * is not in fail fast mode, otherwise the check stops at the first duplicate which is the only one reported.
+ * Collections larger than the configured parallel threshold are checked with a parallel stream.
  *
  * @author Tadhg Pearson
  * @author Guillaume Smet
@@ -31,7 +37,25 @@
 @SuppressWarnings("rawtypes")
 // as per the JLS, Collection<?> is a subtype of Collection, so we need to explicitly reference
 // Collection here to support having properties defined as Collection (see HV-1551)
-public class UniqueElementsValidator implements ConstraintValidator<UniqueElements, Collection> {
+public class UniqueElementsValidator implements HibernateConstraintValidator<UniqueElements, Collection> {
+
+	/**
+	 * Stands for the {@code null} elements in the concurrent set used by the parallel check, which doesn't accept
+	 * {@code null}s.
+	 */
+	private static final Object NULL_ELEMENT = new Object();
+
+	private int parallelThreshold;
+
+	private boolean failFast;
+
+	@Override
+	public void initialize(ConstraintDescriptor<UniqueElements> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		ParallelThreshold threshold = initializationContext.getSharedData( ParallelThreshold.class );
+		this.parallelThreshold = threshold != null ? threshold.getValue() : 0;
+		FailFast failFast = initializationContext.getSharedData( FailFast.class );
+		this.failFast = failFast != null && failFast.isEnabled();
+	}
 
 	/**
 	 * @param collection the collection to validate
@@ -45,27 +69,107 @@ public boolean isValid(Collection collection, ConstraintValidatorContext constra
 			return true;
 		}
 
-		List<Object> duplicates = findDuplicates( collection );
+		boolean parallel = parallelThreshold > 0 && collection.size() >= parallelThreshold;
+
+		if ( !( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) ) {
+			// the duplicates cannot be reported, we only need to know if there is one
+			return parallel ? findFirstDuplicateInParallel( collection ).isEmpty() : findFirstDuplicate( collection ).isEmpty();
+		}
+
+		List<Object> duplicates;
+		if ( failFast ) {
+			// the validation stops at the first violation, we stop at the first duplicate
+			duplicates = parallel ? findFirstDuplicateInParallel( collection ) : findFirstDuplicate( collection );
+		}
+		else {
+			duplicates = parallel ? findDuplicatesInParallel( collection ) : findDuplicates( collection );
+		}
 
 		if ( duplicates.isEmpty() ) {
 			return true;
 		}
 
-		if ( constraintValidatorContext instanceof HibernateConstraintValidatorContext ) {
-			constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
-					.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
-					// We cannot leverage the CollectionHelper.toImmutableList here as it does not allow `null` values.
-					//  User collections may have `null`s in it and those could as well be duplicates
-					//  so let's rely on the Collections.unmodifiableList here which accepts `null` values as long as the underlying collection allows it:
-					.withDynamicPayload( Collections.unmodifiableList( duplicates ) );
-		}
+		constraintValidatorContext.unwrap( HibernateConstraintValidatorContext.class )
+				.addMessageParameter( "duplicates", duplicates.stream().map( String::valueOf ).collect( Collectors.joining( ", " ) ) )
+				// We cannot leverage the CollectionHelper.toImmutableList here as it does not allow `null` values.
+				//  User collections may have `null`s in it and those could as well be duplicates
+				//  so let's rely on the Collections.unmodifiableList here which accepts `null` values as long as the underlying collection allows it:
+				.withDynamicPayload( Collections.unmodifiableList( duplicates ) );
 
 		return false;
 	}
 
-	private List<Object> findDuplicates(Collection<?> collection) {
+	private static List<Object> findFirstDuplicate(Collection<?> collection) {
 		Set<Object> uniqueElements = CollectionHelper.newHashSet( collection.size() );
-		return collection.stream().filter( o -> !uniqueElements.add( o ) )
-				.collect( toList() );
+		for ( Object element : collection ) {
+			if ( !uniqueElements.add( element ) ) {
+				return Collections.singletonList( element );
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	private static List<Object> findDuplicates(Collection<?> collection) {
+		Set<Object> uniqueElements = CollectionHelper.newHashSet( collection.size() );
+		List<Object> duplicates = null;
+		for ( Object element : collection ) {
+			if ( !uniqueElements.add( element ) ) {
+				if ( duplicates == null ) {
+					duplicates = new ArrayList<>();
+				}
+				duplicates.add( element );
+			}
+		}
+		return duplicates != null ? duplicates : Collections.emptyList();
+	}
+
+	private static List<Object> findFirstDuplicateInParallel(Collection<?> collection) {
+		Set<Object> uniqueElements = ConcurrentHashMap.newKeySet( collection.size() );
+		return collection.parallelStream()
+				.map( element -> element != null ? element : NULL_ELEMENT )
+				.filter( element -> !uniqueElements.add( element ) )
+				.findAny()
+				.map( element -> Collections.singletonList( element != NULL_ELEMENT ? element : null ) )
+				.orElse( Collections.emptyList() );
+	}
+
+	private static List<Object> findDuplicatesInParallel(Collection<?> collection) {
+		Set<Object> uniqueElements = ConcurrentHashMap.newKeySet( collection.size() );
+		return collection.parallelStream()
+				.filter( element -> !uniqueElements.add( element != null ? element : NULL_ELEMENT ) )
+				.collect( Collectors.toList() );
+	}
+
+	/**
+	 * The size from which the collections are checked in parallel, shared with the validators through the
+	 * initialization context.
+	 */
+	public static final class ParallelThreshold {
+
+		private final int value;
+
+		public ParallelThreshold(int value) {
+			this.value = value;
+		}
+
+		public int getValue() {
+			return value;
+		}
+	}
+
+	/**
+	 * Whether the validation is in fail fast mode, shared with the validators through the initialization context.
+	 */
+	public static final class FailFast {
+
+		private final boolean enabled;
+
+		public FailFast(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
 	}
 }
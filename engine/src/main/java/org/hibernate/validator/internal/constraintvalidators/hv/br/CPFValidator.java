@@ -4,61 +4,24 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.br;
 
-import java.util.regex.Pattern;
+import static org.hibernate.validator.internal.constraintvalidators.hv.br.Mod11CheckDigits.isAsciiDigit;
+import static org.hibernate.validator.internal.constraintvalidators.hv.br.Mod11CheckDigits.isAsciiDigits;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import org.hibernate.validator.constraints.Mod11Check;
 import org.hibernate.validator.constraints.br.CPF;
-import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.engine.constraintvalidation.FusedConstraintValidator;
 
 /**
+ * Validates a CPF in a single pass, including the checks of the {@code @Pattern} constraints composing {@link CPF}:
+ * the format and the rejection of the numbers made of a single repeated digit.
+ *
  * @author Hardy Ferentschik
  */
-public class CPFValidator implements ConstraintValidator<CPF, CharSequence> {
-	private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
-	private static final Pattern SINGLE_DASH_SEPARATOR = Pattern.compile( "\\d+-\\d\\d" );
+public class CPFValidator implements ConstraintValidator<CPF, CharSequence>, FusedConstraintValidator {
 
-	private final Mod11CheckValidator withSeparatorMod11Validator1 = new Mod11CheckValidator();
-	private final Mod11CheckValidator withSeparatorMod11Validator2 = new Mod11CheckValidator();
-
-	private final Mod11CheckValidator withDashOnlySeparatorMod11Validator1 = new Mod11CheckValidator();
-	private final Mod11CheckValidator withDashOnlySeparatorMod11Validator2 = new Mod11CheckValidator();
-
-	private final Mod11CheckValidator withoutSeparatorMod11Validator1 = new Mod11CheckValidator();
-	private final Mod11CheckValidator withoutSeparatorMod11Validator2 = new Mod11CheckValidator();
-
-	@Override
-	public void initialize(CPF constraintAnnotation) {
-		// validates CPF strings with separator, eg 134.241.313-00
-		// there are two checksums generated. The first over the digits prior the hyphen with the first
-		// check digit being the digit directly after the hyphen. The second checksum is over all digits
-		// pre hyphen + first check digit. The check digit in this case is the second digit after the hyphen
-		withSeparatorMod11Validator1.initialize(
-				0, 10, 12, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-		withSeparatorMod11Validator2.initialize(
-				0, 12, 13, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-
-		// validates CPF strings with separator, eg 134241313-00
-		withDashOnlySeparatorMod11Validator1.initialize(
-				0, 8, 10, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-		withDashOnlySeparatorMod11Validator2.initialize(
-				0, 10, 11, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-
-		// validates CPF strings without separator, eg 13424131300
-		// checksums as described above, except there are no separator characters
-		withoutSeparatorMod11Validator1.initialize(
-				0, 8, 9, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-		withoutSeparatorMod11Validator2.initialize(
-				0, 9, 10, true, Integer.MAX_VALUE, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT
-		);
-	}
+	private static final int DIGITS_ONLY_LENGTH = 11;
 
 	@Override
 	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
@@ -66,18 +29,63 @@ public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
 			return true;
 		}
 
-		if ( DIGITS_ONLY.matcher( value ).matches() ) {
-			return withoutSeparatorMod11Validator1.isValid( value, context )
-					&& withoutSeparatorMod11Validator2.isValid( value, context );
+		// validates CPF strings without separator, eg 13424131300
+		// there are two checksums generated. The first over the digits prior the check digits with the first
+		// check digit being the digit directly after them. The second checksum is over all digits
+		// prior the check digits + first check digit. The check digit in this case is the last digit
+		if ( value.length() == DIGITS_ONLY_LENGTH ) {
+			return isAsciiDigits( value, 0, DIGITS_ONLY_LENGTH )
+					&& !isSingleRepeatedDigit( value )
+					&& Mod11CheckDigits.isValid( value, 0, 8, 9, Integer.MAX_VALUE, false )
+					&& Mod11CheckDigits.isValid( value, 0, 9, 10, Integer.MAX_VALUE, false );
+		}
+
+		// validates CPF strings with separators, eg 134.241.313-00 or 134241313-00
+		int dots = 0;
+		int index = 0;
+		for ( int group = 0; group < 3; group++ ) {
+			if ( !isAsciiDigits( value, index, 3 ) ) {
+				return false;
+			}
+			index += 3;
+			if ( group < 2 && index < value.length() && value.charAt( index ) == '.' ) {
+				dots++;
+				index++;
+			}
+		}
+		if ( index + 3 != value.length() || value.charAt( index ) != '-' || !isAsciiDigits( value, index + 1, 2 ) ) {
+			return false;
 		}
-		else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
-			return withDashOnlySeparatorMod11Validator1.isValid( value, context )
-					&& withDashOnlySeparatorMod11Validator2.isValid( value, context );
+
+		if ( isSingleRepeatedDigit( value ) ) {
+			return false;
+		}
+
+		switch ( dots ) {
+			case 0:
+				return Mod11CheckDigits.isValid( value, 0, 8, 10, Integer.MAX_VALUE, false )
+						&& Mod11CheckDigits.isValid( value, 0, 10, 11, Integer.MAX_VALUE, false );
+			case 2:
+				return Mod11CheckDigits.isValid( value, 0, 10, 12, Integer.MAX_VALUE, false )
+						&& Mod11CheckDigits.isValid( value, 0, 12, 13, Integer.MAX_VALUE, false );
+			default:
+				// the format allows a single dot but the check digits are then expected at the positions they have
+				// with two dots: such a value has never been considered valid
+				return false;
 		}
-		else {
-			return withSeparatorMod11Validator1.isValid( value, context )
-					&& withSeparatorMod11Validator2.isValid( value, context );
+	}
 
+	/**
+	 * XXX.XXX.XXX-XX where X is always the same digit are not valid CPFs, but all of them pass the mod check.
+	 */
+	private static boolean isSingleRepeatedDigit(CharSequence value) {
+		char first = value.charAt( 0 );
+		for ( int i = 1; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( isAsciiDigit( c ) && c != first ) {
+				return false;
+			}
 		}
+		return true;
 	}
 }
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv.br;
+
+/**
+ * Mod11 check digit verification working directly on the validated character sequence, as used by the Brazilian
+ * identification numbers.
+ * <p>
+ * The results are the same as the ones of a {@link org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator}
+ * processing the digits from right to left and treating check results of 10 and 11 as {@code 0}.
+ */
+final class Mod11CheckDigits {
+
+	private Mod11CheckDigits() {
+	}
+
+	/**
+	 * @param value the value to check, which characters at the given positions have already been verified
+	 * @param startIndex the index of the first character covered by the checksum
+	 * @param endIndex the index of the last character covered by the checksum
+	 * @param checkDigitIndex the index of the check digit
+	 * @param threshold the threshold for the multiplier growth
+	 * @param alphanumeric whether the upper case letters are part of the checksum, the other characters which are not
+	 * digits are ignored
+	 *
+	 * @return {@code true} if the check digit is valid, {@code false} otherwise
+	 */
+	static boolean isValid(CharSequence value, int startIndex, int endIndex, int checkDigitIndex, int threshold, boolean alphanumeric) {
+		if ( endIndex >= value.length() || checkDigitIndex >= value.length() ) {
+			return false;
+		}
+
+		int sum = 0;
+		int multiplier = 1;
+		for ( int i = endIndex; i >= startIndex; i-- ) {
+			char c = value.charAt( i );
+			if ( !isAsciiDigit( c ) && !( alphanumeric && c >= 'A' && c <= 'Z' ) ) {
+				continue;
+			}
+
+			multiplier++;
+			if ( multiplier > threshold ) {
+				multiplier = 2;
+			}
+			sum += ( c - '0' ) * multiplier;
+		}
+
+		int modResult = 11 - ( sum % 11 );
+		char checkDigit = value.charAt( checkDigitIndex );
+		if ( modResult >= 10 ) {
+			return checkDigit == '0';
+		}
+		return checkDigit - '0' == modResult;
+	}
+
+	static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	static boolean isAsciiDigits(CharSequence value, int start, int count) {
+		if ( start + count > value.length() ) {
+			return false;
+		}
+		for ( int i = start; i < start + count; i++ ) {
+			if ( !isAsciiDigit( value.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.constraintvalidators.hv.br;
+
+import static org.hibernate.validator.internal.constraintvalidators.hv.br.Mod11CheckDigits.isAsciiDigits;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import org.hibernate.validator.constraints.br.TituloEleitoral;
+import org.hibernate.validator.internal.engine.constraintvalidation.FusedConstraintValidator;
+
+/**
+ * Validates a Brazilian Voter ID card number in a single pass, performing the checks of the {@code @Pattern} and
+ * {@code @Mod11Check} constraints composing {@link TituloEleitoral}.
+ */
+public class TituloEleitoralValidator implements ConstraintValidator<TituloEleitoral, CharSequence>, FusedConstraintValidator {
+
+	private static final int LENGTH = 12;
+
+	@Override
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if ( value == null ) {
+			return true;
+		}
+
+		// the first check digit is computed over the 8 digits of the sequential number, the second one over the
+		// 2 digits of the state code followed by the first check digit
+		return value.length() == LENGTH
+				&& isAsciiDigits( value, 0, LENGTH )
+				&& Mod11CheckDigits.isValid( value, 0, 7, 10, 9, false )
+				&& Mod11CheckDigits.isValid( value, 8, 10, 11, 9, false );
+	}
+}
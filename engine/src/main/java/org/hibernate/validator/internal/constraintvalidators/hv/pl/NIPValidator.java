@@ -4,41 +4,62 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.util.List;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.pl.NIP;
 
 /**
  * Validator for {@link NIP}.
+ * <p>
+ * The digits are read directly from the validated character sequence, without intermediate allocations.
  *
  * @author Marko Bekhta
  */
-public class NIPValidator extends PolishNumberValidator<NIP> {
+public class NIPValidator implements ConstraintValidator<NIP, CharSequence> {
 
 	private static final int[] WEIGHTS_NIP = { 6, 5, 7, 2, 3, 4, 5, 6, 7 };
 
-
 	@Override
-	public void initialize(NIP constraintAnnotation) {
-		super.initialize(
-				0,
-				Integer.MAX_VALUE,
-				-1,
-				true
-		);
-	}
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if ( value == null ) {
+			return true;
+		}
 
-	@Override
-	protected int[] getWeights(List<Integer> digits) {
-		return WEIGHTS_NIP;
-	}
+		if ( value.length() == 0 ) {
+			return false;
+		}
 
-	@Override
-	protected boolean checkTwoDigitModuloResult(char checkDigit) {
+		// the characters other than digits, e.g. the dashes in 123-456-32-18, are ignored, except for the check digit
+		// which is always the last character
+		int checkDigitIndex = value.length() - 1;
+		int digitCount = 0;
+		int sum = 0;
+		for ( int i = 0; i < checkDigitIndex; i++ ) {
+			char c = value.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				continue;
+			}
+			// if the length of the number is incorrect we can return fast
+			if ( digitCount == WEIGHTS_NIP.length ) {
+				return false;
+			}
+			sum += ( c - '0' ) * WEIGHTS_NIP[digitCount++];
+		}
+		if ( digitCount != WEIGHTS_NIP.length ) {
+			return false;
+		}
+
+		int modResult = sum % 11;
 		// From https://pl.wikipedia.org/wiki/Numer_identyfikacji_podatkowej:
 		//   > NIP jest tak generowany, aby nigdy w wyniku tego dzielenia, jako reszta, nie uzyskać liczby 10
 		//
-		// which means that the way NIP is generated the checksum can never be 10, so if we got here, we've got an invalid NIP:
-		return false;
+		// which means that the way NIP is generated the checksum can never be 10, so if we got it, we've got an invalid NIP:
+		if ( modResult == 10 ) {
+			return false;
+		}
+
+		char checkDigit = value.charAt( checkDigitIndex );
+		return Character.isDigit( checkDigit ) && modResult == Character.digit( checkDigit, 10 );
 	}
 }
@@ -4,73 +4,69 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
-import java.time.DateTimeException;
-import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.time.Month;
+import java.time.Year;
 
 import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 
 import org.hibernate.validator.constraints.pl.PESEL;
-import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
-import org.hibernate.validator.internal.util.ModUtil;
 
 /**
  * Validator for {@link PESEL}.
+ * <p>
+ * The digits are read directly from the validated character sequence, without intermediate allocations.
  *
  * @author Marko Bekhta
  */
-public class PESELValidator extends ModCheckBase implements ConstraintValidator<PESEL, CharSequence> {
+public class PESELValidator implements ConstraintValidator<PESEL, CharSequence> {
 
 	private static final int[] WEIGHTS_PESEL = { 1, 3, 7, 9, 1, 3, 7, 9, 1, 3 };
 
 	@Override
-	public void initialize(PESEL constraintAnnotation) {
-		super.initialize(
-				0,
-				Integer.MAX_VALUE,
-				-1,
-				false
-		);
-	}
+	public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+		if ( value == null ) {
+			return true;
+		}
 
-	@Override
-	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		// if the length of the number is incorrect we can return fast
-		if ( digits.size() != WEIGHTS_PESEL.length ) {
+		if ( value.length() != WEIGHTS_PESEL.length + 1 ) {
 			return false;
 		}
 
-		int monthCode = doubleDigitNumberFromSubList( digits, 2 );
-		try {
-			// PESEL format is YYMMDD*****, where MM is coded month (depending on the century
-			// 0/20/40/60/80 can be added to the month value) see javadoc on `year()`.
-			// Need to make sure that these first 6 digits represent a valid date
-			LocalDate.of(
-					year( doubleDigitNumberFromSubList( digits, 0 ), monthCode / 20 ),
-					monthCode % 20,
-					doubleDigitNumberFromSubList( digits, 4 )
-			);
+		int sum = 0;
+		for ( int i = 0; i < WEIGHTS_PESEL.length; i++ ) {
+			char c = value.charAt( i );
+			if ( !Character.isDigit( c ) ) {
+				return false;
+			}
+			sum += Character.digit( c, 10 ) * WEIGHTS_PESEL[i];
 		}
-		catch (DateTimeException e) {
+
+		// PESEL format is YYMMDD*****, where MM is coded month (depending on the century
+		// 0/20/40/60/80 can be added to the month value) see javadoc on `year()`.
+		// Need to make sure that these first 6 digits represent a valid date
+		int monthCode = doubleDigitNumber( value, 2 );
+		if ( !isValidDate( year( doubleDigitNumber( value, 0 ), monthCode / 20 ), monthCode % 20, doubleDigitNumber( value, 4 ) ) ) {
 			return false;
 		}
 
-		// now that we are done with custom logic we can proceeed with regular mod check of the checkdigit:
-		Collections.reverse( digits );
-
-		int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
-		switch ( modResult ) {
-			case 10:
-				return checkDigit == '0';
-			default:
-				return Character.isDigit( checkDigit ) && modResult == extractDigit( checkDigit );
+		// now that we are done with custom logic we can proceed with regular mod check of the check digit:
+		int modResult = 10 - ( sum % 10 );
+		char checkDigit = value.charAt( WEIGHTS_PESEL.length );
+		if ( modResult == 10 ) {
+			return checkDigit == '0';
 		}
+		return Character.isDigit( checkDigit ) && modResult == Character.digit( checkDigit, 10 );
+	}
+
+	private static int doubleDigitNumber(CharSequence value, int start) {
+		return Character.digit( value.charAt( start ), 10 ) * 10 + Character.digit( value.charAt( start + 1 ), 10 );
 	}
 
-	private int doubleDigitNumberFromSubList(List<Integer> digits, int start) {
-		// index access is ok here as we use ArrayLists.
-		return digits.get( start ) * 10 + digits.get( start + 1 );
+	private static boolean isValidDate(int year, int month, int day) {
+		return month >= 1 && month <= 12
+				&& day >= 1 && day <= Month.of( month ).length( Year.isLeap( year ) );
 	}
 
 	/**
@@ -80,7 +76,7 @@ private int doubleDigitNumberFromSubList(List<Integer> digits, int start) {
 	 * 2100–2199 - 40
 	 * 2200–2299 - 60
 	 */
-	private int year(int year, int centuryCode) {
+	private static int year(int year, int centuryCode) {
 		switch ( centuryCode ) {
 			case 4:
 				return 1800 + year;
@@ -5,6 +5,7 @@
 package org.hibernate.validator.internal.constraintvalidators.hv.pl;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.List;
 
@@ -12,6 +13,8 @@
 
 import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
 import org.hibernate.validator.internal.util.ModUtil;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
 /**
  * A base class validator for different Polish identification numbers. They differ in the lengths and weights used to calculate the mod sum.
@@ -22,6 +25,39 @@
  */
 public abstract class PolishNumberValidator<T extends Annotation> extends ModCheckBase implements ConstraintValidator<T, CharSequence> {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	@Override
+	public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+		int numberOfDigits = ModUtil.countDigits( value, startIndex, endIndex, ignoreNonDigitCharacters );
+		if ( numberOfDigits == ModUtil.NOT_A_DIGIT ) {
+			return false;
+		}
+
+		int[] weights = getWeights( numberOfDigits );
+
+		// if the length of the number is incorrect we can return fast
+		if ( weights.length != numberOfDigits ) {
+			return false;
+		}
+
+		// the digits are processed in reverse order
+		// as we need sum % 11 rather than 11 - (sum % 11) returned by Mod11 algorithm:
+		int modResult = 11 - ModUtil.calculateModXCheckWithWeights( value, startIndex, endIndex, ignoreNonDigitCharacters, true, 11,
+				Integer.MAX_VALUE, weights );
+		switch ( modResult ) {
+			case 10:
+			case 11:
+				return checkTwoDigitModuloResult( checkDigit );
+			default:
+				return Character.isDigit( checkDigit ) && modResult == Character.digit( checkDigit, 10 );
+		}
+	}
+
+	/**
+	 * @deprecated use {@link #isCheckDigitValid(CharSequence, int, int, boolean, char)} instead
+	 */
+	@Deprecated
 	@Override
 	public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		Collections.reverse( digits );
@@ -44,9 +80,41 @@ public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
 		}
 	}
 
+	@Override
+	protected void initialize(int startIndex, int endIndex, int checkDigitIndex, boolean ignoreDelimitingCharacters) {
+		super.initialize( startIndex, endIndex, checkDigitIndex, ignoreDelimitingCharacters );
+
+		// the default implementations of the two variants delegate to each other
+		if ( !isOverriddenBelow( PolishNumberValidator.class, "getWeights", int.class )
+				&& !isOverriddenBelow( PolishNumberValidator.class, "getWeights", List.class ) ) {
+			throw LOG.getValidatorMustOverrideOneOfMethodsException( getClass(), "getWeights(int)", "getWeights(List)" );
+		}
+	}
+
 	protected boolean checkTwoDigitModuloResult(char checkDigit) {
 		return checkDigit == '0';
 	}
 
-	protected abstract int[] getWeights(List<Integer> digits);
+	/**
+	 * Returns the weights used to calculate the checksum.
+	 * <p>
+	 * The default implementation delegates to the deprecated {@link #getWeights(List)}, passing a list with as many
+	 * elements as there are digits, so that the subclasses only implementing the latter keep working. Subclasses have to
+	 * implement one of the two methods, which is checked when the validator is initialized.
+	 *
+	 * @param numberOfDigits the number of digits to be verified
+	 *
+	 * @return an array of weights to be used to calculate a checksum
+	 */
+	protected int[] getWeights(int numberOfDigits) {
+		return getWeights( Collections.nCopies( numberOfDigits, 0 ) );
+	}
+
+	/**
+	 * @deprecated implement {@link #getWeights(int)} instead, the weights only depend on the number of digits
+	 */
+	@Deprecated
+	protected int[] getWeights(List<Integer> digits) {
+		return getWeights( digits.size() );
+	}
 }
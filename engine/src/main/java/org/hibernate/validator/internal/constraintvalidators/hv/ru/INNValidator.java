@@ -4,8 +4,6 @@
  */
 package org.hibernate.validator.internal.constraintvalidators.hv.ru;
 
-import java.util.regex.Pattern;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
@@ -19,9 +17,6 @@
  */
 public class INNValidator implements ConstraintValidator<INN, CharSequence> {
 
-	private static final Pattern NUMBERS_ONLY_PATTERN = Pattern.compile( "[0-9]+" );
-	private static final int RADIX = 10;
-
 	private INNValidationAlgorithm innValidationAlgorithm;
 
 	@Override
@@ -35,27 +30,24 @@ public boolean isValid(CharSequence innCharSeq, ConstraintValidatorContext conte
 			return true;
 		}
 
-		final String inn = innCharSeq.toString();
-
-		final boolean hasOnlyNumbers = NUMBERS_ONLY_PATTERN.matcher( inn ).matches();
-		if ( !hasOnlyNumbers ) {
+		if ( !innValidationAlgorithm.isValidLength( innCharSeq.length() ) ) {
 			return false;
 		}
 
-		if ( !innValidationAlgorithm.isValidLength( inn.length() ) ) {
-			return false;
+		for ( int i = 0; i < innCharSeq.length(); i++ ) {
+			char c = innCharSeq.charAt( i );
+			if ( c < '0' || c > '9' ) {
+				return false;
+			}
 		}
 
-		final int[] digits = inn.codePoints().map( symbol -> Character.digit( symbol, RADIX ) ).toArray();
-
-		return innValidationAlgorithm.isValidChecksum( digits );
-
+		return innValidationAlgorithm.isValidChecksum( innCharSeq );
 	}
 
 	private interface INNValidationAlgorithm {
 		boolean isValidLength(int length);
 
-		boolean isValidChecksum(int[] digits);
+		boolean isValidChecksum(CharSequence digits);
 
 		static INNValidationAlgorithm from(org.hibernate.validator.constraints.ru.INN.Type type) {
 			Contracts.assertNotNull( type );
@@ -80,7 +72,7 @@ public boolean isValidLength(int length) {
 			}
 
 			@Override
-			public boolean isValidChecksum(int[] digits) {
+			public boolean isValidChecksum(CharSequence digits) {
 				return checkChecksumPersonalINN( digits );
 			}
 		},
@@ -91,7 +83,7 @@ public boolean isValidLength(int length) {
 			}
 
 			@Override
-			public boolean isValidChecksum(int[] digits) {
+			public boolean isValidChecksum(CharSequence digits) {
 				return checkChecksumJuridicalINN( digits );
 			}
 		},
@@ -102,8 +94,8 @@ public boolean isValidLength(int length) {
 			}
 
 			@Override
-			public boolean isValidChecksum(int[] digits) {
-				final int length = digits.length;
+			public boolean isValidChecksum(CharSequence digits) {
+				final int length = digits.length();
 				if ( length == 12 ) {
 					return checkChecksumPersonalINN( digits );
 				}
@@ -125,12 +117,12 @@ else if ( length == 10 ) {
 		 * Check the digits for personal INN using algorithm from
 		 * <a href="https://ru.wikipedia.org/wiki/%D0%98%D0%B4%D0%B5%D0%BD%D1%82%D0%B8%D1%84%D0%B8%D0%BA%D0%B0%D1%86%D0%B8%D0%BE%D0%BD%D0%BD%D1%8B%D0%B9_%D0%BD%D0%BE%D0%BC%D0%B5%D1%80_%D0%BD%D0%B0%D0%BB%D0%BE%D0%B3%D0%BE%D0%BF%D0%BB%D0%B0%D1%82%D0%B5%D0%BB%D1%8C%D1%89%D0%B8%D0%BA%D0%B0#%D0%92%D1%8B%D1%87%D0%B8%D1%81%D0%BB%D0%B5%D0%BD%D0%B8%D0%B5_%D0%BA%D0%BE%D0%BD%D1%82%D1%80%D0%BE%D0%BB%D1%8C%D0%BD%D1%8B%D1%85_%D1%86%D0%B8%D1%84%D1%80">Wikipedia</a>.
 		 */
-		private static boolean checkChecksumPersonalINN(int[] digits) {
+		private static boolean checkChecksumPersonalINN(CharSequence digits) {
 			final int checkSum11 = getCheckSum( digits, INDIVIDUAL_WEIGHTS_11 );
 			final int checkSum12 = getCheckSum( digits, INDIVIDUAL_WEIGHTS_12 );
 
-			final boolean isCheckSum11Correct = checkSum11 == digits[digits.length - 2];
-			final boolean isCheckSum12Correct = checkSum12 == digits[digits.length - 1];
+			final boolean isCheckSum11Correct = checkSum11 == digit( digits, digits.length() - 2 );
+			final boolean isCheckSum12Correct = checkSum12 == digit( digits, digits.length() - 1 );
 
 			return isCheckSum11Correct && isCheckSum12Correct;
 		}
@@ -139,17 +131,21 @@ private static boolean checkChecksumPersonalINN(int[] digits) {
 		 * Check the digits for juridical INN using algorithm from
 		 * <a href="https://ru.wikipedia.org/wiki/%D0%98%D0%B4%D0%B5%D0%BD%D1%82%D0%B8%D1%84%D0%B8%D0%BA%D0%B0%D1%86%D0%B8%D0%BE%D0%BD%D0%BD%D1%8B%D0%B9_%D0%BD%D0%BE%D0%BC%D0%B5%D1%80_%D0%BD%D0%B0%D0%BB%D0%BE%D0%B3%D0%BE%D0%BF%D0%BB%D0%B0%D1%82%D0%B5%D0%BB%D1%8C%D1%89%D0%B8%D0%BA%D0%B0#%D0%92%D1%8B%D1%87%D0%B8%D1%81%D0%BB%D0%B5%D0%BD%D0%B8%D0%B5_%D0%BA%D0%BE%D0%BD%D1%82%D1%80%D0%BE%D0%BB%D1%8C%D0%BD%D1%8B%D1%85_%D1%86%D0%B8%D1%84%D1%80">Wikipedia</a>.
 		 */
-		private static boolean checkChecksumJuridicalINN(int[] digits) {
+		private static boolean checkChecksumJuridicalINN(CharSequence digits) {
 			final int checkSum = getCheckSum( digits, JURIDICAL_WEIGHTS );
-			return digits[digits.length - 1] == checkSum;
+			return digit( digits, digits.length() - 1 ) == checkSum;
 		}
 
-		private static int getCheckSum(int[] digits, int[] weights) {
+		private static int getCheckSum(CharSequence digits, int[] weights) {
 			int sum = 0;
 			for ( int i = 0; i < weights.length; i++ ) {
-				sum += digits[i] * weights[i];
+				sum += digit( digits, i ) * weights[i];
 			}
 			return ( sum % MOD_11 ) % MOD_10;
 		}
+
+		private static int digit(CharSequence digits, int index) {
+			return digits.charAt( index ) - '0';
+		}
 	}
 }
@@ -35,6 +35,7 @@
 
 import org.hibernate.validator.BaseHibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.constraintvalidation.spi.DefaultConstraintValidatorFactory;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
@@ -134,6 +135,9 @@
 	private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 	private ProcessedBeansTrackingVoter processedBeansTrackingVoter;
 	private boolean showValidatedValuesInTraceLogs;
+	private PatternMatchingStrategy patternMatchingStrategy;
+	private Integer uniqueElementsParallelThreshold;
+	private boolean skipMessageInterpolation;
 
 	protected AbstractConfigurationImpl(BootstrapState state) {
 		this();
@@ -305,6 +309,12 @@ public T failFastOnPropertyViolation(boolean failFastOnPropertyViolation) {
 		return thisAsT();
 	}
 
+	@Override
+	public T skipMessageInterpolation(boolean skipMessageInterpolation) {
+		this.skipMessageInterpolation = skipMessageInterpolation;
+		return thisAsT();
+	}
+
 	@Override
 	public T allowOverridingMethodAlterParameterConstraint(boolean allow) {
 		this.methodValidationConfigurationBuilder.allowOverridingMethodAlterParameterConstraint( allow );
@@ -699,6 +709,10 @@ public final boolean getShowValidatedValuesInTraceLogs() {
 		return this.showValidatedValuesInTraceLogs;
 	}
 
+	public final boolean isSkipMessageInterpolation() {
+		return this.skipMessageInterpolation;
+	}
+
 	@Override
 	public T processedBeansTrackingVoter(ProcessedBeansTrackingVoter processedBeansTrackingVoter) {
 		if ( LOG.isDebugEnabled() ) {
@@ -715,6 +729,36 @@ public ProcessedBeansTrackingVoter getProcessedBeansTrackingVoter() {
 		return processedBeansTrackingVoter;
 	}
 
+	@Override
+	public T patternMatchingStrategy(PatternMatchingStrategy patternMatchingStrategy) {
+		Contracts.assertNotNull( patternMatchingStrategy, MESSAGES.parameterMustNotBeNull( "patternMatchingStrategy" ) );
+
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debug( "Setting PatternMatchingStrategy to " + patternMatchingStrategy.name() );
+		}
+
+		this.patternMatchingStrategy = patternMatchingStrategy;
+		return thisAsT();
+	}
+
+	public PatternMatchingStrategy getPatternMatchingStrategy() {
+		return patternMatchingStrategy;
+	}
+
+	@Override
+	public T uniqueElementsParallelThreshold(int uniqueElementsParallelThreshold) {
+		if ( LOG.isDebugEnabled() ) {
+			LOG.debug( "Setting unique elements parallel threshold to " + uniqueElementsParallelThreshold );
+		}
+
+		this.uniqueElementsParallelThreshold = uniqueElementsParallelThreshold;
+		return thisAsT();
+	}
+
+	public Integer getUniqueElementsParallelThreshold() {
+		return uniqueElementsParallelThreshold;
+	}
+
 	public final Set<DefaultConstraintMapping> getProgrammaticMappings() {
 		return programmaticMappings;
 	}
@@ -7,6 +7,7 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.core.ConstraintInterner;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
 
 public class ConstraintCreationContext {
@@ -19,14 +20,25 @@ public class ConstraintCreationContext {
 
 	private final ValueExtractorManager valueExtractorManager;
 
+	private final ConstraintInterner constraintInterner;
+
 	public ConstraintCreationContext(ConstraintHelper constraintHelper,
 			ConstraintValidatorManager constraintValidatorManager,
 			TypeResolutionHelper typeResolutionHelper,
 			ValueExtractorManager valueExtractorManager) {
+		this( constraintHelper, constraintValidatorManager, typeResolutionHelper, valueExtractorManager, new ConstraintInterner() );
+	}
+
+	public ConstraintCreationContext(ConstraintHelper constraintHelper,
+			ConstraintValidatorManager constraintValidatorManager,
+			TypeResolutionHelper typeResolutionHelper,
+			ValueExtractorManager valueExtractorManager,
+			ConstraintInterner constraintInterner) {
 		this.constraintHelper = constraintHelper;
 		this.constraintValidatorManager = constraintValidatorManager;
 		this.typeResolutionHelper = typeResolutionHelper;
 		this.valueExtractorManager = valueExtractorManager;
+		this.constraintInterner = constraintInterner;
 	}
 
 	public ConstraintHelper getConstraintHelper() {
@@ -44,4 +56,8 @@ public TypeResolutionHelper getTypeResolutionHelper() {
 	public ValueExtractorManager getValueExtractorManager() {
 		return valueExtractorManager;
 	}
+
+	public ConstraintInterner getConstraintInterner() {
+		return constraintInterner;
+	}
 }
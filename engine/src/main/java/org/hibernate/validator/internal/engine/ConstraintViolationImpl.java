@@ -41,7 +41,10 @@
 	private final Object[] executableParameters;
 	private final Object executableReturnValue;
 	private final Object dynamicPayload;
-	private final int hashCode;
+	/**
+	 * Computed lazily as most violations are never hashed, see {@code ConstraintViolationSet}.
+	 */
+	private transient int hashCode;
 
 	public static <T> ConstraintViolation<T> forBeanValidation(String messageTemplate,
 			Map<String, Object> messageParameters,
@@ -155,8 +158,6 @@ private ConstraintViolationImpl(String messageTemplate,
 		this.executableParameters = executableParameters;
 		this.executableReturnValue = executableReturnValue;
 		this.dynamicPayload = dynamicPayload;
-		// pre-calculate hash code, the class is immutable and hashCode is needed often
-		this.hashCode = createHashCode();
 	}
 
 	@Override
@@ -172,6 +173,7 @@ public final String getMessageTemplate() {
 	/**
 	 * @return the message parameters added using {@link HibernateConstraintValidatorContext#addMessageParameter(String, Object)}
 	 */
+	@Override
 	public Map<String, Object> getMessageParameters() {
 		return messageParameters;
 	}
@@ -179,6 +181,7 @@ public Map<String, Object> getMessageParameters() {
 	/**
 	 * @return the expression variables added using {@link HibernateConstraintValidatorContext#addExpressionVariable(String, Object)}
 	 */
+	@Override
 	public Map<String, Object> getExpressionVariables() {
 		return expressionVariables;
 	}
@@ -291,7 +294,13 @@ public boolean equals(Object o) {
 
 	@Override
 	public int hashCode() {
-		return hashCode;
+		int result = hashCode;
+		if ( result == 0 ) {
+			// the class is immutable so a racy initialization is harmless
+			result = createHashCode();
+			hashCode = result;
+		}
+		return result;
 	}
 
 	@Override
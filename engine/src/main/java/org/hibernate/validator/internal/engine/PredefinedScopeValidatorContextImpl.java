@@ -112,6 +112,12 @@ public HibernateValidatorContext showValidatedValuesInTraceLogs(boolean enabled)
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext skipMessageInterpolation(boolean skipMessageInterpolation) {
+		validatorFactoryScopedContextBuilder.setSkipMessageInterpolation( skipMessageInterpolation );
+		return this;
+	}
+
 	@Override
 	public Validator getValidator() {
 		return validatorFactory.createValidator( validatorFactoryScopedContextBuilder.build() );
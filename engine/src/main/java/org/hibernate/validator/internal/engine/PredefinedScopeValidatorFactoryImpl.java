@@ -15,11 +15,14 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determinePatternMatchingStrategy;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineSkipMessageInterpolation;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineUniqueElementsParallelThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.initializeConstraintValidatorInitializationShareDataManager;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
@@ -27,6 +30,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -54,6 +58,7 @@
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorManager;
 import org.hibernate.validator.internal.metadata.PredefinedScopeBeanMetaDataManager;
 import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.metadata.provider.MetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
@@ -65,6 +70,7 @@
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.xml.mapping.MappingXmlParser;
+import org.hibernate.validator.messageinterpolation.AbstractMessageInterpolator;
 import org.hibernate.validator.spi.nodenameprovider.PropertyNodeNameProvider;
 import org.hibernate.validator.spi.properties.GetterPropertySelectionStrategy;
 import org.hibernate.validator.spi.scripting.ScriptEvaluatorFactory;
@@ -124,10 +130,13 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 		ExecutableParameterNameProvider parameterNameProvider = new ExecutableParameterNameProvider( configurationState.getParameterNameProvider() );
 		ScriptEvaluatorFactory scriptEvaluatorFactory = determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader );
 		Duration temporalValidationTolerance = determineTemporalValidationTolerance( configurationState, properties );
+		boolean failFast = determineFailFast( hibernateSpecificConfig, properties );
 
 		HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext = new HibernateConstraintValidatorInitializationContextImpl(
 				scriptEvaluatorFactory, configurationState.getClockProvider(), temporalValidationTolerance,
-				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig ) );
+				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig,
+						determinePatternMatchingStrategy( hibernateSpecificConfig, properties ),
+						determineUniqueElementsParallelThreshold( hibernateSpecificConfig, properties ), failFast ) );
 
 		this.validatorFactoryScopedContext = new ValidatorFactoryScopedContext(
 				configurationState.getMessageInterpolator(),
@@ -136,10 +145,11 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				configurationState.getClockProvider(),
 				determineTemporalValidationTolerance( configurationState, properties ),
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
-				determineFailFast( hibernateSpecificConfig, properties ),
+				failFast,
 				determineFailFastOnPropertyViolation( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
 				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineSkipMessageInterpolation( hibernateSpecificConfig, properties ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
@@ -249,6 +259,14 @@ public PredefinedScopeValidatorFactoryImpl(ConfigurationState configurationState
 				beanClassesToInitialize
 		);
 
+		// all the constraints are known, their messages are resolved upfront so that the message bundles are not
+		// looked up at runtime
+		preResolveMessages( validatorFactoryScopedContext.getMessageInterpolator(),
+				constraintCreationContext.getConstraintInterner().getConstraintDescriptors() );
+
+		// all the metadata has been built, the shared constraints are now only referenced by the metadata itself
+		constraintCreationContext.getConstraintInterner().clear();
+
 		if ( LOG.isDebugEnabled() ) {
 			logValidatorFactoryScopedConfiguration( validatorFactoryScopedContext );
 		}
@@ -335,6 +353,11 @@ public HibernateValidatorContext usingContext() {
 		return new PredefinedScopeValidatorContextImpl( this );
 	}
 
+	@Override
+	public void invalidate(Class<?>... types) {
+		throw LOG.getMetaDataInvalidationNotSupportedInPredefinedScopeException();
+	}
+
 	@Override
 	public void close() {
 		constraintValidatorManager.clear();
@@ -373,4 +396,24 @@ private static List<MetaDataProvider> buildMetaDataProviders(
 		}
 		return metaDataProviders;
 	}
+
+	private static void preResolveMessages(MessageInterpolator messageInterpolator, Collection<ConstraintDescriptorImpl<?>> constraintDescriptors) {
+		if ( !( messageInterpolator instanceof AbstractMessageInterpolator abstractMessageInterpolator ) ) {
+			return;
+		}
+
+		Set<String> messageTemplates = new HashSet<>();
+		for ( ConstraintDescriptorImpl<?> constraintDescriptor : constraintDescriptors ) {
+			collectMessageTemplates( constraintDescriptor, messageTemplates );
+		}
+		abstractMessageInterpolator.preResolveMessages( messageTemplates );
+	}
+
+	private static void collectMessageTemplates(ConstraintDescriptorImpl<?> constraintDescriptor, Set<String> messageTemplates) {
+		messageTemplates.add( constraintDescriptor.getMessageTemplate() );
+		// the composing constraints may report their own violations
+		for ( ConstraintDescriptorImpl<?> composingConstraint : constraintDescriptor.getComposingConstraintImpls() ) {
+			collectMessageTemplates( composingConstraint, messageTemplates );
+		}
+	}
 }
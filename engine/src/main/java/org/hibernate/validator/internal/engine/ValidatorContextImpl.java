@@ -152,6 +152,12 @@ public HibernateValidatorContext showValidatedValuesInTraceLogs(boolean enabled)
 		return this;
 	}
 
+	@Override
+	public HibernateValidatorContext skipMessageInterpolation(boolean skipMessageInterpolation) {
+		validatorFactoryScopedContextBuilder.setSkipMessageInterpolation( skipMessageInterpolation );
+		return this;
+	}
+
 	@Override
 	public Validator getValidator() {
 		return validatorFactory.createValidator(
@@ -160,7 +166,8 @@ public Validator getValidator() {
 						? constraintCreationContext
 						: new ConstraintCreationContext( constraintCreationContext.getConstraintHelper(),
 								constraintCreationContext.getConstraintValidatorManager(), constraintCreationContext.getTypeResolutionHelper(),
-								new ValueExtractorManager( constraintCreationContext.getValueExtractorManager(), valueExtractorDescriptors ) ),
+								new ValueExtractorManager( constraintCreationContext.getValueExtractorManager(), valueExtractorDescriptors ),
+								constraintCreationContext.getConstraintInterner() ),
 				validatorFactoryScopedContextBuilder.build(),
 				methodValidationConfigurationBuilder.build() );
 	}
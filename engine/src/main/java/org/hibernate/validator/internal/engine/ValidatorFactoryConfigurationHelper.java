@@ -19,7 +19,9 @@
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
 import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.internal.cfg.context.DefaultConstraintMapping;
+import org.hibernate.validator.internal.constraintvalidators.hv.UniqueElementsValidator;
 import org.hibernate.validator.internal.engine.constraintdefinition.ConstraintDefinitionContribution;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
@@ -263,7 +265,8 @@ static Object determineConstraintValidatorPayload(ConfigurationState configurati
 		return null;
 	}
 
-	static HibernateConstraintValidatorInitializationSharedDataManager initializeConstraintValidatorInitializationShareDataManager(ConfigurationState configurationState) {
+	static HibernateConstraintValidatorInitializationSharedDataManager initializeConstraintValidatorInitializationShareDataManager(ConfigurationState configurationState,
+			PatternMatchingStrategy patternMatchingStrategy, int uniqueElementsParallelThreshold, boolean failFast) {
 		HibernateConstraintValidatorInitializationSharedDataManager configured = null;
 		if ( configurationState instanceof AbstractConfigurationImpl<?> hibernateSpecificConfig ) {
 			if ( hibernateSpecificConfig.getSharedDataManager() != null ) {
@@ -274,7 +277,56 @@ static HibernateConstraintValidatorInitializationSharedDataManager initializeCon
 			configured = new HibernateConstraintValidatorInitializationSharedDataManager();
 		}
 
-		return configured.copy();
+		HibernateConstraintValidatorInitializationSharedDataManager sharedDataManager = configured.copy();
+		// the pattern validators retrieve the strategy from the shared data
+		sharedDataManager.register( PatternMatchingStrategy.class, patternMatchingStrategy );
+		// and the unique elements validators the threshold from which the collections are checked in parallel
+		sharedDataManager.register( UniqueElementsValidator.ParallelThreshold.class, new UniqueElementsValidator.ParallelThreshold( uniqueElementsParallelThreshold ) );
+		// and whether they can stop at the first duplicate
+		sharedDataManager.register( UniqueElementsValidator.FailFast.class, new UniqueElementsValidator.FailFast( failFast ) );
+		return sharedDataManager;
+	}
+
+	static PatternMatchingStrategy determinePatternMatchingStrategy(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getPatternMatchingStrategy() != null ) {
+			LOG.logPatternMatchingStrategy( hibernateSpecificConfig.getPatternMatchingStrategy() );
+			return hibernateSpecificConfig.getPatternMatchingStrategy();
+		}
+
+		String patternMatchingStrategyName = properties.get( HibernateValidatorConfiguration.PATTERN_MATCHING_STRATEGY );
+		if ( patternMatchingStrategyName != null ) {
+			try {
+				PatternMatchingStrategy patternMatchingStrategy = PatternMatchingStrategy.of( patternMatchingStrategyName );
+				LOG.logPatternMatchingStrategy( patternMatchingStrategy );
+				return patternMatchingStrategy;
+			}
+			catch (IllegalArgumentException e) {
+				throw LOG.invalidPatternMatchingStrategyValue( patternMatchingStrategyName, e );
+			}
+		}
+
+		return PatternMatchingStrategy.JAVA_REGEX;
+	}
+
+	static int determineUniqueElementsParallelThreshold(AbstractConfigurationImpl<?> hibernateSpecificConfig, Map<String, String> properties) {
+		if ( hibernateSpecificConfig != null && hibernateSpecificConfig.getUniqueElementsParallelThreshold() != null ) {
+			LOG.logUniqueElementsParallelThreshold( hibernateSpecificConfig.getUniqueElementsParallelThreshold() );
+			return hibernateSpecificConfig.getUniqueElementsParallelThreshold();
+		}
+
+		String uniqueElementsParallelThresholdProperty = properties.get( HibernateValidatorConfiguration.UNIQUE_ELEMENTS_PARALLEL_THRESHOLD );
+		if ( uniqueElementsParallelThresholdProperty != null ) {
+			try {
+				int uniqueElementsParallelThreshold = Integer.parseInt( uniqueElementsParallelThresholdProperty.trim() );
+				LOG.logUniqueElementsParallelThreshold( uniqueElementsParallelThreshold );
+				return uniqueElementsParallelThreshold;
+			}
+			catch (NumberFormatException e) {
+				throw LOG.getUnableToParseUniqueElementsParallelThresholdException( uniqueElementsParallelThresholdProperty, e );
+			}
+		}
+
+		return 0;
 	}
 
 	static ExpressionLanguageFeatureLevel determineConstraintExpressionLanguageFeatureLevel(AbstractConfigurationImpl<?> hibernateSpecificConfig,
@@ -449,6 +501,11 @@ static boolean determineShowValidatedValuesInTraceLogs(AbstractConfigurationImpl
 		return tmpShowValidatedValuesInTraceLogging;
 	}
 
+	static boolean determineSkipMessageInterpolation(AbstractConfigurationImpl<?> configuration, Map<String, String> properties) {
+		return checkPropertiesForBoolean( properties, HibernateValidatorConfiguration.SKIP_MESSAGE_INTERPOLATION,
+				configuration != null ? configuration.isSkipMessageInterpolation() : false );
+	}
+
 	static void logValidatorFactoryScopedConfiguration(ValidatorFactoryScopedContext context) {
 		LOG.logValidatorFactoryScopedConfiguration( context.getMessageInterpolator().getClass(), "message interpolator" );
 		LOG.logValidatorFactoryScopedConfiguration( context.getTraversableResolver().getClass(), "traversable resolver" );
@@ -15,15 +15,19 @@
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineExternalClassLoader;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFast;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineFailFastOnPropertyViolation;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determinePatternMatchingStrategy;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineScriptEvaluatorFactory;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineServiceLoadedConstraintMappings;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineShowValidatedValuesInTraceLogs;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineSkipMessageInterpolation;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTemporalValidationTolerance;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineTraversableResolverResultCacheEnabled;
+import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.determineUniqueElementsParallelThreshold;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.initializeConstraintValidatorInitializationShareDataManager;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.logValidatorFactoryScopedConfiguration;
 import static org.hibernate.validator.internal.engine.ValidatorFactoryConfigurationHelper.registerCustomConstraintValidators;
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
+import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
@@ -58,6 +62,8 @@
 import org.hibernate.validator.internal.metadata.provider.ProgrammaticMetaDataProvider;
 import org.hibernate.validator.internal.metadata.provider.XmlMetaDataProvider;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.ExecutableHelper;
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.TypeResolutionHelper;
@@ -157,6 +163,8 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 						determineAllowParallelMethodsDefineParameterConstraints( hibernateSpecificConfig, properties )
 				).build();
 
+		boolean failFast = determineFailFast( hibernateSpecificConfig, properties );
+
 		this.validatorFactoryScopedContext = new ValidatorFactoryScopedContext(
 				configurationState.getMessageInterpolator(),
 				configurationState.getTraversableResolver(),
@@ -164,12 +172,15 @@ public ValidatorFactoryImpl(ConfigurationState configurationState) {
 				configurationState.getClockProvider(),
 				determineTemporalValidationTolerance( configurationState, properties ),
 				determineScriptEvaluatorFactory( configurationState, properties, externalClassLoader ),
-				determineFailFast( hibernateSpecificConfig, properties ),
+				failFast,
 				determineFailFastOnPropertyViolation( hibernateSpecificConfig, properties ),
 				determineTraversableResolverResultCacheEnabled( hibernateSpecificConfig, properties ),
 				determineShowValidatedValuesInTraceLogs( hibernateSpecificConfig, properties ),
+				determineSkipMessageInterpolation( hibernateSpecificConfig, properties ),
 				determineConstraintValidatorPayload( hibernateSpecificConfig ),
-				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig ),
+				initializeConstraintValidatorInitializationShareDataManager( hibernateSpecificConfig,
+						determinePatternMatchingStrategy( hibernateSpecificConfig, properties ),
+						determineUniqueElementsParallelThreshold( hibernateSpecificConfig, properties ), failFast ),
 				determineConstraintExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties ),
 				determineCustomViolationExpressionLanguageFeatureLevel( hibernateSpecificConfig, properties )
 		);
@@ -330,6 +341,23 @@ public HibernateValidatorContext usingContext() {
 		return new ValidatorContextImpl( this );
 	}
 
+	@Override
+	public void invalidate(Class<?>... types) {
+		Contracts.assertNotNull( types, MESSAGES.parameterMustNotBeNull( "types" ) );
+
+		Set<Class<?>> typesToInvalidate = CollectionHelper.asSet( types );
+
+		constraintCreationContext.getConstraintValidatorManager().invalidate( typesToInvalidate );
+		// the constraint trees are shared between beans and cache the validators which have just been released
+		constraintCreationContext.getConstraintInterner().resetConstraintValidators();
+		constraintCreationContext.getValueExtractorManager().invalidate( typesToInvalidate );
+		for ( Map.Entry<BeanMetaDataManagerKey, BeanMetaDataManager> beanMetaDataManagerEntry : beanMetaDataManagers.entrySet() ) {
+			// validators created from a context might use their own value extractors
+			beanMetaDataManagerEntry.getKey().valueExtractorManager.invalidate( typesToInvalidate );
+			beanMetaDataManagerEntry.getValue().invalidate( typesToInvalidate );
+		}
+	}
+
 	@Override
 	public void close() {
 		constraintCreationContext.getConstraintValidatorManager().clear();
@@ -339,6 +367,7 @@ public void close() {
 		}
 		validatorFactoryScopedContext.getScriptEvaluatorFactory().clear();
 		constraintCreationContext.getValueExtractorManager().clear();
+		constraintCreationContext.getConstraintInterner().clear();
 	}
 
 	public ValidatorFactoryScopedContext getValidatorFactoryScopedContext() {
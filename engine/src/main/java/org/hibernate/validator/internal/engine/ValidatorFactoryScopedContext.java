@@ -12,6 +12,7 @@
 import jakarta.validation.TraversableResolver;
 
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+import org.hibernate.validator.internal.constraintvalidators.hv.UniqueElementsValidator;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.HibernateConstraintValidatorInitializationSharedDataManager;
 import org.hibernate.validator.internal.util.Contracts;
@@ -93,6 +94,17 @@ public class ValidatorFactoryScopedContext {
 	 */
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to skip the interpolation of the messages of the constraint violations.
+	 */
+	private final boolean skipMessageInterpolation;
+
+	/**
+	 * The data shared by the constraint validators of the validators overriding the fail fast mode of the factory,
+	 * lazily initialized.
+	 */
+	private volatile HibernateConstraintValidatorInitializationSharedDataManager failFastOverrideSharedDataManager;
+
 	ValidatorFactoryScopedContext(MessageInterpolator messageInterpolator,
 			TraversableResolver traversableResolver,
 			ExecutableParameterNameProvider parameterNameProvider,
@@ -103,12 +115,13 @@ public class ValidatorFactoryScopedContext {
 			boolean failFastOnPropertyViolation,
 			boolean traversableResolverResultCacheEnabled,
 			boolean showValidatedValuesInTraceLogs,
+			boolean skipMessageInterpolation,
 			Object constraintValidatorPayload,
 			HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel) {
 		this( messageInterpolator, traversableResolver, parameterNameProvider, clockProvider, temporalValidationTolerance, scriptEvaluatorFactory, failFast,
-				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
+				failFastOnPropertyViolation, traversableResolverResultCacheEnabled, showValidatedValuesInTraceLogs, skipMessageInterpolation, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
 				customViolationExpressionLanguageFeatureLevel,
 				new HibernateConstraintValidatorInitializationContextImpl( scriptEvaluatorFactory, clockProvider,
 						temporalValidationTolerance, constraintValidatorInitializationSharedServiceManager
@@ -125,6 +138,7 @@ public class ValidatorFactoryScopedContext {
 			boolean failFastOnPropertyViolation,
 			boolean traversableResolverResultCacheEnabled,
 			boolean showValidatedValuesInTraceLogs,
+			boolean skipMessageInterpolation,
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel,
@@ -142,6 +156,7 @@ public class ValidatorFactoryScopedContext {
 		this.constraintExpressionLanguageFeatureLevel = constraintExpressionLanguageFeatureLevel;
 		this.customViolationExpressionLanguageFeatureLevel = customViolationExpressionLanguageFeatureLevel;
 		this.showValidatedValuesInTraceLogs = showValidatedValuesInTraceLogs;
+		this.skipMessageInterpolation = skipMessageInterpolation;
 		this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 	}
 
@@ -201,6 +216,29 @@ public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
 
+	public boolean isSkipMessageInterpolation() {
+		return skipMessageInterpolation;
+	}
+
+	/**
+	 * Some constraint validators, e.g. the {@link UniqueElementsValidator}, depend on the fail fast mode: the validators
+	 * overriding the fail fast mode of the factory get their own shared data.
+	 */
+	private HibernateConstraintValidatorInitializationSharedDataManager getConstraintValidatorInitializationSharedDataManager(boolean failFast) {
+		HibernateConstraintValidatorInitializationSharedDataManager sharedDataManager = constraintValidatorInitializationContext.getConstraintValidatorInitializationSharedServiceManager();
+		if ( failFast == this.failFast ) {
+			return sharedDataManager;
+		}
+
+		HibernateConstraintValidatorInitializationSharedDataManager overrideSharedDataManager = failFastOverrideSharedDataManager;
+		if ( overrideSharedDataManager == null ) {
+			overrideSharedDataManager = sharedDataManager.copy();
+			overrideSharedDataManager.register( UniqueElementsValidator.FailFast.class, new UniqueElementsValidator.FailFast( failFast ) );
+			failFastOverrideSharedDataManager = overrideSharedDataManager;
+		}
+		return overrideSharedDataManager;
+	}
+
 	static class Builder {
 		private final ValidatorFactoryScopedContext defaultContext;
 
@@ -217,6 +255,7 @@ static class Builder {
 		private ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel;
 		private ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel;
 		private boolean showValidatedValuesInTraceLogs;
+		private boolean skipMessageInterpolation;
 		private final HibernateConstraintValidatorInitializationContextImpl constraintValidatorInitializationContext;
 
 		Builder(ValidatorFactoryScopedContext defaultContext) {
@@ -236,6 +275,7 @@ static class Builder {
 			this.constraintExpressionLanguageFeatureLevel = defaultContext.constraintExpressionLanguageFeatureLevel;
 			this.customViolationExpressionLanguageFeatureLevel = defaultContext.customViolationExpressionLanguageFeatureLevel;
 			this.showValidatedValuesInTraceLogs = defaultContext.showValidatedValuesInTraceLogs;
+			this.skipMessageInterpolation = defaultContext.skipMessageInterpolation;
 			this.constraintValidatorInitializationContext = defaultContext.constraintValidatorInitializationContext;
 		}
 
@@ -333,6 +373,11 @@ public ValidatorFactoryScopedContext.Builder setShowValidatedValuesInTraceLogs(
 			return this;
 		}
 
+		public ValidatorFactoryScopedContext.Builder setSkipMessageInterpolation(boolean skipMessageInterpolation) {
+			this.skipMessageInterpolation = skipMessageInterpolation;
+			return this;
+		}
+
 		public ValidatorFactoryScopedContext build() {
 			return new ValidatorFactoryScopedContext(
 					messageInterpolator,
@@ -344,7 +389,9 @@ public ValidatorFactoryScopedContext build() {
 					failFast,
 					failFastOnPropertyViolation,
 					traversableResolverResultCacheEnabled,
-					showValidatedValuesInTraceLogs, constraintValidatorPayload,
+					showValidatedValuesInTraceLogs,
+					skipMessageInterpolation,
+					constraintValidatorPayload,
 					constraintExpressionLanguageFeatureLevel,
 					customViolationExpressionLanguageFeatureLevel,
 					HibernateConstraintValidatorInitializationContextImpl.of(
@@ -352,7 +399,7 @@ public ValidatorFactoryScopedContext build() {
 							scriptEvaluatorFactory,
 							clockProvider,
 							temporalValidationTolerance,
-							constraintValidatorInitializationContext.getConstraintValidatorInitializationSharedServiceManager()
+							defaultContext.getConstraintValidatorInitializationSharedDataManager( failFast )
 					)
 			);
 		}
@@ -680,12 +680,7 @@ private void validateCascadedContainerElementsForCurrentGroup(Object value, Base
 				continue;
 			}
 
-			ValueExtractorDescriptor extractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
-					cascadingMetaData.getEnclosingType(),
-					cascadingMetaData.getTypeParameter(),
-					value.getClass(),
-					cascadingMetaData.getValueExtractorCandidates()
-			);
+			ValueExtractorDescriptor extractor = cascadingMetaData.getRuntimeValueExtractor( valueExtractorManager, value.getClass() );
 
 			if ( extractor == null ) {
 				throw LOG.getNoValueExtractorFoundForTypeException( cascadingMetaData.getEnclosingType(), cascadingMetaData.getTypeParameter(), value.getClass() );
@@ -41,14 +41,54 @@
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final String BUILTIN_CONSTRAINT_VALIDATORS_PACKAGE = "org.hibernate.validator.internal.constraintvalidators.";
+
 	@Immutable
 	private final List<ConstraintTree<?>> children;
 
+	/**
+	 * Whether the validator of the main constraint also performs the checks of the composing constraints, in which case
+	 * the latter don't need to be evaluated.
+	 */
+	private final boolean composingConstraintsCheckedByMainValidator;
+
 	public ComposingConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<B> descriptor, Type validatedValueType) {
 		super( constraintValidatorManager, descriptor, validatedValueType );
 		this.children = descriptor.getComposingConstraintImpls().stream()
 				.map( desc -> createConstraintTree( constraintValidatorManager, desc ) )
 				.collect( Collectors.collectingAndThen( Collectors.toList(), CollectionHelper::toImmutableList ) );
+		this.composingConstraintsCheckedByMainValidator = isComposingConstraintsCheckedByMainValidator( descriptor );
+	}
+
+	private static boolean isComposingConstraintsCheckedByMainValidator(ConstraintDescriptorImpl<?> descriptor) {
+		if ( !descriptor.isReportAsSingleViolation() || descriptor.getCompositionType() != AND
+				|| descriptor.getMatchingConstraintValidatorDescriptors().isEmpty() ) {
+			return false;
+		}
+
+		for ( ConstraintValidatorDescriptor<?> validatorDescriptor : descriptor.getMatchingConstraintValidatorDescriptors() ) {
+			if ( !FusedConstraintValidator.class.isAssignableFrom( validatorDescriptor.getValidatorClass() ) ) {
+				return false;
+			}
+		}
+
+		// the main validator only reproduces the checks of the built-in validators: if the validators of the composing
+		// constraints have been overridden via XML or the programmatic API, the composing constraints need to be evaluated
+		return isOnlyValidatedByBuiltinValidators( descriptor.getComposingConstraintImpls() );
+	}
+
+	private static boolean isOnlyValidatedByBuiltinValidators(Collection<ConstraintDescriptorImpl<?>> composingDescriptors) {
+		for ( ConstraintDescriptorImpl<?> composingDescriptor : composingDescriptors ) {
+			for ( ConstraintValidatorDescriptor<?> validatorDescriptor : composingDescriptor.getMatchingConstraintValidatorDescriptors() ) {
+				if ( !validatorDescriptor.getValidatorClass().getName().startsWith( BUILTIN_CONSTRAINT_VALIDATORS_PACKAGE ) ) {
+					return false;
+				}
+			}
+			if ( !isOnlyValidatedByBuiltinValidators( composingDescriptor.getComposingConstraintImpls() ) ) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	private <U extends Annotation> ConstraintTree<U> createConstraintTree(ConstraintValidatorManager constraintValidatorManager, ConstraintDescriptorImpl<U> composingDescriptor) {
@@ -60,6 +100,14 @@ private <U extends Annotation> ConstraintTree<U> createConstraintTree(Constraint
 		}
 	}
 
+	@Override
+	public void resetDefaultInitializedConstraintValidator() {
+		super.resetDefaultInitializedConstraintValidator();
+		for ( ConstraintTree<?> child : children ) {
+			child.resetDefaultInitializedConstraintValidator();
+		}
+	}
+
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
 		List<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts = new ArrayList<>( 5 );
@@ -71,6 +119,7 @@ public boolean validateConstraints(ValidationContext<?> validationContext, Value
 							valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
 					);
 				}
+				validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
 			}
 			return false;
 		}
@@ -121,6 +170,7 @@ protected void validateConstraints(ValidationContext<?> validationContext,
 			// from the local constraintValidator
 			if ( violatedLocalConstraintValidatorContext == null ) {
 				compositionResult.setAtLeastOneTrue( true );
+				validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
 			}
 			else {
 				compositionResult.setAllTrue( false );
@@ -217,6 +267,10 @@ private CompositionResult validateComposingConstraints(ValidationContext<?> vali
 			ValueContext<?, ?> valueContext,
 			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts) {
 		CompositionResult compositionResult = new CompositionResult( true, false );
+		if ( composingConstraintsCheckedByMainValidator ) {
+			return compositionResult;
+		}
+
 		for ( ConstraintTree<?> tree : children ) {
 			List<ConstraintValidatorContextImpl> tmpConstraintValidatorContexts = new ArrayList<>( 5 );
 			tree.validateConstraints( validationContext, valueContext, tmpConstraintValidatorContexts );
@@ -79,6 +79,14 @@ public final Type getValidatedValueType() {
 		return this.validatedValueType;
 	}
 
+	/**
+	 * Drops the cached constraint validator created by the default constraint validator factory, e.g. because it has
+	 * been released. It will be retrieved again from the {@link ConstraintValidatorManager} on next use.
+	 */
+	public void resetDefaultInitializedConstraintValidator() {
+		defaultInitializedConstraintValidator = null;
+	}
+
 	private ValidationException getExceptionForNullValidator(Type validatedValueType, String path) {
 		if ( descriptor.getConstraintType() == ConstraintDescriptorImpl.ConstraintType.CROSS_PARAMETER ) {
 			return LOG.getValidatorForCrossParameterConstraintMustEitherValidateObjectOrObjectArrayException(
@@ -6,6 +6,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,10 +48,11 @@ public class ConstraintValidatorContextImpl implements HibernateConstraintValida
 	private Map<String, Object> messageParameters;
 	private Map<String, Object> expressionVariables;
 	private final ClockProvider clockProvider;
+	private final ValidationInstantProvider validationInstantProvider;
 	private final ExpressionLanguageFeatureLevel defaultConstraintExpressionLanguageFeatureLevel;
 	private final ExpressionLanguageFeatureLevel defaultCustomViolationExpressionLanguageFeatureLevel;
-	private final MutablePath basePath;
-	private final ConstraintDescriptor<?> constraintDescriptor;
+	private MutablePath basePath;
+	private ConstraintDescriptor<?> constraintDescriptor;
 	private List<ConstraintViolationCreationContext> constraintViolationCreationContexts;
 	private boolean defaultDisabled;
 	private Object dynamicPayload;
@@ -63,7 +65,20 @@ public ConstraintValidatorContextImpl(
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel defaultConstraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel defaultCustomViolationExpressionLanguageFeatureLevel) {
+		this( clockProvider, new ValidationInstantProvider( clockProvider ), propertyPath, constraintDescriptor, constraintValidatorPayload,
+				defaultConstraintExpressionLanguageFeatureLevel, defaultCustomViolationExpressionLanguageFeatureLevel );
+	}
+
+	public ConstraintValidatorContextImpl(
+			ClockProvider clockProvider,
+			ValidationInstantProvider validationInstantProvider,
+			MutablePath propertyPath,
+			ConstraintDescriptor<?> constraintDescriptor,
+			Object constraintValidatorPayload,
+			ExpressionLanguageFeatureLevel defaultConstraintExpressionLanguageFeatureLevel,
+			ExpressionLanguageFeatureLevel defaultCustomViolationExpressionLanguageFeatureLevel) {
 		this.clockProvider = clockProvider;
+		this.validationInstantProvider = validationInstantProvider;
 		this.defaultConstraintExpressionLanguageFeatureLevel = defaultConstraintExpressionLanguageFeatureLevel;
 		this.defaultCustomViolationExpressionLanguageFeatureLevel = defaultCustomViolationExpressionLanguageFeatureLevel;
 		this.basePath = propertyPath;
@@ -71,6 +86,21 @@ public ConstraintValidatorContextImpl(
 		this.constraintValidatorPayload = constraintValidatorPayload;
 	}
 
+	/**
+	 * Resets this context so that it can be used for the validation of another constraint.
+	 * <p>
+	 * Only a context which has not been kept to report violations can be recycled.
+	 */
+	public void recycle(MutablePath propertyPath, ConstraintDescriptor<?> constraintDescriptor) {
+		this.basePath = propertyPath;
+		this.constraintDescriptor = constraintDescriptor;
+		this.messageParameters = null;
+		this.expressionVariables = null;
+		this.constraintViolationCreationContexts = null;
+		this.defaultDisabled = false;
+		this.dynamicPayload = null;
+	}
+
 	@Override
 	public final void disableDefaultConstraintViolation() {
 		defaultDisabled = true;
@@ -127,6 +157,11 @@ public ClockProvider getClockProvider() {
 		return clockProvider;
 	}
 
+	@Override
+	public Instant getValidationInstant() {
+		return validationInstantProvider.getInstant();
+	}
+
 	@Override
 	public HibernateConstraintValidatorContext withDynamicPayload(Object violationContext) {
 		this.dynamicPayload = violationContext;
@@ -6,6 +6,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Set;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -38,6 +39,14 @@ public interface ConstraintValidatorManager {
 
 	void clear();
 
+	/**
+	 * Releases the cached constraint validators validating the given types or their sub-types, as well as the cached
+	 * constraint validators whose constraint or implementation is one of the given types.
+	 *
+	 * @param types the types to invalidate
+	 */
+	void invalidate(Set<Class<?>> types);
+
 	ConstraintValidatorFactory getDefaultConstraintValidatorFactory();
 
 	HibernateConstraintValidatorInitializationContext getDefaultConstraintValidatorInitializationContext();
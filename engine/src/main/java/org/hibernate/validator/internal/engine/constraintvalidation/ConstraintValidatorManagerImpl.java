@@ -7,9 +7,8 @@
 import java.lang.annotation.Annotation;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Type;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.validation.ConstraintValidator;
@@ -20,7 +19,9 @@
 import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
 import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 
@@ -34,6 +35,12 @@ public class ConstraintValidatorManagerImpl extends AbstractConstraintValidatorM
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of non default constraint validator factory and initialization context pairs for which
+	 * the {@code ConstraintValidator} instances are cached.
+	 */
+	public static final int MAX_CACHED_NON_DEFAULT_SCOPES = 8;
+
 	/**
 	 * Dummy {@code ConstraintValidator} used as placeholder for the case that for a given context there exists
 	 * no matching constraint validator instance
@@ -47,26 +54,28 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	};
 
 	/**
-	 * The most recently used non default constraint validator factory.
+	 * Cache of the initialized {@code ConstraintValidator} instances created with the default constraint validator
+	 * factory and initialization context. It is never evicted.
 	 */
-	private volatile ConstraintValidatorFactory mostRecentlyUsedNonDefaultConstraintValidatorFactory;
+	private final CacheScope defaultScope;
 
 	/**
-	 * The most recently used non default constraint validator initialization context.
+	 * Caches of the initialized {@code ConstraintValidator} instances created with non default constraint validator
+	 * factories and initialization contexts. At most {@link #MAX_CACHED_NON_DEFAULT_SCOPES} of them are kept, the least
+	 * recently used one being evicted first.
 	 */
-	private volatile HibernateConstraintValidatorInitializationContext mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext;
+	private final ConcurrentHashMap<ScopeKey, CacheScope> nonDefaultScopes;
 
 	/**
-	 * Used for synchronizing access to {@link #mostRecentlyUsedNonDefaultConstraintValidatorFactory} (which can be
-	 * null itself).
+	 * Used for synchronizing the creation and eviction of the non default scopes. Lookups do not require it.
 	 */
-	private final Object mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex = new Object();
+	private final Object nonDefaultScopesMutex = new Object();
 
 	/**
-	 * Cache of initialized {@code ConstraintValidator} instances keyed against validated type, annotation,
-	 * constraint validator factory and constraint validator initialization context ({@code CacheKey}).
+	 * The non default scope used by the latest lookup. The last use time of a scope is only updated when it becomes the
+	 * most recently used one: as long as the same scope is used, the lookups don't write anything.
 	 */
-	private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidatorCache;
+	private volatile CacheScope mostRecentlyUsedScope;
 
 	/**
 	 * Creates a new {@code ConstraintValidatorManager}.
@@ -77,7 +86,8 @@ public boolean isValid(Object value, ConstraintValidatorContext context) {
 	public ConstraintValidatorManagerImpl(ConstraintValidatorFactory defaultConstraintValidatorFactory,
 			HibernateConstraintValidatorInitializationContext defaultConstraintValidatorInitializationContext) {
 		super( defaultConstraintValidatorFactory, defaultConstraintValidatorInitializationContext );
-		this.constraintValidatorCache = new ConcurrentHashMap<>();
+		this.defaultScope = new CacheScope( defaultConstraintValidatorFactory );
+		this.nonDefaultScopes = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -106,14 +116,15 @@ public boolean isPredefinedScope() {
 		Contracts.assertNotNull( constraintValidatorFactory );
 		Contracts.assertNotNull( initializationContext );
 
-		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType, constraintValidatorFactory, initializationContext );
+		CacheScope scope = getScope( constraintValidatorFactory, initializationContext );
+		CacheKey key = new CacheKey( descriptor.getAnnotationDescriptor(), validatedValueType );
 
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) constraintValidatorCache.get( key );
+		ConstraintValidator<A, ?> constraintValidator = (ConstraintValidator<A, ?>) scope.constraintValidators.get( key );
 
 		if ( constraintValidator == null ) {
 			constraintValidator = createAndInitializeValidator( validatedValueType, descriptor, constraintValidatorFactory, initializationContext );
-			constraintValidator = cacheValidator( key, constraintValidator );
+			constraintValidator = cacheValidator( scope, key, constraintValidator );
 		}
 		else {
 			LOG.tracef( "Constraint validator %s found in cache.", constraintValidator );
@@ -122,81 +133,191 @@ public boolean isPredefinedScope() {
 		return DUMMY_CONSTRAINT_VALIDATOR == constraintValidator ? null : constraintValidator;
 	}
 
-	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(CacheKey key,
-			ConstraintValidator<A, ?> constraintValidator) {
-		// we only cache constraint validator instances for the default and most recently used factory
-		if ( ( key.getConstraintValidatorFactory() != getDefaultConstraintValidatorFactory()
-				&& key.getConstraintValidatorFactory() != mostRecentlyUsedNonDefaultConstraintValidatorFactory )
-				|| ( key.getConstraintValidatorInitializationContext() != getDefaultConstraintValidatorInitializationContext()
-						&& key.getConstraintValidatorInitializationContext() != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) ) {
-
-			synchronized (mostRecentlyUsedNonDefaultConstraintValidatorFactoryAndInitializationContextMutex) {
-				if ( key.constraintValidatorFactory != mostRecentlyUsedNonDefaultConstraintValidatorFactory
-						|| key.constraintValidatorInitializationContext != mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext ) {
-					clearEntries( mostRecentlyUsedNonDefaultConstraintValidatorFactory, mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext );
-					mostRecentlyUsedNonDefaultConstraintValidatorFactory = key.getConstraintValidatorFactory();
-					mostRecentlyUsedNonDefaultConstraintValidatorInitializationContext = key.getConstraintValidatorInitializationContext();
+	private CacheScope getScope(ConstraintValidatorFactory constraintValidatorFactory,
+			HibernateConstraintValidatorInitializationContext initializationContext) {
+		if ( constraintValidatorFactory == getDefaultConstraintValidatorFactory()
+				&& initializationContext == getDefaultConstraintValidatorInitializationContext() ) {
+			return defaultScope;
+		}
+
+		ScopeKey scopeKey = new ScopeKey( constraintValidatorFactory, initializationContext );
+		CacheScope scope = nonDefaultScopes.get( scopeKey );
+
+		if ( scope == null ) {
+			synchronized (nonDefaultScopesMutex) {
+				scope = nonDefaultScopes.get( scopeKey );
+				if ( scope == null ) {
+					if ( nonDefaultScopes.size() >= MAX_CACHED_NON_DEFAULT_SCOPES ) {
+						evictLeastRecentlyUsedScope();
+					}
+					scope = new CacheScope( constraintValidatorFactory );
+					nonDefaultScopes.put( scopeKey, scope );
 				}
 			}
 		}
 
+		if ( scope != mostRecentlyUsedScope ) {
+			scope.lastUsed = System.nanoTime();
+			mostRecentlyUsedScope = scope;
+		}
+
+		return scope;
+	}
+
+	private void evictLeastRecentlyUsedScope() {
+		Entry<ScopeKey, CacheScope> leastRecentlyUsedScope = null;
+		for ( Entry<ScopeKey, CacheScope> scope : nonDefaultScopes.entrySet() ) {
+			if ( leastRecentlyUsedScope == null || scope.getValue().lastUsed - leastRecentlyUsedScope.getValue().lastUsed < 0 ) {
+				leastRecentlyUsedScope = scope;
+			}
+		}
+
+		nonDefaultScopes.remove( leastRecentlyUsedScope.getKey() );
+		leastRecentlyUsedScope.getValue().evict();
+	}
+
+	private <A extends Annotation> ConstraintValidator<A, ?> cacheValidator(CacheScope scope, CacheKey key,
+			ConstraintValidator<A, ?> constraintValidator) {
+		ConstraintValidator<?, ?> valueToCache = constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR;
+
 		@SuppressWarnings("unchecked")
-		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) constraintValidatorCache.putIfAbsent( key,
-				constraintValidator != null ? constraintValidator : DUMMY_CONSTRAINT_VALIDATOR );
+		ConstraintValidator<A, ?> cached = (ConstraintValidator<A, ?>) scope.constraintValidators.putIfAbsent( key, valueToCache );
+
+		// the scope might have been evicted concurrently, in which case nobody else will release the instance
+		if ( cached == null && scope.evicted ) {
+			scope.release( key, valueToCache );
+		}
 
 		return cached != null ? cached : constraintValidator;
 	}
 
-	private void clearEntries(ConstraintValidatorFactory constraintValidatorFactory, HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
-		Iterator<Entry<CacheKey, ConstraintValidator<?, ?>>> cacheEntries = constraintValidatorCache.entrySet().iterator();
+	@Override
+	public void clear() {
+		defaultScope.clear();
 
-		while ( cacheEntries.hasNext() ) {
-			Entry<CacheKey, ConstraintValidator<?, ?>> cacheEntry = cacheEntries.next();
-			if ( cacheEntry.getKey().getConstraintValidatorFactory() == constraintValidatorFactory
-					&& cacheEntry.getKey().getConstraintValidatorInitializationContext() == constraintValidatorInitializationContext ) {
-				constraintValidatorFactory.releaseInstance( cacheEntry.getValue() );
-				cacheEntries.remove();
+		synchronized (nonDefaultScopesMutex) {
+			for ( CacheScope scope : nonDefaultScopes.values() ) {
+				scope.evict();
 			}
+			nonDefaultScopes.clear();
+			mostRecentlyUsedScope = null;
 		}
 	}
 
 	@Override
-	public void clear() {
-		for ( Map.Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidatorCache.entrySet() ) {
-			entry.getKey().getConstraintValidatorFactory().releaseInstance( entry.getValue() );
+	public void invalidate(Set<Class<?>> types) {
+		defaultScope.invalidate( types );
+		for ( CacheScope scope : nonDefaultScopes.values() ) {
+			scope.invalidate( types );
 		}
-		constraintValidatorCache.clear();
 	}
 
 	public int numberOfCachedConstraintValidatorInstances() {
-		return constraintValidatorCache.size();
+		int numberOfCachedConstraintValidatorInstances = defaultScope.constraintValidators.size();
+		for ( CacheScope scope : nonDefaultScopes.values() ) {
+			numberOfCachedConstraintValidatorInstances += scope.constraintValidators.size();
+		}
+		return numberOfCachedConstraintValidatorInstances;
+	}
+
+	/**
+	 * The initialized {@code ConstraintValidator} instances created by a given constraint validator factory and
+	 * initialization context.
+	 */
+	private static final class CacheScope {
+
+		private final ConstraintValidatorFactory constraintValidatorFactory;
+
+		private final ConcurrentHashMap<CacheKey, ConstraintValidator<?, ?>> constraintValidators = new ConcurrentHashMap<>();
+
+		/**
+		 * Only used to determine the least recently used scope so it is fine if a concurrent update is lost.
+		 */
+		private volatile long lastUsed;
+
+		private volatile boolean evicted;
+
+		private CacheScope(ConstraintValidatorFactory constraintValidatorFactory) {
+			this.constraintValidatorFactory = constraintValidatorFactory;
+		}
+
+		private void evict() {
+			evicted = true;
+			clear();
+		}
+
+		private void clear() {
+			for ( Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidators.entrySet() ) {
+				release( entry.getKey(), entry.getValue() );
+			}
+		}
+
+		private void invalidate(Set<Class<?>> types) {
+			for ( Entry<CacheKey, ConstraintValidator<?, ?>> entry : constraintValidators.entrySet() ) {
+				CacheKey key = entry.getKey();
+				if ( ClassHierarchyHelper.isSubTypeOfAny( TypeHelper.getErasedReferenceType( key.validatedType ), types )
+						|| types.contains( key.annotationDescriptor.getType() )
+						|| types.contains( entry.getValue().getClass() ) ) {
+					release( key, entry.getValue() );
+				}
+			}
+		}
+
+		private void release(CacheKey key, ConstraintValidator<?, ?> constraintValidator) {
+			// make sure each instance is only released once
+			if ( constraintValidators.remove( key, constraintValidator ) ) {
+				constraintValidatorFactory.releaseInstance( constraintValidator );
+			}
+		}
+	}
+
+	private static final class ScopeKey {
+
+		private final ConstraintValidatorFactory constraintValidatorFactory;
+		private final HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
+		private final int hashCode;
+
+		private ScopeKey(ConstraintValidatorFactory constraintValidatorFactory,
+				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+			this.constraintValidatorFactory = constraintValidatorFactory;
+			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
+			this.hashCode = 31 * constraintValidatorFactory.hashCode() + constraintValidatorInitializationContext.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			// no need to check for the type here considering it's only used in a typed map
+			if ( o == null ) {
+				return false;
+			}
+
+			ScopeKey other = (ScopeKey) o;
+
+			return constraintValidatorFactory.equals( other.constraintValidatorFactory )
+					&& constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
 	}
 
 	private static final class CacheKey {
 		// These members are not final for optimization purposes
 		private ConstraintAnnotationDescriptor<?> annotationDescriptor;
 		private Type validatedType;
-		private ConstraintValidatorFactory constraintValidatorFactory;
-		private HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext;
 		private int hashCode;
 
-		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType, ConstraintValidatorFactory constraintValidatorFactory,
-				HibernateConstraintValidatorInitializationContext constraintValidatorInitializationContext) {
+		private CacheKey(ConstraintAnnotationDescriptor<?> annotationDescriptor, Type validatorType) {
 			this.annotationDescriptor = annotationDescriptor;
 			this.validatedType = validatorType;
-			this.constraintValidatorFactory = constraintValidatorFactory;
-			this.constraintValidatorInitializationContext = constraintValidatorInitializationContext;
 			this.hashCode = createHashCode();
 		}
 
-		public ConstraintValidatorFactory getConstraintValidatorFactory() {
-			return constraintValidatorFactory;
-		}
-
-		public HibernateConstraintValidatorInitializationContext getConstraintValidatorInitializationContext() {
-			return constraintValidatorInitializationContext;
-		}
-
 		@Override
 		public boolean equals(Object o) {
 			if ( this == o ) {
@@ -215,12 +336,6 @@ public boolean equals(Object o) {
 			if ( !validatedType.equals( other.validatedType ) ) {
 				return false;
 			}
-			if ( !constraintValidatorFactory.equals( other.constraintValidatorFactory ) ) {
-				return false;
-			}
-			if ( !constraintValidatorInitializationContext.equals( other.constraintValidatorInitializationContext ) ) {
-				return false;
-			}
 
 			return true;
 		}
@@ -233,8 +348,6 @@ public int hashCode() {
 		private int createHashCode() {
 			int result = annotationDescriptor.hashCode();
 			result = 31 * result + validatedType.hashCode();
-			result = 31 * result + constraintValidatorFactory.hashCode();
-			result = 31 * result + constraintValidatorInitializationContext.hashCode();
 			return result;
 		}
 	}
@@ -25,12 +25,13 @@ public class CrossParameterConstraintValidatorContextImpl extends ConstraintVali
 
 	public CrossParameterConstraintValidatorContextImpl(List<String> methodParameterNames,
 			ClockProvider clockProvider,
+			ValidationInstantProvider validationInstantProvider,
 			MutablePath propertyPath,
 			ConstraintDescriptor<?> constraintDescriptor,
 			Object constraintValidatorPayload,
 			ExpressionLanguageFeatureLevel constraintExpressionLanguageFeatureLevel,
 			ExpressionLanguageFeatureLevel customViolationExpressionLanguageFeatureLevel) {
-		super( clockProvider, propertyPath, constraintDescriptor, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
+		super( clockProvider, validationInstantProvider, propertyPath, constraintDescriptor, constraintValidatorPayload, constraintExpressionLanguageFeatureLevel,
 				customViolationExpressionLanguageFeatureLevel );
 		Contracts.assertTrue( propertyPath.getLeafNode().getKind() == ElementKind.CROSS_PARAMETER, "Context can only be used for cross parameter validation" );
 		this.methodParameterNames = methodParameterNames;
@@ -0,0 +1,16 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+/**
+ * Marker interface for the built-in constraint validators which also perform the checks of the composing constraints
+ * of their constraint.
+ * <p>
+ * When the constraint is reported as a single violation, the composing constraints of such a validator are not
+ * evaluated separately: the result is the same, as any failure is reported as the violation of the main constraint,
+ * but it avoids evaluating each composing constraint with its own validator and context.
+ */
+public interface FusedConstraintValidator {
+}
@@ -43,7 +43,8 @@ public static HibernateConstraintValidatorInitializationContextImpl of(Hibernate
 			HibernateConstraintValidatorInitializationSharedDataManager constraintValidatorInitializationSharedServiceManager) {
 		if ( scriptEvaluatorFactory == defaultContext.scriptEvaluatorFactory
 				&& clockProvider == defaultContext.clockProvider
-				&& temporalValidationTolerance.equals( defaultContext.temporalValidationTolerance ) ) {
+				&& temporalValidationTolerance.equals( defaultContext.temporalValidationTolerance )
+				&& constraintValidatorInitializationSharedServiceManager == defaultContext.constraintValidatorInitializationSharedServiceManager ) {
 			return defaultContext;
 		}
 
@@ -6,6 +6,7 @@
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Set;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorFactory;
@@ -66,4 +67,8 @@ public boolean isPredefinedScope() {
 	@Override
 	public void clear() {
 	}
+
+	@Override
+	public void invalidate(Set<Class<?>> types) {
+	}
 }
@@ -37,16 +37,18 @@ public SimpleConstraintTree(ConstraintValidatorManager constraintValidatorManage
 
 	@Override
 	public boolean validateConstraints(ValidationContext<?> validationContext, ValueContext<?, ?> valueContext) {
-		ConstraintValidatorContextImpl constraintValidatorContext = doValidateConstraints( validationContext, valueContext );
-		if ( constraintValidatorContext != null ) {
+		ConstraintValidatorContextImpl constraintValidatorContext = createConstraintValidatorContext( validationContext, valueContext );
+		boolean isValid = doValidateConstraints( validationContext, valueContext, constraintValidatorContext ) == null;
+		if ( !isValid ) {
 			for ( ConstraintViolationCreationContext constraintViolationCreationContext : constraintValidatorContext.getConstraintViolationCreationContexts() ) {
 				validationContext.addConstraintFailure(
 						valueContext, constraintViolationCreationContext, constraintValidatorContext.getConstraintDescriptor()
 				);
 			}
-			return false;
 		}
-		return true;
+		// the violations have been added, the context is not referenced anymore
+		validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
+		return isValid;
 	}
 
 	@Override
@@ -55,16 +57,27 @@ protected void validateConstraints(
 			ValueContext<?, ?> valueContext,
 			Collection<ConstraintValidatorContextImpl> violatedConstraintValidatorContexts
 	) {
-		ConstraintValidatorContextImpl constraintValidatorContext = doValidateConstraints( validationContext, valueContext );
+		ConstraintValidatorContextImpl constraintValidatorContext = createConstraintValidatorContext( validationContext, valueContext );
 
-		if ( constraintValidatorContext != null ) {
+		if ( doValidateConstraints( validationContext, valueContext, constraintValidatorContext ) != null ) {
 			violatedConstraintValidatorContexts.add( constraintValidatorContext );
 		}
+		else {
+			validationContext.releaseConstraintValidatorContext( constraintValidatorContext );
+		}
 	}
 
-	private ConstraintValidatorContextImpl doValidateConstraints(
+	private ConstraintValidatorContextImpl createConstraintValidatorContext(
 			ValidationContext<?> validationContext,
 			ValueContext<?, ?> valueContext
+	) {
+		return validationContext.createConstraintValidatorContextFor( descriptor, valueContext.getPropertyPath() );
+	}
+
+	private ConstraintValidatorContextImpl doValidateConstraints(
+			ValidationContext<?> validationContext,
+			ValueContext<?, ?> valueContext,
+			ConstraintValidatorContextImpl constraintValidatorContext
 	) {
 		if ( LOG.isTraceEnabled() ) {
 			if ( validationContext.isShowValidatedValuesInTraceLogs() ) {
@@ -82,11 +95,6 @@ private ConstraintValidatorContextImpl doValidateConstraints(
 		// find the right constraint validator
 		ConstraintValidator<B, ?> validator = getInitializedConstraintValidator( validationContext, valueContext );
 
-		// create a constraint validator context
-		ConstraintValidatorContextImpl constraintValidatorContext = validationContext.createConstraintValidatorContextFor(
-				descriptor, valueContext.getPropertyPath()
-		);
-
 		// validate
 		return validateSingleConstraint( valueContext, constraintValidatorContext, validator );
 	}
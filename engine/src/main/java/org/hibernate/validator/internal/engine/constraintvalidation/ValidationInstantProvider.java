@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.constraintvalidation;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+
+import jakarta.validation.ClockProvider;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * Reads the current instant from the {@link ClockProvider} the first time it is requested and returns the same
+ * instant afterwards.
+ * <p>
+ * An instance is shared by all the constraint validator contexts of a validation call so that all the temporal
+ * constraints are validated against the same time reference.
+ * <p>
+ * This class is not thread-safe, as the validation context it belongs to.
+ */
+public class ValidationInstantProvider {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final ClockProvider clockProvider;
+
+	private Instant instant;
+
+	public ValidationInstantProvider(ClockProvider clockProvider) {
+		this.clockProvider = clockProvider;
+	}
+
+	public Instant getInstant() {
+		if ( instant == null ) {
+			try {
+				instant = clockProvider.getClock().instant();
+			}
+			catch (Exception e) {
+				throw LOG.getUnableToGetCurrentTimeFromClockProvider( e );
+			}
+		}
+		return instant;
+	}
+}
@@ -0,0 +1,642 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * Resolves the EL expressions written in a subset of the Expression Language without using Jakarta EL.
+ * <p>
+ * The subset covers the expressions commonly used in the constraint messages:
+ * <ul>
+ * <li>the {@code validatedValue}, the constraint attributes and the expression variables,</li>
+ * <li>the string, integer, boolean and {@code null} literals,</li>
+ * <li>the {@code formatter.format(...)} calls,</li>
+ * <li>the comparison operators, the logical operators, the conditional operator and the string concatenation
+ * operator {@code +=}.</li>
+ * </ul>
+ * The expressions are parsed once. An expression outside of this subset, or an evaluation which would require a
+ * coercion not implemented here, is reported as not resolved so that it is evaluated by Jakarta EL, which also takes
+ * care of reporting the errors.
+ */
+public final class BuiltInElTermResolver {
+
+	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private static final String FORMATTER_NAME = "formatter";
+
+	private static final String FORMAT_METHOD_NAME = "format";
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
+
+	private final ConcurrentReferenceHashMap<String, Optional<Node>> expressions = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, SOFT, SOFT );
+
+	/**
+	 * Interpolates the given EL expression if it belongs to the supported subset.
+	 *
+	 * @param context contextual information related to the interpolation
+	 * @param locale the locale for which to interpolate the expression
+	 * @param expression the EL expression, e.g. {@code ${validatedValue}}
+	 * @return the interpolated expression or {@code null} if it needs to be evaluated by Jakarta EL
+	 */
+	public String interpolate(MessageInterpolator.Context context, Locale locale, String expression) {
+		if ( context instanceof HibernateMessageInterpolatorContext hibernateContext
+				&& hibernateContext.getExpressionLanguageFeatureLevel() == ExpressionLanguageFeatureLevel.NONE ) {
+			return null;
+		}
+
+		Optional<Node> node = expressions.get( expression );
+		if ( node == null ) {
+			node = Optional.ofNullable( new Parser( expression ).parse() );
+			expressions.putIfAbsent( expression, node );
+		}
+		if ( !node.isPresent() ) {
+			return null;
+		}
+
+		try {
+			return coerceToString( node.get().evaluate( new EvaluationContext( context, locale ) ) );
+		}
+		catch (RuntimeException e) {
+			// either the evaluation requires Jakarta EL or it fails and Jakarta EL reports the error
+			return null;
+		}
+	}
+
+	private static String coerceToString(Object value) {
+		if ( value == null ) {
+			return "";
+		}
+		if ( value instanceof String string ) {
+			return string;
+		}
+		if ( value instanceof Enum<?> enumValue ) {
+			return enumValue.name();
+		}
+		return value.toString();
+	}
+
+	private static boolean coerceToBoolean(Object value) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( value instanceof Boolean booleanValue ) {
+			return booleanValue;
+		}
+		throw UnsupportedEvaluationException.INSTANCE;
+	}
+
+	private static boolean isIntegerType(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	private static boolean isFloatingPointType(Object value) {
+		return value instanceof Double || value instanceof Float;
+	}
+
+	private static boolean isSupportedNumber(Object value) {
+		return isIntegerType( value ) || isFloatingPointType( value ) || value instanceof BigDecimal || value instanceof BigInteger;
+	}
+
+	private static BigDecimal toBigDecimal(Object value) {
+		if ( value instanceof BigDecimal bigDecimal ) {
+			return bigDecimal;
+		}
+		if ( value instanceof BigInteger bigInteger ) {
+			return new BigDecimal( bigInteger );
+		}
+		return new BigDecimal( value.toString() );
+	}
+
+	private static BigInteger toBigInteger(Object value) {
+		if ( value instanceof BigInteger bigInteger ) {
+			return bigInteger;
+		}
+		return BigInteger.valueOf( ( (Number) value ).longValue() );
+	}
+
+	/**
+	 * Applies the equality rules of the Expression Language, for the types handled without Jakarta EL.
+	 */
+	private static boolean areEqual(Object left, Object right) {
+		if ( left == right ) {
+			return true;
+		}
+		if ( left == null || right == null ) {
+			return false;
+		}
+		if ( left instanceof String || right instanceof String ) {
+			if ( isSupportedNumber( left ) || isSupportedNumber( right ) ) {
+				// the number rules apply first, they require the coercion of the string to a number
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			if ( left instanceof Boolean || right instanceof Boolean || left instanceof Enum || right instanceof Enum ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			if ( left instanceof String && right instanceof String ) {
+				return left.equals( right );
+			}
+			throw UnsupportedEvaluationException.INSTANCE;
+		}
+		if ( isSupportedNumber( left ) && isSupportedNumber( right ) ) {
+			if ( left instanceof BigDecimal || right instanceof BigDecimal ) {
+				return toBigDecimal( left ).equals( toBigDecimal( right ) );
+			}
+			if ( isFloatingPointType( left ) || isFloatingPointType( right ) ) {
+				return ( (Number) left ).doubleValue() == ( (Number) right ).doubleValue();
+			}
+			if ( left instanceof BigInteger || right instanceof BigInteger ) {
+				return toBigInteger( left ).equals( toBigInteger( right ) );
+			}
+			return ( (Number) left ).longValue() == ( (Number) right ).longValue();
+		}
+		if ( left instanceof Boolean && right instanceof Boolean ) {
+			return left.equals( right );
+		}
+		if ( left instanceof Enum && left.getClass() == right.getClass() ) {
+			return false;
+		}
+		throw UnsupportedEvaluationException.INSTANCE;
+	}
+
+	/**
+	 * Applies the comparison rules of the Expression Language, for the types handled without Jakarta EL.
+	 */
+	private static int compare(Object left, Object right) {
+		if ( isSupportedNumber( left ) && isSupportedNumber( right ) ) {
+			if ( left instanceof BigDecimal || right instanceof BigDecimal ) {
+				return toBigDecimal( left ).compareTo( toBigDecimal( right ) );
+			}
+			if ( isFloatingPointType( left ) || isFloatingPointType( right ) ) {
+				return Double.compare( ( (Number) left ).doubleValue(), ( (Number) right ).doubleValue() );
+			}
+			if ( left instanceof BigInteger || right instanceof BigInteger ) {
+				return toBigInteger( left ).compareTo( toBigInteger( right ) );
+			}
+			return Long.compare( ( (Number) left ).longValue(), ( (Number) right ).longValue() );
+		}
+		if ( left instanceof String leftString && right instanceof String rightString ) {
+			return leftString.compareTo( rightString );
+		}
+		throw UnsupportedEvaluationException.INSTANCE;
+	}
+
+	/**
+	 * Signals an evaluation which has to be done by Jakarta EL.
+	 */
+	private static final class UnsupportedEvaluationException extends RuntimeException {
+
+		private static final UnsupportedEvaluationException INSTANCE = new UnsupportedEvaluationException();
+
+		private UnsupportedEvaluationException() {
+			super( null, null, false, false );
+		}
+	}
+
+	private static final class EvaluationContext {
+
+		private final MessageInterpolator.Context context;
+
+		private final Locale locale;
+
+		private FormatterWrapper formatter;
+
+		private EvaluationContext(MessageInterpolator.Context context, Locale locale) {
+			this.context = context;
+			this.locale = locale;
+		}
+
+		/**
+		 * Resolves a variable with the precedence used when binding the variables to the EL context.
+		 */
+		private Object resolveVariable(String name) {
+			if ( context instanceof HibernateMessageInterpolatorContext hibernateContext ) {
+				Map<String, Object> expressionVariables = hibernateContext.getExpressionVariables();
+				if ( expressionVariables.containsKey( name ) ) {
+					return expressionVariables.get( name );
+				}
+			}
+			Map<String, Object> attributes = context.getConstraintDescriptor().getAttributes();
+			if ( attributes.containsKey( name ) ) {
+				return attributes.get( name );
+			}
+			if ( FORMATTER_NAME.equals( name ) ) {
+				return getFormatter();
+			}
+			if ( VALIDATED_VALUE_NAME.equals( name ) ) {
+				return context.getValidatedValue();
+			}
+			throw UnsupportedEvaluationException.INSTANCE;
+		}
+
+		private FormatterWrapper getFormatter() {
+			if ( formatter == null ) {
+				formatter = new FormatterWrapper( locale );
+			}
+			return formatter;
+		}
+	}
+
+	private interface Node {
+
+		Object evaluate(EvaluationContext context);
+	}
+
+	private record Literal(Object value) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return value;
+		}
+	}
+
+	private record Variable(String name) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return context.resolveVariable( name );
+		}
+	}
+
+	private record Not(Node operand) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return !coerceToBoolean( operand.evaluate( context ) );
+		}
+	}
+
+	private record And(Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return coerceToBoolean( left.evaluate( context ) ) && coerceToBoolean( right.evaluate( context ) );
+		}
+	}
+
+	private record Or(Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return coerceToBoolean( left.evaluate( context ) ) || coerceToBoolean( right.evaluate( context ) );
+		}
+	}
+
+	private record Conditional(Node condition, Node whenTrue, Node whenFalse) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return coerceToBoolean( condition.evaluate( context ) ) ? whenTrue.evaluate( context ) : whenFalse.evaluate( context );
+		}
+	}
+
+	private record Concatenation(Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return toConcatenatedString( left.evaluate( context ) ).concat( toConcatenatedString( right.evaluate( context ) ) );
+		}
+
+		/**
+		 * The implementations of Jakarta EL differ in the way they convert the {@code null} values and the enums, we let
+		 * them deal with these values.
+		 */
+		private static String toConcatenatedString(Object value) {
+			if ( value == null || value instanceof Enum ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			return value.toString();
+		}
+	}
+
+	private record Equality(Node left, Node right, boolean negated) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return areEqual( left.evaluate( context ), right.evaluate( context ) ) != negated;
+		}
+	}
+
+	private record Comparison(Node left, Node right, String operator) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			Object leftValue = left.evaluate( context );
+			Object rightValue = right.evaluate( context );
+			boolean orEqual = operator.length() == 2;
+			if ( leftValue == rightValue ) {
+				return orEqual;
+			}
+			if ( leftValue == null || rightValue == null ) {
+				return false;
+			}
+			int comparison = compare( leftValue, rightValue );
+			if ( comparison == 0 ) {
+				return orEqual;
+			}
+			return operator.charAt( 0 ) == '<' ? comparison < 0 : comparison > 0;
+		}
+	}
+
+	private record FormatCall(List<Node> arguments) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			if ( !( context.resolveVariable( FORMATTER_NAME ) instanceof FormatterWrapper formatter ) ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			if ( arguments.isEmpty() || !( arguments.get( 0 ).evaluate( context ) instanceof String format ) ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			Object[] formattingParameters = new Object[arguments.size() - 1];
+			for ( int i = 0; i < formattingParameters.length; i++ ) {
+				formattingParameters[i] = arguments.get( i + 1 ).evaluate( context );
+			}
+			return formatter.format( format, formattingParameters );
+		}
+	}
+
+	/**
+	 * Parses the supported subset, following the precedence of the Expression Language operators.
+	 */
+	private static final class Parser {
+
+		private final String expression;
+
+		private final int end;
+
+		private int position;
+
+		private boolean formatCallParsed;
+
+		private Parser(String expression) {
+			this.expression = expression;
+			this.end = expression.length() - 1;
+		}
+
+		/**
+		 * @return the parsed expression or {@code null} if it is outside of the supported subset
+		 */
+		private Node parse() {
+			if ( !expression.startsWith( "${" ) || !expression.endsWith( "}" ) ) {
+				return null;
+			}
+			position = 2;
+			try {
+				Node node = parseConditional();
+				skipWhitespaces();
+				return position == end ? node : null;
+			}
+			catch (UnsupportedEvaluationException e) {
+				return null;
+			}
+		}
+
+		private Node parseConditional() {
+			Node condition = parseOr();
+			if ( !consume( "?" ) ) {
+				return condition;
+			}
+			Node whenTrue = parseConditional();
+			expect( ":" );
+			Node whenFalse = parseConditional();
+			return new Conditional( condition, whenTrue, whenFalse );
+		}
+
+		private Node parseOr() {
+			Node node = parseAnd();
+			while ( consume( "||" ) || consumeKeyword( "or" ) ) {
+				node = new Or( node, parseAnd() );
+			}
+			return node;
+		}
+
+		private Node parseAnd() {
+			Node node = parseEquality();
+			while ( consume( "&&" ) || consumeKeyword( "and" ) ) {
+				node = new And( node, parseEquality() );
+			}
+			return node;
+		}
+
+		private Node parseEquality() {
+			Node node = parseComparison();
+			while ( true ) {
+				if ( consume( "==" ) || consumeKeyword( "eq" ) ) {
+					node = new Equality( node, parseComparison(), false );
+				}
+				else if ( consume( "!=" ) || consumeKeyword( "ne" ) ) {
+					node = new Equality( node, parseComparison(), true );
+				}
+				else {
+					return node;
+				}
+			}
+		}
+
+		private Node parseComparison() {
+			Node node = parseConcatenation();
+			while ( true ) {
+				if ( consume( "<=" ) || consumeKeyword( "le" ) ) {
+					node = new Comparison( node, parseConcatenation(), "<=" );
+				}
+				else if ( consume( ">=" ) || consumeKeyword( "ge" ) ) {
+					node = new Comparison( node, parseConcatenation(), ">=" );
+				}
+				else if ( consume( "<" ) || consumeKeyword( "lt" ) ) {
+					node = new Comparison( node, parseConcatenation(), "<" );
+				}
+				else if ( consume( ">" ) || consumeKeyword( "gt" ) ) {
+					node = new Comparison( node, parseConcatenation(), ">" );
+				}
+				else {
+					return node;
+				}
+			}
+		}
+
+		private Node parseConcatenation() {
+			Node node = parseUnary();
+			while ( consume( "+=" ) ) {
+				node = new Concatenation( node, parseUnary() );
+			}
+			return node;
+		}
+
+		private Node parseUnary() {
+			if ( consume( "!" ) || consumeKeyword( "not" ) ) {
+				return new Not( parseUnary() );
+			}
+			return parsePrimary();
+		}
+
+		private Node parsePrimary() {
+			skipWhitespaces();
+			if ( position >= end ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			char c = expression.charAt( position );
+			if ( c == '(' ) {
+				position++;
+				Node node = parseConditional();
+				expect( ")" );
+				return node;
+			}
+			if ( c == '\'' || c == '"' ) {
+				return new Literal( parseString( c ) );
+			}
+			if ( c >= '0' && c <= '9' ) {
+				return new Literal( parseInteger() );
+			}
+			if ( Character.isJavaIdentifierStart( c ) ) {
+				String identifier = parseIdentifier();
+				switch ( identifier ) {
+					case "true":
+						return new Literal( Boolean.TRUE );
+					case "false":
+						return new Literal( Boolean.FALSE );
+					case "null":
+						return new Literal( null );
+					case "and", "or", "not", "eq", "ne", "lt", "gt", "le", "ge", "empty", "div", "mod", "instanceof":
+						throw UnsupportedEvaluationException.INSTANCE;
+					default:
+						break;
+				}
+				if ( FORMATTER_NAME.equals( identifier ) && consume( "." ) ) {
+					// the formatter accumulates the output of its calls, we leave the expressions with several calls to
+					// Jakarta EL as the output then depends on the evaluation order
+					if ( formatCallParsed ) {
+						throw UnsupportedEvaluationException.INSTANCE;
+					}
+					formatCallParsed = true;
+					skipWhitespaces();
+					if ( !FORMAT_METHOD_NAME.equals( parseIdentifier() ) ) {
+						throw UnsupportedEvaluationException.INSTANCE;
+					}
+					return new FormatCall( parseArguments() );
+				}
+				return new Variable( identifier );
+			}
+			throw UnsupportedEvaluationException.INSTANCE;
+		}
+
+		private List<Node> parseArguments() {
+			expect( "(" );
+			List<Node> arguments = new ArrayList<>();
+			if ( consume( ")" ) ) {
+				return arguments;
+			}
+			do {
+				arguments.add( parseConditional() );
+			} while ( consume( "," ) );
+			expect( ")" );
+			return arguments;
+		}
+
+		private String parseString(char quote) {
+			StringBuilder value = new StringBuilder();
+			position++;
+			while ( position < end ) {
+				char c = expression.charAt( position++ );
+				if ( c == quote ) {
+					return value.toString();
+				}
+				if ( c == '\\' ) {
+					if ( position >= end ) {
+						break;
+					}
+					char escaped = expression.charAt( position++ );
+					if ( escaped != quote && escaped != '\\' ) {
+						break;
+					}
+					value.append( escaped );
+				}
+				else {
+					value.append( c );
+				}
+			}
+			throw UnsupportedEvaluationException.INSTANCE;
+		}
+
+		private Long parseInteger() {
+			int start = position;
+			while ( position < end && expression.charAt( position ) >= '0' && expression.charAt( position ) <= '9' ) {
+				position++;
+			}
+			// floating point literals and the integers overflowing a long are left to Jakarta EL
+			if ( position < end && ( expression.charAt( position ) == '.' || expression.charAt( position ) == 'e'
+					|| expression.charAt( position ) == 'E' ) || position - start > 18 ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			return Long.valueOf( expression.substring( start, position ) );
+		}
+
+		private String parseIdentifier() {
+			int start = position;
+			if ( position >= end || !Character.isJavaIdentifierStart( expression.charAt( position ) ) ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+			position++;
+			while ( position < end && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+				position++;
+			}
+			return expression.substring( start, position );
+		}
+
+		private boolean consume(String token) {
+			skipWhitespaces();
+			if ( !expression.startsWith( token, position ) || position + token.length() > end ) {
+				return false;
+			}
+			// a single operator character must not be the start of another operator, e.g. < and <=, ! and !=
+			if ( token.length() == 1 && position + 1 < end ) {
+				char next = expression.charAt( position + 1 );
+				if ( ( "<>!".indexOf( token.charAt( 0 ) ) >= 0 && next == '=' ) ) {
+					return false;
+				}
+			}
+			position += token.length();
+			return true;
+		}
+
+		private boolean consumeKeyword(String keyword) {
+			skipWhitespaces();
+			int keywordEnd = position + keyword.length();
+			if ( !expression.startsWith( keyword, position ) || keywordEnd > end
+					|| ( keywordEnd < end && Character.isJavaIdentifierPart( expression.charAt( keywordEnd ) ) ) ) {
+				return false;
+			}
+			position = keywordEnd;
+			return true;
+		}
+
+		private void expect(String token) {
+			if ( !consume( token ) ) {
+				throw UnsupportedEvaluationException.INSTANCE;
+			}
+		}
+
+		private void skipWhitespaces() {
+			while ( position < end && Character.isWhitespace( expression.charAt( position ) ) ) {
+				position++;
+			}
+		}
+	}
+}
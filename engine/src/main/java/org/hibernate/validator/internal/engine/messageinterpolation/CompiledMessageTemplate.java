@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+
+/**
+ * A message template whose bundle keys have been resolved, parsed once into the literal parts and the interpolation
+ * terms.
+ * <p>
+ * The interpolation of the message parameters and of the EL expressions is then done in a single pass, without parsing
+ * the message again. It produces the same message as the parameter pass followed by the EL pass on the message with
+ * the replaced parameters: when a parameter value contains some meta characters, and could thus modify the EL
+ * expressions of the message, the EL pass is run on the message with the replaced parameters.
+ * <p>
+ * The escaped literals are not replaced by this class. Instances of this class are immutable.
+ */
+public final class CompiledMessageTemplate {
+
+	private static final char BEGIN_TERM = '{';
+	private static final char END_TERM = '}';
+	private static final char EL_DESIGNATOR = '$';
+	private static final char ESCAPE_CHARACTER = '\\';
+
+	/**
+	 * The literal parts: {@code literals[i]} precedes {@code terms[i]} and the last one ends the message.
+	 */
+	private final String[] literals;
+
+	/**
+	 * The message parameter terms e.g. {@code {min}}.
+	 */
+	private final String[] terms;
+
+	/**
+	 * The EL expression, e.g. {@code ${min}}, if the corresponding term is preceded by an EL designator ending the
+	 * previous literal part, {@code null} otherwise.
+	 */
+	private final String[] elTerms;
+
+	private final boolean hasElTerms;
+
+	private CompiledMessageTemplate(String[] literals, String[] terms, String[] elTerms, boolean hasElTerms) {
+		this.literals = literals;
+		this.terms = terms;
+		this.elTerms = elTerms;
+		this.hasElTerms = hasElTerms;
+	}
+
+	/**
+	 * Parses the given message, whose bundle keys have already been resolved.
+	 *
+	 * @param message the message
+	 * @return the compiled message template
+	 * @throws MessageDescriptorFormatException in case the message is invalid
+	 */
+	public static CompiledMessageTemplate compile(String message) throws MessageDescriptorFormatException {
+		if ( message.indexOf( BEGIN_TERM ) < 0 ) {
+			return new CompiledMessageTemplate( new String[] { message }, new String[0], new String[0], false );
+		}
+
+		List<String> literals = new ArrayList<>();
+		List<String> terms = new ArrayList<>();
+		List<String> elTerms = new ArrayList<>();
+		boolean hasElTerms = false;
+
+		StringBuilder literal = new StringBuilder();
+		for ( Token token : new TokenCollector( message, InterpolationTermType.PARAMETER ).getTokenList() ) {
+			if ( !token.isParameter() ) {
+				literal.append( token.getTokenValue() );
+				continue;
+			}
+
+			String term = token.getTokenValue();
+			String elTerm = null;
+			if ( endsWithElDesignator( literal ) ) {
+				// the EL tokens are unescaped by the parser, we let it build the expression
+				elTerm = new TokenCollector( EL_DESIGNATOR + term, InterpolationTermType.EL ).getTokenList().get( 0 ).getTokenValue();
+				hasElTerms = true;
+			}
+			literals.add( literal.toString() );
+			terms.add( term );
+			elTerms.add( elTerm );
+			literal.setLength( 0 );
+		}
+		literals.add( literal.toString() );
+
+		return new CompiledMessageTemplate(
+				literals.toArray( new String[0] ),
+				terms.toArray( new String[0] ),
+				elTerms.toArray( new String[0] ),
+				hasElTerms
+		);
+	}
+
+	/**
+	 * Interpolates the message parameters and, if enabled, the EL expressions.
+	 *
+	 * @param context the context for this interpolation
+	 * @param locale the {@code Locale} to use for the interpolation
+	 * @param expressionLanguageEnabled whether the EL expressions should be interpolated
+	 * @param termResolver resolves the message parameters and the EL expressions
+	 * @return the interpolated message, the escaped literals being not replaced yet
+	 * @throws MessageDescriptorFormatException in case the message with the replaced parameters is invalid
+	 */
+	public String interpolate(Context context, Locale locale, boolean expressionLanguageEnabled, TermResolver termResolver)
+			throws MessageDescriptorFormatException {
+		if ( terms.length == 0 ) {
+			return literals[0];
+		}
+
+		String[] values = new String[terms.length];
+		boolean parametersPreserveExpressions = true;
+		for ( int i = 0; i < terms.length; i++ ) {
+			String value = termResolver.interpolate( context, locale, terms[i] );
+			values[i] = value;
+			if ( !terms[i].equals( value ) && ( elTerms[i] != null || !isFreeOfMetaCharacters( value ) ) ) {
+				parametersPreserveExpressions = false;
+			}
+		}
+
+		if ( !expressionLanguageEnabled || ( !hasElTerms && parametersPreserveExpressions ) ) {
+			return concatenate( values );
+		}
+
+		if ( !parametersPreserveExpressions ) {
+			// the parameter values may have modified the expressions, we parse the message with the replaced parameters
+			return interpolateExpressions( concatenate( values ), context, locale, termResolver );
+		}
+
+		StringBuilder interpolatedMessage = new StringBuilder();
+		for ( int i = 0; i < terms.length; i++ ) {
+			if ( elTerms[i] != null ) {
+				// the EL designator ends the literal part
+				interpolatedMessage.append( literals[i], 0, literals[i].length() - 1 )
+						.append( termResolver.interpolate( context, locale, elTerms[i] ) );
+			}
+			else {
+				interpolatedMessage.append( literals[i] ).append( values[i] );
+			}
+		}
+		return interpolatedMessage.append( literals[terms.length] ).toString();
+	}
+
+	private String concatenate(String[] values) {
+		StringBuilder message = new StringBuilder();
+		for ( int i = 0; i < terms.length; i++ ) {
+			message.append( literals[i] ).append( values[i] );
+		}
+		return message.append( literals[terms.length] ).toString();
+	}
+
+	private static String interpolateExpressions(String message, Context context, Locale locale, TermResolver termResolver)
+			throws MessageDescriptorFormatException {
+		TokenIterator tokenIterator = new TokenIterator( message, new TokenCollector( message, InterpolationTermType.EL ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			String term = tokenIterator.nextInterpolationTerm();
+			tokenIterator.replaceCurrentInterpolationTerm( termResolver.interpolate( context, locale, term ) );
+		}
+		return tokenIterator.getInterpolatedMessage();
+	}
+
+	/**
+	 * Checks if a literal part ends with an EL designator which is not escaped, i.e. an EL designator which makes the
+	 * following term an EL expression.
+	 */
+	private static boolean endsWithElDesignator(CharSequence literal) {
+		boolean escaped = false;
+		boolean afterElDesignator = false;
+		for ( int i = 0; i < literal.length(); i++ ) {
+			char c = literal.charAt( i );
+			if ( escaped ) {
+				escaped = false;
+			}
+			else if ( c == ESCAPE_CHARACTER ) {
+				escaped = true;
+				afterElDesignator = false;
+			}
+			else if ( c == EL_DESIGNATOR && !afterElDesignator ) {
+				afterElDesignator = true;
+			}
+			else {
+				// the character following an EL designator is part of a literal, even if it is an EL designator
+				afterElDesignator = false;
+			}
+		}
+		return afterElDesignator;
+	}
+
+	private static boolean isFreeOfMetaCharacters(String value) {
+		if ( value == null ) {
+			return true;
+		}
+		for ( int i = 0; i < value.length(); i++ ) {
+			char c = value.charAt( i );
+			if ( c == BEGIN_TERM || c == END_TERM || c == EL_DESIGNATOR || c == ESCAPE_CHARACTER ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -4,9 +4,10 @@
  */
 package org.hibernate.validator.internal.engine.messageinterpolation;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
 import java.lang.invoke.MethodHandles;
 import java.util.Locale;
-import java.util.Map;
 
 import jakarta.el.ELContext;
 import jakarta.el.ELException;
@@ -19,8 +20,9 @@
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanMethodsELContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.BeanPropertiesElContext;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.DisabledFeatureELException;
-import org.hibernate.validator.internal.engine.messageinterpolation.el.RootResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.el.InterpolationVariables;
 import org.hibernate.validator.internal.engine.messageinterpolation.el.VariablesELContext;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
@@ -36,16 +38,19 @@ public final class ElTermResolver implements TermResolver {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
-	/**
-	 * Name under which the currently validate value is bound to the EL context.
-	 */
-	private static final String VALIDATED_VALUE_NAME = "validatedValue";
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
 
 	/**
 	 * Factory for creating EL expressions
 	 */
 	private final ExpressionFactory expressionFactory;
 
+	/**
+	 * The parsed expressions, shared by all the interpolations.
+	 */
+	private final ConcurrentReferenceHashMap<String, ValueExpression> valueExpressions = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, SOFT, SOFT );
+
 	/**
 	 * Construct the resolver. The expression factory has to be passed in to ensure that it is
 	 * set up early and to allow for application control.
@@ -62,8 +67,9 @@ public String interpolate(MessageInterpolator.Context context, Locale locale, St
 		ELContext elContext = getElContext( context );
 
 		try {
-			ValueExpression valueExpression = bindContextValues( expression, context, locale, elContext );
-			resolvedExpression = (String) valueExpression.getValue( elContext );
+			// the variables are resolved when evaluating the expression so that the parsed expression can be reused
+			elContext.putContext( InterpolationVariables.class, new InterpolationVariables( context, locale ) );
+			resolvedExpression = (String) getValueExpression( expression ).getValue( elContext );
 		}
 		catch (DisabledFeatureELException dfee) {
 			LOG.disabledFeatureInExpressionLanguage( expression, dfee );
@@ -103,35 +109,16 @@ private ELContext getElContext(MessageInterpolator.Context context) {
 		}
 	}
 
-	private ValueExpression bindContextValues(String messageTemplate, MessageInterpolator.Context messageInterpolatorContext, Locale locale, ELContext elContext) {
-		// bind the validated value
-		ValueExpression valueExpression = expressionFactory.createValueExpression(
-				messageInterpolatorContext.getValidatedValue(),
-				Object.class
-		);
-		elContext.getVariableMapper().setVariable( VALIDATED_VALUE_NAME, valueExpression );
-
-		// bind a formatter instantiated with proper locale
-		valueExpression = expressionFactory.createValueExpression(
-				new FormatterWrapper( locale ),
-				FormatterWrapper.class
-		);
-		elContext.getVariableMapper().setVariable( RootResolver.FORMATTER, valueExpression );
-
-		// map the parameters provided by the annotation values and the parameters + expression variables explicitly
-		// added to the context
-		addVariablesToElContext( elContext, messageInterpolatorContext.getConstraintDescriptor().getAttributes() );
-		if ( messageInterpolatorContext instanceof HibernateMessageInterpolatorContext ) {
-			addVariablesToElContext( elContext, ( (HibernateMessageInterpolatorContext) messageInterpolatorContext ).getExpressionVariables() );
-		}
-
-		return expressionFactory.createValueExpression( elContext, messageTemplate, String.class );
-	}
-
-	private void addVariablesToElContext(ELContext elContext, Map<String, Object> variables) {
-		for ( Map.Entry<String, Object> entry : variables.entrySet() ) {
-			ValueExpression valueExpression = expressionFactory.createValueExpression( entry.getValue(), Object.class );
-			elContext.getVariableMapper().setVariable( entry.getKey(), valueExpression );
+	/**
+	 * Parses the expression once. No variable is bound to the context used to create the expression: the parsed
+	 * expression does not depend on the interpolated message nor on the Expression Language feature level.
+	 */
+	private ValueExpression getValueExpression(String expression) {
+		ValueExpression valueExpression = valueExpressions.get( expression );
+		if ( valueExpression == null ) {
+			valueExpression = expressionFactory.createValueExpression( new VariablesELContext( expressionFactory ), expression, String.class );
+			valueExpressions.putIfAbsent( expression, valueExpression );
 		}
+		return valueExpression;
 	}
 }
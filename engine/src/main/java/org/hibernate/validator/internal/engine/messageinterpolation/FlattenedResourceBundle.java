@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.stereotypes.Immutable;
+
+/**
+ * A {@link ResourceBundle} containing all the entries of a bundle and of its parent bundles, the parent locale
+ * fallback being already applied.
+ * <p>
+ * A message is thus looked up with a single probe instead of walking the bundle chain, and a missing message does not
+ * require the {@link java.util.MissingResourceException} thrown by {@link ResourceBundle#getString(String)}.
+ * <p>
+ * The locale and the base name of the flattened bundle are kept.
+ */
+public final class FlattenedResourceBundle extends ResourceBundle {
+
+	@Immutable
+	private final Map<String, Object> contents;
+
+	private final Locale locale;
+
+	private final String baseBundleName;
+
+	private FlattenedResourceBundle(Map<String, Object> contents, Locale locale, String baseBundleName) {
+		this.contents = contents;
+		this.locale = locale;
+		this.baseBundleName = baseBundleName;
+	}
+
+	/**
+	 * @param bundle the bundle to flatten
+	 * @return the flattened bundle or the given bundle if its keys cannot be listed
+	 */
+	public static ResourceBundle flatten(ResourceBundle bundle) {
+		if ( bundle == null || bundle instanceof FlattenedResourceBundle ) {
+			return bundle;
+		}
+
+		Set<String> keys;
+		try {
+			keys = bundle.keySet();
+		}
+		catch (RuntimeException e) {
+			// some custom bundles do not support listing their keys, we keep them as is
+			return bundle;
+		}
+
+		Map<String, Object> contents = CollectionHelper.newHashMap( keys.size() );
+		for ( String key : keys ) {
+			contents.put( key, bundle.getObject( key ) );
+		}
+		return new FlattenedResourceBundle( CollectionHelper.toImmutableMap( contents ), bundle.getLocale(), bundle.getBaseBundleName() );
+	}
+
+	/**
+	 * @param key the key of the message
+	 * @return the message or {@code null} if the bundle does not contain the key
+	 */
+	public String getMessage(String key) {
+		return (String) contents.get( key );
+	}
+
+	@Override
+	public Locale getLocale() {
+		return locale;
+	}
+
+	@Override
+	public String getBaseBundleName() {
+		return baseBundleName;
+	}
+
+	@Override
+	protected Object handleGetObject(String key) {
+		return contents.get( key );
+	}
+
+	@Override
+	protected Set<String> handleKeySet() {
+		return contents.keySet();
+	}
+
+	@Override
+	public Enumeration<String> getKeys() {
+		return Collections.enumeration( contents.keySet() );
+	}
+}
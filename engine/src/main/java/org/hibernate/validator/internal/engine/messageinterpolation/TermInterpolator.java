@@ -21,6 +21,8 @@ public class TermInterpolator {
 	 */
 	private static final String EL_DESIGNATION_CHARACTER = "$";
 
+	private final BuiltInElTermResolver builtInElTermResolver;
+
 	private final ElTermResolver elTermResolver;
 
 	/**
@@ -29,6 +31,7 @@ public class TermInterpolator {
 	 * @param expressionFactory the expression factory to use if the expression uses EL.
 	 */
 	public TermInterpolator(ExpressionFactory expressionFactory) {
+		this.builtInElTermResolver = new BuiltInElTermResolver();
 		this.elTermResolver = new ElTermResolver( expressionFactory );
 	}
 
@@ -44,7 +47,9 @@ public static boolean isElExpression(String expression) {
 	 */
 	public String interpolate(MessageInterpolator.Context context, String expression, Locale locale) {
 		if ( isElExpression( expression ) ) {
-			return elTermResolver.interpolate( context, locale, expression );
+			// the common expressions are evaluated without Jakarta EL
+			String resolvedExpression = builtInElTermResolver.interpolate( context, locale, expression );
+			return resolvedExpression != null ? resolvedExpression : elTermResolver.interpolate( context, locale, expression );
 		}
 		else {
 			return ParameterTermResolver.INSTANCE.interpolate( context, locale, expression );
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.messageinterpolation.el;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.el.ELContext;
+import jakarta.validation.MessageInterpolator;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.FormatterWrapper;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * The variables available to an EL expression of a message: the validated value, the formatter, the constraint
+ * attributes and the expression variables, the latter taking precedence over the former.
+ * <p>
+ * The variables are resolved by the {@link RootResolver} when the expression is evaluated, instead of being bound to
+ * the expression when it is created, so that an expression can be created once and evaluated for each interpolation.
+ */
+public final class InterpolationVariables {
+
+	/**
+	 * Name under which the validated value is available to the expressions.
+	 */
+	public static final String VALIDATED_VALUE_NAME = "validatedValue";
+
+	private final Object validatedValue;
+
+	private final Locale locale;
+
+	private final Map<String, Object> attributes;
+
+	private final Map<String, Object> expressionVariables;
+
+	private FormatterWrapper formatter;
+
+	public InterpolationVariables(MessageInterpolator.Context context, Locale locale) {
+		this.validatedValue = context.getValidatedValue();
+		this.locale = locale;
+		this.attributes = context.getConstraintDescriptor().getAttributes();
+		this.expressionVariables = context instanceof HibernateMessageInterpolatorContext hibernateContext
+				? hibernateContext.getExpressionVariables()
+				: Collections.emptyMap();
+	}
+
+	public static InterpolationVariables from(ELContext context) {
+		return (InterpolationVariables) context.getContext( InterpolationVariables.class );
+	}
+
+	public boolean isDefined(String name) {
+		return expressionVariables.containsKey( name ) || attributes.containsKey( name )
+				|| RootResolver.FORMATTER.equals( name ) || VALIDATED_VALUE_NAME.equals( name );
+	}
+
+	public Object getValue(String name) {
+		if ( expressionVariables.containsKey( name ) ) {
+			return expressionVariables.get( name );
+		}
+		if ( attributes.containsKey( name ) ) {
+			return attributes.get( name );
+		}
+		if ( RootResolver.FORMATTER.equals( name ) ) {
+			if ( formatter == null ) {
+				// a formatter instantiated with proper locale
+				formatter = new FormatterWrapper( locale );
+			}
+			return formatter;
+		}
+		if ( VALIDATED_VALUE_NAME.equals( name ) ) {
+			return validatedValue;
+		}
+		return null;
+	}
+}
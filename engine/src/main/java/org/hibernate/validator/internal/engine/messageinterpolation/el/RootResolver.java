@@ -36,7 +36,17 @@ public Class<?> getType(ELContext context, Object base, Object property) {
 
 	@Override
 	public Object getValue(ELContext context, Object base, Object property) {
-		return null;
+		if ( base != null || !( property instanceof String name ) ) {
+			return null;
+		}
+
+		InterpolationVariables variables = InterpolationVariables.from( context );
+		if ( variables == null || !variables.isDefined( name ) ) {
+			return null;
+		}
+
+		context.setPropertyResolved( base, property );
+		return variables.getValue( name );
 	}
 
 	@Override
@@ -57,10 +67,10 @@ public Object invoke(ELContext context, Object base, Object method, Class<?>[] p
 
 		// due to bugs in most EL implementations when it comes to evaluating varargs we take care of the formatter call
 		// ourselves.
-		return evaluateFormatExpression( context, method, params );
+		return evaluateFormatExpression( context, (FormatterWrapper) base, method, params );
 	}
 
-	private Object evaluateFormatExpression(ELContext context, Object method, Object[] params) {
+	private Object evaluateFormatExpression(ELContext context, FormatterWrapper formatterWrapper, Object method, Object[] params) {
 		if ( !FORMAT.equals( method ) ) {
 			throw new ELException( "Wrong method name 'formatter#" + method + "' does not exist. Only formatter#format is supported." );
 		}
@@ -73,9 +83,6 @@ private Object evaluateFormatExpression(ELContext context, Object method, Object
 			throw new ELException( "The first argument to Formatter#format must be String" );
 		}
 
-		FormatterWrapper formatterWrapper = (FormatterWrapper) context.getVariableMapper()
-				.resolveVariable( FORMATTER )
-				.getValue( context );
 		Object[] formattingParameters = new Object[params.length - 1];
 		System.arraycopy( params, 1, formattingParameters, 0, params.length - 1 );
 
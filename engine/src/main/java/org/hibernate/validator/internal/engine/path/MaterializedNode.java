@@ -44,11 +44,13 @@
 	private static final String INDEX_CLOSE = "]";
 	private static final String TYPE_PARAMETER_OPEN = "<";
 	private static final String TYPE_PARAMETER_CLOSE = ">";
+	private static final String PROPERTY_PATH_SEPARATOR = ".";
 
 	public static final String ITERABLE_ELEMENT_NODE_NAME = "<iterable element>";
 
 	static {
 		ROOT_NODE = new MaterializedNode(
+				null,
 				null,
 				0,
 				false,
@@ -66,10 +68,9 @@
 	}
 
 
-	// NOTE: parent here is not final on purpose,
-	//  this way we don't need to use recursive calls or construct a temp array of mutable nodes
-	//  when building the materialized path (see #constructMaterializedPath())
-	private MaterializedNode parent;
+	// NOTE: the materialized nodes are immutable and shared by the paths having the same prefix,
+	//  see MutableNode#materialize()
+	private final MaterializedNode parent;
 	private final String name;
 	private final int size;
 	private final boolean isIterable;
@@ -88,10 +89,16 @@
 	private String asString;
 	private MaterializedNode[] nodes;
 
+	/**
+	 * The string representation of the path ending with this node, shared by the paths having this node as prefix.
+	 */
+	private transient String pathAsString;
+
 	MaterializedNode(
-			String name, int size, boolean isIterable, Integer index, Object key, ElementKind kind, Class<?>[] parameterTypes,
+			MaterializedNode parent, String name, int size, boolean isIterable, Integer index, Object key, ElementKind kind, Class<?>[] parameterTypes,
 			Integer parameterIndex, Object value, Class<?> containerClass, Integer typeArgumentIndex
 	) {
+		this.parent = parent;
 		this.name = name;
 		this.size = size;
 		this.index = index;
@@ -105,19 +112,50 @@
 		this.typeArgumentIndex = typeArgumentIndex;
 	}
 
-	static MaterializedNode[] constructMaterializedPath(MutableNode leaf) {
-		if ( leaf.getParent() == null ) {
-			// root ?
-			return ROOT_NODE.nodes;
+	/**
+	 * @return the nodes of the path ending with this node, the root node being excluded unless the path is the root
+	 * path
+	 */
+	MaterializedNode[] getPathNodes() {
+		MaterializedNode[] pathNodes = nodes;
+		if ( pathNodes == null ) {
+			pathNodes = new MaterializedNode[size - 1];
+			MaterializedNode curr = this;
+			while ( curr.parent != null ) {
+				pathNodes[curr.size - 2] = curr;
+				curr = curr.parent;
+			}
+			nodes = pathNodes;
 		}
-		else {
-			MaterializedNode[] materializedNodes = leaf.partiallyInitializedMaterializedNodes();
-			for ( int i = materializedNodes.length - 1; i > 0; i-- ) {
-				materializedNodes[i].parent = materializedNodes[i - 1];
+		return pathNodes;
+	}
+
+	/**
+	 * @return the string representation of the path ending with this node
+	 */
+	String pathAsString() {
+		String result = pathAsString;
+		if ( result == null ) {
+			if ( isRootPath() ) {
+				result = "";
 			}
-			materializedNodes[0].parent = ROOT_NODE;
-			return materializedNodes;
+			else {
+				String parentPathAsString = parent.pathAsString();
+				String nodeAsString = asString();
+				if ( nodeAsString.isEmpty() ) {
+					// the node does not contribute to the string representation of the path, eg class level constraints
+					result = parentPathAsString;
+				}
+				else if ( parentPathAsString.isEmpty() ) {
+					result = nodeAsString;
+				}
+				else {
+					result = parentPathAsString + PROPERTY_PATH_SEPARATOR + nodeAsString;
+				}
+			}
+			pathAsString = result;
 		}
+		return result;
 	}
 
 	@Override
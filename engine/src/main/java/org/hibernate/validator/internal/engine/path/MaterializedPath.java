@@ -21,14 +21,12 @@ final class MaterializedPath implements RandomAccessPath, Serializable {
 	@Serial
 	private static final long serialVersionUID = -329465327521818082L;
 
-	private static final String PROPERTY_PATH_SEPARATOR = ".";
-
 	private final MaterializedNode leafNode;
 	private final MaterializedNode[] nodes;
 
 	MaterializedPath(MutablePath path) {
-		this.nodes = MaterializedNode.constructMaterializedPath( path.getLeafNode() );
-		this.leafNode = nodes[nodes.length - 1];
+		this.leafNode = path.getLeafNode().materialize();
+		this.nodes = leafNode.getPathNodes();
 	}
 
 	@Override
@@ -75,29 +73,6 @@ public int hashCode() {
 
 	@Override
 	public String toString() {
-		return asString( leafNode );
-	}
-
-	static String asString(MaterializedNode currentLeafNode) {
-		StringBuilder builder = new StringBuilder();
-		boolean first = true;
-		MaterializedNode current = currentLeafNode;
-		while ( !current.isRootPath() ) {
-			String name = current.asString();
-			if ( name.isEmpty() ) {
-				current = current.getParent();
-				// skip the node if it does not contribute to the string representation of the path, eg class level constraints
-				continue;
-			}
-
-			if ( !first ) {
-				builder.insert( 0, PROPERTY_PATH_SEPARATOR );
-			}
-
-			builder.insert( 0, current.asString() );
-			first = false;
-			current = current.getParent();
-		}
-		return builder.toString();
+		return leafNode.pathAsString();
 	}
 }
@@ -84,6 +84,11 @@
 	private String asString;
 	private MutableNode[] nodes;
 
+	/**
+	 * The last materialized version of this node, reused as long as neither this node nor its parents are modified.
+	 */
+	private transient MaterializedNode materialized;
+
 	private MutableNode(
 			String name, MutableNode parent, boolean isIterable, Integer index, Object key, ElementKind kind, Class<?>[] parameterTypes,
 			Integer parameterIndex, Object value, Class<?> containerClass, Integer typeArgumentIndex
@@ -227,27 +232,32 @@ public void makeIterable() {
 		this.isIterable = true;
 		this.index = null;
 		this.key = null;
+		materialized = null;
 	}
 
 	public void makeIterableAndSetIndex(Integer index) {
 		this.isIterable = true;
 		this.index = index;
 		this.key = null;
+		materialized = null;
 	}
 
 	public void makeIterableAndSetMapKey(Object key) {
 		this.isIterable = true;
 		this.index = null;
 		this.key = key;
+		materialized = null;
 	}
 
 	public void setPropertyValue(Object value) {
 		this.value = value;
+		materialized = null;
 	}
 
 	public void setTypeParameter(Class<?> containerClass, Integer typeArgumentIndex) {
 		this.typeArgumentIndex = typeArgumentIndex;
 		this.containerClass = containerClass;
+		materialized = null;
 	}
 
 	public void reset() {
@@ -259,6 +269,7 @@ public void reset() {
 		containerClass = null;
 		value = null;
 		asString = null;
+		materialized = null;
 	}
 
 	@Override
@@ -569,21 +580,27 @@ static MutableNode[] constructPath(MutableNode leaf) {
 		return leaf.nodes;
 	}
 
-	MaterializedNode[] partiallyInitializedMaterializedNodes() {
-		MaterializedNode[] nodes = new MaterializedNode[size - 1];
-		MutableNode curr = this;
-		while ( curr.parent != null ) {
-			nodes[curr.size - 2] = curr.materialize();
-			curr = curr.parent;
+	/**
+	 * Materializes the path ending with this node.
+	 * <p>
+	 * The materialized nodes are shared by the paths having the same prefix: a node is only materialized again if it
+	 * or one of its parents has been modified since its last materialization.
+	 */
+	MaterializedNode materialize() {
+		if ( parent == null ) {
+			return MaterializedNode.ROOT_NODE;
 		}
-		return nodes;
-	}
 
-	MaterializedNode materialize() {
-		return new MaterializedNode(
-				name, size, isIterable, index, key, kind, parameterTypes,
-				parameterIndex, value, containerClass, typeArgumentIndex
-		);
+		MaterializedNode materializedParent = parent.materialize();
+		MaterializedNode result = materialized;
+		if ( result == null || result.getParent() != materializedParent ) {
+			result = new MaterializedNode(
+					materializedParent, name, size, isIterable, index, key, kind, parameterTypes,
+					parameterIndex, value, containerClass, typeArgumentIndex
+			);
+			materialized = result;
+		}
+		return result;
 	}
 
 	boolean isSubPathOf(MutableNode other) {
@@ -8,18 +8,13 @@
 
 import java.io.Serial;
 import java.io.Serializable;
-import java.lang.invoke.MethodHandles;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import jakarta.validation.ElementKind;
 
 import org.hibernate.validator.internal.metadata.aggregated.ExecutableMetaData;
 import org.hibernate.validator.internal.util.Contracts;
-import org.hibernate.validator.internal.util.logging.Log;
-import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.path.Path;
 
 /**
@@ -32,25 +27,9 @@
 public final class MutablePath implements Path, Serializable {
 	@Serial
 	private static final long serialVersionUID = 2464836778339203598L;
-	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
 	private static final String PROPERTY_PATH_SEPARATOR = ".";
 
-	/**
-	 * Regular expression used to split a string path into its elements.
-	 *
-	 * @see <a href="http://www.regexplanet.com/simple/index.jsp">Regular expression tester</a>
-	 */
-	private static final String LEADING_PROPERTY_GROUP = "[^\\[\\.]++"; // everything up to a [ or .
-	private static final String OPTIONAL_INDEX_GROUP = "\\[(\\w*+)\\]";
-	private static final String REMAINING_PROPERTY_STRING = "\\.(.++)"; // processed recursively
-
-	private static final Pattern PATH_PATTERN = Pattern.compile( "(" + LEADING_PROPERTY_GROUP + ")(" + OPTIONAL_INDEX_GROUP + ")?(" + REMAINING_PROPERTY_STRING + ")*+" );
-	private static final int PROPERTY_NAME_GROUP = 1;
-	private static final int INDEXED_GROUP = 2;
-	private static final int INDEX_GROUP = 3;
-	private static final int REMAINING_STRING_GROUP = 5;
-
 	private MutableNode currentLeafNode;
 
 	/**
@@ -70,7 +49,7 @@ public static MutablePath createPathFromString(String propertyPath) {
 			return createRootPath();
 		}
 
-		return parseProperty( propertyPath );
+		return PropertyPathTemplate.of( propertyPath ).createPath();
 	}
 
 	public static MutablePath createPathForExecutable(ExecutableMetaData executable) {
@@ -259,76 +238,6 @@ private MutablePath(MutableNode currentLeafNode) {
 		this.currentLeafNode = currentLeafNode;
 	}
 
-	private static MutablePath parseProperty(String propertyName) {
-		MutablePath path = createRootPath();
-		String tmp = propertyName;
-		do {
-			Matcher matcher = PATH_PATTERN.matcher( tmp );
-			if ( matcher.matches() ) {
-
-				String value = matcher.group( PROPERTY_NAME_GROUP );
-				if ( !isValidJavaIdentifier( value ) ) {
-					throw LOG.getInvalidJavaIdentifierException( value );
-				}
-
-				// create the node
-				path.addPropertyNode( value );
-
-				// is the node indexable
-				if ( matcher.group( INDEXED_GROUP ) != null ) {
-					path.makeLeafNodeIterable();
-				}
-
-				// take care of the index/key if one exists
-				String indexOrKey = matcher.group( INDEX_GROUP );
-				if ( indexOrKey != null && !indexOrKey.isEmpty() ) {
-					try {
-						Integer i = Integer.parseInt( indexOrKey );
-						path.makeLeafNodeIterableAndSetIndex( i );
-					}
-					catch (NumberFormatException e) {
-						path.makeLeafNodeIterableAndSetMapKey( indexOrKey );
-					}
-				}
-
-				// match the remaining string
-				tmp = matcher.group( REMAINING_STRING_GROUP );
-			}
-			else {
-				throw LOG.getUnableToParsePropertyPathException( propertyName );
-			}
-		} while ( tmp != null );
-
-		if ( path.getLeafNode().isIterable() ) {
-			path.addBeanNode();
-		}
-
-		return path;
-	}
-
-	/**
-	 * Validate that the given identifier is a valid Java identifier according to the Java Language Specification,
-	 * <a href="http://docs.oracle.com/javase/specs/jls/se8/html/jls-3.html#jls-3.8">chapter 3.8</a>
-	 *
-	 * @param identifier string identifier to validate
-	 * @return true if the given identifier is a valid Java Identifier
-	 * @throws IllegalArgumentException if the given identifier is {@code null}
-	 */
-	private static boolean isValidJavaIdentifier(String identifier) {
-		Contracts.assertNotNull( identifier, "identifier param cannot be null" );
-
-		if ( identifier.isEmpty() || !Character.isJavaIdentifierStart( (int) identifier.charAt( 0 ) ) ) {
-			return false;
-		}
-
-		for ( int i = 1; i < identifier.length(); i++ ) {
-			if ( !Character.isJavaIdentifierPart( (int) identifier.charAt( i ) ) ) {
-				return false;
-			}
-		}
-		return true;
-	}
-
 	/**
 	 * checks if this PathImpl is a subpath of <code>other</code>.
 	 *
@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.path;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+import org.hibernate.validator.internal.util.Contracts;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+
+/**
+ * The parsed form of a property path given as a string, e.g. {@code orders[3].deliveryAddress.addressline[1]}, from
+ * which the corresponding {@link MutablePath}s are created without parsing the string again.
+ * <p>
+ * The property paths passed to {@code validateProperty()} and {@code validateValue()} are usually constants so the
+ * templates are cached.
+ */
+final class PropertyPathTemplate {
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 100;
+
+	private static final ConcurrentReferenceHashMap<String, PropertyPathTemplate> TEMPLATES = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, SOFT, SOFT );
+
+	private final Segment[] segments;
+
+	private PropertyPathTemplate(Segment[] segments) {
+		this.segments = segments;
+	}
+
+	/**
+	 * @param propertyPath a non empty property path
+	 * @return the template of the given property path
+	 * @throws IllegalArgumentException if the property path cannot be parsed
+	 */
+	static PropertyPathTemplate of(String propertyPath) {
+		PropertyPathTemplate template = TEMPLATES.get( propertyPath );
+		if ( template == null ) {
+			// parsing twice concurrently is harmless, and we don't want to hold a lock while throwing an exception
+			template = parse( propertyPath );
+			TEMPLATES.putIfAbsent( propertyPath, template );
+		}
+		return template;
+	}
+
+	MutablePath createPath() {
+		MutablePath path = MutablePath.createRootPath();
+		for ( Segment segment : segments ) {
+			path.addPropertyNode( segment.name );
+			if ( segment.index != null ) {
+				path.makeLeafNodeIterableAndSetIndex( segment.index );
+			}
+			else if ( segment.key != null ) {
+				path.makeLeafNodeIterableAndSetMapKey( segment.key );
+			}
+			else if ( segment.iterable ) {
+				path.makeLeafNodeIterable();
+			}
+		}
+
+		if ( segments[segments.length - 1].iterable ) {
+			path.addBeanNode();
+		}
+
+		return path;
+	}
+
+	/**
+	 * Parses the property path in a single pass.
+	 * <p>
+	 * Each segment is a property name, i.e. everything up to a {@code [} or a {@code .}, which has to be a valid Java
+	 * identifier, optionally followed by an index or a key made of word characters between brackets, and followed
+	 * either by the end of the path or by a {@code .} and the next segment.
+	 */
+	private static PropertyPathTemplate parse(String propertyPath) {
+		int length = propertyPath.length();
+		int firstSeparator = propertyPath.indexOf( '.' );
+		if ( firstSeparator >= 0 && containsLineTerminator( propertyPath, firstSeparator + 1 ) ) {
+			// the segments following a separator may not contain line terminators
+			throw LOG.getUnableToParsePropertyPathException( propertyPath );
+		}
+
+		List<Segment> segments = new ArrayList<>();
+		int position = 0;
+		while ( true ) {
+			int nameStart = position;
+			while ( position < length && propertyPath.charAt( position ) != '[' && propertyPath.charAt( position ) != '.' ) {
+				position++;
+			}
+			if ( position == nameStart ) {
+				throw LOG.getUnableToParsePropertyPathException( propertyPath );
+			}
+			String name = propertyPath.substring( nameStart, position );
+
+			boolean iterable = false;
+			Integer index = null;
+			String key = null;
+			if ( position < length && propertyPath.charAt( position ) == '[' ) {
+				int indexStart = position + 1;
+				int indexEnd = indexStart;
+				while ( indexEnd < length && isWordCharacter( propertyPath.charAt( indexEnd ) ) ) {
+					indexEnd++;
+				}
+				if ( indexEnd == length || propertyPath.charAt( indexEnd ) != ']' ) {
+					throw LOG.getUnableToParsePropertyPathException( propertyPath );
+				}
+
+				iterable = true;
+				if ( indexEnd > indexStart ) {
+					String indexOrKey = propertyPath.substring( indexStart, indexEnd );
+					try {
+						index = Integer.parseInt( indexOrKey );
+					}
+					catch (NumberFormatException e) {
+						key = indexOrKey;
+					}
+				}
+				position = indexEnd + 1;
+			}
+
+			boolean last = position == length;
+			if ( !last && ( propertyPath.charAt( position ) != '.' || position + 1 == length ) ) {
+				throw LOG.getUnableToParsePropertyPathException( propertyPath );
+			}
+
+			if ( !isValidJavaIdentifier( name ) ) {
+				throw LOG.getInvalidJavaIdentifierException( name );
+			}
+
+			segments.add( new Segment( name, iterable, index, key ) );
+
+			if ( last ) {
+				return new PropertyPathTemplate( segments.toArray( new Segment[0] ) );
+			}
+			// skip the separator
+			position++;
+		}
+	}
+
+	private static boolean containsLineTerminator(String propertyPath, int start) {
+		for ( int i = start; i < propertyPath.length(); i++ ) {
+			char c = propertyPath.charAt( i );
+			if ( c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029' ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether the character is a word character, as defined by the {@code \w} regular expression class
+	 */
+	private static boolean isWordCharacter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' ) || c == '_';
+	}
+
+	/**
+	 * Validate that the given identifier is a valid Java identifier according to the Java Language Specification,
+	 * <a href="http://docs.oracle.com/javase/specs/jls/se8/html/jls-3.html#jls-3.8">chapter 3.8</a>
+	 *
+	 * @param identifier string identifier to validate
+	 * @return true if the given identifier is a valid Java Identifier
+	 * @throws IllegalArgumentException if the given identifier is {@code null}
+	 */
+	private static boolean isValidJavaIdentifier(String identifier) {
+		Contracts.assertNotNull( identifier, "identifier param cannot be null" );
+
+		if ( identifier.isEmpty() || !Character.isJavaIdentifierStart( (int) identifier.charAt( 0 ) ) ) {
+			return false;
+		}
+
+		for ( int i = 1; i < identifier.length(); i++ ) {
+			if ( !Character.isJavaIdentifierPart( (int) identifier.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static final class Segment {
+
+		private final String name;
+
+		private final boolean iterable;
+
+		private final Integer index;
+
+		private final String key;
+
+		private Segment(String name, boolean iterable, Integer index, String key) {
+			this.name = name;
+			this.iterable = iterable;
+			this.index = index;
+			this.key = key;
+		}
+	}
+}
@@ -18,7 +18,8 @@
 import org.hibernate.validator.spi.scripting.ScriptEvaluator;
 
 /**
- * Factory responsible for the creation of JSR 223 based {@link ScriptEngineScriptEvaluator}s. This
+ * Factory responsible for the creation of JSR 223 based {@link ScriptEngineScriptEvaluator}s and, for the
+ * {@value ExpressionScriptEvaluator#LANGUAGE_NAME} language, of {@link ExpressionScriptEvaluator}s. This
  * class is thread-safe.
  *
  * @author Gunnar Morling
@@ -51,18 +52,26 @@ public void clear() {
 
 	@Override
 	protected ScriptEvaluator createNewScriptEvaluator(String languageName) throws ScriptEvaluationException {
-		ScriptEngine engine = getScriptEngineManager().getEngineByName( languageName );
+		if ( ExpressionScriptEvaluator.LANGUAGE_NAME.equals( languageName ) ) {
+			return new ExpressionScriptEvaluator();
+		}
+
+		ScriptEngineManager engineManager = getScriptEngineManager();
+		ScriptEngine engine = engineManager.getEngineByName( languageName );
 
 		// fall back to the TCCL
 		if ( engine == null ) {
-			engine = getThreadContextClassLoaderScriptEngineManager().getEngineByName( languageName );
+			engineManager = getThreadContextClassLoaderScriptEngineManager();
+			engine = engineManager.getEngineByName( languageName );
 		}
 
 		if ( engine == null ) {
 			throw LOG.getUnableToFindScriptEngineException( languageName );
 		}
 
-		return new ScriptEngineScriptEvaluator( engine );
+		// the additional engines are only created if the engine is not thread-safe and is used concurrently
+		ScriptEngineManager additionalEngineManager = engineManager;
+		return new ScriptEngineScriptEvaluator( engine, () -> additionalEngineManager.getEngineByName( languageName ) );
 	}
 
 	private ScriptEngineManager getScriptEngineManager() {
@@ -0,0 +1,646 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.scripting;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+import org.hibernate.validator.spi.scripting.ScriptEvaluator;
+
+/**
+ * A {@link ScriptEvaluator} for a small expression language which does not require a JSR 223 engine.
+ * <p>
+ * The language supports:
+ * <ul>
+ * <li>the variables of the bindings, e.g. {@code _this},</li>
+ * <li>the access to properties - through public getters, accessor methods or fields - and the invocation of public
+ * methods, e.g. {@code _this.startDate.before(_this.endDate)},</li>
+ * <li>the {@code null}, {@code true} and {@code false} literals, integer and decimal literals and string literals
+ * delimited by single or double quotes,</li>
+ * <li>the {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} and {@code >=} comparison operators, numbers
+ * being compared by value whatever their type,</li>
+ * <li>the {@code !}, {@code &&} and {@code ||} logical operators and parentheses.</li>
+ * </ul>
+ * As in Java, {@code !} binds tighter than the comparison operators which bind tighter than {@code &&} and
+ * {@code ||}: {@code !a == b} is evaluated as {@code (!a) == b}.
+ * Each expression is parsed once and the members of the classes are resolved once. This class is thread-safe.
+ */
+public class ExpressionScriptEvaluator implements ScriptEvaluator {
+
+	/**
+	 * The language name to use in the constraints to select this evaluator.
+	 */
+	public static final String LANGUAGE_NAME = "hv-expression";
+
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
+	private static final Object NO_MATCH = new Object();
+
+	private final ConcurrentMap<String, Node> expressions = new ConcurrentHashMap<>();
+
+	private final ClassValue<TypeMembers> typeMembers = new ClassValue<TypeMembers>() {
+		@Override
+		protected TypeMembers computeValue(Class<?> type) {
+			return new TypeMembers( type );
+		}
+	};
+
+	@Override
+	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+		Node expression = expressions.get( script );
+		if ( expression == null ) {
+			expression = new Parser( script ).parse();
+			expressions.putIfAbsent( script, expression );
+		}
+		return expression.evaluate( new EvaluationContext( script, bindings ) );
+	}
+
+	private interface Node {
+
+		Object evaluate(EvaluationContext context);
+	}
+
+	private record Literal(Object value) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return value;
+		}
+	}
+
+	private record Variable(String name) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			if ( !context.bindings.containsKey( name ) ) {
+				throw LOG.getUnknownVariableInExpressionException( context.expression, name );
+			}
+			return context.bindings.get( name );
+		}
+	}
+
+	private record Not(Node operand) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return !context.toBoolean( operand );
+		}
+	}
+
+	private record And(Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return context.toBoolean( left ) && context.toBoolean( right );
+		}
+	}
+
+	private record Or(Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			return context.toBoolean( left ) || context.toBoolean( right );
+		}
+	}
+
+	private record Comparison(String operator, Node left, Node right) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			Object leftValue = left.evaluate( context );
+			Object rightValue = right.evaluate( context );
+
+			switch ( operator ) {
+				case "==":
+					return areEqual( leftValue, rightValue );
+				case "!=":
+					return !areEqual( leftValue, rightValue );
+				case "<":
+					return compare( context, leftValue, rightValue ) < 0;
+				case "<=":
+					return compare( context, leftValue, rightValue ) <= 0;
+				case ">":
+					return compare( context, leftValue, rightValue ) > 0;
+				default:
+					return compare( context, leftValue, rightValue ) >= 0;
+			}
+		}
+
+		private static boolean areEqual(Object leftValue, Object rightValue) {
+			if ( leftValue instanceof Number leftNumber && rightValue instanceof Number rightNumber ) {
+				return compareNumbers( leftNumber, rightNumber ) == 0;
+			}
+			return Objects.equals( leftValue, rightValue );
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static int compare(EvaluationContext context, Object leftValue, Object rightValue) {
+			if ( leftValue instanceof Number leftNumber && rightValue instanceof Number rightNumber ) {
+				return compareNumbers( leftNumber, rightNumber );
+			}
+			if ( leftValue instanceof Comparable && rightValue != null
+					&& ( leftValue.getClass().isInstance( rightValue ) || rightValue.getClass().isInstance( leftValue ) ) ) {
+				return ( (Comparable) leftValue ).compareTo( rightValue );
+			}
+			throw LOG.getUnableToCompareValuesInExpressionException( context.expression, leftValue, rightValue );
+		}
+
+		private static int compareNumbers(Number left, Number right) {
+			if ( isIntegral( left ) && isIntegral( right ) ) {
+				return Long.compare( left.longValue(), right.longValue() );
+			}
+			if ( left instanceof Double || left instanceof Float || right instanceof Double || right instanceof Float ) {
+				double leftDouble = left.doubleValue();
+				double rightDouble = right.doubleValue();
+				if ( Double.isNaN( leftDouble ) || Double.isInfinite( leftDouble ) || Double.isNaN( rightDouble ) || Double.isInfinite( rightDouble ) ) {
+					return Double.compare( leftDouble, rightDouble );
+				}
+			}
+			return toBigDecimal( left ).compareTo( toBigDecimal( right ) );
+		}
+
+		private static boolean isIntegral(Number number) {
+			return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+		}
+
+		private static BigDecimal toBigDecimal(Number number) {
+			if ( number instanceof BigDecimal bigDecimal ) {
+				return bigDecimal;
+			}
+			if ( number instanceof BigInteger bigInteger ) {
+				return new BigDecimal( bigInteger );
+			}
+			if ( isIntegral( number ) ) {
+				return BigDecimal.valueOf( number.longValue() );
+			}
+			return new BigDecimal( number.toString() );
+		}
+	}
+
+	private record Property(Node target, String name) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			Object targetValue = target.evaluate( context );
+			if ( targetValue == null ) {
+				throw LOG.getNullTargetInExpressionException( context.expression, name );
+			}
+
+			AccessibleObject accessor = context.getTypeMembers( targetValue.getClass() ).getPropertyAccessor( name );
+			if ( accessor == null ) {
+				throw LOG.getUnknownMemberInExpressionException( context.expression, name, targetValue.getClass() );
+			}
+
+			try {
+				if ( accessor instanceof Method method ) {
+					return method.invoke( targetValue );
+				}
+				return ( (Field) accessor ).get( targetValue );
+			}
+			catch (IllegalAccessException | InvocationTargetException e) {
+				throw LOG.getErrorAccessingMemberInExpressionException( context.expression, name, e );
+			}
+		}
+	}
+
+	private record MethodCall(Node target, String name, List<Node> arguments) implements Node {
+
+		@Override
+		public Object evaluate(EvaluationContext context) {
+			Object targetValue = target.evaluate( context );
+			if ( targetValue == null ) {
+				throw LOG.getNullTargetInExpressionException( context.expression, name );
+			}
+
+			Object[] argumentValues = new Object[arguments.size()];
+			for ( int i = 0; i < argumentValues.length; i++ ) {
+				argumentValues[i] = arguments.get( i ).evaluate( context );
+			}
+
+			for ( Method method : context.getTypeMembers( targetValue.getClass() ).getMethods( name, argumentValues.length ) ) {
+				Object[] convertedArguments = convertArguments( method.getParameterTypes(), argumentValues );
+				if ( convertedArguments != null ) {
+					try {
+						return method.invoke( targetValue, convertedArguments );
+					}
+					catch (IllegalAccessException | InvocationTargetException e) {
+						throw LOG.getErrorAccessingMemberInExpressionException( context.expression, name, e );
+					}
+				}
+			}
+
+			throw LOG.getUnknownMemberInExpressionException( context.expression, name, targetValue.getClass() );
+		}
+
+		private static Object[] convertArguments(Class<?>[] parameterTypes, Object[] argumentValues) {
+			Object[] convertedArguments = new Object[argumentValues.length];
+			for ( int i = 0; i < argumentValues.length; i++ ) {
+				Object convertedArgument = convertArgument( parameterTypes[i], argumentValues[i] );
+				if ( convertedArgument == NO_MATCH ) {
+					return null;
+				}
+				convertedArguments[i] = convertedArgument;
+			}
+			return convertedArguments;
+		}
+
+		private static Object convertArgument(Class<?> parameterType, Object argument) {
+			if ( argument == null ) {
+				return parameterType.isPrimitive() ? NO_MATCH : null;
+			}
+
+			Class<?> wrapperType = wrap( parameterType );
+			if ( wrapperType.isInstance( argument ) ) {
+				return argument;
+			}
+
+			// the integer literals are longs, we convert them to the other numeric types if needed
+			if ( argument instanceof Long value ) {
+				if ( wrapperType == Integer.class && value == value.intValue() ) {
+					return value.intValue();
+				}
+				if ( wrapperType == Short.class && value == value.shortValue() ) {
+					return value.shortValue();
+				}
+				if ( wrapperType == Byte.class && value == value.byteValue() ) {
+					return value.byteValue();
+				}
+				if ( wrapperType == Double.class ) {
+					return value.doubleValue();
+				}
+				if ( wrapperType == Float.class ) {
+					return value.floatValue();
+				}
+			}
+			if ( argument instanceof BigDecimal value ) {
+				if ( wrapperType == Double.class ) {
+					return value.doubleValue();
+				}
+				if ( wrapperType == Float.class ) {
+					return value.floatValue();
+				}
+			}
+			return NO_MATCH;
+		}
+
+		private static Class<?> wrap(Class<?> type) {
+			if ( !type.isPrimitive() ) {
+				return type;
+			}
+			if ( type == int.class ) {
+				return Integer.class;
+			}
+			if ( type == long.class ) {
+				return Long.class;
+			}
+			if ( type == boolean.class ) {
+				return Boolean.class;
+			}
+			if ( type == double.class ) {
+				return Double.class;
+			}
+			if ( type == float.class ) {
+				return Float.class;
+			}
+			if ( type == short.class ) {
+				return Short.class;
+			}
+			if ( type == byte.class ) {
+				return Byte.class;
+			}
+			return Character.class;
+		}
+	}
+
+	private final class EvaluationContext {
+
+		private final String expression;
+
+		private final Map<String, Object> bindings;
+
+		private EvaluationContext(String expression, Map<String, Object> bindings) {
+			this.expression = expression;
+			this.bindings = bindings;
+		}
+
+		private boolean toBoolean(Node node) {
+			Object value = node.evaluate( this );
+			if ( !( value instanceof Boolean ) ) {
+				throw LOG.getNonBooleanOperandInExpressionException( expression, value );
+			}
+			return (Boolean) value;
+		}
+
+		private TypeMembers getTypeMembers(Class<?> type) {
+			return typeMembers.get( type );
+		}
+	}
+
+	/**
+	 * The members of a type resolved so far.
+	 */
+	private static final class TypeMembers {
+
+		private final Class<?> type;
+
+		private final ConcurrentMap<String, Optional<AccessibleObject>> propertyAccessors = new ConcurrentHashMap<>();
+
+		private final ConcurrentMap<String, List<Method>> methods = new ConcurrentHashMap<>();
+
+		private TypeMembers(Class<?> type) {
+			this.type = type;
+		}
+
+		private AccessibleObject getPropertyAccessor(String name) {
+			return propertyAccessors.computeIfAbsent( name, this::findPropertyAccessor ).orElse( null );
+		}
+
+		private List<Method> getMethods(String name, int parameterCount) {
+			return methods.computeIfAbsent( name + '/' + parameterCount, key -> findMethods( name, parameterCount ) );
+		}
+
+		private Optional<AccessibleObject> findPropertyAccessor(String name) {
+			String capitalizedName = Character.toUpperCase( name.charAt( 0 ) ) + name.substring( 1 );
+			for ( String methodName : new String[] { "get" + capitalizedName, "is" + capitalizedName, name } ) {
+				List<Method> candidates = findMethods( methodName, 0 );
+				if ( !candidates.isEmpty() && candidates.get( 0 ).getReturnType() != void.class ) {
+					return Optional.of( candidates.get( 0 ) );
+				}
+			}
+
+			// only the public fields are considered, the private state of the beans is not exposed
+			for ( Field field : type.getFields() ) {
+				if ( field.getName().equals( name ) && !Modifier.isStatic( field.getModifiers() )
+						&& ( Modifier.isPublic( field.getDeclaringClass().getModifiers() ) || field.trySetAccessible() ) ) {
+					return Optional.of( field );
+				}
+			}
+
+			return Optional.empty();
+		}
+
+		private List<Method> findMethods(String name, int parameterCount) {
+			List<Method> candidates = new ArrayList<>();
+			for ( Method method : type.getMethods() ) {
+				if ( method.getName().equals( name ) && method.getParameterCount() == parameterCount && !method.isBridge() ) {
+					Method accessibleMethod = getAccessibleMethod( method );
+					if ( accessibleMethod != null ) {
+						candidates.add( accessibleMethod );
+					}
+				}
+			}
+			return candidates.isEmpty() ? Collections.emptyList() : candidates;
+		}
+
+		/**
+		 * Public methods of non public classes, e.g. private nested classes, need to be made accessible. When it is not
+		 * possible, e.g. for the implementations of the JDK collections, we use the method declared by a public super
+		 * type.
+		 */
+		private static Method getAccessibleMethod(Method method) {
+			if ( Modifier.isPublic( method.getDeclaringClass().getModifiers() ) || method.trySetAccessible() ) {
+				return method;
+			}
+			return findPublicSuperTypeMethod( method.getDeclaringClass(), method );
+		}
+
+		private static Method findPublicSuperTypeMethod(Class<?> type, Method method) {
+			if ( type == null ) {
+				return null;
+			}
+			if ( Modifier.isPublic( type.getModifiers() ) && type.getModule().isExported( type.getPackageName() ) ) {
+				try {
+					return type.getMethod( method.getName(), method.getParameterTypes() );
+				}
+				catch (NoSuchMethodException e) {
+					// the method is declared by a sub type
+				}
+			}
+			for ( Class<?> superType : type.getInterfaces() ) {
+				Method superTypeMethod = findPublicSuperTypeMethod( superType, method );
+				if ( superTypeMethod != null ) {
+					return superTypeMethod;
+				}
+			}
+			return findPublicSuperTypeMethod( type.getSuperclass(), method );
+		}
+	}
+
+	private static final class Parser {
+
+		private final String expression;
+
+		private int position;
+
+		private Parser(String expression) {
+			this.expression = expression;
+		}
+
+		private Node parse() {
+			Node node = parseOr();
+			skipWhitespaces();
+			if ( position != expression.length() ) {
+				throw error();
+			}
+			return node;
+		}
+
+		private Node parseOr() {
+			Node node = parseAnd();
+			while ( consume( "||" ) ) {
+				node = new Or( node, parseAnd() );
+			}
+			return node;
+		}
+
+		private Node parseAnd() {
+			Node node = parseComparison();
+			while ( consume( "&&" ) ) {
+				node = new And( node, parseComparison() );
+			}
+			return node;
+		}
+
+		private Node parseComparison() {
+			Node node = parseNot();
+			for ( String operator : new String[] { "==", "!=", "<=", ">=", "<", ">" } ) {
+				if ( consume( operator ) ) {
+					return new Comparison( operator, node, parseNot() );
+				}
+			}
+			return node;
+		}
+
+		private Node parseNot() {
+			skipWhitespaces();
+			if ( position < expression.length() && expression.charAt( position ) == '!' && !expression.startsWith( "!=", position ) ) {
+				position++;
+				return new Not( parseNot() );
+			}
+			return parsePrimary();
+		}
+
+		private Node parsePrimary() {
+			skipWhitespaces();
+			if ( position == expression.length() ) {
+				throw error();
+			}
+
+			Node node;
+			char c = expression.charAt( position );
+			if ( c == '(' ) {
+				position++;
+				node = parseOr();
+				expect( ')' );
+			}
+			else if ( c == '\'' || c == '"' ) {
+				node = new Literal( parseString( c ) );
+			}
+			else if ( isDigit( c ) || ( c == '-' && position + 1 < expression.length() && isDigit( expression.charAt( position + 1 ) ) ) ) {
+				node = new Literal( parseNumber() );
+			}
+			else if ( Character.isJavaIdentifierStart( c ) ) {
+				String identifier = parseIdentifier();
+				switch ( identifier ) {
+					case "true":
+						node = new Literal( Boolean.TRUE );
+						break;
+					case "false":
+						node = new Literal( Boolean.FALSE );
+						break;
+					case "null":
+						node = new Literal( null );
+						break;
+					default:
+						node = new Variable( identifier );
+				}
+			}
+			else {
+				throw error();
+			}
+
+			while ( consume( "." ) ) {
+				skipWhitespaces();
+				String name = parseIdentifier();
+				if ( consume( "(" ) ) {
+					List<Node> arguments = new ArrayList<>();
+					if ( !consume( ")" ) ) {
+						do {
+							arguments.add( parseOr() );
+						}
+						while ( consume( "," ) );
+						expect( ')' );
+					}
+					node = new MethodCall( node, name, arguments );
+				}
+				else {
+					node = new Property( node, name );
+				}
+			}
+			return node;
+		}
+
+		private String parseIdentifier() {
+			int start = position;
+			if ( position < expression.length() && Character.isJavaIdentifierStart( expression.charAt( position ) ) ) {
+				position++;
+				while ( position < expression.length() && Character.isJavaIdentifierPart( expression.charAt( position ) ) ) {
+					position++;
+				}
+			}
+			if ( start == position ) {
+				throw error();
+			}
+			return expression.substring( start, position );
+		}
+
+		private String parseString(char delimiter) {
+			StringBuilder value = new StringBuilder();
+			position++;
+			while ( position < expression.length() ) {
+				char c = expression.charAt( position++ );
+				if ( c == delimiter ) {
+					return value.toString();
+				}
+				if ( c == '\\' && position < expression.length() ) {
+					c = expression.charAt( position++ );
+				}
+				value.append( c );
+			}
+			throw error();
+		}
+
+		private Object parseNumber() {
+			int start = position;
+			if ( expression.charAt( position ) == '-' ) {
+				position++;
+			}
+			while ( position < expression.length() && isDigit( expression.charAt( position ) ) ) {
+				position++;
+			}
+			boolean decimal = false;
+			if ( position + 1 < expression.length() && expression.charAt( position ) == '.' && isDigit( expression.charAt( position + 1 ) ) ) {
+				decimal = true;
+				position++;
+				while ( position < expression.length() && isDigit( expression.charAt( position ) ) ) {
+					position++;
+				}
+			}
+
+			String number = expression.substring( start, position );
+			if ( decimal ) {
+				return new BigDecimal( number );
+			}
+			BigInteger value = new BigInteger( number );
+			return value.bitLength() < Long.SIZE ? (Object) value.longValue() : value;
+		}
+
+		private boolean consume(String token) {
+			skipWhitespaces();
+			if ( expression.startsWith( token, position ) ) {
+				position += token.length();
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char c) {
+			if ( !consume( String.valueOf( c ) ) ) {
+				throw error();
+			}
+		}
+
+		private void skipWhitespaces() {
+			while ( position < expression.length() && Character.isWhitespace( expression.charAt( position ) ) ) {
+				position++;
+			}
+		}
+
+		private static boolean isDigit(char c) {
+			return c >= '0' && c <= '9';
+		}
+
+		private ScriptEvaluationException error() {
+			return LOG.getUnableToParseExpressionException( expression, position );
+		}
+	}
+}
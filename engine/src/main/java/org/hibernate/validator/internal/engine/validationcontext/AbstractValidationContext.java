@@ -6,7 +6,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,6 +22,7 @@
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorContextImpl;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintViolationCreationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ValidationInstantProvider;
 import org.hibernate.validator.internal.engine.path.MutablePath;
 import org.hibernate.validator.internal.engine.valuecontext.ValueContext;
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
@@ -99,7 +99,19 @@
 	 * Contains all failing constraints so far.
 	 */
 	@Lazy
-	private Set<ConstraintViolation<T>> failingConstraintViolations;
+	private ConstraintViolationSet<T> failingConstraintViolations;
+
+	/**
+	 * Provides the current instant, read once per validation call.
+	 */
+	@Lazy
+	private ValidationInstantProvider validationInstantProvider;
+
+	/**
+	 * A constraint validator context released after a successful constraint validation, reused for the next one.
+	 */
+	@Lazy
+	private ConstraintValidatorContextImpl releasedConstraintValidatorContext;
 
 	protected AbstractValidationContext(
 			ConstraintValidatorManager constraintValidatorManager,
@@ -207,16 +219,20 @@ public void addConstraintFailure(
 			ConstraintDescriptor<?> descriptor
 	) {
 		String messageTemplate = constraintViolationCreationContext.getMessage();
-		String interpolatedMessage = interpolate(
-				messageTemplate,
-				constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
-				constraintViolationCreationContext.isCustomViolation(),
-				valueContext.getCurrentValidatedValue(),
-				descriptor,
-				constraintViolationCreationContext.getPath(),
-				constraintViolationCreationContext.getMessageParameters(),
-				constraintViolationCreationContext.getExpressionVariables()
-		);
+		// when the interpolation is skipped, the message is rendered by the client from the template, the constraint
+		// attributes and the message parameters exposed by the violation
+		String interpolatedMessage = validatorScopedContext.isSkipMessageInterpolation()
+				? messageTemplate
+				: interpolate(
+						messageTemplate,
+						constraintViolationCreationContext.getExpressionLanguageFeatureLevel(),
+						constraintViolationCreationContext.isCustomViolation(),
+						valueContext.getCurrentValidatedValue(),
+						descriptor,
+						constraintViolationCreationContext.getPath(),
+						constraintViolationCreationContext.getMessageParameters(),
+						constraintViolationCreationContext.getExpressionVariables()
+				);
 
 		Path path = constraintViolationCreationContext.getPath();
 
@@ -264,8 +280,16 @@ public void markConstraintProcessed(ValueContext<?, ?> valueContext, MetaConstra
 
 	@Override
 	public ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, MutablePath path) {
+		ConstraintValidatorContextImpl constraintValidatorContext = releasedConstraintValidatorContext;
+		if ( constraintValidatorContext != null ) {
+			releasedConstraintValidatorContext = null;
+			constraintValidatorContext.recycle( path, constraintDescriptor );
+			return constraintValidatorContext;
+		}
+
 		return new ConstraintValidatorContextImpl(
 				validatorScopedContext.getClockProvider(),
+				getValidationInstantProvider(),
 				path,
 				constraintDescriptor,
 				validatorScopedContext.getConstraintValidatorPayload(),
@@ -274,6 +298,21 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 		);
 	}
 
+	@Override
+	public void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext) {
+		// the subclasses, e.g. for cross-parameter constraints, hold a state specific to the constraint
+		if ( constraintValidatorContext.getClass() == ConstraintValidatorContextImpl.class ) {
+			releasedConstraintValidatorContext = constraintValidatorContext;
+		}
+	}
+
+	protected ValidationInstantProvider getValidationInstantProvider() {
+		if ( validationInstantProvider == null ) {
+			validationInstantProvider = new ValidationInstantProvider( validatorScopedContext.getClockProvider() );
+		}
+		return validationInstantProvider;
+	}
+
 	@Override
 	public abstract String toString();
 
@@ -313,7 +352,7 @@ private String interpolate(
 
 	private Set<ConstraintViolation<T>> getInitializedFailingConstraintViolations() {
 		if ( failingConstraintViolations == null ) {
-			failingConstraintViolations = new HashSet<>();
+			failingConstraintViolations = new ConstraintViolationSet<>();
 		}
 		return failingConstraintViolations;
 	}
@@ -0,0 +1,250 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.engine.validationcontext;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
+import org.hibernate.validator.path.Path;
+
+/**
+ * The set of the violations of a validation call, keeping the violations in the order they were added.
+ * <p>
+ * A {@link ConstraintViolationImpl} hashes its messages and its whole property path, and duplicates only happen in
+ * specific situations, e.g. when a validator reports the same violation twice or when equal constraints are declared
+ * in a type hierarchy. Thus, the violations are stored in a list and a violation is only compared to the previous
+ * ones having the same constraint descriptor, leaf bean, invalid value and leaf node index or key, which are hashed
+ * without hashing the messages or the whole path. The deep {@code equals()} of the violations is only called for
+ * these candidates.
+ * <p>
+ * The index or key of the leaf node discriminates the violations of the elements of a container, e.g. the {@code null}
+ * elements of a list share their constraint descriptor, leaf bean and invalid value but not their index.
+ */
+final class ConstraintViolationSet<T> extends AbstractSet<ConstraintViolation<T>> implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = -2287926314513698637L;
+
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * The violations in the order they were added, {@code null} for the removed ones.
+	 */
+	private ConstraintViolation<T>[] violations;
+
+	private int[] shallowHashes;
+
+	/**
+	 * For each violation, the index + 1 of the next violation in the same bucket, 0 marking the end of the bucket.
+	 */
+	private int[] nextInBucket;
+
+	/**
+	 * For each bucket, the index + 1 of its first violation, 0 marking an empty bucket.
+	 */
+	private int[] buckets;
+
+	/**
+	 * Number of used slots in {@link #violations}, including the removed violations.
+	 */
+	private int slots;
+
+	private int size;
+
+	private int modCount;
+
+	@SuppressWarnings("unchecked")
+	ConstraintViolationSet() {
+		this.violations = new ConstraintViolation[INITIAL_CAPACITY];
+		this.shallowHashes = new int[INITIAL_CAPACITY];
+		this.nextInBucket = new int[INITIAL_CAPACITY];
+		this.buckets = new int[INITIAL_CAPACITY * 2];
+	}
+
+	@Override
+	public boolean add(ConstraintViolation<T> violation) {
+		int shallowHash = shallowHash( violation );
+		if ( indexOf( violation, shallowHash ) >= 0 ) {
+			return false;
+		}
+
+		if ( slots == violations.length ) {
+			grow();
+		}
+
+		int bucket = shallowHash & ( buckets.length - 1 );
+		violations[slots] = violation;
+		shallowHashes[slots] = shallowHash;
+		nextInBucket[slots] = buckets[bucket];
+		buckets[bucket] = slots + 1;
+		slots++;
+		size++;
+		modCount++;
+		return true;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof ConstraintViolation<?> violation && indexOf( violation, shallowHash( violation ) ) >= 0;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if ( !( o instanceof ConstraintViolation<?> violation ) ) {
+			return false;
+		}
+		int index = indexOf( violation, shallowHash( violation ) );
+		if ( index < 0 ) {
+			return false;
+		}
+		removeAt( index );
+		return true;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill( violations, 0, slots, null );
+		Arrays.fill( buckets, 0 );
+		slots = 0;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public Iterator<ConstraintViolation<T>> iterator() {
+		return new Itr();
+	}
+
+	private int indexOf(ConstraintViolation<?> violation, int shallowHash) {
+		for ( int i = buckets[shallowHash & ( buckets.length - 1 )] - 1; i >= 0; i = nextInBucket[i] - 1 ) {
+			if ( shallowHashes[i] == shallowHash && violations[i] != null && violations[i].equals( violation ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void removeAt(int index) {
+		// the slot is kept in its bucket and skipped by the lookups and the iterators
+		violations[index] = null;
+		size--;
+		modCount++;
+	}
+
+	private void grow() {
+		int capacity = violations.length * 2;
+		violations = Arrays.copyOf( violations, capacity );
+		shallowHashes = Arrays.copyOf( shallowHashes, capacity );
+		nextInBucket = new int[capacity];
+		buckets = new int[capacity * 2];
+		for ( int i = 0; i < slots; i++ ) {
+			int bucket = shallowHashes[i] & ( buckets.length - 1 );
+			nextInBucket[i] = buckets[bucket];
+			buckets[bucket] = i + 1;
+		}
+	}
+
+	/**
+	 * A hash consistent with {@link ConstraintViolationImpl#equals(Object)}, computed without hashing the messages and
+	 * the whole property path: only the index and the key of the leaf node, which are equal for equal paths, are
+	 * hashed.
+	 */
+	private static int shallowHash(ConstraintViolation<?> violation) {
+		int hash;
+		if ( violation instanceof ConstraintViolationImpl ) {
+			hash = violation.getConstraintDescriptor() != null ? violation.getConstraintDescriptor().hashCode() : 0;
+			hash = 31 * hash + System.identityHashCode( violation.getLeafBean() );
+			hash = 31 * hash + System.identityHashCode( violation.getInvalidValue() );
+			hash = 31 * hash + leafNodeHash( violation.getPropertyPath() );
+		}
+		else {
+			hash = violation.hashCode();
+		}
+		// spread the high bits as the buckets are selected by the low bits
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private static int leafNodeHash(jakarta.validation.Path path) {
+		if ( !( path instanceof Path hibernatePath ) || hibernatePath.getLeafNode() == null ) {
+			return 0;
+		}
+		Path.Node leafNode = hibernatePath.getLeafNode();
+		return 31 * Objects.hashCode( leafNode.getIndex() ) + Objects.hashCode( leafNode.getKey() );
+	}
+
+	/**
+	 * The shallow hashes rely on identity hash codes, so the violations are serialized as a regular set.
+	 */
+	@Serial
+	private Object writeReplace() {
+		return new LinkedHashSet<>( this );
+	}
+
+	private class Itr implements Iterator<ConstraintViolation<T>> {
+
+		private int next;
+
+		private int current = -1;
+
+		private int expectedModCount = modCount;
+
+		private Itr() {
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < slots;
+		}
+
+		@Override
+		public ConstraintViolation<T> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= slots ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			next++;
+			advance();
+			return violations[current];
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			current = -1;
+			expectedModCount = modCount;
+		}
+
+		private void advance() {
+			while ( next < slots && violations[next] == null ) {
+				next++;
+			}
+		}
+	}
+}
@@ -98,6 +98,7 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 			return new CrossParameterConstraintValidatorContextImpl(
 					getParameterNames(),
 					validatorScopedContext.getClockProvider(),
+					getValidationInstantProvider(),
 					path,
 					constraintDescriptor,
 					validatorScopedContext.getConstraintValidatorPayload(),
@@ -106,14 +107,7 @@ public ConstraintValidatorContextImpl createConstraintValidatorContextFor(Constr
 			);
 		}
 
-		return new ConstraintValidatorContextImpl(
-				validatorScopedContext.getClockProvider(),
-				path,
-				constraintDescriptor,
-				validatorScopedContext.getConstraintValidatorPayload(),
-				validatorScopedContext.getConstraintExpressionLanguageFeatureLevel(),
-				validatorScopedContext.getCustomViolationExpressionLanguageFeatureLevel()
-		);
+		return super.createConstraintValidatorContextFor( constraintDescriptor, path );
 	}
 
 	@Override
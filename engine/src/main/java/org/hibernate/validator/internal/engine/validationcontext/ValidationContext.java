@@ -57,4 +57,10 @@ void addConstraintFailure(
 	Set<ConstraintViolation<T>> getFailingConstraints();
 
 	ConstraintValidatorContextImpl createConstraintValidatorContextFor(ConstraintDescriptorImpl<?> constraintDescriptor, MutablePath path);
+
+	/**
+	 * Gives back a constraint validator context which is not referenced anymore, e.g. because the constraint is
+	 * satisfied, so that it can be reused by {@link #createConstraintValidatorContextFor(ConstraintDescriptorImpl, MutablePath)}.
+	 */
+	void releaseConstraintValidatorContext(ConstraintValidatorContextImpl constraintValidatorContext);
 }
@@ -82,6 +82,11 @@ public class ValidatorScopedContext {
 
 	private final boolean showValidatedValuesInTraceLogs;
 
+	/**
+	 * Hibernate Validator specific flag to skip the interpolation of the messages of the constraint violations.
+	 */
+	private final boolean skipMessageInterpolation;
+
 	public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScopedContext) {
 		this.messageInterpolator = validatorFactoryScopedContext.getMessageInterpolator();
 		this.parameterNameProvider = validatorFactoryScopedContext.getParameterNameProvider();
@@ -95,6 +100,7 @@ public ValidatorScopedContext(ValidatorFactoryScopedContext validatorFactoryScop
 		this.constraintExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getConstraintExpressionLanguageFeatureLevel();
 		this.customViolationExpressionLanguageFeatureLevel = validatorFactoryScopedContext.getCustomViolationExpressionLanguageFeatureLevel();
 		this.showValidatedValuesInTraceLogs = validatorFactoryScopedContext.isShowValidatedValuesInTraceLogs();
+		this.skipMessageInterpolation = validatorFactoryScopedContext.isSkipMessageInterpolation();
 	}
 
 	public MessageInterpolator getMessageInterpolator() {
@@ -144,4 +150,8 @@ public ExpressionLanguageFeatureLevel getCustomViolationExpressionLanguageFeatur
 	public boolean isShowValidatedValuesInTraceLogs() {
 		return showValidatedValuesInTraceLogs;
 	}
+
+	public boolean isSkipMessageInterpolation() {
+		return skipMessageInterpolation;
+	}
 }
@@ -210,4 +210,8 @@ public void clear() {
 		valueExtractorResolver.clear();
 	}
 
+	public void invalidate(Set<Class<?>> types) {
+		valueExtractorResolver.invalidate( types );
+	}
+
 }
@@ -29,6 +29,7 @@
 import org.hibernate.validator.internal.util.TypeHelper;
 import org.hibernate.validator.internal.util.TypeVariableBindings;
 import org.hibernate.validator.internal.util.TypeVariables;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.internal.util.stereotypes.Immutable;
@@ -202,6 +203,15 @@ public void clear() {
 		possibleValueExtractorsByRuntimeTypeAndTypeParameter.clear();
 	}
 
+	/**
+	 * Removes the cached information related to the given runtime types and their sub-types.
+	 */
+	public void invalidate(Set<Class<?>> types) {
+		nonContainerTypes.removeIf( type -> ClassHierarchyHelper.isSubTypeOfAny( type, types ) );
+		possibleValueExtractorsByRuntimeType.keySet().removeIf( type -> ClassHierarchyHelper.isSubTypeOfAny( type, types ) );
+		possibleValueExtractorsByRuntimeTypeAndTypeParameter.keySet().removeIf( key -> ClassHierarchyHelper.isSubTypeOfAny( key.type, types ) );
+	}
+
 	/**
 	 * Returns the set of potentially type-compliant and container-element-compliant value extractors or an empty set if none was found.
 	 * <p>
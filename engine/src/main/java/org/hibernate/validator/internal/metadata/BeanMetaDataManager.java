@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator.internal.metadata;
 
+import java.util.Set;
+
 import org.hibernate.validator.internal.metadata.aggregated.BeanMetaData;
 
 /**
@@ -17,4 +19,11 @@ public interface BeanMetaDataManager {
 	<T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass);
 
 	void clear();
+
+	/**
+	 * Discards the metadata of the given types and of their sub-types.
+	 *
+	 * @param types the types to invalidate
+	 */
+	void invalidate(Set<Class<?>> types);
 }
@@ -12,6 +12,7 @@
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.validator.internal.engine.ConstraintCreationContext;
 import org.hibernate.validator.internal.engine.MethodValidationConfiguration;
@@ -75,6 +76,12 @@ public class BeanMetaDataManagerImpl implements BeanMetaDataManager {
 	@Immutable
 	private final List<MetaDataProvider> metaDataProviders;
 
+	/**
+	 * The annotation based metadata provider, also part of {@link #metaDataProviders}. It caches the configurations
+	 * of the types it has processed so it needs to be cleared along with the bean metadata.
+	 */
+	private final AnnotationMetaDataProvider annotationMetaDataProvider;
+
 	/**
 	 * The constraint creation context containing all the helpers necessary to the constraint creation.
 	 */
@@ -145,6 +152,7 @@ public BeanMetaDataManagerImpl(ConstraintCreationContext constraintCreationConte
 		tmpMetaDataProviders.add( defaultProvider );
 		tmpMetaDataProviders.addAll( optionalMetaDataProviders );
 
+		this.annotationMetaDataProvider = defaultProvider;
 		this.metaDataProviders = CollectionHelper.toImmutableList( tmpMetaDataProviders );
 	}
 
@@ -179,6 +187,14 @@ public <T> BeanMetaData<T> getBeanMetaData(Class<T> beanClass) {
 	@Override
 	public void clear() {
 		beanMetaDataCache.clear();
+		annotationMetaDataProvider.clear();
+	}
+
+	@Override
+	public void invalidate(Set<Class<?>> types) {
+		// the metadata of a bean includes the metadata of its whole hierarchy so the sub-types need to be discarded too
+		beanMetaDataCache.keySet().removeIf( beanClass -> ClassHierarchyHelper.isSubTypeOfAny( beanClass, types ) );
+		annotationMetaDataProvider.invalidate( types );
 	}
 
 	public int numberOfCachedBeanMetaDataInstances() {
@@ -7,6 +7,7 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 
 import java.lang.annotation.ElementType;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Executable;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -52,11 +53,15 @@
 import org.hibernate.validator.internal.util.ExecutableParameterNameProvider;
 import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.classhierarchy.Filters;
+import org.hibernate.validator.internal.util.logging.Log;
+import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
 import org.hibernate.validator.spi.tracking.ProcessedBeansTrackingVoter;
 
 public class PredefinedScopeBeanMetaDataManager implements BeanMetaDataManager {
 
+	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
+
 	private final BeanMetaDataClassNormalizer beanMetaDataClassNormalizer;
 
 	/**
@@ -160,6 +165,12 @@ public void clear() {
 		beanMetaDataMap.clear();
 	}
 
+	@Override
+	public void invalidate(Set<Class<?>> types) {
+		// the metadata could not be rebuilt afterwards
+		throw LOG.getMetaDataInvalidationNotSupportedInPredefinedScopeException();
+	}
+
 	/**
 	 * Creates a {@link org.hibernate.validator.internal.metadata.aggregated.BeanMetaData} containing the meta data from all meta
 	 * data providers for the given type and its hierarchy.
@@ -129,11 +129,23 @@ private void addMetaDataToBuilder(ConstrainedElement constrainableElement, Set<B
 		);
 	}
 
+	/**
+	 * Builds the bean meta data. The property and class level meta data are built right away whereas the executable
+	 * meta data are only built when first requested as they are only needed for method validation.
+	 */
 	public BeanMetaDataImpl<T> build() {
 		Set<ConstraintMetaData> aggregatedElements = newHashSet();
+		Set<ExecutableMetaData.Builder> executableMetaDataBuilders = newHashSet();
 
 		for ( BuilderDelegate builder : builders ) {
-			aggregatedElements.addAll( builder.build() );
+			ConstraintMetaData constraintMetaData = builder.build();
+			if ( constraintMetaData != null ) {
+				aggregatedElements.add( constraintMetaData );
+			}
+			if ( builder.getExecutableMetaDataBuilder() != null ) {
+				builder.getExecutableMetaDataBuilder().assertCorrectnessOfConfiguration();
+				executableMetaDataBuilders.add( builder.getExecutableMetaDataBuilder() );
+			}
 		}
 
 		return new BeanMetaDataImpl<>(
@@ -141,6 +153,7 @@ public BeanMetaDataImpl<T> build() {
 				defaultGroupSequence,
 				defaultGroupSequenceProvider,
 				aggregatedElements,
+				executableMetaDataBuilders,
 				validationOrderGenerator,
 				processedBeansTrackingVoter
 		);
@@ -258,18 +271,15 @@ public boolean add(ConstrainedElement constrainedElement) {
 			return added;
 		}
 
-		public Set<ConstraintMetaData> build() {
-			Set<ConstraintMetaData> metaDataSet = newHashSet();
-
-			if ( metaDataBuilder != null ) {
-				metaDataSet.add( metaDataBuilder.build() );
-			}
-
-			if ( methodBuilder != null ) {
-				metaDataSet.add( methodBuilder.build() );
-			}
+		/**
+		 * @return the property or class level meta data, {@code null} if this delegate only deals with an executable
+		 */
+		public ConstraintMetaData build() {
+			return metaDataBuilder != null ? metaDataBuilder.build() : null;
+		}
 
-			return metaDataSet;
+		public ExecutableMetaData.Builder getExecutableMetaDataBuilder() {
+			return methodBuilder;
 		}
 
 		@Override
@@ -124,9 +124,18 @@
 	 * (there will only be more than one entry in case of generics in the parameters, e.g. in case of a super-type
 	 * method {@code foo(T)} and an overriding sub-type method {@code foo(String)} two entries for the same executable
 	 * meta-data will be stored).
+	 * <p>
+	 * The executable meta data are only built when first requested as they are not needed when the bean is only
+	 * subject to bean validation.
+	 * <p>
+	 * As a consequence, while the method configuration rules are still checked when the bean meta data are
+	 * bootstrapped, the definition errors detected when building the parameter and return value meta data (e.g. an
+	 * invalid group conversion or an ambiguous value extractor for a cascaded container) are only reported, and the
+	 * related warnings only logged, on the first method validation of the executable or the first access to the bean
+	 * descriptor.
 	 */
 	@Immutable
-	private final Map<Signature, ExecutableMetaData> executableMetaDataMap;
+	private final Map<Signature, ExecutableMetaDataHolder> executableMetaDataMap;
 
 	/**
 	 * The set of unconstrained executables of the bean. It contains all the relevant signatures, following the same
@@ -197,12 +206,14 @@
 	 * @param beanClass The Java type represented by this meta data object.
 	 * @param defaultGroupSequence The default group sequence.
 	 * @param defaultGroupSequenceProvider The default group sequence provider if set.
-	 * @param constraintMetaDataSet All constraint meta data relating to the represented type.
+	 * @param constraintMetaDataSet All property and class level constraint meta data relating to the represented type.
+	 * @param executableMetaDataBuilders The builders of the executable meta data relating to the represented type.
 	 */
 	public BeanMetaDataImpl(Class<T> beanClass,
 			List<Class<?>> defaultGroupSequence,
 			DefaultGroupSequenceProvider<? super T> defaultGroupSequenceProvider,
 			Set<ConstraintMetaData> constraintMetaDataSet,
+			Set<ExecutableMetaData.Builder> executableMetaDataBuilders,
 			ValidationOrderGenerator validationOrderGenerator,
 			ProcessedBeansTrackingVoter processedBeansTrackingVoter) {
 
@@ -212,7 +223,7 @@ public BeanMetaDataImpl(Class<T> beanClass,
 
 		Set<PropertyMetaData> propertyMetaDataSet = newHashSet();
 
-		Set<ExecutableMetaData> executableMetaDataSet = newHashSet();
+		Map<Signature, ExecutableMetaDataHolder> tmpExecutableMetaDataMap = newHashMap();
 		Set<Signature> tmpUnconstrainedExecutables = newHashSet();
 
 		boolean hasConstraints = false;
@@ -226,18 +237,25 @@ public BeanMetaDataImpl(Class<T> beanClass,
 			if ( constraintMetaData.getKind() == ElementKind.PROPERTY ) {
 				propertyMetaDataSet.add( (PropertyMetaData) constraintMetaData );
 			}
-			else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
+			else {
 				classMetaConstraints.addAll( ( (ClassMetaData) constraintMetaData ).getAllConstraints() );
 			}
-			else {
-				ExecutableMetaData executableMetaData = (ExecutableMetaData) constraintMetaData;
-				if ( elementHasConstraints ) {
-					executableMetaDataSet.add( executableMetaData );
-				}
-				else {
-					tmpUnconstrainedExecutables.addAll( executableMetaData.getSignatures() );
+		}
+
+		// the configuration of the executables has already been checked, we don't need to build the meta data of the
+		// unconstrained ones
+		for ( ExecutableMetaData.Builder executableMetaDataBuilder : executableMetaDataBuilders ) {
+			if ( executableMetaDataBuilder.isConstrained() ) {
+				hasConstraints = true;
+
+				ExecutableMetaDataHolder executableMetaDataHolder = new ExecutableMetaDataHolder( executableMetaDataBuilder );
+				for ( Signature signature : executableMetaDataBuilder.getSignatures() ) {
+					tmpExecutableMetaDataMap.put( signature, executableMetaDataHolder );
 				}
 			}
+			else {
+				tmpUnconstrainedExecutables.addAll( executableMetaDataBuilder.getSignatures() );
+			}
 		}
 
 		Set<Cascadable> cascadedProperties = newHashSet();
@@ -273,7 +291,7 @@ else if ( constraintMetaData.getKind() == ElementKind.BEAN ) {
 		this.directPropertyMetaConstraints = getDirectConstraints( propertyMetaConstraints );
 		this.allDirectMetaConstraints = getDirectConstraints( allMetaConstraints );
 
-		this.executableMetaDataMap = CollectionHelper.toImmutableMap( bySignature( executableMetaDataSet ) );
+		this.executableMetaDataMap = CollectionHelper.toImmutableMap( tmpExecutableMetaDataMap );
 		this.unconstrainedExecutables = CollectionHelper.toImmutableSet( tmpUnconstrainedExecutables );
 
 		// We initialize those elements eagerly so that any eventual error is thrown when bootstrapping the bean metadata
@@ -301,10 +319,11 @@ public BeanMetaDataImpl(BeanMetaDataImpl<T> originalBeanMetaData, ProcessedBeans
 		this.defaultGroupSequenceProvider = originalBeanMetaData.defaultGroupSequenceProvider;
 		this.defaultGroupSequence = originalBeanMetaData.defaultGroupSequence;
 		this.validationOrder = originalBeanMetaData.validationOrder;
-		Map<Signature, ExecutableMetaData> tempExecutableMetaDataMap = newHashMap();
-		for ( Entry<Signature, ExecutableMetaData> executableMetaDataEntry : originalBeanMetaData.executableMetaDataMap.entrySet() ) {
-			tempExecutableMetaDataMap.put( executableMetaDataEntry.getKey(),
-					new ExecutableMetaData( executableMetaDataEntry.getValue(), processedBeansTrackingStrategy, processedBeansTrackingVoter ) );
+		// this constructor is used when all the metadata is initialized upfront so we build the executable meta data right away
+		Map<Signature, ExecutableMetaDataHolder> tempExecutableMetaDataMap = newHashMap();
+		for ( Entry<Signature, ExecutableMetaDataHolder> executableMetaDataEntry : originalBeanMetaData.executableMetaDataMap.entrySet() ) {
+			tempExecutableMetaDataMap.put( executableMetaDataEntry.getKey(), new ExecutableMetaDataHolder(
+					new ExecutableMetaData( executableMetaDataEntry.getValue().get(), processedBeansTrackingStrategy, processedBeansTrackingVoter ) ) );
 		}
 		this.executableMetaDataMap = CollectionHelper.toImmutableMap( tempExecutableMetaDataMap );
 		this.unconstrainedExecutables = originalBeanMetaData.unconstrainedExecutables;
@@ -334,7 +353,7 @@ public BeanDescriptor getBeanDescriptor() {
 				beanDescriptor = this.beanDescriptor;
 
 				if ( beanDescriptor == null ) {
-					beanDescriptor = createBeanDescriptor( beanClass, classMetaConstraints, propertyMetaDataMap, executableMetaDataMap,
+					beanDescriptor = createBeanDescriptor( beanClass, classMetaConstraints, propertyMetaDataMap, getAllExecutableMetaData(),
 							defaultGroupSequenceRedefined, resolvedDefaultGroupSequence );
 
 					this.beanDescriptor = beanDescriptor;
@@ -404,9 +423,9 @@ public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
 			return Optional.empty();
 		}
 
-		ExecutableMetaData executableMetaData = executableMetaDataMap.get( signature );
+		ExecutableMetaDataHolder executableMetaDataHolder = executableMetaDataMap.get( signature );
 
-		if ( executableMetaData == null ) {
+		if ( executableMetaDataHolder == null ) {
 			// there is no executable metadata - specified object and method do not match
 			throw LOG.getMethodOrConstructorNotDefinedByValidatedTypeException(
 					beanClass,
@@ -414,7 +433,7 @@ public Optional<ExecutableMetaData> getMetaDataFor(Executable executable) {
 			);
 		}
 
-		return Optional.of( executableMetaData );
+		return Optional.of( executableMetaDataHolder.get() );
 	}
 
 	@Override
@@ -601,16 +620,13 @@ private Set<MetaConstraint<?>> getDirectConstraints(Set<MetaConstraint<?>> metaC
 	}
 
 	/**
-	 * Builds up the method meta data for this type; each meta-data entry will be stored under the signature of the
-	 * represented method and all the methods it overrides.
+	 * Builds all the executable meta data of this type which have not been built yet.
 	 */
-	private Map<Signature, ExecutableMetaData> bySignature(Set<ExecutableMetaData> executables) {
-		Map<Signature, ExecutableMetaData> theValue = newHashMap();
+	private Map<Signature, ExecutableMetaData> getAllExecutableMetaData() {
+		Map<Signature, ExecutableMetaData> theValue = newHashMap( executableMetaDataMap.size() );
 
-		for ( ExecutableMetaData executableMetaData : executables ) {
-			for ( Signature signature : executableMetaData.getSignatures() ) {
-				theValue.put( signature, executableMetaData );
-			}
+		for ( Entry<Signature, ExecutableMetaDataHolder> executableMetaDataEntry : executableMetaDataMap.entrySet() ) {
+			theValue.put( executableMetaDataEntry.getKey(), executableMetaDataEntry.getValue().get() );
 		}
 
 		return theValue;
@@ -661,6 +677,43 @@ public String toString() {
 				+ ", defaultGroupSequence=" + getDefaultGroupSequence( null ) + '}';
 	}
 
+	/**
+	 * Holds the meta data of an executable, building it on first access.
+	 */
+	private static final class ExecutableMetaDataHolder {
+
+		private ExecutableMetaData.Builder builder;
+
+		private volatile ExecutableMetaData executableMetaData;
+
+		private ExecutableMetaDataHolder(ExecutableMetaData.Builder builder) {
+			this.builder = builder;
+		}
+
+		private ExecutableMetaDataHolder(ExecutableMetaData executableMetaData) {
+			this.executableMetaData = executableMetaData;
+		}
+
+		private ExecutableMetaData get() {
+			ExecutableMetaData executableMetaData = this.executableMetaData;
+
+			if ( executableMetaData == null ) {
+				synchronized (this) {
+					executableMetaData = this.executableMetaData;
+
+					if ( executableMetaData == null ) {
+						executableMetaData = builder.build();
+
+						this.executableMetaData = executableMetaData;
+						this.builder = null;
+					}
+				}
+			}
+
+			return executableMetaData;
+		}
+	}
+
 	/**
 	 * Tuple for returning default group sequence, provider and validation order at once.
 	 */
@@ -88,6 +88,12 @@ public class ContainerCascadingMetaData implements CascadingMetaData {
 	 */
 	private final Set<ValueExtractorDescriptor> valueExtractorCandidates;
 
+	/**
+	 * The value extractor resolved for the last runtime type of the container. The containers validated for a given
+	 * element are usually all of the same type so it avoids resolving the value extractor again for each of them.
+	 */
+	private volatile RuntimeValueExtractor lastRuntimeValueExtractor;
+
 	public static ContainerCascadingMetaData of(ValueExtractorManager valueExtractorManager, CascadingMetaDataBuilder cascadingMetaDataBuilder,
 			Object context) {
 		return new ContainerCascadingMetaData( valueExtractorManager, cascadingMetaDataBuilder );
@@ -237,6 +243,29 @@ public Set<ValueExtractorDescriptor> getValueExtractorCandidates() {
 		return valueExtractorCandidates;
 	}
 
+	/**
+	 * Returns the maximally specific value extractor among the candidates for the given runtime type of the container.
+	 *
+	 * @return the value extractor or {@code null} if none was found
+	 */
+	public ValueExtractorDescriptor getRuntimeValueExtractor(ValueExtractorManager valueExtractorManager, Class<?> runtimeType) {
+		RuntimeValueExtractor last = lastRuntimeValueExtractor;
+		if ( last != null && last.runtimeType() == runtimeType ) {
+			return last.valueExtractor();
+		}
+
+		ValueExtractorDescriptor valueExtractor = valueExtractorManager.getMaximallySpecificAndRuntimeContainerElementCompliantValueExtractor(
+				enclosingType,
+				typeParameter,
+				runtimeType,
+				valueExtractorCandidates
+		);
+		if ( valueExtractor != null ) {
+			lastRuntimeValueExtractor = new RuntimeValueExtractor( runtimeType, valueExtractor );
+		}
+		return valueExtractor;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
@@ -250,4 +279,7 @@ public String toString() {
 		sb.append( "]" );
 		return sb.toString();
 	}
+
+	private record RuntimeValueExtractor(Class<?> runtimeType, ValueExtractorDescriptor valueExtractor) {
+	}
 }
@@ -433,17 +433,30 @@ private void addToExecutablesByDeclaringType(ConstrainedExecutable executable) {
 			executablesByDeclaringType.put( beanClass, mergedExecutable );
 		}
 
+		/**
+		 * @return The signatures under which the executable meta data built by this builder will be registered.
+		 */
+		public Set<Signature> getSignatures() {
+			return kind == ConstrainedElementKind.CONSTRUCTOR ? Collections.singleton( callable.getSignature() ) : signatures;
+		}
+
+		/**
+		 * @return {@code true} if at least one of the aggregated executables is constrained or cascaded. In this case,
+		 * the executable meta data built by this builder will also be constrained.
+		 */
+		public boolean isConstrained() {
+			return isConstrained;
+		}
+
 		@Override
 		public ExecutableMetaData build() {
-			assertCorrectnessOfConfiguration();
-
 			return new ExecutableMetaData(
 					callable.getDeclaringClass(),
 					callable.getName(),
 					callable.getType(),
 					callable.getParameterTypes(),
 					kind == ConstrainedElementKind.CONSTRUCTOR ? ElementKind.CONSTRUCTOR : ElementKind.METHOD,
-					kind == ConstrainedElementKind.CONSTRUCTOR ? Collections.singleton( callable.getSignature() ) : CollectionHelper.toImmutableSet( signatures ),
+					CollectionHelper.toImmutableSet( getSignatures() ),
 					adaptOriginsAndImplicitGroups( getDirectConstraints() ),
 					adaptOriginsAndImplicitGroups( getContainerElementConstraints() ),
 					findParameterMetaData(),
@@ -510,11 +523,16 @@ private List<ParameterMetaData> findParameterMetaData() {
 		 * marked as cascaded if the return value is marked as cascaded already
 		 * on the overridden method.
 		 * </p>
+		 * <p>
+		 * This is done independently of {@link #build()} so that an incorrect
+		 * configuration is reported when bootstrapping the bean meta data even
+		 * though the executable meta data are only built when first requested.
+		 * </p>
 		 *
 		 * @throws jakarta.validation.ConstraintDeclarationException In case any of the rules mandated by the
 		 * specification are violated.
 		 */
-		private void assertCorrectnessOfConfiguration() {
+		public void assertCorrectnessOfConfiguration() {
 			for ( Entry<Class<?>, ConstrainedExecutable> entry : executablesByDeclaringType.entrySet() ) {
 				for ( Entry<Class<?>, ConstrainedExecutable> otherEntry : executablesByDeclaringType.entrySet() ) {
 					for ( MethodConfigurationRule rule : rules ) {
@@ -129,9 +129,7 @@ private <A extends Annotation> MetaConstraint<A> adaptOriginAndImplicitGroup(Met
 				constraint.getDescriptor().getConstraintType()
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), descriptor, constraint.getLocation() );
+		return MetaConstraints.create( constraintCreationContext, descriptor, constraint.getLocation() );
 	}
 
 	/**
@@ -35,6 +35,13 @@ public class PotentiallyContainerCascadingMetaData implements CascadingMetaData
 
 	private final Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors;
 
+	/**
+	 * The effective metadata built for the last runtime type of the value. The values validated for a given element
+	 * are usually all of the same type so it avoids resolving the value extractor and building the metadata again
+	 * for each of them.
+	 */
+	private volatile RuntimeCascadingMetaData lastRuntimeCascadingMetaData;
+
 	public static PotentiallyContainerCascadingMetaData of(CascadingMetaDataBuilder cascadingMetaDataBuilder, Set<ValueExtractorDescriptor> potentialValueExtractorDescriptors, Object context) {
 		return new PotentiallyContainerCascadingMetaData( cascadingMetaDataBuilder, potentialValueExtractorDescriptors );
 	}
@@ -80,6 +87,17 @@ public boolean isContainer() {
 
 	@Override
 	public CascadingMetaData addRuntimeContainerSupport(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
+		RuntimeCascadingMetaData last = lastRuntimeCascadingMetaData;
+		if ( last != null && last.valueClass() == valueClass ) {
+			return last.cascadingMetaData();
+		}
+
+		CascadingMetaData cascadingMetaData = buildRuntimeCascadingMetaData( valueExtractorManager, valueClass );
+		lastRuntimeCascadingMetaData = new RuntimeCascadingMetaData( valueClass, cascadingMetaData );
+		return cascadingMetaData;
+	}
+
+	private CascadingMetaData buildRuntimeCascadingMetaData(ValueExtractorManager valueExtractorManager, Class<?> valueClass) {
 		ValueExtractorDescriptor compliantValueExtractor = valueExtractorManager.getResolver()
 				.getMaximallySpecificValueExtractorForAllContainerElements( valueClass, potentialValueExtractorDescriptors );
 		if ( compliantValueExtractor == null ) {
@@ -121,4 +139,7 @@ public String toString() {
 		sb.append( "]" );
 		return sb.toString();
 	}
+
+	private record RuntimeCascadingMetaData(Class<?> valueClass, CascadingMetaData cascadingMetaData) {
+	}
 }
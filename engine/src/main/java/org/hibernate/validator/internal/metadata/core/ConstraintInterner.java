@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.metadata.core;
+
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
+
+/**
+ * Canonicalizes the parts of a {@link MetaConstraint} which do not depend on the constraint location, i.e. the
+ * {@link ConstraintDescriptorImpl} and the {@link ConstraintTree}.
+ * <p>
+ * The same constraint (e.g. {@code @NotNull} with the same attributes and groups) is usually declared on a lot of
+ * properties across a lot of beans. Without interning, each declaration retains its own descriptor and constraint tree
+ * even though they are indistinguishable. With interning, only one instance is kept per distinct constraint.
+ * <p>
+ * Two descriptors are only merged if they are {@linkplain ConstraintDescriptorImpl#isEquivalentTo(ConstraintDescriptorImpl)
+ * equivalent}, i.e. if all their state (and not only their annotation) is identical.
+ * <p>
+ * The interner only references the descriptors and trees weakly: it never retains anything that is not retained by the
+ * metadata itself, so entries go away together with the (softly referenced) bean metadata.
+ */
+public class ConstraintInterner {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+	private final ConcurrentReferenceHashMap<DescriptorKey, ConstraintDescriptorImpl<?>> descriptors = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, STRONG, WEAK );
+
+	private final ConcurrentReferenceHashMap<ConstraintTreeKey, ConstraintTree<?>> constraintTrees = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, STRONG, WEAK );
+
+	@SuppressWarnings("unchecked")
+	public <A extends Annotation> ConstraintDescriptorImpl<A> intern(ConstraintDescriptorImpl<A> descriptor) {
+		DescriptorKey key = new DescriptorKey( descriptor );
+		ConstraintDescriptorImpl<?> interned = descriptors.get( key );
+		if ( interned == null ) {
+			interned = descriptors.putIfAbsent( key, descriptor );
+			if ( interned == null ) {
+				interned = descriptor;
+			}
+		}
+		return (ConstraintDescriptorImpl<A>) interned;
+	}
+
+	/**
+	 * @param constraintValidatorManager the constraint validator manager used to create the tree if needed
+	 * @param descriptor an interned descriptor, see {@link #intern(ConstraintDescriptorImpl)}
+	 * @param validatedValueType the type of the validated value
+	 *
+	 * @return the shared constraint tree for this descriptor and validated value type
+	 */
+	@SuppressWarnings("unchecked")
+	public <A extends Annotation> ConstraintTree<A> getConstraintTree(ConstraintValidatorManager constraintValidatorManager,
+			ConstraintDescriptorImpl<A> descriptor, Type validatedValueType) {
+		ConstraintTreeKey key = new ConstraintTreeKey( descriptor, validatedValueType );
+		ConstraintTree<?> constraintTree = constraintTrees.get( key );
+		if ( constraintTree == null ) {
+			ConstraintTree<A> newConstraintTree = ConstraintTree.of( constraintValidatorManager, descriptor, validatedValueType );
+			constraintTree = constraintTrees.putIfAbsent( key, newConstraintTree );
+			if ( constraintTree == null ) {
+				constraintTree = newConstraintTree;
+			}
+		}
+		return (ConstraintTree<A>) constraintTree;
+	}
+
+	/**
+	 * @return the interned descriptors, i.e. one descriptor per distinct constraint created so far
+	 */
+	public Collection<ConstraintDescriptorImpl<?>> getConstraintDescriptors() {
+		return Collections.unmodifiableCollection( descriptors.values() );
+	}
+
+	/**
+	 * Makes the constraint trees created so far retrieve their constraint validators again, as some of them might have
+	 * been released.
+	 */
+	public void resetConstraintValidators() {
+		for ( ConstraintTree<?> constraintTree : constraintTrees.values() ) {
+			constraintTree.resetDefaultInitializedConstraintValidator();
+		}
+	}
+
+	public void clear() {
+		descriptors.clear();
+		constraintTrees.clear();
+	}
+
+	/**
+	 * The keys reference the descriptors weakly, otherwise the map would retain them through its keys.
+	 */
+	private static final class DescriptorKey {
+
+		private final WeakReference<ConstraintDescriptorImpl<?>> descriptor;
+
+		private final int hashCode;
+
+		private DescriptorKey(ConstraintDescriptorImpl<?> descriptor) {
+			this.descriptor = new WeakReference<>( descriptor );
+			this.hashCode = descriptor.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			ConstraintDescriptorImpl<?> thisDescriptor = descriptor.get();
+			ConstraintDescriptorImpl<?> otherDescriptor = ( (DescriptorKey) o ).descriptor.get();
+			return thisDescriptor != null && otherDescriptor != null && thisDescriptor.isEquivalentTo( otherDescriptor );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static final class ConstraintTreeKey {
+
+		/**
+		 * Descriptors are interned before trees so we can rely on the identity here.
+		 */
+		private final WeakReference<ConstraintDescriptorImpl<?>> descriptor;
+
+		private final Type validatedValueType;
+
+		private final int hashCode;
+
+		private ConstraintTreeKey(ConstraintDescriptorImpl<?> descriptor, Type validatedValueType) {
+			this.descriptor = new WeakReference<>( descriptor );
+			this.validatedValueType = validatedValueType;
+			this.hashCode = 31 * System.identityHashCode( descriptor ) + validatedValueType.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( o == null || getClass() != o.getClass() ) {
+				return false;
+			}
+			ConstraintTreeKey that = (ConstraintTreeKey) o;
+			ConstraintDescriptorImpl<?> thisDescriptor = descriptor.get();
+			return thisDescriptor != null && thisDescriptor == that.descriptor.get() && validatedValueType.equals( that.validatedValueType );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -18,6 +18,8 @@
 
 import jakarta.validation.metadata.ValidateUnwrappedValue;
 
+import org.hibernate.validator.internal.engine.ConstraintCreationContext;
+import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintTree;
 import org.hibernate.validator.internal.engine.constraintvalidation.ConstraintValidatorManager;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorDescriptor;
 import org.hibernate.validator.internal.engine.valueextraction.ValueExtractorHelper;
@@ -47,11 +49,39 @@ public class MetaConstraints {
 	private MetaConstraints() {
 	}
 
+	/**
+	 * Creates a {@link MetaConstraint}, sharing its descriptor and constraint tree with the equivalent constraints
+	 * already created in the context of the given {@link ConstraintCreationContext}.
+	 */
+	public static <A extends Annotation> MetaConstraint<A> create(ConstraintCreationContext constraintCreationContext,
+			ConstraintDescriptorImpl<A> constraintDescriptor, ConstraintLocation location) {
+		ConstraintInterner interner = constraintCreationContext.getConstraintInterner();
+		ConstraintDescriptorImpl<A> internedConstraintDescriptor = interner.intern( constraintDescriptor );
+
+		List<ContainerClassTypeParameterAndExtractor> valueExtractionPath = new ArrayList<>();
+		Type typeOfValidatedElement = getTypeOfValidatedElement( constraintCreationContext.getTypeResolutionHelper(),
+				constraintCreationContext.getValueExtractorManager(), internedConstraintDescriptor, valueExtractionPath, location );
+
+		ConstraintTree<A> constraintTree = interner.getConstraintTree( constraintCreationContext.getConstraintValidatorManager(),
+				internedConstraintDescriptor, typeOfValidatedElement );
+
+		return new MetaConstraint<>( constraintTree, location, valueExtractionPath );
+	}
+
 	public static <A extends Annotation> MetaConstraint<A> create(TypeResolutionHelper typeResolutionHelper, ValueExtractorManager valueExtractorManager,
 			ConstraintValidatorManager constraintValidatorManager,
 			ConstraintDescriptorImpl<A> constraintDescriptor, ConstraintLocation location) {
 		List<ContainerClassTypeParameterAndExtractor> valueExtractionPath = new ArrayList<>();
+		Type typeOfValidatedElement = getTypeOfValidatedElement( typeResolutionHelper, valueExtractorManager, constraintDescriptor,
+				valueExtractionPath, location );
+
+		return new MetaConstraint<>( ConstraintTree.of( constraintValidatorManager, constraintDescriptor, typeOfValidatedElement ), location,
+				valueExtractionPath );
+	}
 
+	private static <A extends Annotation> Type getTypeOfValidatedElement(TypeResolutionHelper typeResolutionHelper, ValueExtractorManager valueExtractorManager,
+			ConstraintDescriptorImpl<A> constraintDescriptor, List<ContainerClassTypeParameterAndExtractor> valueExtractionPath,
+			ConstraintLocation location) {
 		Type typeOfValidatedElement = addValueExtractorDescriptorForWrappedValue( typeResolutionHelper, valueExtractorManager, constraintDescriptor,
 				valueExtractionPath, location );
 
@@ -68,7 +98,7 @@ public static <A extends Annotation> MetaConstraint<A> create(TypeResolutionHelp
 
 		Collections.reverse( valueExtractionPath );
 
-		return new MetaConstraint<>( constraintValidatorManager, constraintDescriptor, location, valueExtractionPath, typeOfValidatedElement );
+		return typeOfValidatedElement;
 	}
 
 	private static <A extends Annotation> Type addValueExtractorDescriptorForWrappedValue(TypeResolutionHelper typeResolutionHelper,
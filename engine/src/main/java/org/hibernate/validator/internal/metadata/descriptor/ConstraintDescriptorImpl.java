@@ -72,6 +72,11 @@
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 	private static final int OVERRIDES_PARAMETER_DEFAULT_INDEX = -1;
 
+	/**
+	 * The vast majority of the constraints are only part of the default group: we share the group set between them.
+	 */
+	private static final Set<Class<?>> DEFAULT_GROUP_SET = Set.of( Default.class );
+
 	/**
 	 * A list of annotations which can be ignored when investigating for composing constraints.
 	 */
@@ -351,6 +356,25 @@ public int hashCode() {
 		return hashCode;
 	}
 
+	/**
+	 * Contrary to {@link #equals(Object)} which only takes the annotation into account, this method compares the whole
+	 * state of the descriptors. Two equivalent descriptors can be used in place of each other.
+	 *
+	 * @param other the descriptor to compare to
+	 * @return {@code true} if both descriptors are indistinguishable, {@code false} otherwise
+	 */
+	public boolean isEquivalentTo(ConstraintDescriptorImpl<?> other) {
+		if ( this == other ) {
+			return true;
+		}
+		// the other properties (payloads, composing constraints...) are derived from these ones
+		return equals( other )
+				&& constraintLocationKind == other.constraintLocationKind
+				&& definedOn == other.definedOn
+				&& constraintType == other.constraintType
+				&& groups.equals( other.groups );
+	}
+
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder();
@@ -555,6 +579,9 @@ private static Set<Class<?>> buildGroupSet(ConstraintAnnotationDescriptor<?> ann
 		if ( implicitGroup != null && groupSet.contains( Default.class ) ) {
 			groupSet.add( implicitGroup );
 		}
+		if ( groupSet.size() == 1 && groupSet.contains( Default.class ) ) {
+			return DEFAULT_GROUP_SET;
+		}
 		return CollectionHelper.toImmutableSet( groupSet );
 	}
 
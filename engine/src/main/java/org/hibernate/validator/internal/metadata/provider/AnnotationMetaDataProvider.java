@@ -7,6 +7,8 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashSet;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.Option.IDENTITY_COMPARISONS;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.lang.annotation.Annotation;
@@ -24,6 +26,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -63,6 +66,7 @@
 import org.hibernate.validator.internal.properties.javabean.JavaBeanHelper;
 import org.hibernate.validator.internal.properties.javabean.JavaBeanParameter;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.ReflectionHelper;
 import org.hibernate.validator.internal.util.actions.GetDeclaredConstructors;
 import org.hibernate.validator.internal.util.actions.GetDeclaredFields;
@@ -70,6 +74,7 @@
 import org.hibernate.validator.internal.util.actions.GetMethods;
 import org.hibernate.validator.internal.util.actions.NewInstance;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.internal.util.classhierarchy.ClassHierarchyHelper;
 import org.hibernate.validator.internal.util.logging.Log;
 import org.hibernate.validator.internal.util.logging.LoggerFactory;
 import org.hibernate.validator.spi.group.DefaultGroupSequenceProvider;
@@ -85,12 +90,23 @@ public class AnnotationMetaDataProvider implements MetaDataProvider {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
+	private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+	private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
 	private final ConstraintCreationContext constraintCreationContext;
 	private final AnnotationProcessingOptions annotationProcessingOptions;
 	private final JavaBeanHelper javaBeanHelper;
 
 	private final BeanConfiguration<Object> objectBeanConfiguration;
 
+	/**
+	 * The configurations retrieved so far. A type is usually part of the hierarchy of several beans (e.g. a common
+	 * super-class of entities) so we avoid scanning its annotations again each time one of its sub-types is
+	 * initialized.
+	 */
+	private final ConcurrentReferenceHashMap<Class<?>, BeanConfiguration<?>> beanConfigurationCache;
+
 	public AnnotationMetaDataProvider(ConstraintCreationContext constraintCreationContext,
 			JavaBeanHelper javaBeanHelper,
 			AnnotationProcessingOptions annotationProcessingOptions) {
@@ -99,6 +115,14 @@ public AnnotationMetaDataProvider(ConstraintCreationContext constraintCreationCo
 		this.annotationProcessingOptions = annotationProcessingOptions;
 
 		this.objectBeanConfiguration = retrieveBeanConfiguration( Object.class );
+		this.beanConfigurationCache = new ConcurrentReferenceHashMap<>(
+				DEFAULT_INITIAL_CAPACITY,
+				DEFAULT_LOAD_FACTOR,
+				DEFAULT_CONCURRENCY_LEVEL,
+				SOFT,
+				SOFT,
+				EnumSet.of( IDENTITY_COMPARISONS )
+		);
 	}
 
 	@Override
@@ -113,7 +137,31 @@ public <T> BeanConfiguration<T> getBeanConfiguration(Class<T> beanClass) {
 			return (BeanConfiguration<T>) objectBeanConfiguration;
 		}
 
-		return retrieveBeanConfiguration( beanClass );
+		BeanConfiguration<T> beanConfiguration = (BeanConfiguration<T>) beanConfigurationCache.get( beanClass );
+		if ( beanConfiguration != null ) {
+			return beanConfiguration;
+		}
+
+		beanConfiguration = retrieveBeanConfiguration( beanClass );
+		BeanConfiguration<T> previousBeanConfiguration = (BeanConfiguration<T>) beanConfigurationCache.putIfAbsent( beanClass, beanConfiguration );
+
+		return previousBeanConfiguration != null ? previousBeanConfiguration : beanConfiguration;
+	}
+
+	/**
+	 * Removes all the configurations retrieved so far.
+	 */
+	public void clear() {
+		beanConfigurationCache.clear();
+	}
+
+	/**
+	 * Removes the configurations of the given types and of their sub-types.
+	 *
+	 * @param types the types to invalidate
+	 */
+	public void invalidate(Set<Class<?>> types) {
+		beanConfigurationCache.keySet().removeIf( beanClass -> ClassHierarchyHelper.isSubTypeOfAny( beanClass, types ) );
 	}
 
 	/**
@@ -211,11 +259,7 @@ private Set<MetaConstraint<?>> getClassLevelConstraints(Class<?> clazz) {
 		ConstraintLocation location = ConstraintLocation.forClass( clazz );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescriptor : classLevelConstraintDescriptors ) {
-			classLevelConstraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(),
-					constraintDescriptor,
-					location ) );
+			classLevelConstraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, location ) );
 		}
 
 		return classLevelConstraints;
@@ -269,10 +313,7 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 		ConstraintLocation location = ConstraintLocation.forField( javaBeanField );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescription : constraintDescriptors ) {
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(),
-					constraintDescription, location ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescription, location ) );
 		}
 		return constraints;
 	}
@@ -376,9 +417,7 @@ private Set<MetaConstraint<?>> convertToMetaConstraints(List<ConstraintDescripto
 			ConstraintLocation location = constraintDescriptor.getConstraintType() == ConstraintType.GENERIC
 					? returnValueLocation
 					: crossParameterLocation;
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, location ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, location ) );
 		}
 
 		return constraints;
@@ -428,10 +467,7 @@ private List<ConstrainedParameter> getParameterMetaData(JavaBeanExecutable<?> ja
 
 				for ( ConstraintDescriptorImpl<?> constraintDescriptorImpl : constraintDescriptors ) {
 					parameterConstraints.add(
-							MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-									constraintCreationContext.getValueExtractorManager(),
-									constraintCreationContext.getConstraintValidatorManager(), constraintDescriptorImpl,
-									location ) );
+							MetaConstraints.create( constraintCreationContext, constraintDescriptorImpl, location ) );
 				}
 			}
 			else {
@@ -809,10 +845,7 @@ private Set<MetaConstraint<?>> findTypeUseConstraints(Constrainable constrainabl
 		ConstraintLocation constraintLocation = ConstraintLocation.forTypeArgument( location.toConstraintLocation(), typeVariable, type );
 
 		for ( ConstraintDescriptorImpl<?> constraintDescriptor : constraintDescriptors ) {
-			constraints.add( MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-					constraintCreationContext.getValueExtractorManager(),
-					constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor,
-					constraintLocation ) );
+			constraints.add( MetaConstraints.create( constraintCreationContext, constraintDescriptor, constraintLocation ) );
 		}
 
 		return constraints;
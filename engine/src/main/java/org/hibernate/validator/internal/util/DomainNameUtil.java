@@ -7,7 +7,6 @@
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
 
 import java.net.IDN;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -22,31 +21,24 @@ public final class DomainNameUtil {
 	 */
 	private static final int MAX_DOMAIN_PART_LENGTH = 255;
 
-	private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
-	private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
-	private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
+	/**
+	 * The maximum length of a label of the domain name, when it only contains ASCII characters.
+	 */
+	private static final int MAX_LABEL_LENGTH = 63;
 
-	private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
 	//IP v6 regex taken from http://stackoverflow.com/questions/53497/regular-expression-that-matches-valid-ipv6-addresses
 	private static final String IP_V6_DOMAIN =
 			"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
 
 	/**
-	 * Regular expression for the domain part of an URL
+	 * Regular expression for an IPv6 address, used in the {@code [IPv6]} form of the domain part of an URL and in the
+	 * {@code [IPv6:IPv6]} form of the domain part of an email address.
 	 * <p>
-	 * A host string must be a domain string, an IPv4 address string, or "[", followed by an IPv6 address string,
-	 * followed by "]".
+	 * The domain names and the IPv4 addresses are parsed by hand.
 	 */
-	private static final Pattern DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final Pattern IP_V6_DOMAIN_PATTERN = Pattern.compile( IP_V6_DOMAIN, CASE_INSENSITIVE );
 
-	/**
-	 * Regular expression for the domain part of an email address (everything after '@')
-	 */
-	private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
-			DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
-	);
+	private static final String EMAIL_IP_V6_PREFIX = "IPv6:";
 
 	private DomainNameUtil() {
 	}
@@ -59,7 +51,21 @@ private DomainNameUtil() {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidEmailDomainAddress(String domain) {
-		return isValidDomainAddress( domain, EMAIL_DOMAIN_PATTERN );
+		return isValidEmailDomainAddress( domain, 0, domain.length() );
+	}
+
+	/**
+	 * Checks the validity of the domain name used in an email, located between the given indexes of a character
+	 * sequence.
+	 *
+	 * @param value the character sequence containing the domain
+	 * @param start the index of the first character of the domain, inclusive
+	 * @param end the index of the last character of the domain, exclusive
+	 * @return {@code true} if the domain is valid, {@code false} otherwise
+	 * @see #isValidEmailDomainAddress(String)
+	 */
+	public static boolean isValidEmailDomainAddress(CharSequence value, int start, int end) {
+		return isValidDomainAddress( value, start, end, true );
 	}
 
 	/**
@@ -69,30 +75,170 @@ public static boolean isValidEmailDomainAddress(String domain) {
 	 * @return {@code true} if the provided string is a valid domain, {@code false} otherwise
 	 */
 	public static boolean isValidDomainAddress(String domain) {
-		return isValidDomainAddress( domain, DOMAIN_PATTERN );
+		return isValidDomainAddress( domain, 0, domain.length(), false );
 	}
 
-	private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+	private static boolean isValidDomainAddress(CharSequence value, int start, int end, boolean email) {
 		// if we have a trailing dot the domain part we have an invalid email address.
-		// the regular expression match would take care of this, but IDN.toASCII drops the trailing '.'
-		if ( domain.endsWith( "." ) ) {
+		// it would not be a valid domain name anyway, but IDN.toASCII drops the trailing '.'
+		if ( end > start && value.charAt( end - 1 ) == '.' ) {
+			return false;
+		}
+
+		if ( end > start && value.charAt( start ) == '[' ) {
+			return isValidIpAddressLiteral( value, start, end, email );
+		}
+
+		return isValidDomainName( value, start, end );
+	}
+
+	/**
+	 * A domain name is a sequence of labels separated by dots. A label is made of domain characters and of dashes, but
+	 * it cannot start or end with a dash.
+	 * <p>
+	 * The domain name must also be accepted by {@link IDN#toASCII(String)} and be at most
+	 * {@link #MAX_DOMAIN_PART_LENGTH} long once converted. This is checked by hand for the ASCII domain names, the
+	 * other ones are converted.
+	 */
+	private static boolean isValidDomainName(CharSequence value, int start, int end) {
+		boolean ascii = true;
+		boolean asciiLabel = true;
+		int labelStart = start;
+		// whether the last character is a domain character, i.e. neither a dash nor a dot
+		boolean afterDomainCharacter = false;
+		boolean afterDash = false;
+
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c == '.' ) {
+				if ( !afterDomainCharacter || !isValidLabelLength( asciiLabel, labelStart, i ) ) {
+					return false;
+				}
+				labelStart = i + 1;
+				asciiLabel = true;
+				afterDomainCharacter = false;
+			}
+			else if ( c == '-' ) {
+				if ( !afterDomainCharacter && !afterDash ) {
+					return false;
+				}
+				afterDomainCharacter = false;
+				afterDash = true;
+				continue;
+			}
+			else if ( c < 0x80 ) {
+				if ( !isAsciiDomainCharacter( c ) ) {
+					return false;
+				}
+				afterDomainCharacter = true;
+			}
+			else {
+				// the supplementary code points are not accepted
+				if ( Character.isHighSurrogate( c ) && i + 1 < end && Character.isLowSurrogate( value.charAt( i + 1 ) ) ) {
+					return false;
+				}
+				ascii = false;
+				asciiLabel = false;
+				afterDomainCharacter = true;
+			}
+			afterDash = false;
+		}
+
+		if ( !afterDomainCharacter || !isValidLabelLength( asciiLabel, labelStart, end ) ) {
 			return false;
 		}
 
+		if ( ascii ) {
+			return end - start <= MAX_DOMAIN_PART_LENGTH;
+		}
+
 		String asciiString;
 		try {
-			asciiString = IDN.toASCII( domain );
+			asciiString = IDN.toASCII( value.subSequence( start, end ).toString() );
 		}
 		catch (IllegalArgumentException e) {
 			return false;
 		}
 
-		if ( asciiString.length() > MAX_DOMAIN_PART_LENGTH ) {
+		return asciiString.length() <= MAX_DOMAIN_PART_LENGTH;
+	}
+
+	/**
+	 * Checks the IP address wrapped in [] and that it would be accepted by {@link IDN#toASCII(String)}, i.e. that none
+	 * of the dot-separated parts is longer than {@link #MAX_LABEL_LENGTH}.
+	 */
+	private static boolean isValidIpAddressLiteral(CharSequence value, int start, int end, boolean email) {
+		if ( end - start > MAX_DOMAIN_PART_LENGTH || end - start < 2 || value.charAt( end - 1 ) != ']' ) {
 			return false;
 		}
 
-		Matcher matcher = pattern.matcher( domain );
-		return matcher.matches();
+		int labelStart = start;
+		for ( int i = start; i < end; i++ ) {
+			if ( value.charAt( i ) == '.' ) {
+				if ( !isValidLabelLength( true, labelStart, i ) || i == labelStart ) {
+					return false;
+				}
+				labelStart = i + 1;
+			}
+		}
+		if ( !isValidLabelLength( true, labelStart, end ) ) {
+			return false;
+		}
+
+		if ( !email ) {
+			return IP_V6_DOMAIN_PATTERN.matcher( value ).region( start + 1, end - 1 ).matches();
+		}
+		if ( isIpV4Address( value, start + 1, end - 1 ) ) {
+			return true;
+		}
+		int ipV6Start = start + 1 + EMAIL_IP_V6_PREFIX.length();
+		return ipV6Start <= end - 1
+				&& regionMatchesIgnoreCase( value, start + 1, EMAIL_IP_V6_PREFIX )
+				&& IP_V6_DOMAIN_PATTERN.matcher( value ).region( ipV6Start, end - 1 ).matches();
+	}
+
+	/**
+	 * Checks the four dot-separated groups of one to three digits of an IPv4 address.
+	 */
+	private static boolean isIpV4Address(CharSequence value, int start, int end) {
+		int groups = 1;
+		int digits = 0;
+		for ( int i = start; i < end; i++ ) {
+			char c = value.charAt( i );
+			if ( c >= '0' && c <= '9' ) {
+				if ( ++digits > 3 ) {
+					return false;
+				}
+			}
+			else if ( c == '.' && digits > 0 && groups < 4 ) {
+				groups++;
+				digits = 0;
+			}
+			else {
+				return false;
+			}
+		}
+		return groups == 4 && digits > 0;
 	}
 
+	private static boolean isValidLabelLength(boolean asciiLabel, int labelStart, int labelEnd) {
+		// the length of the labels containing non ASCII characters is checked by IDN.toASCII()
+		return !asciiLabel || labelEnd - labelStart <= MAX_LABEL_LENGTH;
+	}
+
+	private static boolean isAsciiDomainCharacter(char c) {
+		return ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' ) || ( c >= '0' && c <= '9' ) || "!#$%&'*+/=?^_`{|}~".indexOf( c ) >= 0;
+	}
+
+	private static boolean regionMatchesIgnoreCase(CharSequence value, int start, String expected) {
+		for ( int i = 0; i < expected.length(); i++ ) {
+			char c = value.charAt( start + i );
+			char e = expected.charAt( i );
+			// as the regular expressions, only consider the case of ASCII letters
+			if ( c != e && !( Character.isLetter( e ) && ( c | 0x20 ) == ( e | 0x20 ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
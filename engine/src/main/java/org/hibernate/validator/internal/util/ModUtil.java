@@ -8,10 +8,26 @@
 
 /**
  * Helper class for modulo 10/11.
+ * <p>
+ * The checksums can be calculated either from a list of digits or directly from the characters of a
+ * {@link CharSequence} between two indexes. The latter does not allocate anything and returns {@link #NOT_A_DIGIT}
+ * if one of the characters is not a digit.
  *
  * @author Hardy Ferentschik
  */
 public final class ModUtil {
+
+	/**
+	 * Returned by the checksum calculations on a {@link CharSequence} when one of the characters is not a digit.
+	 */
+	public static final int NOT_A_DIGIT = -1;
+
+	/**
+	 * Returned by {@link #digit(char, boolean)} when the character is not a digit and non digit characters are
+	 * ignored.
+	 */
+	private static final int IGNORED = -2;
+
 	private ModUtil() {
 	}
 
@@ -128,4 +144,167 @@ public static int calculateModXCheckWithWeights(final List<Integer> digits, int
 		}
 		return moduloParam - ( sum % moduloParam );
 	}
+
+	/**
+	 * Calculate Luhn Modulo 10 checksum (Luhn algorithm implementation)
+	 *
+	 * @param value the characters containing the digits over which to calculate the checksum
+	 * @param startIndex the index of the first character to consider, inclusive
+	 * @param endIndex the index of the last character to consider, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not ASCII digits are skipped
+	 *
+	 * @return the result of the mod10 checksum calculation or {@link #NOT_A_DIGIT}
+	 */
+	public static int calculateLuhnMod10Check(final CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters) {
+		int sum = 0;
+		boolean even = true;
+		for ( int index = endIndex - 1; index >= startIndex; index-- ) {
+			int digit = digit( value.charAt( index ), ignoreNonDigitCharacters );
+			if ( digit == IGNORED ) {
+				continue;
+			}
+			if ( digit == NOT_A_DIGIT ) {
+				return NOT_A_DIGIT;
+			}
+
+			if ( even ) {
+				digit <<= 1;
+			}
+			if ( digit > 9 ) {
+				digit -= 9;
+			}
+			sum += digit;
+			even = !even;
+		}
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculate Generic Modulo 10 checksum
+	 *
+	 * @param value the characters containing the digits over which to calculate the checksum
+	 * @param startIndex the index of the first character to consider, inclusive
+	 * @param endIndex the index of the last character to consider, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not ASCII digits are skipped
+	 * @param multiplier Multiplier used for the odd digits in the algorithm
+	 * @param weight Multiplier used for the even digits in the algorithm
+	 *
+	 * @return the result of the mod10 checksum calculation or {@link #NOT_A_DIGIT}
+	 */
+	public static int calculateMod10Check(final CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters,
+			int multiplier, int weight) {
+		int sum = 0;
+		boolean even = true;
+		for ( int index = endIndex - 1; index >= startIndex; index-- ) {
+			int digit = digit( value.charAt( index ), ignoreNonDigitCharacters );
+			if ( digit == IGNORED ) {
+				continue;
+			}
+			if ( digit == NOT_A_DIGIT ) {
+				return NOT_A_DIGIT;
+			}
+
+			if ( even ) {
+				digit *= multiplier;
+			}
+			else {
+				digit *= weight;
+			}
+
+			sum += digit;
+			even = !even;
+		}
+		return ( 10 - ( sum % 10 ) ) % 10;
+	}
+
+	/**
+	 * Calculate Modulo {@code moduloParam} checksum with given weights, as
+	 * {@link #calculateModXCheckWithWeights(List, int, int, int...)} does for the list of the digits of the given
+	 * characters.
+	 *
+	 * @param value the characters containing the digits over which to calculate the checksum
+	 * @param startIndex the index of the first character to consider, inclusive
+	 * @param endIndex the index of the last character to consider, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not ASCII digits are skipped
+	 * @param reverseOrder whether the digits are processed as if their order was reversed
+	 * @param moduloParam modulo parameter to be used
+	 * @param threshold the threshold for the multiplier growth when no weights are provided
+	 * @param weights weights for the sum.
+	 *
+	 * @return the result of mod checksum calculation or {@link #NOT_A_DIGIT}
+	 */
+	public static int calculateModXCheckWithWeights(final CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters,
+			boolean reverseOrder, int moduloParam, final int threshold, int... weights) {
+		// the weights depend on the position of the digit in the list of digits so we need the number of digits upfront
+		int digitIndex = weights.length != 0 ? countDigits( value, startIndex, endIndex, ignoreNonDigitCharacters ) : 0;
+		if ( digitIndex == NOT_A_DIGIT ) {
+			return NOT_A_DIGIT;
+		}
+
+		int sum = 0;
+		int multiplier = 1;
+		int step = reverseOrder ? 1 : -1;
+		for ( int index = reverseOrder ? startIndex : endIndex - 1; index >= startIndex && index < endIndex; index += step ) {
+			int digit = digit( value.charAt( index ), ignoreNonDigitCharacters );
+			if ( digit == IGNORED ) {
+				continue;
+			}
+			if ( digit == NOT_A_DIGIT ) {
+				return NOT_A_DIGIT;
+			}
+
+			if ( weights.length != 0 ) {
+				digitIndex--;
+				multiplier = weights[weights.length - digitIndex % weights.length - 1];
+			}
+			else {
+				multiplier++;
+				if ( multiplier > threshold ) {
+					multiplier = 2;
+				}
+			}
+			sum += digit * multiplier;
+		}
+		return moduloParam - ( sum % moduloParam );
+	}
+
+	/**
+	 * Counts the digits of the given characters.
+	 *
+	 * @param value the characters containing the digits
+	 * @param startIndex the index of the first character to consider, inclusive
+	 * @param endIndex the index of the last character to consider, exclusive
+	 * @param ignoreNonDigitCharacters whether the characters which are not ASCII digits are skipped
+	 *
+	 * @return the number of digits or {@link #NOT_A_DIGIT}
+	 */
+	public static int countDigits(final CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters) {
+		int count = 0;
+		for ( int index = startIndex; index < endIndex; index++ ) {
+			int digit = digit( value.charAt( index ), ignoreNonDigitCharacters );
+			if ( digit == NOT_A_DIGIT ) {
+				return NOT_A_DIGIT;
+			}
+			if ( digit != IGNORED ) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the numeric value of a digit.
+	 * <p>
+	 * When non digit characters are ignored, only the ASCII digits are considered, as the other characters are
+	 * considered delimiters. Otherwise, all the Unicode digits are accepted.
+	 */
+	private static int digit(char c, boolean ignoreNonDigitCharacters) {
+		if ( c >= '0' && c <= '9' ) {
+			return c - '0';
+		}
+		if ( ignoreNonDigitCharacters ) {
+			return IGNORED;
+		}
+		return Character.isDigit( c ) ? Character.digit( c, 10 ) : NOT_A_DIGIT;
+	}
 }
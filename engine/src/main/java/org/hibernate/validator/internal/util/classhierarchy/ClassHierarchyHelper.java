@@ -54,6 +54,22 @@ public static <T> List<Class<? super T>> getHierarchy(Class<T> clazz, Filter...
 		return classes;
 	}
 
+	/**
+	 * @param clazz the class to check
+	 * @param types the potential super-types
+	 *
+	 * @return {@code true} if the given class is one of the given types or one of their sub-types, {@code false}
+	 * otherwise
+	 */
+	public static boolean isSubTypeOfAny(Class<?> clazz, Set<Class<?>> types) {
+		for ( Class<?> type : types ) {
+			if ( type.isAssignableFrom( clazz ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Retrieves all superclasses and interfaces recursively.
 	 *
@@ -45,6 +45,7 @@
 import jakarta.validation.valueextraction.ValueExtractorDeclarationException;
 import jakarta.validation.valueextraction.ValueExtractorDefinitionException;
 
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
 import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl.ConstraintType;
 import org.hibernate.validator.internal.metadata.location.ConstraintLocation;
@@ -962,4 +963,49 @@ ConstraintDefinitionException getConstraintValidatorDefinitionConstraintMismatch
 
 	@Message(id = 273, value = "Index %1$d is out of bounds for the path of length %2$d.")
 	IndexOutOfBoundsException pathIndexOutOfBounds(int index, int length);
+
+	@Message(id = 274, value = "The metadata of a predefined scope validator factory are initialized upfront and cannot be invalidated.")
+	ValidationException getMetaDataInvalidationNotSupportedInPredefinedScopeException();
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 275, value = "Pattern matching strategy set to %s.")
+	void logPatternMatchingStrategy(PatternMatchingStrategy patternMatchingStrategy);
+
+	@Message(id = 276, value = "Unable to find a pattern matching strategy for value %s.")
+	ValidationException invalidPatternMatchingStrategyValue(String patternMatchingStrategyName, @Cause IllegalArgumentException e);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 277, value = "The regular expression %s uses features not supported by the linear-time matching engine, java.util.regex will be used instead.")
+	void unsupportedLinearTimeRegularExpression(String regexp);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = 278, value = "Unique elements parallel threshold set to %d.")
+	void logUniqueElementsParallelThreshold(int uniqueElementsParallelThreshold);
+
+	@Message(id = 279, value = "Unable to parse the unique elements parallel threshold property %s. It should be an integer.")
+	ValidationException getUnableToParseUniqueElementsParallelThresholdException(String uniqueElementsParallelThresholdProperty, @Cause Exception e);
+
+	@Message(id = 280, value = "Unable to parse the expression %1$s at position %2$d.")
+	ScriptEvaluationException getUnableToParseExpressionException(String expression, int position);
+
+	@Message(id = 281, value = "Unknown variable %2$s in the expression %1$s.")
+	ScriptEvaluationException getUnknownVariableInExpressionException(String expression, String variableName);
+
+	@Message(id = 282, value = "Unable to access %2$s on a null value in the expression %1$s.")
+	ScriptEvaluationException getNullTargetInExpressionException(String expression, String memberName);
+
+	@Message(id = 283, value = "Unable to find a property or a method %2$s applicable to the type %3$s in the expression %1$s.")
+	ScriptEvaluationException getUnknownMemberInExpressionException(String expression, String memberName, @FormatWith(ClassObjectFormatter.class) Class<?> type);
+
+	@Message(id = 284, value = "Error accessing %2$s in the expression %1$s.")
+	ScriptEvaluationException getErrorAccessingMemberInExpressionException(String expression, String memberName, @Cause Exception e);
+
+	@Message(id = 285, value = "Unable to compare the values %2$s and %3$s in the expression %1$s.")
+	ScriptEvaluationException getUnableToCompareValuesInExpressionException(String expression, Object leftValue, Object rightValue);
+
+	@Message(id = 286, value = "The operand %2$s of a logical operator is not a boolean in the expression %1$s.")
+	ScriptEvaluationException getNonBooleanOperandInExpressionException(String expression, Object value);
+
+	@Message(id = 287, value = "The validator %1$s has to override either %2$s or %3$s.")
+	ConstraintDefinitionException getValidatorMustOverrideOneOfMethodsException(@FormatWith(ClassObjectFormatter.class) Class<?> validatorClass, String method, String alternativeMethod);
 }
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of code points, stored as sorted, non overlapping ranges.
+ * <p>
+ * Membership of ASCII code points is answered from a bitmap, the other code points are looked up with a binary search.
+ */
+final class CodePointSet {
+
+	static final CodePointSet DIGITS = new Builder().addRange( '0', '9' ).build();
+
+	static final CodePointSet WORD_CHARACTERS = new Builder().addRange( 'a', 'z' ).addRange( 'A', 'Z' ).add( '_' ).addRange( '0', '9' ).build();
+
+	static final CodePointSet WHITESPACES = new Builder().add( ' ' ).addRange( '\t', '\r' ).build();
+
+	/**
+	 * Pairs of inclusive bounds.
+	 */
+	private final int[] ranges;
+
+	private final long asciiLow;
+
+	private final long asciiHigh;
+
+	private CodePointSet(int[] ranges) {
+		this.ranges = ranges;
+
+		long low = 0L;
+		long high = 0L;
+		for ( int i = 0; i < ranges.length && ranges[i] < 128; i += 2 ) {
+			for ( int codePoint = ranges[i]; codePoint <= ranges[i + 1] && codePoint < 128; codePoint++ ) {
+				if ( codePoint < 64 ) {
+					low |= 1L << codePoint;
+				}
+				else {
+					high |= 1L << ( codePoint - 64 );
+				}
+			}
+		}
+		this.asciiLow = low;
+		this.asciiHigh = high;
+	}
+
+	boolean contains(int codePoint) {
+		if ( codePoint < 64 ) {
+			return ( asciiLow & ( 1L << codePoint ) ) != 0;
+		}
+		if ( codePoint < 128 ) {
+			return ( asciiHigh & ( 1L << ( codePoint - 64 ) ) ) != 0;
+		}
+
+		int low = 0;
+		int high = ( ranges.length >> 1 ) - 1;
+		while ( low <= high ) {
+			int middle = ( low + high ) >>> 1;
+			if ( codePoint < ranges[middle << 1] ) {
+				high = middle - 1;
+			}
+			else if ( codePoint > ranges[( middle << 1 ) + 1] ) {
+				low = middle + 1;
+			}
+			else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	CodePointSet complement() {
+		int[] complement = new int[ranges.length + 2];
+		int size = 0;
+		int next = 0;
+		for ( int i = 0; i < ranges.length; i += 2 ) {
+			if ( ranges[i] > next ) {
+				complement[size++] = next;
+				complement[size++] = ranges[i] - 1;
+			}
+			next = ranges[i + 1] + 1;
+		}
+		if ( next <= Character.MAX_CODE_POINT ) {
+			complement[size++] = next;
+			complement[size++] = Character.MAX_CODE_POINT;
+		}
+		return new CodePointSet( Arrays.copyOf( complement, size ) );
+	}
+
+	static final class Builder {
+
+		private int[] ranges = new int[8];
+
+		private int size;
+
+		Builder add(int codePoint) {
+			return addRange( codePoint, codePoint );
+		}
+
+		Builder addRange(int start, int end) {
+			if ( size == ranges.length ) {
+				ranges = Arrays.copyOf( ranges, size << 1 );
+			}
+			ranges[size++] = start;
+			ranges[size++] = end;
+			return this;
+		}
+
+		/**
+		 * Adds the given range and, for the ASCII letters it contains, the letters of the other case.
+		 */
+		Builder addRangeIgnoringAsciiCase(int start, int end) {
+			addRange( start, end );
+			if ( start <= 'Z' && end >= 'A' ) {
+				addRange( Math.max( start, 'A' ) + ( 'a' - 'A' ), Math.min( end, 'Z' ) + ( 'a' - 'A' ) );
+			}
+			if ( start <= 'z' && end >= 'a' ) {
+				addRange( Math.max( start, 'a' ) - ( 'a' - 'A' ), Math.min( end, 'z' ) - ( 'a' - 'A' ) );
+			}
+			return this;
+		}
+
+		Builder addAll(CodePointSet codePointSet) {
+			for ( int i = 0; i < codePointSet.ranges.length; i += 2 ) {
+				addRange( codePointSet.ranges[i], codePointSet.ranges[i + 1] );
+			}
+			return this;
+		}
+
+		CodePointSet build() {
+			int rangeCount = size >> 1;
+			long[] sortedRanges = new long[rangeCount];
+			for ( int i = 0; i < rangeCount; i++ ) {
+				sortedRanges[i] = ( (long) ranges[i << 1] << 32 ) | ranges[( i << 1 ) + 1];
+			}
+			Arrays.sort( sortedRanges );
+
+			int[] merged = new int[size];
+			int mergedSize = 0;
+			for ( long range : sortedRanges ) {
+				int start = (int) ( range >>> 32 );
+				int end = (int) range;
+				if ( mergedSize > 0 && start <= merged[mergedSize - 1] + 1 ) {
+					merged[mergedSize - 1] = Math.max( merged[mergedSize - 1], end );
+				}
+				else {
+					merged[mergedSize++] = start;
+					merged[mergedSize++] = end;
+				}
+			}
+			return new CodePointSet( Arrays.copyOf( merged, mergedSize ) );
+		}
+	}
+}
@@ -0,0 +1,784 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.internal.util.regex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression matched by simulating a non deterministic finite automaton, in a time linear in the length of
+ * the input.
+ * <p>
+ * Only a subset of the {@link Pattern} syntax is supported: literals, character classes (including the {@code \d},
+ * {@code \w} and {@code \s} predefined ones and their negations), {@code .}, capturing and non capturing groups,
+ * alternations and greedy or lazy quantifiers. {@code ^} and {@code $} are only supported at the beginning and the end
+ * of the top level alternatives. The {@link Pattern#CASE_INSENSITIVE}, {@link Pattern#DOTALL},
+ * {@link Pattern#MULTILINE} and {@link Pattern#UNIX_LINES} flags are supported.
+ * <p>
+ * The semantics is the one of {@link java.util.regex.Matcher#matches()}: the whole input has to match. Capturing groups
+ * are not tracked.
+ */
+public final class LinearTimePattern {
+
+	private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES
+			| Pattern.UNICODE_CASE;
+
+	/**
+	 * The maximum number of states consuming a code point, to keep the memory footprint of expanded repetitions in check.
+	 */
+	private static final int MAX_CONSUMING_STATES = 2_000;
+
+	/**
+	 * The maximum cumulated size of the epsilon closures.
+	 */
+	private static final int MAX_CLOSURE_SIZE = 250_000;
+
+	private static final CodePointSet ANY_BUT_LINE_TERMINATORS = new CodePointSet.Builder()
+			// \n, \r, next line, line separator and paragraph separator
+			.add( '\n' ).add( '\r' ).add( 0x85 ).addRange( 0x2028, 0x2029 ).build().complement();
+
+	private static final CodePointSet ANY_BUT_NEW_LINE = new CodePointSet.Builder().add( '\n' ).build().complement();
+
+	private static final CodePointSet ANY = new CodePointSet.Builder().addRange( 0, Character.MAX_CODE_POINT ).build();
+
+	/**
+	 * The code points accepted by each consuming state.
+	 */
+	private final CodePointSet[] codePointSets;
+
+	/**
+	 * The states reachable right after the given state consumed a code point, the accepting state being represented
+	 * by {@code codePointSets.length}.
+	 */
+	private final int[][] follows;
+
+	private final int[] start;
+
+	/**
+	 * Bitmask versions of {@link #follows} and {@link #start}, only available when the automaton has less than 64 states.
+	 */
+	private final long[] followMasks;
+
+	private final long startMask;
+
+	private LinearTimePattern(CodePointSet[] codePointSets, int[][] follows, int[] start) {
+		this.codePointSets = codePointSets;
+		this.follows = follows;
+		this.start = start;
+
+		if ( codePointSets.length < Long.SIZE ) {
+			this.followMasks = new long[follows.length];
+			for ( int i = 0; i < follows.length; i++ ) {
+				followMasks[i] = toMask( follows[i] );
+			}
+			this.startMask = toMask( start );
+		}
+		else {
+			this.followMasks = null;
+			this.startMask = 0L;
+		}
+	}
+
+	/**
+	 * Compiles the given regular expression.
+	 *
+	 * @param regexp a regular expression, which must be valid according to {@link Pattern#compile(String, int)}
+	 * @param flags the flags, as defined by {@link Pattern}
+	 *
+	 * @return the compiled pattern or {@code null} if the regular expression or the flags use features which are not
+	 * supported
+	 */
+	public static LinearTimePattern compile(String regexp, int flags) {
+		if ( ( flags & ~SUPPORTED_FLAGS ) != 0
+				|| ( ( flags & Pattern.UNICODE_CASE ) != 0 && ( flags & Pattern.CASE_INSENSITIVE ) != 0 ) ) {
+			return null;
+		}
+
+		try {
+			Node node = new Parser( regexp, flags ).parse();
+			return new Automaton().build( node );
+		}
+		catch (UnsupportedRegexpException e) {
+			return null;
+		}
+	}
+
+	public boolean matches(CharSequence input) {
+		if ( followMasks != null ) {
+			return matchesWithMasks( input );
+		}
+
+		int accepting = codePointSets.length;
+		long[] current = new long[( accepting >> 6 ) + 1];
+		long[] next = new long[current.length];
+		for ( int state : start ) {
+			current[state >> 6] |= 1L << state;
+		}
+
+		int length = input.length();
+		int i = 0;
+		while ( i < length ) {
+			int codePoint = Character.codePointAt( input, i );
+			i += Character.charCount( codePoint );
+
+			boolean alive = false;
+			for ( int word = 0; word < current.length; word++ ) {
+				long remaining = current[word];
+				current[word] = 0L;
+				while ( remaining != 0L ) {
+					int state = ( word << 6 ) + Long.numberOfTrailingZeros( remaining );
+					remaining &= remaining - 1;
+					if ( state != accepting && codePointSets[state].contains( codePoint ) ) {
+						for ( int follow : follows[state] ) {
+							next[follow >> 6] |= 1L << follow;
+						}
+						alive = true;
+					}
+				}
+			}
+			if ( !alive ) {
+				return false;
+			}
+
+			long[] swap = current;
+			current = next;
+			next = swap;
+		}
+
+		return ( current[accepting >> 6] & ( 1L << accepting ) ) != 0L;
+	}
+
+	private boolean matchesWithMasks(CharSequence input) {
+		long acceptingMask = 1L << codePointSets.length;
+		long current = startMask;
+
+		int length = input.length();
+		int i = 0;
+		while ( i < length ) {
+			int codePoint = Character.codePointAt( input, i );
+			i += Character.charCount( codePoint );
+
+			long next = 0L;
+			long remaining = current & ~acceptingMask;
+			while ( remaining != 0L ) {
+				int state = Long.numberOfTrailingZeros( remaining );
+				remaining &= remaining - 1;
+				if ( codePointSets[state].contains( codePoint ) ) {
+					next |= followMasks[state];
+				}
+			}
+			if ( next == 0L ) {
+				return false;
+			}
+			current = next;
+		}
+
+		return ( current & acceptingMask ) != 0L;
+	}
+
+	private static long toMask(int[] states) {
+		long mask = 0L;
+		for ( int state : states ) {
+			mask |= 1L << state;
+		}
+		return mask;
+	}
+
+	private sealed interface Node permits Empty, CodePoints, Concatenation, Alternation, Repetition {
+	}
+
+	private record Empty() implements Node {
+	}
+
+	private record CodePoints(CodePointSet codePointSet) implements Node {
+	}
+
+	private record Concatenation(List<Node> nodes) implements Node {
+	}
+
+	private record Alternation(List<Node> nodes) implements Node {
+	}
+
+	/**
+	 * A repetition, {@code max} being negative if unbounded.
+	 */
+	private record Repetition(Node node, int min, int max) implements Node {
+	}
+
+	private static final Node EMPTY = new Empty();
+
+	private static class UnsupportedRegexpException extends RuntimeException {
+
+		UnsupportedRegexpException() {
+			super( null, null, false, false );
+		}
+	}
+
+	private static final class Parser {
+
+		private final String regexp;
+
+		private final boolean caseInsensitive;
+
+		private final CodePointSet dot;
+
+		private int position;
+
+		private int depth;
+
+		private boolean alternativeStart;
+
+		private Parser(String regexp, int flags) {
+			this.regexp = regexp;
+			this.caseInsensitive = ( flags & Pattern.CASE_INSENSITIVE ) != 0;
+			if ( ( flags & Pattern.DOTALL ) != 0 ) {
+				this.dot = ANY;
+			}
+			else if ( ( flags & Pattern.UNIX_LINES ) != 0 ) {
+				this.dot = ANY_BUT_NEW_LINE;
+			}
+			else {
+				this.dot = ANY_BUT_LINE_TERMINATORS;
+			}
+		}
+
+		private Node parse() {
+			Node node = parseAlternation();
+			if ( position < regexp.length() ) {
+				throw new UnsupportedRegexpException();
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> alternatives = new ArrayList<>();
+			alternatives.add( parseConcatenation() );
+			while ( position < regexp.length() && regexp.charAt( position ) == '|' ) {
+				position++;
+				alternatives.add( parseConcatenation() );
+			}
+			return alternatives.size() == 1 ? alternatives.get( 0 ) : new Alternation( alternatives );
+		}
+
+		private Node parseConcatenation() {
+			List<Node> nodes = new ArrayList<>();
+			while ( position < regexp.length() ) {
+				char c = regexp.charAt( position );
+				if ( c == '|' || c == ')' ) {
+					break;
+				}
+				alternativeStart = depth == 0 && nodes.isEmpty();
+				if ( regexp.startsWith( "\\Q", position ) ) {
+					parseQuotation( nodes );
+				}
+				else {
+					nodes.add( parseRepetition() );
+				}
+			}
+			if ( nodes.isEmpty() ) {
+				return EMPTY;
+			}
+			return nodes.size() == 1 ? nodes.get( 0 ) : new Concatenation( nodes );
+		}
+
+		/**
+		 * The quoted characters are literals of the enclosing sequence: as with {@code java.util.regex}, a quantifier
+		 * following {@code \E} only applies to the last one.
+		 */
+		private void parseQuotation(List<Node> nodes) {
+			position += 2;
+			int end = regexp.indexOf( "\\E", position );
+			if ( end < 0 ) {
+				end = regexp.length();
+			}
+			int lastCodePoint = -1;
+			while ( position < end ) {
+				if ( lastCodePoint >= 0 ) {
+					nodes.add( new CodePoints( singleCodePoint( lastCodePoint ) ) );
+				}
+				lastCodePoint = nextCodePoint();
+			}
+			position = Math.min( end + 2, regexp.length() );
+			if ( lastCodePoint >= 0 ) {
+				nodes.add( parseQuantifier( new CodePoints( singleCodePoint( lastCodePoint ) ) ) );
+			}
+		}
+
+		private Node parseRepetition() {
+			return parseQuantifier( parseAtom() );
+		}
+
+		private Node parseQuantifier(Node node) {
+			if ( position >= regexp.length() ) {
+				return node;
+			}
+
+			int min;
+			int max;
+			switch ( regexp.charAt( position ) ) {
+				case '*':
+					min = 0;
+					max = -1;
+					position++;
+					break;
+				case '+':
+					min = 1;
+					max = -1;
+					position++;
+					break;
+				case '?':
+					min = 0;
+					max = 1;
+					position++;
+					break;
+				case '{':
+					position++;
+					min = parseNumber();
+					if ( consume( ',' ) ) {
+						max = peek() == '}' ? -1 : parseNumber();
+					}
+					else {
+						max = min;
+					}
+					expect( '}' );
+					break;
+				default:
+					return node;
+			}
+
+			// lazy quantifiers match the same inputs as the greedy ones, possessive ones do not
+			if ( !consume( '?' ) && position < regexp.length() && regexp.charAt( position ) == '+' ) {
+				throw new UnsupportedRegexpException();
+			}
+			return new Repetition( node, min, max );
+		}
+
+		private Node parseAtom() {
+			char c = regexp.charAt( position );
+			switch ( c ) {
+				case '(':
+					position++;
+					if ( consume( '?' ) ) {
+						if ( consume( ':' ) ) {
+							// non capturing group
+						}
+						else if ( peek() == '<' && position + 1 < regexp.length() && Character.isLetter( regexp.charAt( position + 1 ) ) ) {
+							// named group
+							int end = regexp.indexOf( '>', position );
+							if ( end < 0 ) {
+								throw new UnsupportedRegexpException();
+							}
+							position = end + 1;
+						}
+						else {
+							// lookarounds, atomic groups, inline flags
+							throw new UnsupportedRegexpException();
+						}
+					}
+					depth++;
+					Node group = parseAlternation();
+					depth--;
+					expect( ')' );
+					return group;
+				case '[':
+					position++;
+					return new CodePoints( parseCharacterClass() );
+				case '.':
+					position++;
+					return new CodePoints( dot );
+				case '^':
+					// matches() always starts at the beginning of the input
+					if ( !alternativeStart ) {
+						throw new UnsupportedRegexpException();
+					}
+					position++;
+					return EMPTY;
+				case '$':
+					// matches() always ends at the end of the input
+					position++;
+					if ( depth > 0 || ( position < regexp.length() && regexp.charAt( position ) != '|' ) ) {
+						throw new UnsupportedRegexpException();
+					}
+					return EMPTY;
+				case '\\':
+					return parseEscape();
+				case '*':
+				case '+':
+				case '?':
+				case '{':
+					throw new UnsupportedRegexpException();
+				default:
+					return new CodePoints( singleCodePoint( nextCodePoint() ) );
+			}
+		}
+
+		private Node parseEscape() {
+			position++;
+			char c = regexp.charAt( position );
+			CodePointSet predefinedCharacterClass = predefinedCharacterClass( c );
+			if ( predefinedCharacterClass != null ) {
+				position++;
+				return new CodePoints( predefinedCharacterClass );
+			}
+
+			return new CodePoints( singleCodePoint( parseEscapedCodePoint() ) );
+		}
+
+		private CodePointSet parseCharacterClass() {
+			boolean negated = consume( '^' );
+			if ( peek() == ']' ) {
+				throw new UnsupportedRegexpException();
+			}
+
+			CodePointSet.Builder builder = new CodePointSet.Builder();
+			boolean first = true;
+			while ( !consume( ']' ) ) {
+				char c = peek();
+				if ( c == '[' || ( c == '&' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) == '&' ) ) {
+					// nested classes, unions and intersections
+					throw new UnsupportedRegexpException();
+				}
+				if ( c == '-' && !first && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+					throw new UnsupportedRegexpException();
+				}
+				first = false;
+
+				int start;
+				if ( c == '\\' ) {
+					CodePointSet predefinedCharacterClass = position + 1 < regexp.length() ? predefinedCharacterClass( regexp.charAt( position + 1 ) ) : null;
+					if ( predefinedCharacterClass != null ) {
+						position += 2;
+						if ( peek() == '-' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+							throw new UnsupportedRegexpException();
+						}
+						builder.addAll( predefinedCharacterClass );
+						continue;
+					}
+					position++;
+					start = parseEscapedCodePoint();
+				}
+				else {
+					start = nextCodePoint();
+				}
+
+				int end = start;
+				if ( peek() == '-' && position + 1 < regexp.length() && regexp.charAt( position + 1 ) != ']' ) {
+					position++;
+					c = peek();
+					if ( c == '[' ) {
+						throw new UnsupportedRegexpException();
+					}
+					if ( c == '\\' ) {
+						if ( position + 1 < regexp.length() && predefinedCharacterClass( regexp.charAt( position + 1 ) ) != null ) {
+							throw new UnsupportedRegexpException();
+						}
+						position++;
+						end = parseEscapedCodePoint();
+					}
+					else {
+						end = nextCodePoint();
+					}
+					if ( end < start ) {
+						throw new UnsupportedRegexpException();
+					}
+				}
+
+				if ( caseInsensitive ) {
+					builder.addRangeIgnoringAsciiCase( start, end );
+				}
+				else {
+					builder.addRange( start, end );
+				}
+			}
+
+			CodePointSet codePointSet = builder.build();
+			return negated ? codePointSet.complement() : codePointSet;
+		}
+
+		/**
+		 * Parses the escaped code point following a backslash.
+		 */
+		private int parseEscapedCodePoint() {
+			char c = peek();
+			position++;
+			switch ( c ) {
+				case 't':
+					return '\t';
+				case 'n':
+					return '\n';
+				case 'r':
+					return '\r';
+				case 'f':
+					return '\f';
+				case 'a':
+					return '\u0007';
+				case 'e':
+					return '\u001B';
+				case 'x':
+					if ( peek() == '{' ) {
+						throw new UnsupportedRegexpException();
+					}
+					return parseHexadecimal( 2 );
+				case 'u':
+					int codePoint = parseHexadecimal( 4 );
+					if ( Character.isSurrogate( (char) codePoint ) ) {
+						throw new UnsupportedRegexpException();
+					}
+					return codePoint;
+				default:
+					// other letters and digits denote constructs which are not supported: back references, boundaries...
+					if ( Character.isLetterOrDigit( c ) || Character.isSurrogate( c ) ) {
+						throw new UnsupportedRegexpException();
+					}
+					return c;
+			}
+		}
+
+		private int parseHexadecimal(int digits) {
+			if ( position + digits > regexp.length() ) {
+				throw new UnsupportedRegexpException();
+			}
+			int value = 0;
+			for ( int i = 0; i < digits; i++ ) {
+				int digit = Character.digit( regexp.charAt( position++ ), 16 );
+				if ( digit < 0 ) {
+					throw new UnsupportedRegexpException();
+				}
+				value = ( value << 4 ) | digit;
+			}
+			return value;
+		}
+
+		private int parseNumber() {
+			int start = position;
+			while ( position < regexp.length() && regexp.charAt( position ) >= '0' && regexp.charAt( position ) <= '9' ) {
+				position++;
+			}
+			if ( start == position || position - start > 6 ) {
+				throw new UnsupportedRegexpException();
+			}
+			return Integer.parseInt( regexp, start, position, 10 );
+		}
+
+		private int nextCodePoint() {
+			int codePoint = regexp.codePointAt( position );
+			if ( Character.charCount( codePoint ) == 1 && Character.isSurrogate( (char) codePoint ) ) {
+				throw new UnsupportedRegexpException();
+			}
+			position += Character.charCount( codePoint );
+			return codePoint;
+		}
+
+		private CodePointSet singleCodePoint(int codePoint) {
+			CodePointSet.Builder builder = new CodePointSet.Builder();
+			if ( caseInsensitive ) {
+				builder.addRangeIgnoringAsciiCase( codePoint, codePoint );
+			}
+			else {
+				builder.add( codePoint );
+			}
+			return builder.build();
+		}
+
+		private static CodePointSet predefinedCharacterClass(char c) {
+			switch ( c ) {
+				case 'd':
+					return CodePointSet.DIGITS;
+				case 'D':
+					return CodePointSet.DIGITS.complement();
+				case 'w':
+					return CodePointSet.WORD_CHARACTERS;
+				case 'W':
+					return CodePointSet.WORD_CHARACTERS.complement();
+				case 's':
+					return CodePointSet.WHITESPACES;
+				case 'S':
+					return CodePointSet.WHITESPACES.complement();
+				default:
+					return null;
+			}
+		}
+
+		private char peek() {
+			if ( position >= regexp.length() ) {
+				throw new UnsupportedRegexpException();
+			}
+			return regexp.charAt( position );
+		}
+
+		private boolean consume(char c) {
+			if ( position < regexp.length() && regexp.charAt( position ) == c ) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(char c) {
+			if ( !consume( c ) ) {
+				throw new UnsupportedRegexpException();
+			}
+		}
+	}
+
+	/**
+	 * Builds a Thompson automaton and computes the epsilon closures of its states, so that the matching only deals
+	 * with the states consuming a code point.
+	 */
+	private static final class Automaton {
+
+		private static final int ACCEPTING = -1;
+
+		/**
+		 * For each state, the code points it consumes, or {@code null} for epsilon states.
+		 */
+		private final List<CodePointSet> codePointSets = new ArrayList<>();
+
+		/**
+		 * For each state, the next state for consuming states or the epsilon transitions for epsilon states.
+		 */
+		private final List<int[]> transitions = new ArrayList<>();
+
+		/**
+		 * For each consuming state, its index among the consuming states.
+		 */
+		private final List<Integer> consumingIndexes = new ArrayList<>();
+
+		private int consumingStates;
+
+		private LinearTimePattern build(Node node) {
+			int start = compile( node, ACCEPTING );
+
+			int[] closureMarks = new int[codePointSets.size()];
+			CodePointSet[] consumingCodePointSets = new CodePointSet[consumingStates];
+			int[][] follows = new int[consumingStates][];
+			int closureSize = 0;
+			int mark = 0;
+			for ( int state = 0; state < codePointSets.size(); state++ ) {
+				if ( codePointSets.get( state ) != null ) {
+					int index = consumingIndexes.get( state );
+					consumingCodePointSets[index] = codePointSets.get( state );
+					follows[index] = closure( transitions.get( state )[0], closureMarks, ++mark );
+					closureSize += follows[index].length;
+					if ( closureSize > MAX_CLOSURE_SIZE ) {
+						throw new UnsupportedRegexpException();
+					}
+				}
+			}
+
+			return new LinearTimePattern( consumingCodePointSets, follows, closure( start, closureMarks, ++mark ) );
+		}
+
+		private int compile(Node node, int next) {
+			if ( node instanceof Empty ) {
+				return next;
+			}
+			if ( node instanceof CodePoints codePoints ) {
+				if ( ++consumingStates > MAX_CONSUMING_STATES ) {
+					throw new UnsupportedRegexpException();
+				}
+				int state = newState( codePoints.codePointSet(), new int[] { next } );
+				consumingIndexes.set( state, consumingStates - 1 );
+				return state;
+			}
+			if ( node instanceof Concatenation concatenation ) {
+				for ( int i = concatenation.nodes().size() - 1; i >= 0; i-- ) {
+					next = compile( concatenation.nodes().get( i ), next );
+				}
+				return next;
+			}
+			if ( node instanceof Alternation alternation ) {
+				int[] alternatives = new int[alternation.nodes().size()];
+				for ( int i = 0; i < alternatives.length; i++ ) {
+					alternatives[i] = compile( alternation.nodes().get( i ), next );
+				}
+				return newState( null, alternatives );
+			}
+
+			Repetition repetition = (Repetition) node;
+			int result;
+			int mandatory = repetition.min();
+			if ( repetition.max() < 0 ) {
+				int loop = newState( null, null );
+				int body = compile( repetition.node(), loop );
+				transitions.set( loop, new int[] { body, next } );
+				if ( mandatory > 0 ) {
+					// the last mandatory occurrence is the body of the loop
+					result = body;
+					mandatory--;
+				}
+				else {
+					result = loop;
+				}
+			}
+			else {
+				result = next;
+				for ( int i = repetition.min(); i < repetition.max(); i++ ) {
+					result = newState( null, new int[] { compile( repetition.node(), result ), next } );
+				}
+			}
+			for ( int i = 0; i < mandatory; i++ ) {
+				result = compile( repetition.node(), result );
+			}
+			return result;
+		}
+
+		private int newState(CodePointSet codePointSet, int[] stateTransitions) {
+			codePointSets.add( codePointSet );
+			transitions.add( stateTransitions );
+			consumingIndexes.add( null );
+			return codePointSets.size() - 1;
+		}
+
+		/**
+		 * Returns the consuming states reachable from the given state through epsilon transitions, the accepting state
+		 * being represented by the number of consuming states.
+		 */
+		private int[] closure(int state, int[] closureMarks, int mark) {
+			int[] closure = new int[4];
+			int size = 0;
+			boolean accepting = false;
+
+			int[] stack = new int[16];
+			int stackSize = 0;
+			stack[stackSize++] = state;
+			while ( stackSize > 0 ) {
+				int current = stack[--stackSize];
+				if ( current == ACCEPTING ) {
+					accepting = true;
+					continue;
+				}
+				if ( closureMarks[current] == mark ) {
+					continue;
+				}
+				closureMarks[current] = mark;
+
+				if ( codePointSets.get( current ) != null ) {
+					if ( size == closure.length ) {
+						closure = Arrays.copyOf( closure, size << 1 );
+					}
+					closure[size++] = consumingIndexes.get( current );
+				}
+				else {
+					int[] epsilonTransitions = transitions.get( current );
+					if ( stackSize + epsilonTransitions.length > stack.length ) {
+						stack = Arrays.copyOf( stack, Math.max( stack.length << 1, stackSize + epsilonTransitions.length ) );
+					}
+					for ( int i = epsilonTransitions.length - 1; i >= 0; i-- ) {
+						stack[stackSize++] = epsilonTransitions[i];
+					}
+				}
+			}
+
+			if ( accepting ) {
+				closure = Arrays.copyOf( closure, size + 1 );
+				closure[size++] = consumingStates;
+			}
+			return Arrays.copyOf( closure, size );
+		}
+	}
+}
@@ -0,0 +1,9 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+
+/**
+ * Contains a regular expression engine matching in linear time.
+ */
+package org.hibernate.validator.internal.util.regex;
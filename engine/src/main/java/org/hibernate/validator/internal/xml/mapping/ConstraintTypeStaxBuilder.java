@@ -144,9 +144,7 @@ <A extends Annotation> MetaConstraint<A> build(ConstraintLocation constraintLoca
 				constraintCreationContext.getConstraintHelper(), constraintLocation.getConstrainable(), annotationDescriptor, kind, constraintType
 		);
 
-		return MetaConstraints.create( constraintCreationContext.getTypeResolutionHelper(),
-				constraintCreationContext.getValueExtractorManager(),
-				constraintCreationContext.getConstraintValidatorManager(), constraintDescriptor, constraintLocation );
+		return MetaConstraints.create( constraintCreationContext, constraintDescriptor, constraintLocation );
 	}
 
 	private static class MessageStaxBuilder extends AbstractOneLineStringStaxBuilder {
@@ -8,27 +8,28 @@
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import jakarta.validation.MessageInterpolator;
 
 import org.hibernate.validator.Incubating;
 import org.hibernate.validator.internal.engine.PredefinedScopeValidatorFactoryImpl;
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessageTemplate;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolverContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.FlattenedResourceBundle;
 import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
 import org.hibernate.validator.internal.engine.messageinterpolation.LocalizedMessage;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
-import org.hibernate.validator.internal.engine.messageinterpolation.parser.Token;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
 import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
 import org.hibernate.validator.internal.util.CollectionHelper;
@@ -115,30 +116,22 @@ public abstract class AbstractMessageInterpolator implements MessageInterpolator
 	private final ResourceBundleLocator contributorResourceBundleLocator;
 
 	/**
-	 * Step 1-3 of message interpolation can be cached. We do this in this map.
+	 * Step 1 of message interpolation can be cached. We cache the resolved messages in this map, compiled so that
+	 * steps 2-3 do not parse them again.
 	 */
-	private final ConcurrentReferenceHashMap<LocalizedMessage, String> resolvedMessages;
+	private final ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessageTemplate> compiledMessages;
 
 	/**
-	 * Step 4 of message interpolation replaces message parameters. The token list for message parameters is cached in this map.
+	 * The messages resolved at bootstrap, see {@link #preResolveMessages(Collection)}. Contrary to the cached messages,
+	 * they are never evicted.
 	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedParameterMessages;
-
-	/**
-	 * Step 5 of message interpolation replaces EL expressions. The token list for EL expressions is cached in this map.
-	 */
-	private final ConcurrentReferenceHashMap<String, List<Token>> tokenizedELMessages;
+	private final ConcurrentMap<LocalizedMessage, CompiledMessageTemplate> preResolvedMessages;
 
 	/**
 	 * Flag indicating whether this interpolator should cache some of the interpolation steps.
 	 */
 	private final boolean cachingEnabled;
 
-	private static final Pattern LEFT_BRACE = Pattern.compile( "\\{", Pattern.LITERAL );
-	private static final Pattern RIGHT_BRACE = Pattern.compile( "\\}", Pattern.LITERAL );
-	private static final Pattern SLASH = Pattern.compile( "\\\\", Pattern.LITERAL );
-	private static final Pattern DOLLAR = Pattern.compile( "\\$", Pattern.LITERAL );
-
 	/**
 	 * {@code MessageInterpolator} using the default resource bundle locators.
 	 */
@@ -300,23 +293,7 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 
 		this.cachingEnabled = cacheMessages;
 		if ( cachingEnabled ) {
-			this.resolvedMessages = new ConcurrentReferenceHashMap<LocalizedMessage, String>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedParameterMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
-					DEFAULT_INITIAL_CAPACITY,
-					DEFAULT_LOAD_FACTOR,
-					DEFAULT_CONCURRENCY_LEVEL,
-					SOFT,
-					SOFT,
-					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
-			);
-			this.tokenizedELMessages = new ConcurrentReferenceHashMap<String, List<Token>>(
+			this.compiledMessages = new ConcurrentReferenceHashMap<LocalizedMessage, CompiledMessageTemplate>(
 					DEFAULT_INITIAL_CAPACITY,
 					DEFAULT_LOAD_FACTOR,
 					DEFAULT_CONCURRENCY_LEVEL,
@@ -324,11 +301,11 @@ public AbstractMessageInterpolator(ResourceBundleLocator userResourceBundleLocat
 					SOFT,
 					EnumSet.noneOf( ConcurrentReferenceHashMap.Option.class )
 			);
+			this.preResolvedMessages = new ConcurrentHashMap<>();
 		}
 		else {
-			resolvedMessages = null;
-			tokenizedParameterMessages = null;
-			tokenizedELMessages = null;
+			compiledMessages = null;
+			preResolvedMessages = null;
 		}
 	}
 
@@ -358,6 +335,39 @@ public String interpolate(String message, Context context, Locale locale) {
 		return interpolatedMessage;
 	}
 
+	/**
+	 * Resolves the given message templates for all the supported locales: the message bundles are looked up at
+	 * bootstrap instead of during the first interpolations.
+	 * <p>
+	 * This is useful in the case of a {@link PredefinedScopeValidatorFactoryImpl}, where all the constraints are
+	 * known upfront. Nothing is done if the caching of the messages is disabled.
+	 *
+	 * @param messageTemplates the message templates to resolve
+	 *
+	 * @since 9.2
+	 */
+	@Incubating
+	public void preResolveMessages(Collection<String> messageTemplates) {
+		if ( !cachingEnabled ) {
+			return;
+		}
+
+		for ( Locale locale : localeResolverContext.getSupportedLocales() ) {
+			for ( String messageTemplate : messageTemplates ) {
+				if ( messageTemplate.indexOf( '{' ) < 0 ) {
+					continue;
+				}
+				try {
+					preResolvedMessages.putIfAbsent( new LocalizedMessage( messageTemplate, locale ),
+							CompiledMessageTemplate.compile( resolveMessage( messageTemplate, locale ) ) );
+				}
+				catch (MessageDescriptorFormatException e) {
+					// the error is reported when the message is interpolated
+				}
+			}
+		}
+	}
+
 	private Set<Locale> getAllLocales(Set<Locale> localesToInitialize, Locale defaultLocale) {
 		if ( localesToInitialize.contains( defaultLocale ) ) {
 			return localesToInitialize;
@@ -389,55 +399,34 @@ private String interpolateMessage(String message, Context context, Locale locale
 			return replaceEscapedLiterals( message );
 		}
 
-		String resolvedMessage = null;
+		CompiledMessageTemplate compiledMessage;
 
-		// either retrieve message from cache, or if message is not yet there or caching is disabled,
+		// either retrieve the compiled message from cache, or if message is not yet there or caching is disabled,
 		// perform message resolution algorithm (step 1)
 		if ( cachingEnabled ) {
-			resolvedMessage = resolvedMessages.computeIfAbsent( new LocalizedMessage( message, locale ), lm -> resolveMessage( message, locale ) );
+			LocalizedMessage localizedMessage = new LocalizedMessage( message, locale );
+			compiledMessage = preResolvedMessages.get( localizedMessage );
+			if ( compiledMessage == null ) {
+				compiledMessage = compiledMessages.computeIfAbsent(
+						localizedMessage,
+						lm -> CompiledMessageTemplate.compile( resolveMessage( message, locale ) )
+				);
+			}
 		}
 		else {
-			resolvedMessage = resolveMessage( message, locale );
+			compiledMessage = CompiledMessageTemplate.compile( resolveMessage( message, locale ) );
 		}
 
-		// there's no need for steps 2-3 unless there's `{param}`/`${expr}` in the message
-		if ( resolvedMessage.indexOf( '{' ) > -1 ) {
-			// resolve parameter expressions (step 2)
-			resolvedMessage = interpolateExpression(
-					new TokenIterator( resolvedMessage, getParameterTokens( resolvedMessage, tokenizedParameterMessages, InterpolationTermType.PARAMETER ) ),
-					context,
-					locale
-			);
-
-			// resolve EL expressions (step 3)
-			// in the standard Hibernate Validator execution flow, the context is always an instance of
-			// HibernateMessageInterpolatorContext
-			// but it can be a spec Context in the Jakarta Validation TCK.
-			if ( !( context instanceof HibernateMessageInterpolatorContext )
-					|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE ) {
-				resolvedMessage = interpolateExpression(
-						new TokenIterator( resolvedMessage, getParameterTokens( resolvedMessage, tokenizedELMessages, InterpolationTermType.EL ) ),
-						context,
-						locale );
-			}
-		}
+		// resolve parameter expressions (step 2) and EL expressions (step 3)
+		// in the standard Hibernate Validator execution flow, the context is always an instance of
+		// HibernateMessageInterpolatorContext
+		// but it can be a spec Context in the Jakarta Validation TCK.
+		boolean expressionLanguageEnabled = !( context instanceof HibernateMessageInterpolatorContext )
+				|| ( (HibernateMessageInterpolatorContext) context ).getExpressionLanguageFeatureLevel() != ExpressionLanguageFeatureLevel.NONE;
+		String resolvedMessage = compiledMessage.interpolate( context, locale, expressionLanguageEnabled, this::interpolate );
 
 		// last but not least we have to take care of escaped literals
-		resolvedMessage = replaceEscapedLiterals( resolvedMessage );
-
-		return resolvedMessage;
-	}
-
-	private List<Token> getParameterTokens(String resolvedMessage, ConcurrentReferenceHashMap<String, List<Token>> cache, InterpolationTermType termType) {
-		if ( cachingEnabled ) {
-			return cache.computeIfAbsent(
-					resolvedMessage,
-					rm -> new TokenCollector( resolvedMessage, termType ).getTokenList()
-			);
-		}
-		else {
-			return new TokenCollector( resolvedMessage, termType ).getTokenList();
-		}
+		return replaceEscapedLiterals( resolvedMessage );
 	}
 
 	private String resolveMessage(String message, Locale locale) {
@@ -488,10 +477,11 @@ private String resolveMessage(String message, Locale locale) {
 
 	private String replaceEscapedLiterals(String resolvedMessage) {
 		if ( resolvedMessage.indexOf( '\\' ) > -1 ) {
-			resolvedMessage = LEFT_BRACE.matcher( resolvedMessage ).replaceAll( "{" );
-			resolvedMessage = RIGHT_BRACE.matcher( resolvedMessage ).replaceAll( "}" );
-			resolvedMessage = SLASH.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "\\" ) );
-			resolvedMessage = DOLLAR.matcher( resolvedMessage ).replaceAll( Matcher.quoteReplacement( "$" ) );
+			// literal replacements, each one applied to the result of the previous one
+			resolvedMessage = resolvedMessage.replace( "\\{", "{" )
+					.replace( "\\}", "}" )
+					.replace( "\\\\", "\\" )
+					.replace( "\\$", "$" );
 		}
 		return resolvedMessage;
 	}
@@ -514,22 +504,20 @@ private String interpolateBundleMessage(String message, ResourceBundle bundle, L
 		return tokenIterator.getInterpolatedMessage();
 	}
 
-	private String interpolateExpression(TokenIterator tokenIterator, Context context, Locale locale)
-			throws MessageDescriptorFormatException {
-		while ( tokenIterator.hasMoreInterpolationTerms() ) {
-			String term = tokenIterator.nextInterpolationTerm();
-
-			String resolvedExpression = interpolate( context, locale, term );
-			tokenIterator.replaceCurrentInterpolationTerm( resolvedExpression );
-		}
-		return tokenIterator.getInterpolatedMessage();
-	}
-
 	protected abstract String interpolate(Context context, Locale locale, String term);
 
 	private String resolveParameter(String parameterName, ResourceBundle bundle, Locale locale, boolean recursive)
 			throws MessageDescriptorFormatException {
 		String parameterValue;
+		if ( bundle instanceof FlattenedResourceBundle flattenedBundle ) {
+			// a single probe, without the exception of a missing message
+			parameterValue = flattenedBundle.getMessage( removeCurlyBraces( parameterName ) );
+			if ( parameterValue == null ) {
+				return parameterName;
+			}
+			return recursive ? interpolateBundleMessage( parameterValue, bundle, locale, recursive ) : parameterValue;
+		}
+
 		try {
 			if ( bundle != null ) {
 				parameterValue = bundle.getString( removeCurlyBraces( parameterName ) );
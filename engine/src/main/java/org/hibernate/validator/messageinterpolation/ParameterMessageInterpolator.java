@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.BuiltInElTermResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.ParameterTermResolver;
 import org.hibernate.validator.internal.engine.messageinterpolation.TermInterpolator;
@@ -29,6 +30,8 @@ public class ParameterMessageInterpolator extends AbstractMessageInterpolator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private final BuiltInElTermResolver builtInElTermResolver;
+
 	public ParameterMessageInterpolator() {
 		this( Collections.emptySet(), Locale.getDefault(), new DefaultLocaleResolver(), false );
 	}
@@ -46,12 +49,30 @@ public ParameterMessageInterpolator(Set<Locale> locales, Locale defaultLocale, b
 	 */
 	@Incubating
 	public ParameterMessageInterpolator(Set<Locale> locales, Locale defaultLocale, LocaleResolver localeResolver, boolean preloadResourceBundles) {
+		this( locales, defaultLocale, localeResolver, preloadResourceBundles, false );
+	}
+
+	/**
+	 * @param evaluateBuiltInExpressions whether the EL expressions written in the subset supported without Jakarta EL,
+	 * e.g. the expressions of the default constraint messages, are evaluated. The other EL expressions are left as is.
+	 * @since 9.2
+	 */
+	@Incubating
+	public ParameterMessageInterpolator(Set<Locale> locales, Locale defaultLocale, LocaleResolver localeResolver, boolean preloadResourceBundles,
+			boolean evaluateBuiltInExpressions) {
 		super( locales, defaultLocale, localeResolver, preloadResourceBundles );
+		this.builtInElTermResolver = evaluateBuiltInExpressions ? new BuiltInElTermResolver() : null;
 	}
 
 	@Override
 	protected String interpolate(Context context, Locale locale, String term) {
 		if ( TermInterpolator.isElExpression( term ) ) {
+			if ( builtInElTermResolver != null ) {
+				String resolvedExpression = builtInElTermResolver.interpolate( context, locale, term );
+				if ( resolvedExpression != null ) {
+					return resolvedExpression;
+				}
+			}
 			LOG.warnElIsUnsupported( term );
 			return term;
 		}
@@ -4,6 +4,8 @@
  */
 package org.hibernate.validator.resourceloading;
 
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.SOFT;
+import static org.hibernate.validator.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 import static org.hibernate.validator.internal.util.logging.Messages.MESSAGES;
 
 import java.io.IOException;
@@ -23,7 +25,9 @@
 import java.util.Set;
 
 import org.hibernate.validator.Incubating;
+import org.hibernate.validator.internal.engine.messageinterpolation.FlattenedResourceBundle;
 import org.hibernate.validator.internal.util.CollectionHelper;
+import org.hibernate.validator.internal.util.ConcurrentReferenceHashMap;
 import org.hibernate.validator.internal.util.Contracts;
 import org.hibernate.validator.internal.util.actions.GetClassLoader;
 import org.hibernate.validator.internal.util.actions.GetMethod;
@@ -47,6 +51,7 @@ public class PlatformResourceBundleLocator implements ResourceBundleLocator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 	private static final boolean RESOURCE_BUNDLE_CONTROL_INSTANTIABLE = determineAvailabilityOfResourceBundleControl();
+	private static final int DEFAULT_INITIAL_CAPACITY = 16;
 
 	private final String bundleName;
 	private final ClassLoader classLoader;
@@ -55,6 +60,13 @@ public class PlatformResourceBundleLocator implements ResourceBundleLocator {
 	@Immutable
 	private final Map<Locale, ResourceBundle> preloadedResourceBundles;
 
+	/**
+	 * The flattened version of the bundles loaded at runtime. The bundles are cached by the JDK, we keep the flattened
+	 * bundle as long as the original one is.
+	 */
+	private final ConcurrentReferenceHashMap<ResourceBundle, ResourceBundle> flattenedResourceBundles = new ConcurrentReferenceHashMap<>(
+			DEFAULT_INITIAL_CAPACITY, WEAK, SOFT );
+
 	/**
 	 * Creates a new {@link PlatformResourceBundleLocator}.
 	 *
@@ -149,7 +161,7 @@ public PlatformResourceBundleLocator(String bundleName,
 		if ( !localesToInitialize.isEmpty() ) {
 			Map<Locale, ResourceBundle> tmpPreloadedResourceBundles = CollectionHelper.newHashMap( localesToInitialize.size() );
 			for ( Locale localeToPreload : localesToInitialize ) {
-				ResourceBundle bundle = doGetResourceBundle( localeToPreload );
+				ResourceBundle bundle = FlattenedResourceBundle.flatten( doGetResourceBundle( localeToPreload ) );
 				if ( bundle == null ) {
 					LOG.resourceBundleNotPreLoaded( localeToPreload );
 					continue;
@@ -183,7 +195,11 @@ public ResourceBundle getResourceBundle(Locale locale) {
 			}
 		}
 
-		return doGetResourceBundle( locale );
+		ResourceBundle bundle = doGetResourceBundle( locale );
+		if ( bundle == null ) {
+			return null;
+		}
+		return flattenedResourceBundles.computeIfAbsent( bundle, FlattenedResourceBundle::flatten );
 	}
 
 	private ResourceBundle doGetResourceBundle(Locale locale) {
@@ -6,7 +6,15 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.SimpleBindings;
 
@@ -16,6 +24,14 @@
 
 /**
  * A wrapper around JSR 223 {@link ScriptEngine}s. This class is thread-safe.
+ * <p>
+ * If the engine implements {@link Compilable}, each script is compiled once and the compiled script is evaluated
+ * afterwards.
+ * <p>
+ * Engines which are not thread-safe are either accessed in a synchronized way or, if an engine supplier is provided,
+ * pooled: each thread evaluating a script borrows an engine from the pool, the pool growing with the number of
+ * concurrent evaluations up to the number of available processors. Once this limit is reached, the evaluations
+ * requiring an additional engine are synchronized on the engine passed to the constructor, which is never pooled.
  *
  * @author Gunnar Morling
  * @author Kevin Pollet &lt;kevin.pollet@serli.com&gt; (C) 2011 SERLI
@@ -26,20 +42,58 @@ public class ScriptEngineScriptEvaluator implements ScriptEvaluator {
 
 	private static final Log LOG = LoggerFactory.make( MethodHandles.lookup() );
 
+	private static final int MAX_POOLED_ENGINES = Runtime.getRuntime().availableProcessors();
+
 	private final ScriptEngine engine;
 
+	private final boolean threadSafe;
+
+	private final EngineScripts engineScripts;
+
+	private final Supplier<ScriptEngine> engineSupplier;
+
+	private final Queue<EngineScripts> enginePool;
+
+	private final AtomicInteger pooledEngineCount;
+
 	/**
 	 * Creates a new script executor.
 	 *
 	 * @param engine the engine to be wrapped
 	 */
 	public ScriptEngineScriptEvaluator(ScriptEngine engine) {
+		this( engine, null );
+	}
+
+	/**
+	 * Creates a new script executor.
+	 *
+	 * @param engine the engine to be wrapped
+	 * @param engineSupplier supplies additional engines equivalent to {@code engine} when several threads evaluate
+	 * scripts concurrently and the engine is not thread-safe, may be {@code null} in which case the accesses to the
+	 * engine are synchronized
+	 *
+	 * @since 9.2
+	 */
+	public ScriptEngineScriptEvaluator(ScriptEngine engine, Supplier<ScriptEngine> engineSupplier) {
 		this.engine = engine;
+		this.threadSafe = engineAllowsParallelAccessFromMultipleThreads( engine );
+		this.engineScripts = new EngineScripts( engine );
+		this.engineSupplier = engineSupplier;
+
+		if ( !threadSafe && engineSupplier != null ) {
+			this.enginePool = new ConcurrentLinkedQueue<>();
+			this.pooledEngineCount = new AtomicInteger();
+		}
+		else {
+			this.enginePool = null;
+			this.pooledEngineCount = null;
+		}
 	}
 
 	/**
-	 * Executes the given script, using the given variable bindings. The execution of the script happens either synchronized or
-	 * unsynchronized, depending on the engine's threading abilities.
+	 * Executes the given script, using the given variable bindings. The execution of the script happens either
+	 * synchronized, pooled or unsynchronized, depending on the engine's threading abilities.
 	 *
 	 * @param script the script to be executed
 	 * @param bindings the bindings to be used
@@ -50,23 +104,49 @@ public ScriptEngineScriptEvaluator(ScriptEngine engine) {
 	 */
 	@Override
 	public Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
-		if ( engineAllowsParallelAccessFromMultipleThreads() ) {
-			return doEvaluate( script, bindings );
+		if ( threadSafe ) {
+			return engineScripts.evaluate( script, bindings );
 		}
-		else {
-			synchronized (engine) {
-				return doEvaluate( script, bindings );
+
+		if ( enginePool != null ) {
+			EngineScripts pooledEngineScripts = borrowEngine();
+			if ( pooledEngineScripts != null ) {
+				try {
+					return pooledEngineScripts.evaluate( script, bindings );
+				}
+				finally {
+					enginePool.offer( pooledEngineScripts );
+				}
 			}
 		}
+
+		synchronized (engine) {
+			return engineScripts.evaluate( script, bindings );
+		}
 	}
 
-	private Object doEvaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
-		try {
-			return engine.eval( script, new SimpleBindings( bindings ) );
+	private EngineScripts borrowEngine() {
+		EngineScripts pooledEngineScripts = enginePool.poll();
+		if ( pooledEngineScripts != null ) {
+			return pooledEngineScripts;
+		}
+
+		// the pool is bounded: when it is exhausted, we fall back to the synchronized access to the primary engine
+		int count;
+		do {
+			count = pooledEngineCount.get();
+			if ( count >= MAX_POOLED_ENGINES ) {
+				return null;
+			}
 		}
-		catch (Exception e) {
-			throw LOG.getErrorExecutingScriptException( script, e );
+		while ( !pooledEngineCount.compareAndSet( count, count + 1 ) );
+
+		ScriptEngine newEngine = engineSupplier.get();
+		if ( newEngine == null ) {
+			pooledEngineCount.decrementAndGet();
+			return null;
 		}
+		return new EngineScripts( newEngine );
 	}
 
 	/**
@@ -74,9 +154,42 @@ private Object doEvaluate(String script, Map<String, Object> bindings) throws Sc
 	 *
 	 * @return true if the given engine is thread-safe, false otherwise.
 	 */
-	private boolean engineAllowsParallelAccessFromMultipleThreads() {
+	private static boolean engineAllowsParallelAccessFromMultipleThreads(ScriptEngine engine) {
 		String threadingType = (String) engine.getFactory().getParameter( "THREADING" );
 
 		return "THREAD-ISOLATED".equals( threadingType ) || "STATELESS".equals( threadingType );
 	}
+
+	/**
+	 * An engine and the scripts compiled with it.
+	 */
+	private static class EngineScripts {
+
+		private final ScriptEngine engine;
+
+		private final ConcurrentMap<String, CompiledScript> compiledScripts;
+
+		private EngineScripts(ScriptEngine engine) {
+			this.engine = engine;
+			this.compiledScripts = engine instanceof Compilable ? new ConcurrentHashMap<>() : null;
+		}
+
+		private Object evaluate(String script, Map<String, Object> bindings) throws ScriptEvaluationException {
+			try {
+				if ( compiledScripts == null ) {
+					return engine.eval( script, new SimpleBindings( bindings ) );
+				}
+
+				CompiledScript compiledScript = compiledScripts.get( script );
+				if ( compiledScript == null ) {
+					compiledScript = ( (Compilable) engine ).compile( script );
+					compiledScripts.putIfAbsent( script, compiledScript );
+				}
+				return compiledScript.eval( new SimpleBindings( bindings ) );
+			}
+			catch (Exception e) {
+				throw LOG.getErrorExecutingScriptException( script, e );
+			}
+		}
+	}
 }
@@ -211,7 +211,7 @@ public void setEmail(String email) {
 	}
 
 	@Test
-	public void onGetter() {
+	public void onGetter() throws NoSuchMethodException {
 		class Foo {
 
 			private List<String> prop;
@@ -228,7 +228,12 @@ public Foo(List<String> prop) {
 		Foo foo = new Foo( List.of( "K1" ) );
 		validator.validate( foo );
 
-		// getter is processed as a property an as an executable so there will be 2 warnings:
+		// getter is processed as a property, the executable meta data is only built for method validation:
+		assertThat( logAppender.getMessages() ).hasSize( 1 ).allMatch( ValidAnnotationTest::deprecatedUsedOfValueCode );
+
+		validator.forExecutables().validateReturnValue( foo, Foo.class.getMethod( "getProp" ), foo.getProp() );
+
+		// the getter is now also processed as an executable so there will be 2 warnings:
 		assertThat( logAppender.getMessages() ).hasSize( 2 ).allMatch( ValidAnnotationTest::deprecatedUsedOfValueCode );
 	}
 
@@ -10,11 +10,18 @@
 
 import java.util.Set;
 
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Pattern;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
 import org.hibernate.validator.constraints.br.CPF;
 import org.hibernate.validator.test.constraints.annotations.AbstractConstrainedTest;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.hibernate.validator.testutils.ValidatorUtil;
 
 import org.testng.annotations.Test;
 
@@ -143,6 +150,30 @@ public void invalid_cpf_without_separator_creates_constraint_violation() {
 		);
 	}
 
+	@Test
+	public void overridden_composing_constraint_validator_is_used() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration();
+		ConstraintMapping constraintMapping = configuration.createConstraintMapping();
+		constraintMapping
+				.constraintDefinition( Pattern.class )
+				.includeExistingValidators( false )
+				.validatedBy( RejectingPatternValidator.class );
+		configuration.addMapping( constraintMapping );
+		Validator validator = configuration.buildValidatorFactory().getValidator();
+
+		assertThat( validator.validate( new Person( "134.241.313-00" ) ) ).containsOnlyViolations(
+				violationOf( CPF.class ).withProperty( "cpf" )
+		);
+	}
+
+	public static class RejectingPatternValidator implements ConstraintValidator<Pattern, CharSequence> {
+
+		@Override
+		public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+			return false;
+		}
+	}
+
 	public static class Person {
 		@CPF
 		private String cpf;
@@ -7,8 +7,15 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import jakarta.validation.ConstraintDefinitionException;
 
 import org.hibernate.validator.constraints.pl.REGON;
+import org.hibernate.validator.internal.constraintvalidators.hv.pl.PolishNumberValidator;
 import org.hibernate.validator.test.constraints.annotations.AbstractConstrainedTest;
 
 import org.testng.annotations.Test;
@@ -172,6 +179,50 @@ public void testIncorrectRegon14Number() {
 				);
 	}
 
+	@Test
+	public void testListBasedWeightsSubclassIsStillSupported() {
+		ListBasedREGONValidator validator = new ListBasedREGONValidator();
+		validator.initialize( null );
+
+		assertTrue( validator.isValid( "123456785", null ) );
+		assertTrue( validator.isValid( "12345678512347", null ) );
+		assertFalse( validator.isValid( "123456784", null ) );
+		assertFalse( validator.isValid( "1234567845", null ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDefinitionException.class, expectedExceptionsMessageRegExp = "HV000287.*")
+	public void testSubclassWithoutWeightsFails() {
+		new IncompleteREGONValidator().initialize( null );
+	}
+
+	@SuppressWarnings("deprecation")
+	public static class ListBasedREGONValidator extends PolishNumberValidator<REGON> {
+
+		@Override
+		public void initialize(REGON constraintAnnotation) {
+			super.initialize( 0, Integer.MAX_VALUE, -1, false );
+		}
+
+		@Override
+		protected int[] getWeights(List<Integer> digits) {
+			if ( digits.size() == 8 ) {
+				return new int[] { 8, 9, 2, 3, 4, 5, 6, 7 };
+			}
+			else if ( digits.size() == 13 ) {
+				return new int[] { 2, 4, 8, 5, 0, 9, 7, 3, 6, 1, 2, 4, 8 };
+			}
+			return new int[] { };
+		}
+	}
+
+	public static class IncompleteREGONValidator extends PolishNumberValidator<REGON> {
+
+		@Override
+		public void initialize(REGON constraintAnnotation) {
+			super.initialize( 0, Integer.MAX_VALUE, -1, false );
+		}
+	}
+
 	public static class Company {
 
 		@REGON
@@ -0,0 +1,271 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.DigitsValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.DigitsValidatorForNumber;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMaxValidatorForBigInteger;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMaxValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMaxValidatorForLong;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMaxValidatorForNumber;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMinValidatorForBigInteger;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMinValidatorForCharSequence;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMinValidatorForInteger;
+import org.hibernate.validator.internal.constraintvalidators.bv.number.bound.decimal.DecimalMinValidatorForLong;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the {@code @DecimalMin}, {@code @DecimalMax} and {@code @Digits} validators, which compare integers and
+ * plain decimal strings without creating {@code BigDecimal}s, behave exactly as the {@code BigDecimal} based
+ * implementation.
+ */
+public class DecimalNumberValidatorDifferentialTest {
+
+	private static final String[] BOUNDS = {
+			"0", "-0.00", "1", "-1", "0.1", "-0.1", "123.450", "-123.45", "1E+3", "-1E+3", "1E-30", "5E+40",
+			"999999999999999999", "-999999999999999999", "1000000000000000000", "99999999999999999.99",
+			"9223372036854775807", "-9223372036854775808", "9223372036854775807.5", "-9223372036854775808.5",
+			"123456789012345678901234567890", "-123456789012345678901234567890.123", "0.000000000000000000000001",
+			"2147483647", "-2147483648", "127.5"
+	};
+
+	private static final String RANDOM_CHARACTERS = "0123456789012345678900000.-+eE x_\u0661\u0662";
+
+	@Test
+	public void decimalMinAndMaxOnCharSequencesMatchBigDecimalComparison() {
+		List<String> values = generateCharSequences( new Random( 42 ) );
+
+		int valid = 0;
+		int invalid = 0;
+		for ( String bound : BOUNDS ) {
+			for ( boolean inclusive : new boolean[] { true, false } ) {
+				DecimalMinValidatorForCharSequence minValidator = new DecimalMinValidatorForCharSequence();
+				minValidator.initialize( decimalMin( bound, inclusive ) );
+				DecimalMaxValidatorForCharSequence maxValidator = new DecimalMaxValidatorForCharSequence();
+				maxValidator.initialize( decimalMax( bound, inclusive ) );
+
+				for ( String value : values ) {
+					Integer comparison = legacyCompare( value, bound );
+					boolean expectedMin = comparison != null && ( inclusive ? comparison >= 0 : comparison > 0 );
+					boolean expectedMax = comparison != null && ( inclusive ? comparison <= 0 : comparison < 0 );
+
+					assertEquals( minValidator.isValid( value, null ), expectedMin, "@DecimalMin(" + bound + ") on " + value );
+					assertEquals( maxValidator.isValid( value, null ), expectedMax, "@DecimalMax(" + bound + ") on " + value );
+
+					if ( expectedMin ) {
+						valid++;
+					}
+					else {
+						invalid++;
+					}
+				}
+			}
+		}
+
+		assertTrue( valid > 1000, "Not enough valid values: " + valid );
+		assertTrue( invalid > 1000, "Not enough invalid values: " + invalid );
+	}
+
+	@Test
+	public void decimalMinAndMaxOnIntegersMatchBigDecimalComparison() {
+		Random random = new Random( 42 );
+		List<Long> values = new ArrayList<>();
+		for ( long value : new long[] { 0L, 1L, -1L, 127L, 128L, 999L, 1000L, 1001L, Integer.MAX_VALUE, Integer.MIN_VALUE,
+				999_999_999_999_999_999L, 1_000_000_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1 } ) {
+			values.add( value );
+			values.add( -value );
+		}
+		for ( int i = 0; i < 300; i++ ) {
+			values.add( random.nextLong() );
+			values.add( (long) random.nextInt() );
+			values.add( (long) random.nextInt( 2000 ) - 1000 );
+		}
+
+		for ( String bound : BOUNDS ) {
+			for ( boolean inclusive : new boolean[] { true, false } ) {
+				DecimalMinValidatorForLong minValidatorForLong = new DecimalMinValidatorForLong();
+				minValidatorForLong.initialize( decimalMin( bound, inclusive ) );
+				DecimalMinValidatorForInteger minValidatorForInteger = new DecimalMinValidatorForInteger();
+				minValidatorForInteger.initialize( decimalMin( bound, inclusive ) );
+				DecimalMinValidatorForBigInteger minValidatorForBigInteger = new DecimalMinValidatorForBigInteger();
+				minValidatorForBigInteger.initialize( decimalMin( bound, inclusive ) );
+				DecimalMaxValidatorForLong maxValidatorForLong = new DecimalMaxValidatorForLong();
+				maxValidatorForLong.initialize( decimalMax( bound, inclusive ) );
+				DecimalMaxValidatorForNumber maxValidatorForNumber = new DecimalMaxValidatorForNumber();
+				maxValidatorForNumber.initialize( decimalMax( bound, inclusive ) );
+				DecimalMaxValidatorForBigInteger maxValidatorForBigInteger = new DecimalMaxValidatorForBigInteger();
+				maxValidatorForBigInteger.initialize( decimalMax( bound, inclusive ) );
+
+				for ( long value : values ) {
+					int comparison = new BigDecimal( value ).compareTo( new BigDecimal( bound ) );
+					boolean expectedMin = inclusive ? comparison >= 0 : comparison > 0;
+					boolean expectedMax = inclusive ? comparison <= 0 : comparison < 0;
+					String message = bound + " on " + value;
+
+					assertEquals( minValidatorForLong.isValid( value, null ), expectedMin, message );
+					assertEquals( minValidatorForBigInteger.isValid( BigInteger.valueOf( value ), null ), expectedMin, message );
+					assertEquals( maxValidatorForLong.isValid( value, null ), expectedMax, message );
+					assertEquals( maxValidatorForNumber.isValid( value, null ), expectedMax, message );
+					assertEquals( maxValidatorForBigInteger.isValid( BigInteger.valueOf( value ), null ), expectedMax, message );
+
+					if ( value == (int) value ) {
+						assertEquals( minValidatorForInteger.isValid( (int) value, null ), expectedMin, message );
+						assertEquals( maxValidatorForNumber.isValid( (int) value, null ), expectedMax, message );
+					}
+
+					BigInteger bigValue = BigInteger.valueOf( value ).multiply( BigInteger.TEN.pow( 5 ) );
+					int bigComparison = new BigDecimal( bigValue ).compareTo( new BigDecimal( bound ) );
+					assertEquals( minValidatorForBigInteger.isValid( bigValue, null ), inclusive ? bigComparison >= 0 : bigComparison > 0, bound + " on " + bigValue );
+				}
+			}
+		}
+	}
+
+	@Test
+	public void digitsMatchBigDecimalPrecisionAndScale() {
+		List<String> values = generateCharSequences( new Random( 42 ) );
+		Random random = new Random( 42 );
+		List<Long> numbers = new ArrayList<>();
+		for ( long value : new long[] { 0L, 1L, 9L, 10L, 100L, 1000L, 12000L, Long.MAX_VALUE, Long.MIN_VALUE } ) {
+			numbers.add( value );
+			numbers.add( -value );
+		}
+		for ( int i = 0; i < 200; i++ ) {
+			numbers.add( random.nextLong() >> random.nextInt( 64 ) );
+		}
+
+		int valid = 0;
+		int invalid = 0;
+		for ( int integer = 0; integer <= 20; integer++ ) {
+			for ( int fraction = 0; fraction <= 4; fraction++ ) {
+				DigitsValidatorForCharSequence charSequenceValidator = new DigitsValidatorForCharSequence();
+				charSequenceValidator.initialize( digits( integer, fraction ) );
+				DigitsValidatorForNumber numberValidator = new DigitsValidatorForNumber();
+				numberValidator.initialize( digits( integer, fraction ) );
+
+				for ( String value : values ) {
+					boolean expected = legacyDigitsCheck( value, integer, fraction );
+					assertEquals( charSequenceValidator.isValid( value, null ), expected, "@Digits(" + integer + ", " + fraction + ") on " + value );
+
+					if ( expected ) {
+						valid++;
+					}
+					else {
+						invalid++;
+					}
+				}
+				for ( long number : numbers ) {
+					BigDecimal bigNum = new BigDecimal( Long.toString( number ) ).stripTrailingZeros();
+					boolean expected = integer >= bigNum.precision() - bigNum.scale() && fraction >= Math.max( 0, bigNum.scale() );
+					assertEquals( numberValidator.isValid( number, null ), expected, "@Digits(" + integer + ", " + fraction + ") on " + number );
+					if ( number == (int) number ) {
+						assertEquals( numberValidator.isValid( (int) number, null ), expected, "@Digits(" + integer + ", " + fraction + ") on " + number );
+					}
+				}
+			}
+		}
+
+		assertTrue( valid > 1000, "Not enough valid values: " + valid );
+		assertTrue( invalid > 1000, "Not enough invalid values: " + invalid );
+	}
+
+	private static List<String> generateCharSequences(Random random) {
+		List<String> values = new ArrayList<>();
+		for ( String value : new String[] { "", "-", "+", ".", "-.", "+.5", "5.", ".5", "0", "-0", "+0", "000", "0.000",
+				"-0.00", "00012.340", "1e3", "1E-3", "1.5E+2", "12 ", " 12", "1..2", "1.2.3", "--1", "1-", "\u0661\u0662",
+				"1\u0662.5", "9223372036854775807", "-9223372036854775808", "9223372036854775808", "123456789012345678",
+				"1234567890123456789", "0.000000000000000000000000000001", "100000000000000000000000000000000000000000" } ) {
+			values.add( value );
+		}
+		for ( String bound : BOUNDS ) {
+			values.add( bound );
+		}
+		for ( int i = 0; i < 1500; i++ ) {
+			StringBuilder value = new StringBuilder();
+			int sign = random.nextInt( 4 );
+			if ( sign == 1 ) {
+				value.append( '-' );
+			}
+			else if ( sign == 2 ) {
+				value.append( '+' );
+			}
+			appendDigits( value, random, random.nextInt( 3 ) == 0 ? random.nextInt( 25 ) : random.nextInt( 6 ) );
+			if ( random.nextBoolean() ) {
+				value.append( '.' );
+				appendDigits( value, random, random.nextInt( 3 ) == 0 ? random.nextInt( 25 ) : random.nextInt( 4 ) );
+			}
+			if ( random.nextInt( 10 ) == 0 ) {
+				value.insert( random.nextInt( value.length() + 1 ), RANDOM_CHARACTERS.charAt( random.nextInt( RANDOM_CHARACTERS.length() ) ) );
+			}
+			values.add( value.toString() );
+		}
+		return values;
+	}
+
+	private static void appendDigits(StringBuilder value, Random random, int count) {
+		boolean leadingZeros = random.nextInt( 4 ) == 0;
+		for ( int i = 0; i < count; i++ ) {
+			value.append( leadingZeros && i < count / 2 ? '0' : (char) ( '0' + random.nextInt( 10 ) ) );
+		}
+	}
+
+	private static Integer legacyCompare(String value, String bound) {
+		try {
+			return new BigDecimal( value ).compareTo( new BigDecimal( bound ) );
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static boolean legacyDigitsCheck(String value, int integer, int fraction) {
+		BigDecimal bigNum;
+		try {
+			bigNum = new BigDecimal( value );
+		}
+		catch (NumberFormatException e) {
+			return false;
+		}
+		int integerPartLength = bigNum.precision() - bigNum.scale();
+		int fractionPartLength = bigNum.scale() < 0 ? 0 : bigNum.scale();
+		return integer >= integerPartLength && fraction >= fractionPartLength;
+	}
+
+	private static DecimalMin decimalMin(String value, boolean inclusive) {
+		ConstraintAnnotationDescriptor.Builder<DecimalMin> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( DecimalMin.class );
+		descriptorBuilder.setAttribute( "value", value );
+		descriptorBuilder.setAttribute( "inclusive", inclusive );
+		return descriptorBuilder.build().getAnnotation();
+	}
+
+	private static DecimalMax decimalMax(String value, boolean inclusive) {
+		ConstraintAnnotationDescriptor.Builder<DecimalMax> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( DecimalMax.class );
+		descriptorBuilder.setAttribute( "value", value );
+		descriptorBuilder.setAttribute( "inclusive", inclusive );
+		return descriptorBuilder.build().getAnnotation();
+	}
+
+	private static Digits digits(int integer, int fraction) {
+		ConstraintAnnotationDescriptor.Builder<Digits> descriptorBuilder = new ConstraintAnnotationDescriptor.Builder<>( Digits.class );
+		descriptorBuilder.setAttribute( "integer", integer );
+		descriptorBuilder.setAttribute( "fraction", fraction );
+		return descriptorBuilder.build().getAnnotation();
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.constraintvalidators.bv.EmailValidator;
+import org.hibernate.validator.internal.util.DomainNameUtil;
+import org.hibernate.validator.testutil.MyCustomStringImpl;
+
+import org.testng.annotations.Test;
+
+/**
+ * Compares the hand-written email parser with the regular expressions previously used to validate the emails.
+ */
+public class EmailValidatorDifferentialTest {
+
+	private static final List<String> LOCAL_PARTS = Arrays.asList(
+			"emmanuel", "Emma-n_uel", "a", "emma+nuel", "first.last", "first..last", ".first", "first.", "\"quoted\"",
+			"\"quoted with spaces\"", "\"\"", "\"a\\\"b\"", "\"a\\\\b\"", "\"a\\b\"", "\"a\"b\"", "\"a\".b", "a.\"b\"",
+			"\"a\"\"b\"", "\"unterminated", "\"@\"", "\"a.b(c)d,e:f;g<h>i[j]k\"", "!#$%&'*+/=?^_`{|}~-", "a b", "a\tb",
+			"a(b)", "a,b", "a:b", "a[b]", "a\\b", "Test\u00DF", "\u0430\u0431\u0432", "\uD83D\uDE00", "a\uD800",
+			"\uDC00a", "\"\uD83D\uDE00\"", "\u0080\uFFFF", repeat( "a", 64 ), repeat( "a", 65 ), repeat( "\u00E9", 64 ),
+			"\"" + repeat( "a", 62 ) + "\"", "\"" + repeat( "a", 63 ) + "\"", ""
+	);
+
+	private static final List<String> DOMAINS = Arrays.asList(
+			"hibernate.org", "hibernate", "HIBERNATE.ORG", "hi-ber--nate.org", "-hibernate.org", "hibernate-.org",
+			"hibernate.org.", ".hibernate.org", "hibernate..org", "hi_bernate!#$%&'*+/=?^_`{|}~.org", "hiber nate.org",
+			"hiber@nate.org", "h\u00E9bernate.org", "\u0445\u0438\u0431\u0435\u0440\u043D\u0435\u0439\u0442.\u0440\u0444",
+			"hibernate\u3002org", "hibernate\uFF0Eorg", "\u3002", "hiber\u00ADnate.org", "xn--hbernate-gya.org",
+			"xn--h\u00E9bernate.org", "hiber\uD83D\uDE00nate.org", "hiber\uD800nate.org", "\u0378.org",
+			repeat( "a", 63 ) + ".org", repeat( "a", 64 ) + ".org", repeat( "\u00E9", 63 ) + ".org",
+			repeat( "\u00E9", 57 ) + ".org", repeat( "a", 62 ) + "\u00AD\u00AD.org",
+			repeat( repeat( "a", 63 ) + ".", 3 ) + repeat( "b", 63 ), repeat( repeat( "a", 63 ) + ".", 3 ) + repeat( "b", 64 ),
+			repeat( repeat( "a", 63 ) + ".", 3 ) + repeat( "b", 60 ), repeat( repeat( "\u00E9", 20 ) + ".", 11 ) + "org",
+			"[192.168.0.1]", "[1.2.3.4]", "[1.2.3]", "[1.2.3.4.5]", "[1234.2.3.4]", "[1..3.4]", "[999.999.999.999]",
+			"[a.2.3.4]", "[1.2.3.4", "1.2.3.4]", "[]", "[", "]", "[IPv6:::1]", "[ipv6:::1]", "[IPV6:2001:db8::1]",
+			"[IPv6:2001:0db8:85a3:0000:0000:8a2e:0370:7334]", "[IPv6:fe80::1%eth0]", "[IPv6:fe80::1%" + repeat( "e", 70 ) + "]",
+			"[IPv6:::ffff:192.168.0.1]", "[IPv6:1:2:3:4::192.168.0.1]", "[IPv6:1::2::3]", "[IPv6:]", "[IPv6]",
+			"[\u0130Pv6:::1]", "[::1]", "[2001:db8::1]", ""
+	);
+
+	private static final String MUTATION_CHARACTERS = "aZ09.-@\"\\[]: ()_!\u00E9\u3002\u00AD\uD83D\uDE00";
+
+	@Test
+	public void emailCorpus() {
+		Set<String> corpus = new LinkedHashSet<>();
+		for ( String localPart : LOCAL_PARTS ) {
+			for ( String domain : DOMAINS ) {
+				corpus.add( localPart + "@" + domain );
+			}
+		}
+		corpus.add( "@" );
+		corpus.add( "a" );
+		corpus.add( "a@b@c" );
+		corpus.add( "\"a@b\"@c" );
+
+		Random random = new Random( 42 );
+		for ( String email : new ArrayList<>( corpus ) ) {
+			for ( int i = 0; i < 3; i++ ) {
+				corpus.add( mutate( email, random ) );
+			}
+		}
+
+		EmailValidator validator = new EmailValidator();
+		int valid = 0;
+		for ( String email : corpus ) {
+			boolean expected = LegacyEmailValidator.isValid( email );
+			assertEquals( validator.isValid( email, null ), expected, "Unexpected result for " + email );
+			assertEquals( validator.isValid( new MyCustomStringImpl( email ), null ), expected, "Unexpected result for " + email );
+			if ( expected ) {
+				valid++;
+			}
+		}
+		assertTrue( valid > 1_000 && valid < corpus.size() - 1_000, valid + " valid emails out of " + corpus.size() );
+	}
+
+	@Test
+	public void domainCorpus() {
+		Set<String> corpus = new LinkedHashSet<>( DOMAINS );
+		Random random = new Random( 42 );
+		for ( String domain : DOMAINS ) {
+			for ( int i = 0; i < 20; i++ ) {
+				corpus.add( mutate( domain, random ) );
+			}
+		}
+
+		for ( String domain : corpus ) {
+			assertEquals( DomainNameUtil.isValidDomainAddress( domain ), LegacyEmailValidator.isValidDomainAddress( domain, LegacyEmailValidator.DOMAIN_PATTERN ),
+					"Unexpected result for " + domain );
+			assertEquals( DomainNameUtil.isValidEmailDomainAddress( domain ), LegacyEmailValidator.isValidDomainAddress( domain, LegacyEmailValidator.EMAIL_DOMAIN_PATTERN ),
+					"Unexpected result for " + domain );
+		}
+	}
+
+	private static String mutate(String value, Random random) {
+		StringBuilder mutated = new StringBuilder( value );
+		int mutations = 1 + random.nextInt( 2 );
+		for ( int i = 0; i < mutations; i++ ) {
+			int position = random.nextInt( mutated.length() + 1 );
+			char c = MUTATION_CHARACTERS.charAt( random.nextInt( MUTATION_CHARACTERS.length() ) );
+			switch ( random.nextInt( 3 ) ) {
+				case 0:
+					mutated.insert( position, c );
+					break;
+				case 1:
+					if ( position < mutated.length() ) {
+						mutated.deleteCharAt( position );
+					}
+					break;
+				default:
+					if ( position < mutated.length() ) {
+						mutated.setCharAt( position, c );
+					}
+			}
+		}
+		return mutated.toString();
+	}
+
+	private static String repeat(String value, int count) {
+		StringBuilder repeated = new StringBuilder();
+		for ( int i = 0; i < count; i++ ) {
+			repeated.append( value );
+		}
+		return repeated.toString();
+	}
+
+	/**
+	 * The email validation as previously implemented with regular expressions.
+	 */
+	private static class LegacyEmailValidator {
+
+		private static final String LOCAL_PART_ATOM = "[a-z0-9!#$%&'*+/=?^_`{|}~\u0080-\uFFFF-]";
+		private static final String LOCAL_PART_INSIDE_QUOTES_ATOM = "(?:[a-z0-9!#$%&'*.(),<>\\[\\]:;  @+/=?^_`{|}~\u0080-\uFFFF-]|\\\\\\\\|\\\\\\\")";
+		private static final Pattern LOCAL_PART_PATTERN = Pattern.compile(
+				"(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" +
+						"(?:\\." + "(?:" + LOCAL_PART_ATOM + "+|\"" + LOCAL_PART_INSIDE_QUOTES_ATOM + "+\")" + ")*",
+				CASE_INSENSITIVE
+		);
+
+		private static final String DOMAIN_CHARS_WITHOUT_DASH = "[a-z\u0080-\uFFFF0-9!#$%&'*+/=?^_`{|}~]";
+		private static final String DOMAIN_LABEL = DOMAIN_CHARS_WITHOUT_DASH + "++(?:-++" + DOMAIN_CHARS_WITHOUT_DASH + "++)*+";
+		private static final String DOMAIN = DOMAIN_LABEL + "(?:\\." + DOMAIN_LABEL + ")*+";
+		private static final String IP_DOMAIN = "[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}\\.[0-9]{1,3}";
+		private static final String IP_V6_DOMAIN =
+				"(?:(?:[0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,7}:|(?:[0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|(?:[0-9a-fA-F]{1,4}:){1,5}(?::[0-9a-fA-F]{1,4}){1,2}|(?:[0-9a-fA-F]{1,4}:){1,4}(?::[0-9a-fA-F]{1,4}){1,3}|(?:[0-9a-fA-F]{1,4}:){1,3}(?::[0-9a-fA-F]{1,4}){1,4}|(?:[0-9a-fA-F]{1,4}:){1,2}(?::[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:(?:(?::[0-9a-fA-F]{1,4}){1,6})|:(?:(?::[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(?::[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(?:ffff(:0{1,4}){0,1}:){0,1}(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])|(?:[0-9a-fA-F]{1,4}:){1,4}:(?:(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9])\\.){3,3}(?:25[0-5]|(?:2[0-4]|1{0,1}[0-9]){0,1}[0-9]))";
+
+		private static final Pattern DOMAIN_PATTERN = Pattern.compile( DOMAIN + "|\\[" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE );
+		private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile(
+				DOMAIN + "|\\[" + IP_DOMAIN + "\\]|" + "\\[IPv6:" + IP_V6_DOMAIN + "\\]", CASE_INSENSITIVE
+		);
+
+		private static boolean isValid(String value) {
+			if ( value.length() == 0 ) {
+				return true;
+			}
+			int splitPosition = value.lastIndexOf( '@' );
+			if ( splitPosition < 0 ) {
+				return false;
+			}
+			String localPart = value.substring( 0, splitPosition );
+			if ( localPart.length() > 64 || !LOCAL_PART_PATTERN.matcher( localPart ).matches() ) {
+				return false;
+			}
+			return isValidDomainAddress( value.substring( splitPosition + 1 ), EMAIL_DOMAIN_PATTERN );
+		}
+
+		private static boolean isValidDomainAddress(String domain, Pattern pattern) {
+			if ( domain.endsWith( "." ) ) {
+				return false;
+			}
+			String asciiString;
+			try {
+				asciiString = IDN.toASCII( domain );
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+			if ( asciiString.length() > 255 ) {
+				return false;
+			}
+			return pattern.matcher( domain ).matches();
+		}
+	}
+}
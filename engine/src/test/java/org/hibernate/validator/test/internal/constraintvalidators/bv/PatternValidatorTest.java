@@ -4,16 +4,23 @@
  */
 package org.hibernate.validator.test.internal.constraintvalidators.bv;
 
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
 import static org.hibernate.validator.testutils.ConstraintValidatorInitializationHelper.initialize;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.Pattern;
 
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.constraintvalidation.PatternMatchingStrategy;
 import org.hibernate.validator.internal.constraintvalidators.bv.PatternValidator;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.testutil.MyCustomStringImpl;
 import org.hibernate.validator.testutil.TestForIssue;
+import org.hibernate.validator.testutils.ValidatorUtil;
 
 import org.testng.annotations.Test;
 
@@ -78,4 +85,72 @@ public void testInvalidRegularExpression() {
 		PatternValidator constraint = new PatternValidator();
 		initialize( constraint, descriptor );
 	}
+
+	@Test(timeOut = 10_000)
+	public void testLinearTimeStrategyPerConstraint() {
+		Validator validator = ValidatorUtil.getValidator();
+
+		assertThat( validator.validate( new LinearTimeBean( "a".repeat( 10_000 ) + "!" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class )
+		);
+		assertThat( validator.validate( new LinearTimeBean( "aaab" ) ) ).isEmpty();
+	}
+
+	@Test(timeOut = 10_000)
+	public void testLinearTimeStrategyConfiguredGlobally() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.patternMatchingStrategy( PatternMatchingStrategy.LINEAR_TIME )
+				.buildValidatorFactory()
+				.getValidator();
+
+		// the second constraint uses a nested character class, which is matched with java.util.regex
+		assertThat( validator.validate( new GlobalStrategyBean( "a".repeat( 10_000 ) + "!", "c" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class ).withProperty( "value" ),
+				violationOf( Pattern.class ).withProperty( "nestedClassValue" )
+		);
+		assertThat( validator.validate( new GlobalStrategyBean( "aaab", "b" ) ) ).isEmpty();
+	}
+
+	@Test(timeOut = 10_000)
+	public void testLinearTimeStrategyConfiguredViaProperty() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.PATTERN_MATCHING_STRATEGY, "linear-time" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new GlobalStrategyBean( "a".repeat( 10_000 ) + "!", "b" ) ) ).containsOnlyViolations(
+				violationOf( Pattern.class ).withProperty( "value" )
+		);
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000276.*")
+	public void testInvalidPatternMatchingStrategyProperty() {
+		ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.PATTERN_MATCHING_STRATEGY, "unknown" )
+				.buildValidatorFactory();
+	}
+
+	private static class LinearTimeBean {
+
+		@Pattern(regexp = "(a+)+b", payload = PatternMatchingStrategy.LinearTime.class)
+		private final String value;
+
+		private LinearTimeBean(String value) {
+			this.value = value;
+		}
+	}
+
+	private static class GlobalStrategyBean {
+
+		@Pattern(regexp = "(a+)+b")
+		private final String value;
+
+		@Pattern(regexp = "[a[b]]")
+		private final String nestedClassValue;
+
+		private GlobalStrategyBean(String value, String nestedClassValue) {
+			this.value = value;
+			this.nestedClassValue = nestedClassValue;
+		}
+	}
 }
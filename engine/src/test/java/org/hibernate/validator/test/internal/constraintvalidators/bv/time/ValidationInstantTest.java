@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.bv.time;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import jakarta.validation.ClockProvider;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.PastOrPresent;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.ReadableInstant;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that all the temporal constraints validated during a validation call use the same time reference.
+ */
+public class ValidationInstantTest {
+
+	private static final Instant START = LocalDateTime.of( 2020, 1, 1, 12, 0 ).toInstant( ZoneOffset.UTC );
+
+	private TickingClock clock;
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		clock = new TickingClock( START );
+		ClockProvider clockProvider = () -> clock;
+		validator = getConfiguration()
+				.clockProvider( clockProvider )
+				.buildValidatorFactory()
+				.getValidator();
+	}
+
+	@Test
+	public void clockIsReadOnlyOncePerValidationCall() {
+		assertNoViolations( validator.validate( new Event( START ) ) );
+		assertEquals( clock.reads, 1 );
+
+		// the clock has moved forward: all the @FutureOrPresent constraints now fail, all the @PastOrPresent ones pass
+		assertThat( validator.validate( new Event( START ) ) ).containsOnlyViolations(
+				violationOf( FutureOrPresent.class ).withProperty( "futureInstant" ),
+				violationOf( FutureOrPresent.class ).withProperty( "futureDate" ),
+				violationOf( FutureOrPresent.class ).withProperty( "futureLocalDateTime" ),
+				violationOf( FutureOrPresent.class ).withProperty( "futureReadableInstant" )
+		);
+		assertEquals( clock.reads, 2 );
+	}
+
+	@Test
+	public void clockIsReadOnlyOncePerPropertyValidationCall() {
+		assertNoViolations( validator.validateProperty( new Event( START ), "pastInstant" ) );
+		assertNoViolations( validator.validateValue( Event.class, "futureDate", Date.from( START.plusSeconds( 1 ) ) ) );
+		assertEquals( clock.reads, 2 );
+	}
+
+	private static class Event {
+
+		@PastOrPresent
+		private final Instant pastInstant;
+
+		@FutureOrPresent
+		private final Instant futureInstant;
+
+		@PastOrPresent
+		private final Date pastDate;
+
+		@FutureOrPresent
+		private final Date futureDate;
+
+		@PastOrPresent
+		private final LocalDateTime pastLocalDateTime;
+
+		@FutureOrPresent
+		private final LocalDateTime futureLocalDateTime;
+
+		@PastOrPresent
+		private final ReadableInstant pastReadableInstant;
+
+		@FutureOrPresent
+		private final ReadableInstant futureReadableInstant;
+
+		private Event(Instant instant) {
+			this.pastInstant = instant;
+			this.futureInstant = instant;
+			this.pastDate = Date.from( instant );
+			this.futureDate = Date.from( instant );
+			this.pastLocalDateTime = LocalDateTime.ofInstant( instant, ZoneOffset.UTC );
+			this.futureLocalDateTime = LocalDateTime.ofInstant( instant, ZoneOffset.UTC );
+			this.pastReadableInstant = new DateTime( instant.toEpochMilli(), DateTimeZone.UTC );
+			this.futureReadableInstant = new DateTime( instant.toEpochMilli(), DateTimeZone.UTC );
+		}
+	}
+
+	/**
+	 * A clock moving one second forward each time it is read.
+	 */
+	private static class TickingClock extends Clock {
+
+		private Instant instant;
+
+		private int reads;
+
+		private TickingClock(Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			Instant current = instant;
+			instant = instant.plusSeconds( 1 );
+			reads++;
+			return current;
+		}
+	}
+}
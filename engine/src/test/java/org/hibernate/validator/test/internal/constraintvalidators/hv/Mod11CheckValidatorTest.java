@@ -6,11 +6,16 @@
 
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
 import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
+import jakarta.validation.ConstraintDefinitionException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 
@@ -21,6 +26,7 @@
 import org.hibernate.validator.constraints.Mod11Check;
 import org.hibernate.validator.constraints.Mod11Check.ProcessingDirection;
 import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
 import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
 import org.hibernate.validator.testutil.MyCustomStringImpl;
 import org.hibernate.validator.testutil.TestForIssue;
@@ -282,6 +288,45 @@ public void testProgrammaticMod11Constraint() {
 		assertNoViolations( constraintViolations );
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testDeprecatedListBasedCheckDigitValidation() {
+		Mod11CheckValidator validator = new Mod11CheckValidator();
+		Mod11Check modCheck = createMod11CheckAnnotation(
+				0,
+				Integer.MAX_VALUE,
+				-1,
+				false,
+				'X',
+				'0',
+				ProcessingDirection.RIGHT_TO_LEFT
+		);
+		validator.initialize( modCheck );
+
+		assertTrue( validator.isCheckDigitValid( new ArrayList<>( Arrays.asList( 2, 3, 4, 2, 0, 2, 0, 1, 0, 1, 5 ) ), '7' ) );
+		assertFalse( validator.isCheckDigitValid( new ArrayList<>( Arrays.asList( 2, 3, 4, 2, 0, 2, 0, 1, 0, 1, 5 ) ), '5' ) );
+
+		assertTrue( validator.isCheckDigitValid( "23420201015", 0, 11, false, '7' ) );
+		assertTrue( validator.isCheckDigitValid( "2342.0201.015", 0, 13, true, '7' ) );
+		assertFalse( validator.isCheckDigitValid( "2342.0201.015", 0, 13, false, '7' ) );
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testListBasedSubclassIsStillSupported() {
+		ListBasedModCheck validator = new ListBasedModCheck();
+
+		assertTrue( validator.isValid( "12-3-6", null ) );
+		assertEquals( validator.digits, Arrays.asList( 1, 2, 3 ) );
+		assertFalse( validator.isValid( "12-3-5", null ) );
+		assertFalse( validator.isValid( "", null ) );
+	}
+
+	@Test(expectedExceptions = ConstraintDefinitionException.class, expectedExceptionsMessageRegExp = "HV000287.*")
+	public void testSubclassWithoutCheckDigitValidationFails() {
+		new IncompleteModCheck();
+	}
+
 	private Mod11Check createMod11CheckAnnotation(
 			int start,
 			int end,
@@ -309,4 +354,33 @@ private Product(String productNumber) {
 			this.productNumber = productNumber;
 		}
 	}
+
+	/**
+	 * A mod check only implementing the list based contract: the check digit is the sum of the digits.
+	 */
+	private static class ListBasedModCheck extends ModCheckBase {
+
+		private List<Integer> digits;
+
+		private ListBasedModCheck() {
+			initialize( 0, Integer.MAX_VALUE, -1, true );
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+			this.digits = digits;
+			return digits.stream().mapToInt( Integer::intValue ).sum() == checkDigit - '0';
+		}
+	}
+
+	/**
+	 * A mod check implementing none of the check digit validation methods.
+	 */
+	private static class IncompleteModCheck extends ModCheckBase {
+
+		private IncompleteModCheck() {
+			initialize( 0, Integer.MAX_VALUE, -1, true );
+		}
+	}
 }
@@ -0,0 +1,536 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.constraintvalidators.hv;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.constraints.Mod11Check;
+import org.hibernate.validator.constraints.br.CNPJ;
+import org.hibernate.validator.constraints.br.CPF;
+import org.hibernate.validator.constraints.br.TituloEleitoral;
+import org.hibernate.validator.constraints.pl.NIP;
+import org.hibernate.validator.constraints.pl.PESEL;
+import org.hibernate.validator.constraints.ru.INN;
+import org.hibernate.validator.internal.constraintvalidators.hv.Mod11CheckValidator;
+import org.hibernate.validator.internal.constraintvalidators.hv.ModCheckBase;
+import org.hibernate.validator.internal.constraintvalidators.hv.pl.PolishNumberValidator;
+import org.hibernate.validator.internal.util.ModUtil;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the single-pass validators of the national identification numbers with their reference implementations:
+ * the composed definition of the constraint when it is composed, the generic mod check validators otherwise.
+ */
+public class NationalIdentificationNumberDifferentialTest {
+
+	private static final String MUTATION_CHARACTERS = "0123456789.-/ AZa\u0663";
+
+	private static final int SAMPLES = 2_000;
+
+	private Validator validator;
+
+	private Random random;
+
+	@BeforeClass
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+		random = new Random( 42 );
+	}
+
+	@Test
+	public void cpf() {
+		List<Predicate<String>> composingPatterns = new ArrayList<>();
+		for ( jakarta.validation.constraints.Pattern pattern : CPF.class.getAnnotation( jakarta.validation.constraints.Pattern.List.class ).value() ) {
+			composingPatterns.add( matches( pattern ) );
+		}
+		Predicate<String> reference = and( composingPatterns ).and( new LegacyCPFCheck() );
+
+		Set<String> samples = samples( reference, () -> digits( 9 ), 2, value -> value, value -> format( value, 3, '.', 6, '.', 9, '-' ),
+				value -> format( value, 9, '-' ), value -> format( value, 3, '.', 9, '-' ) );
+		samples.add( "111.111.111-11" );
+		samples.add( "00000000000" );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( CPFBean.class, "cpf", value ).isEmpty() );
+	}
+
+	@Test
+	public void tituloEleitoral() {
+		List<Predicate<String>> composingConstraints = new ArrayList<>();
+		composingConstraints.add( matches( TituloEleitoral.class.getAnnotation( jakarta.validation.constraints.Pattern.class ) ) );
+		for ( Mod11Check mod11Check : TituloEleitoral.class.getAnnotation( Mod11Check.List.class ).value() ) {
+			Mod11CheckValidator mod11CheckValidator = new Mod11CheckValidator();
+			mod11CheckValidator.initialize( mod11Check );
+			composingConstraints.add( value -> mod11CheckValidator.isValid( value, null ) );
+		}
+		Predicate<String> reference = and( composingConstraints );
+
+		Set<String> samples = samples( reference, () -> digits( 10 ), 2, value -> value, value -> format( value, 4, '-' ) );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( TituloEleitoralBean.class, "tituloEleitoral", value ).isEmpty() );
+	}
+
+	@Test
+	public void cnpj() {
+		Predicate<String> reference = new LegacyCNPJCheck( false );
+
+		Set<String> samples = samples( reference, () -> digits( 12 ), 2, value -> value,
+				value -> format( value, 2, '.', 5, '.', 8, '/', 12, '-' ), value -> format( value, 2, '.', 8, '/', 12, '-' ),
+				value -> format( value, 2, '.', 5, '.', 8, '/' ) );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( CNPJBean.class, "cnpj", value ).isEmpty() );
+	}
+
+	@Test
+	public void alphanumericCnpj() {
+		Predicate<String> reference = new LegacyCNPJCheck( true );
+
+		Set<String> samples = samples( reference, () -> alphanumerics( 12 ), 2, value -> value,
+				value -> format( value, 2, '.', 5, '.', 8, '/', 12, '-' ), value -> format( value, 2, '.', 8, '/', 12, '-' ) );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( CNPJBean.class, "alphanumericCnpj", value ).isEmpty() );
+	}
+
+	@Test
+	public void pesel() {
+		Predicate<String> reference = new LegacyPESELCheck();
+
+		Set<String> samples = samples( reference, () -> String.format( "%02d%02d%02d", random.nextInt( 100 ), random.nextInt( 100 ), random.nextInt( 32 ) )
+				+ digits( 4 ), 1, value -> value, value -> value.replace( '0', '\u0660' ) );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( PESELBean.class, "pesel", value ).isEmpty() );
+	}
+
+	@Test
+	public void nip() {
+		Predicate<String> reference = new LegacyNIPCheck();
+
+		Set<String> samples = samples( reference, () -> digits( 9 ), 1, value -> value, value -> format( value, 3, '-', 6, '-', 8, '-' ),
+				value -> format( value, 3, '-', 5, '-', 7, '-' ) );
+
+		assertSameResults( samples, reference, value -> validator.validateValue( NIPBean.class, "nip", value ).isEmpty() );
+	}
+
+	@Test
+	public void inn() {
+		Predicate<String> individualReference = new LegacyINNCheck( INN.Type.INDIVIDUAL );
+		Predicate<String> juridicalReference = new LegacyINNCheck( INN.Type.JURIDICAL );
+		Predicate<String> anyReference = new LegacyINNCheck( INN.Type.ANY );
+
+		Set<String> samples = samples( individualReference, () -> digits( 10 ), 2, value -> value );
+		samples.addAll( samples( juridicalReference, () -> digits( 9 ), 1, value -> value ) );
+
+		assertSameResults( samples, individualReference, value -> validator.validateValue( INNBean.class, "individual", value ).isEmpty() );
+		assertSameResults( samples, juridicalReference, value -> validator.validateValue( INNBean.class, "juridical", value ).isEmpty() );
+		assertSameResults( samples, anyReference, value -> validator.validateValue( INNBean.class, "any", value ).isEmpty() );
+	}
+
+	private void assertSameResults(Set<String> samples, Predicate<String> reference, Predicate<String> fused) {
+		int valid = 0;
+		for ( String sample : samples ) {
+			boolean expected = reference.test( sample );
+			assertEquals( fused.test( sample ), expected, "Unexpected result for " + sample );
+			if ( expected ) {
+				valid++;
+			}
+		}
+		// make sure both branches are covered
+		assertTrue( valid > 10 && valid < samples.size() - 10, valid + " valid samples out of " + samples.size() );
+	}
+
+	/**
+	 * Generates valid numbers by searching for the check digits accepted by the reference, formats them in various
+	 * ways and mutates them.
+	 */
+	@SafeVarargs
+	private Set<String> samples(Predicate<String> reference, Supplier<String> prefixSupplier, int checkDigits,
+			Function<String, String>... formatters) {
+		Set<String> samples = new LinkedHashSet<>();
+		samples.add( "" );
+		int bound = checkDigits == 1 ? 10 : 100;
+		while ( samples.size() < SAMPLES ) {
+			String prefix = prefixSupplier.get();
+			String number = prefix + String.format( "%0" + checkDigits + "d", random.nextInt( bound ) );
+			for ( int i = 0; i < bound; i++ ) {
+				String candidate = prefix + String.format( "%0" + checkDigits + "d", i );
+				if ( reference.test( candidate ) ) {
+					number = candidate;
+					break;
+				}
+			}
+
+			for ( Function<String, String> formatter : formatters ) {
+				String formatted = formatter.apply( number );
+				samples.add( formatted );
+				samples.add( mutate( formatted ) );
+			}
+		}
+		return samples;
+	}
+
+	private String mutate(String value) {
+		StringBuilder mutated = new StringBuilder( value );
+		int position = random.nextInt( value.length() + 1 );
+		char c = MUTATION_CHARACTERS.charAt( random.nextInt( MUTATION_CHARACTERS.length() ) );
+		switch ( random.nextInt( 3 ) ) {
+			case 0:
+				mutated.insert( position, c );
+				break;
+			case 1:
+				if ( position < mutated.length() ) {
+					mutated.deleteCharAt( position );
+				}
+				break;
+			default:
+				if ( position < mutated.length() ) {
+					mutated.setCharAt( position, c );
+				}
+		}
+		return mutated.toString();
+	}
+
+	private String digits(int length) {
+		StringBuilder digits = new StringBuilder();
+		for ( int i = 0; i < length; i++ ) {
+			digits.append( (char) ( '0' + random.nextInt( 10 ) ) );
+		}
+		return digits.toString();
+	}
+
+	private String alphanumerics(int length) {
+		StringBuilder alphanumerics = new StringBuilder();
+		for ( int i = 0; i < length; i++ ) {
+			alphanumerics.append( random.nextBoolean() ? (char) ( '0' + random.nextInt( 10 ) ) : (char) ( 'A' + random.nextInt( 26 ) ) );
+		}
+		return alphanumerics.toString();
+	}
+
+	/**
+	 * Inserts the given separators, each one before the character of the given index in the original value.
+	 */
+	private static String format(String value, Object... indexesAndSeparators) {
+		StringBuilder formatted = new StringBuilder( value );
+		for ( int i = indexesAndSeparators.length - 2; i >= 0; i -= 2 ) {
+			formatted.insert( (int) indexesAndSeparators[i], (char) indexesAndSeparators[i + 1] );
+		}
+		return formatted.toString();
+	}
+
+	private static Predicate<String> matches(jakarta.validation.constraints.Pattern constraint) {
+		int flags = 0;
+		for ( jakarta.validation.constraints.Pattern.Flag flag : constraint.flags() ) {
+			flags |= flag.getValue();
+		}
+		Pattern pattern = Pattern.compile( constraint.regexp(), flags );
+		return value -> pattern.matcher( value ).matches();
+	}
+
+	private static Predicate<String> and(List<Predicate<String>> predicates) {
+		return value -> predicates.stream().allMatch( predicate -> predicate.test( value ) );
+	}
+
+	private static class CPFBean {
+
+		@CPF
+		private String cpf;
+	}
+
+	private static class TituloEleitoralBean {
+
+		@TituloEleitoral
+		private String tituloEleitoral;
+	}
+
+	private static class CNPJBean {
+
+		@CNPJ
+		private String cnpj;
+
+		@CNPJ(format = CNPJ.Format.ALPHANUMERIC)
+		private String alphanumericCnpj;
+	}
+
+	private static class PESELBean {
+
+		@PESEL
+		private String pesel;
+	}
+
+	private static class NIPBean {
+
+		@NIP
+		private String nip;
+	}
+
+	private static class INNBean {
+
+		@INN(type = INN.Type.INDIVIDUAL)
+		private String individual;
+
+		@INN(type = INN.Type.JURIDICAL)
+		private String juridical;
+
+		@INN
+		private String any;
+	}
+
+	/**
+	 * The check digits verification previously performed by the CPF validator, on top of the composing constraints.
+	 */
+	private static class LegacyCPFCheck implements Predicate<String> {
+
+		private static final Pattern DIGITS_ONLY = Pattern.compile( "\\d+" );
+		private static final Pattern SINGLE_DASH_SEPARATOR = Pattern.compile( "\\d+-\\d\\d" );
+
+		private final Mod11CheckValidator withSeparatorMod11Validator1 = mod11( 0, 10, 12, Integer.MAX_VALUE );
+		private final Mod11CheckValidator withSeparatorMod11Validator2 = mod11( 0, 12, 13, Integer.MAX_VALUE );
+		private final Mod11CheckValidator withDashOnlySeparatorMod11Validator1 = mod11( 0, 8, 10, Integer.MAX_VALUE );
+		private final Mod11CheckValidator withDashOnlySeparatorMod11Validator2 = mod11( 0, 10, 11, Integer.MAX_VALUE );
+		private final Mod11CheckValidator withoutSeparatorMod11Validator1 = mod11( 0, 8, 9, Integer.MAX_VALUE );
+		private final Mod11CheckValidator withoutSeparatorMod11Validator2 = mod11( 0, 9, 10, Integer.MAX_VALUE );
+
+		@Override
+		public boolean test(String value) {
+			if ( DIGITS_ONLY.matcher( value ).matches() ) {
+				return withoutSeparatorMod11Validator1.isValid( value, null )
+						&& withoutSeparatorMod11Validator2.isValid( value, null );
+			}
+			else if ( SINGLE_DASH_SEPARATOR.matcher( value ).matches() ) {
+				return withDashOnlySeparatorMod11Validator1.isValid( value, null )
+						&& withDashOnlySeparatorMod11Validator2.isValid( value, null );
+			}
+			else {
+				return withSeparatorMod11Validator1.isValid( value, null )
+						&& withSeparatorMod11Validator2.isValid( value, null );
+			}
+		}
+	}
+
+	/**
+	 * The CNPJ validation as previously implemented with regular expressions and mod check validators.
+	 */
+	private static class LegacyCNPJCheck implements Predicate<String> {
+
+		private static final Pattern NUMBERS_UPPER_LETTERS_ONLY_REGEXP = Pattern.compile( "[0-9A-Z]+" );
+
+		private final Pattern pattern;
+
+		private final Mod11CheckValidator withSeparatorMod11Validator1;
+		private final Mod11CheckValidator withSeparatorMod11Validator2;
+		private final Mod11CheckValidator withoutSeparatorMod11Validator1;
+		private final Mod11CheckValidator withoutSeparatorMod11Validator2;
+
+		private LegacyCNPJCheck(boolean alphanumeric) {
+			String character = alphanumeric ? "[0-9A-Z]" : "[0-9]";
+			this.pattern = Pattern.compile( "(" + character + "{2}[.]?" + character + "{3}[.]?" + character + "{3}[/]?" + character + "{4}[-]?[0-9]{2})" );
+			this.withSeparatorMod11Validator1 = alphanumeric ? new AlphanumericMod11CheckValidator() : new Mod11CheckValidator();
+			this.withSeparatorMod11Validator2 = alphanumeric ? new AlphanumericMod11CheckValidator() : new Mod11CheckValidator();
+			this.withoutSeparatorMod11Validator1 = alphanumeric ? new AlphanumericMod11CheckValidator() : new Mod11CheckValidator();
+			this.withoutSeparatorMod11Validator2 = alphanumeric ? new AlphanumericMod11CheckValidator() : new Mod11CheckValidator();
+			initialize( withSeparatorMod11Validator1, 0, 14, 16, 9 );
+			initialize( withSeparatorMod11Validator2, 0, 16, 17, 9 );
+			initialize( withoutSeparatorMod11Validator1, 0, 11, 12, 9 );
+			initialize( withoutSeparatorMod11Validator2, 0, 12, 13, 9 );
+		}
+
+		@Override
+		public boolean test(String value) {
+			if ( !pattern.matcher( value ).matches() ) {
+				return false;
+			}
+
+			char firstDigit = value.charAt( 0 );
+			char otherDigit = value.charAt( 1 );
+			for ( int i = 2; i < value.length(); i++ ) {
+				char c = value.charAt( i );
+				if ( Character.isDigit( c ) && firstDigit != c ) {
+					otherDigit = c;
+				}
+			}
+			if ( firstDigit == otherDigit ) {
+				return false;
+			}
+
+			if ( NUMBERS_UPPER_LETTERS_ONLY_REGEXP.matcher( value ).matches() ) {
+				return withoutSeparatorMod11Validator1.isValid( value, null )
+						&& withoutSeparatorMod11Validator2.isValid( value, null );
+			}
+			else {
+				return withSeparatorMod11Validator1.isValid( value, null )
+						&& withSeparatorMod11Validator2.isValid( value, null );
+			}
+		}
+
+		@SuppressWarnings("deprecation")
+		private static class AlphanumericMod11CheckValidator extends Mod11CheckValidator {
+
+			private static final Pattern NUMBERS_UPPER_LETTERS_ONLY_STRIP_REGEXP = Pattern.compile( "[^0-9A-Z]" );
+
+			@Override
+			protected int extractDigit(char value) throws NumberFormatException {
+				if ( Character.isDigit( value ) || ( value >= 'A' && value <= 'Z' ) ) {
+					return value - 48;
+				}
+				throw new NumberFormatException();
+			}
+
+			@Override
+			protected String stripNonDigitsIfRequired(String value) {
+				return ignoreDelimitingCharacters ? NUMBERS_UPPER_LETTERS_ONLY_STRIP_REGEXP.matcher( value ).replaceAll( "" ) : value;
+			}
+
+			@Override
+			public boolean isCheckDigitValid(CharSequence value, int startIndex, int endIndex, boolean ignoreNonDigitCharacters, char checkDigit) {
+				List<Integer> digits = new ArrayList<>();
+				for ( char c : stripNonDigitsIfRequired( value.subSequence( startIndex, endIndex ).toString() ).toCharArray() ) {
+					try {
+						digits.add( extractDigit( c ) );
+					}
+					catch (NumberFormatException e) {
+						return false;
+					}
+				}
+				return isCheckDigitValid( digits, checkDigit );
+			}
+		}
+	}
+
+	/**
+	 * The PESEL validation as previously implemented on top of {@link ModCheckBase}.
+	 */
+	@SuppressWarnings("deprecation")
+	private static class LegacyPESELCheck extends ModCheckBase implements Predicate<String> {
+
+		private static final int[] WEIGHTS_PESEL = { 1, 3, 7, 9, 1, 3, 7, 9, 1, 3 };
+
+		private LegacyPESELCheck() {
+			initialize( 0, Integer.MAX_VALUE, -1, false );
+		}
+
+		@Override
+		public boolean test(String value) {
+			return isValid( value, null );
+		}
+
+		@Override
+		public boolean isCheckDigitValid(List<Integer> digits, char checkDigit) {
+			if ( digits.size() != WEIGHTS_PESEL.length ) {
+				return false;
+			}
+
+			int monthCode = digits.get( 2 ) * 10 + digits.get( 3 );
+			try {
+				LocalDate.of( ( monthCode / 20 == 4 ? 1800 : 1900 + 100 * ( monthCode / 20 ) ) + digits.get( 0 ) * 10 + digits.get( 1 ),
+						monthCode % 20, digits.get( 4 ) * 10 + digits.get( 5 ) );
+			}
+			catch (DateTimeException e) {
+				return false;
+			}
+
+			Collections.reverse( digits );
+
+			int modResult = ModUtil.calculateModXCheckWithWeights( digits, 10, Integer.MAX_VALUE, WEIGHTS_PESEL );
+			if ( modResult == 10 ) {
+				return checkDigit == '0';
+			}
+			return Character.isDigit( checkDigit ) && modResult == extractDigit( checkDigit );
+		}
+	}
+
+	/**
+	 * The NIP validation as previously implemented on top of {@link PolishNumberValidator}.
+	 */
+	private static class LegacyNIPCheck extends PolishNumberValidator<NIP> implements Predicate<String> {
+
+		private static final int[] WEIGHTS_NIP = { 6, 5, 7, 2, 3, 4, 5, 6, 7 };
+
+		private LegacyNIPCheck() {
+			initialize( 0, Integer.MAX_VALUE, -1, true );
+		}
+
+		@Override
+		public boolean test(String value) {
+			return isValid( value, null );
+		}
+
+		@Override
+		protected int[] getWeights(int numberOfDigits) {
+			return WEIGHTS_NIP;
+		}
+
+		@Override
+		protected boolean checkTwoDigitModuloResult(char checkDigit) {
+			return false;
+		}
+	}
+
+	/**
+	 * The INN validation as previously implemented with a regular expression and a stream of digits.
+	 */
+	private static class LegacyINNCheck implements Predicate<String> {
+
+		private static final Pattern NUMBERS_ONLY_PATTERN = Pattern.compile( "[0-9]+" );
+		private static final int[] INDIVIDUAL_WEIGHTS_11 = { 7, 2, 4, 10, 3, 5, 9, 4, 6, 8 };
+		private static final int[] INDIVIDUAL_WEIGHTS_12 = { 3, 7, 2, 4, 10, 3, 5, 9, 4, 6, 8 };
+		private static final int[] JURIDICAL_WEIGHTS = { 2, 4, 10, 3, 5, 9, 4, 6, 8 };
+
+		private final INN.Type type;
+
+		private LegacyINNCheck(INN.Type type) {
+			this.type = type;
+		}
+
+		@Override
+		public boolean test(String value) {
+			if ( !NUMBERS_ONLY_PATTERN.matcher( value ).matches() ) {
+				return false;
+			}
+			int[] digits = value.codePoints().map( symbol -> Character.digit( symbol, 10 ) ).toArray();
+			if ( digits.length == 12 && type != INN.Type.JURIDICAL ) {
+				return checkSum( digits, INDIVIDUAL_WEIGHTS_11 ) == digits[10] && checkSum( digits, INDIVIDUAL_WEIGHTS_12 ) == digits[11];
+			}
+			if ( digits.length == 10 && type != INN.Type.INDIVIDUAL ) {
+				return checkSum( digits, JURIDICAL_WEIGHTS ) == digits[9];
+			}
+			return false;
+		}
+
+		private static int checkSum(int[] digits, int[] weights) {
+			int sum = 0;
+			for ( int i = 0; i < weights.length; i++ ) {
+				sum += digits[i] * weights[i];
+			}
+			return ( sum % 11 ) % 10;
+		}
+	}
+
+	private static Mod11CheckValidator mod11(int startIndex, int endIndex, int checkDigitIndex, int threshold) {
+		Mod11CheckValidator mod11CheckValidator = new Mod11CheckValidator();
+		initialize( mod11CheckValidator, startIndex, endIndex, checkDigitIndex, threshold );
+		return mod11CheckValidator;
+	}
+
+	private static void initialize(Mod11CheckValidator mod11CheckValidator, int startIndex, int endIndex, int checkDigitIndex, int threshold) {
+		mod11CheckValidator.initialize( startIndex, endIndex, checkDigitIndex, true, threshold, '0', '0', Mod11Check.ProcessingDirection.RIGHT_TO_LEFT );
+	}
+}
@@ -94,6 +94,36 @@ public TmpType(Date startDate, Date endDate) {
 		);
 	}
 
+	@Test
+	public void expressionLanguageScriptEvaluatesWithoutScriptEngine() throws Exception {
+		@ScriptAssert(lang = "hv-expression", script = "_this.startDate.before(_this.endDate) && _this.endDate != null")
+		class TmpType extends CalendarEvent {
+			public TmpType(Date startDate, Date endDate) {
+				super( startDate, endDate );
+			}
+		}
+
+		Date startDate = new GregorianCalendar( 2009, 8, 20 ).getTime();
+		Date endDate = new GregorianCalendar( 2009, 8, 21 ).getTime();
+
+		assertNoViolations( validator.validate( new TmpType( startDate, endDate ) ) );
+		assertThat( validator.validate( new TmpType( endDate, startDate ) ) ).containsOnlyViolations(
+				violationOf( ScriptAssert.class )
+		);
+	}
+
+	@Test(expectedExceptions = ConstraintDeclarationException.class)
+	public void expressionLanguageParsingErrorRaisesException() throws Exception {
+		@ScriptAssert(lang = "hv-expression", script = "_this.startDate.before(")
+		class TmpType extends CalendarEvent {
+			public TmpType(Date startDate, Date endDate) {
+				super( startDate, endDate );
+			}
+		}
+
+		validator.validate( new TmpType( new Date(), new Date() ) );
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void emptyLanguageNameRaisesException() throws Exception {
 		getInitializedValidator( "", "script" );
@@ -7,8 +7,10 @@
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertNoViolations;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -18,9 +20,11 @@
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.MessageInterpolator;
+import jakarta.validation.ValidationException;
 import jakarta.validation.Validator;
 
 import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
 import org.hibernate.validator.constraints.UniqueElements;
 import org.hibernate.validator.engine.HibernateConstraintViolation;
 import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
@@ -133,6 +137,139 @@ public void testDymanicPayloadContainsDuplicatedValue() {
 				.containsOnly( duplicate );
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testParallelCheckReportsAllDuplicates() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.uniqueElementsParallelThreshold( 100 )
+				.buildValidatorFactory()
+				.getValidator();
+
+		List<Object> unique = new ArrayList<>();
+		for ( int i = 0; i < 10_000; i++ ) {
+			unique.add( "element-" + i );
+		}
+		unique.add( null );
+		assertNoViolations( validator.validate( new AnnotationContainer( unique ) ) );
+
+		List<Object> fails = new ArrayList<>( unique );
+		fails.add( 5_000, "element-42" );
+		fails.add( "element-9999" );
+		fails.add( "element-9999" );
+		fails.add( null );
+		Set<ConstraintViolation<AnnotationContainer>> violations = validator.validate( new AnnotationContainer( fails ) );
+
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+
+		ConstraintViolation<?> violation = violations.iterator().next();
+		Assertions.assertThat( ( (HibernateConstraintViolation<UniqueElements>) violation.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class ) )
+				.containsExactlyInAnyOrder( "element-42", "element-9999", "element-9999", null );
+	}
+
+	@Test
+	public void testParallelCheckBelowThreshold() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.UNIQUE_ELEMENTS_PARALLEL_THRESHOLD, "100" )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new AnnotationContainer( Arrays.asList( "a", "b", "a" ) ) ) )
+				.containsOnlyViolations( violationOf( UniqueElements.class ) );
+		assertNoViolations( validator.validate( new AnnotationContainer( Arrays.asList( "a", "b", "c" ) ) ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFailFastStopsAtFirstDuplicate() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.failFast( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		CountingList fails = new CountingList( "a", "b", "a", "b", "c", "c" );
+		Set<ConstraintViolation<AnnotationContainer>> violations = validator.validate( new AnnotationContainer( fails ) );
+
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+		assertEquals( fails.accessedElements, 3 );
+
+		ConstraintViolation<?> violation = violations.iterator().next();
+		Assertions.assertThat( ( (HibernateConstraintViolation<UniqueElements>) violation.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class ) )
+				.containsExactly( "a" );
+	}
+
+	@Test
+	public void testFailFastOverriddenByValidator() {
+		HibernateValidatorFactory validatorFactory = ValidatorUtil.getConfiguration()
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+
+		CountingList fails = new CountingList( "a", "b", "a", "b", "c", "c" );
+		assertThat( validatorFactory.getValidator().validate( new AnnotationContainer( fails ) ) )
+				.containsOnlyViolations( violationOf( UniqueElements.class ) );
+		assertEquals( fails.accessedElements, 6 );
+
+		fails = new CountingList( "a", "b", "a", "b", "c", "c" );
+		assertThat( validatorFactory.usingContext().failFast( true ).getValidator().validate( new AnnotationContainer( fails ) ) )
+				.containsOnlyViolations( violationOf( UniqueElements.class ) );
+		assertEquals( fails.accessedElements, 3 );
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFailFastParallelCheckReportsOneDuplicate() {
+		Validator validator = ValidatorUtil.getConfiguration()
+				.failFast( true )
+				.uniqueElementsParallelThreshold( 100 )
+				.buildValidatorFactory()
+				.getValidator();
+
+		List<Object> fails = new ArrayList<>();
+		for ( int i = 0; i < 10_000; i++ ) {
+			fails.add( "element-" + i );
+		}
+		fails.add( null );
+		fails.add( null );
+		Set<ConstraintViolation<AnnotationContainer>> violations = validator.validate( new AnnotationContainer( fails ) );
+
+		assertThat( violations ).containsOnlyViolations( violationOf( UniqueElements.class ) );
+
+		ConstraintViolation<?> violation = violations.iterator().next();
+		Assertions.assertThat( ( (HibernateConstraintViolation<UniqueElements>) violation.unwrap( HibernateConstraintViolation.class ) ).getDynamicPayload( List.class ) )
+				.containsExactly( (Object) null );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000279.*")
+	public void testInvalidParallelThresholdProperty() {
+		ValidatorUtil.getConfiguration()
+				.addProperty( HibernateValidatorConfiguration.UNIQUE_ELEMENTS_PARALLEL_THRESHOLD, "many" )
+				.buildValidatorFactory();
+	}
+
+	/**
+	 * Counts the elements accessed by the validator.
+	 */
+	private static class CountingList extends AbstractList<Object> {
+
+		private final List<Object> elements;
+
+		private int accessedElements;
+
+		private CountingList(Object... elements) {
+			this.elements = Arrays.asList( elements );
+		}
+
+		@Override
+		public Object get(int index) {
+			accessedElements++;
+			return elements.get( index );
+		}
+
+		@Override
+		public int size() {
+			return elements.size();
+		}
+	}
+
 	private static class TestObject {
 
 		private final int value;
@@ -6,11 +6,25 @@
 
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
 import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
-
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.constraints.DecimalMin;
@@ -67,6 +81,50 @@ public void testHashCodeOfBeanInstanceValuesIsNotCalled() throws Exception {
 		);
 	}
 
+	@Test
+	public void testDuplicatedViolationsAreReportedOnce() {
+		Set<ConstraintViolation<Baz>> violations = validator.validate( new Baz() );
+		assertThat( violations ).containsOnlyViolations(
+				violationOf( Twice.class ).withMessage( "first" ),
+				violationOf( Twice.class ).withMessage( "second" )
+		);
+	}
+
+	@Test
+	public void testViolationsAreKeptInOrderAndCanBeRemoved() {
+		Set<ConstraintViolation<Baz>> violations = validator.validate( new Baz() );
+
+		List<String> messages = new ArrayList<>();
+		for ( ConstraintViolation<Baz> violation : violations ) {
+			messages.add( violation.getMessage() );
+		}
+		assertEquals( messages, List.of( "first", "second" ) );
+
+		Iterator<ConstraintViolation<Baz>> iterator = violations.iterator();
+		ConstraintViolation<Baz> first = iterator.next();
+		iterator.remove();
+		assertFalse( violations.contains( first ) );
+		ConstraintViolation<Baz> second = iterator.next();
+		assertTrue( violations.contains( second ) );
+		assertEquals( violations.size(), 1 );
+
+		assertFalse( violations.add( second ) );
+		assertTrue( violations.add( first ) );
+		assertEquals( violations.size(), 2 );
+	}
+
+	@Test(timeOut = 20_000)
+	public void testViolationsOfContainerElementsAreNotComparedToEachOther() {
+		int size = 50_000;
+		Set<ConstraintViolation<Qux>> violations = validator.validate( new Qux( Collections.nCopies( size, null ) ) );
+
+		// the violations share their constraint descriptor, leaf bean and invalid value and only differ by their index
+		assertEquals( violations.size(), size );
+		Iterator<ConstraintViolation<Qux>> iterator = violations.iterator();
+		assertEquals( iterator.next().getPropertyPath().toString(), "values[0].<list element>" );
+		assertEquals( iterator.next().getPropertyPath().toString(), "values[1].<list element>" );
+	}
+
 	private static class Foo {
 		@Size(min = 2, message = "must be 2 at least")
 		@DecimalMin(value = "2", message = "must be 2 at least")
@@ -102,6 +160,42 @@ private FooBar(FooList list) {
 		}
 	}
 
+	@Twice
+	private static class Baz {
+	}
+
+	private static class Qux {
+
+		private final List<@NotNull String> values;
+
+		private Qux(List<String> values) {
+			this.values = values;
+		}
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	@Constraint(validatedBy = TwiceValidator.class)
+	public @interface Twice {
+		String message() default "default";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class TwiceValidator implements ConstraintValidator<Twice, Baz> {
+
+		@Override
+		public boolean isValid(Baz value, ConstraintValidatorContext context) {
+			context.disableDefaultConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "first" ).addConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "second" ).addConstraintViolation();
+			context.buildConstraintViolationWithTemplate( "first" ).addConstraintViolation();
+			return false;
+		}
+	}
+
 	private static class FooList extends ArrayList<String> {
 
 		@Override
@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Collections;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidationException;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.metadata.BeanDescriptor;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.PredefinedScopeHibernateValidator;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link HibernateValidatorFactory#invalidate(Class[])}.
+ */
+public class ValidatorFactoryInvalidationTest {
+
+	private CountingConstraintValidatorFactory constraintValidatorFactory;
+
+	private HibernateValidatorFactory validatorFactory;
+
+	private Validator validator;
+
+	@BeforeMethod
+	public void setUp() {
+		HibernateValidatorConfiguration configuration = Validation.byProvider( HibernateValidator.class ).configure();
+		constraintValidatorFactory = new CountingConstraintValidatorFactory( configuration.getDefaultConstraintValidatorFactory() );
+		validatorFactory = configuration
+				.constraintValidatorFactory( constraintValidatorFactory )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class );
+		validator = validatorFactory.getValidator();
+	}
+
+	@AfterMethod
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Test
+	public void metadataOfInvalidatedTypeAndSubTypesIsDiscarded() {
+		BeanDescriptor baseDescriptor = validator.getConstraintsForClass( Base.class );
+		BeanDescriptor subDescriptor = validator.getConstraintsForClass( Sub.class );
+		BeanDescriptor unrelatedDescriptor = validator.getConstraintsForClass( Unrelated.class );
+
+		validatorFactory.invalidate( Base.class );
+
+		assertNotSame( validator.getConstraintsForClass( Base.class ), baseDescriptor );
+		assertNotSame( validator.getConstraintsForClass( Sub.class ), subDescriptor );
+		assertSame( validator.getConstraintsForClass( Unrelated.class ), unrelatedDescriptor );
+	}
+
+	@Test
+	public void metadataOfSuperTypeIsKept() {
+		BeanDescriptor baseDescriptor = validator.getConstraintsForClass( Base.class );
+
+		validatorFactory.invalidate( Sub.class );
+
+		assertSame( validator.getConstraintsForClass( Base.class ), baseDescriptor );
+	}
+
+	@Test
+	public void constraintValidatorsOfInvalidatedTypeAreReleased() {
+		assertThat( validator.validate( new Sub() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ),
+				violationOf( ValidBean.class )
+		);
+		assertThat( validator.validate( new Unrelated() ) ).containsOnlyViolations(
+				violationOf( ValidBean.class )
+		);
+		assertEquals( constraintValidatorFactory.releasedInstances, 0 );
+
+		// only the validator of the class level constraint of Sub is tied to the invalidated type
+		validatorFactory.invalidate( Base.class );
+
+		assertEquals( constraintValidatorFactory.releasedInstances, 1 );
+
+		assertThat( validator.validate( new Sub() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ),
+				violationOf( ValidBean.class )
+		);
+	}
+
+	@Test
+	public void releasedConstraintValidatorsAreNotUsedAnymore() {
+		assertThat( validator.validate( new Sub() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ),
+				violationOf( ValidBean.class )
+		);
+		assertThat( validator.validate( new Unrelated() ) ).containsOnlyViolations(
+				violationOf( ValidBean.class )
+		);
+
+		// the metadata of Sub are rebuilt, the ones of Unrelated are kept but both use a released validator
+		validatorFactory.invalidate( Base.class, ValidBeanValidator.class );
+
+		assertEquals( constraintValidatorFactory.releasedInstances, 2 );
+
+		// the validators fail if they are used after having been released
+		assertThat( validator.validate( new Sub() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ),
+				violationOf( ValidBean.class )
+		);
+		assertThat( validator.validate( new Unrelated() ) ).containsOnlyViolations(
+				violationOf( ValidBean.class )
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*\"types\" must not be null.*")
+	public void invalidatingNullTypesCausesException() {
+		validatorFactory.invalidate( (Class<?>[]) null );
+	}
+
+	@Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = "HV000274.*")
+	public void invalidationIsNotSupportedInPredefinedScope() {
+		try ( HibernateValidatorFactory predefinedScopeValidatorFactory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+				.configure()
+				.initializeBeanMetaData( Collections.singleton( Base.class ) )
+				.buildValidatorFactory()
+				.unwrap( HibernateValidatorFactory.class ) ) {
+			predefinedScopeValidatorFactory.invalidate( Base.class );
+		}
+	}
+
+	private static class Base {
+
+		@NotNull
+		private String name;
+	}
+
+	@ValidBean
+	private static class Sub extends Base {
+	}
+
+	@ValidBean
+	private static class Unrelated {
+	}
+
+	@Documented
+	@Constraint(validatedBy = ValidBeanValidator.class)
+	@Target({ TYPE })
+	@Retention(RUNTIME)
+	public @interface ValidBean {
+
+		String message() default "invalid bean";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ValidBeanValidator implements ConstraintValidator<ValidBean, Object> {
+
+		private volatile boolean released;
+
+		@Override
+		public boolean isValid(Object value, ConstraintValidatorContext context) {
+			if ( released ) {
+				throw new IllegalStateException( "The validator has been released" );
+			}
+			return false;
+		}
+	}
+
+	private static class CountingConstraintValidatorFactory implements ConstraintValidatorFactory {
+
+		private final ConstraintValidatorFactory delegate;
+
+		private int releasedInstances;
+
+		private CountingConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+			return delegate.getInstance( key );
+		}
+
+		@Override
+		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances++;
+			if ( instance instanceof ValidBeanValidator ) {
+				( (ValidBeanValidator) instance ).released = true;
+			}
+			delegate.releaseInstance( instance );
+		}
+	}
+}
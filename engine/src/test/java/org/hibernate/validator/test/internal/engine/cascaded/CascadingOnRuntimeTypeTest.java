@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.cascaded;
+
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the cascaded validation relies on the runtime type of the values when the runtime type changes from
+ * one validated value to another.
+ */
+public class CascadingOnRuntimeTypeTest {
+
+	@Test
+	public void testCascadingOnObjectWithChangingRuntimeType() {
+		Validator validator = getValidator();
+
+		assertPaths( validator.validate( new ObjectHolder( List.of( new Item() ) ) ), "value[0].name" );
+		assertPaths( validator.validate( new ObjectHolder( Optional.of( new Item() ) ) ), "value.name" );
+		assertPaths( validator.validate( new ObjectHolder( new Item() ) ), "value.name" );
+		assertPaths( validator.validate( new ObjectHolder( Map.of( "key", new Item() ) ) ), "value[key].name" );
+		assertPaths( validator.validate( new ObjectHolder( List.of( new Item(), new Item() ) ) ), "value[0].name", "value[1].name" );
+	}
+
+	@Test
+	public void testCascadingOnContainerElementsWithChangingRuntimeType() {
+		Validator validator = getValidator();
+
+		List<Item> list = new ArrayList<>();
+		list.add( new Item() );
+		Set<Item> set = new HashSet<>();
+		set.add( new Item() );
+
+		assertPaths( validator.validate( new CollectionHolder( list ) ), "items[0].name" );
+		assertPaths( validator.validate( new CollectionHolder( set ) ), "items[].name" );
+		assertPaths( validator.validate( new CollectionHolder( list ) ), "items[0].name" );
+		assertPaths( validator.validate( new CollectionHolder( Collections.emptyList() ) ) );
+		assertPaths( validator.validate( new CollectionHolder( new TreeSet<>() ) ) );
+		assertPaths( validator.validate( new CollectionHolder( set ) ), "items[].name" );
+	}
+
+	private static void assertPaths(Set<? extends ConstraintViolation<?>> constraintViolations, String... expectedPaths) {
+		Set<String> paths = new HashSet<>();
+		for ( ConstraintViolation<?> constraintViolation : constraintViolations ) {
+			paths.add( constraintViolation.getPropertyPath().toString() );
+		}
+		assertEquals( paths, Set.of( expectedPaths ) );
+	}
+
+	private static class ObjectHolder {
+
+		@Valid
+		private final Object value;
+
+		private ObjectHolder(Object value) {
+			this.value = value;
+		}
+	}
+
+	private static class CollectionHolder {
+
+		private final Collection<@Valid Item> items;
+
+		private CollectionHolder(Collection<Item> items) {
+			this.items = items;
+		}
+	}
+
+	private static class Item {
+
+		@NotNull
+		private String name;
+	}
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.constraintvalidation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.hibernate.validator.testutils.ValidatorUtil.getValidator;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Validator;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Checks that the constraint validator context reused after a successful constraint validation does not leak any
+ * state into the validation of the following constraints.
+ */
+public class ConstraintValidatorContextReuseTest {
+
+	private static final List<ConstraintValidatorContext> CONTEXTS = new ArrayList<>();
+
+	@BeforeMethod
+	public void clearContexts() {
+		CONTEXTS.clear();
+	}
+
+	@Test
+	public void contextIsReusedForSatisfiedConstraints() {
+		Validator validator = getValidator();
+		assertTrue( validator.validate( new ValidBean() ).isEmpty() );
+
+		assertEquals( CONTEXTS.size(), 2 );
+		assertSame( CONTEXTS.get( 0 ), CONTEXTS.get( 1 ) );
+	}
+
+	@Test
+	public void stateOfSatisfiedConstraintDoesNotLeak() {
+		Validator validator = getValidator();
+		Set<ConstraintViolation<Bean>> constraintViolations = validator.validate( new Bean() );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( AlwaysInvalid.class ).withMessage( "invalid {answer}" )
+		);
+
+		HibernateConstraintViolation<?> constraintViolation = constraintViolations.iterator().next()
+				.unwrap( HibernateConstraintViolation.class );
+		assertNull( constraintViolation.getDynamicPayload( Object.class ) );
+	}
+
+	@Test
+	public void contextIsReusedOnceViolationsAreReported() {
+		Validator validator = getValidator();
+		Set<ConstraintViolation<InvalidBean>> constraintViolations = validator.validate( new InvalidBean() );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( AlwaysInvalid.class ).withMessage( "invalid {answer}" ),
+				violationOf( AlwaysInvalid.class ).withMessage( "invalid {answer}" )
+		);
+		assertEquals( CONTEXTS.size(), 2 );
+		assertSame( CONTEXTS.get( 0 ), CONTEXTS.get( 1 ) );
+	}
+
+	private static class ValidBean {
+
+		@LeavesStateAndSucceeds
+		private String first;
+
+		@LeavesStateAndSucceeds
+		private String second;
+	}
+
+	private static class Bean {
+
+		@LeavesStateAndSucceeds
+		private String first;
+
+		@AlwaysInvalid
+		private String second;
+	}
+
+	private static class InvalidBean {
+
+		@AlwaysInvalid
+		private String first;
+
+		@AlwaysInvalid
+		private String second;
+	}
+
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = LeavesStateAndSucceedsValidator.class)
+	public @interface LeavesStateAndSucceeds {
+
+		String message() default "leaves state";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class LeavesStateAndSucceedsValidator implements ConstraintValidator<LeavesStateAndSucceeds, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			CONTEXTS.add( context );
+
+			HibernateConstraintValidatorContext hibernateContext = context.unwrap( HibernateConstraintValidatorContext.class );
+			hibernateContext.addMessageParameter( "answer", 42 )
+					.addExpressionVariable( "answer", 42 )
+					.withDynamicPayload( "payload" );
+			hibernateContext.disableDefaultConstraintViolation();
+			hibernateContext.buildConstraintViolationWithTemplate( "custom" ).addConstraintViolation();
+
+			return true;
+		}
+	}
+
+	@Target(FIELD)
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = AlwaysInvalidValidator.class)
+	public @interface AlwaysInvalid {
+
+		String message() default "invalid {answer}";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class AlwaysInvalidValidator implements ConstraintValidator<AlwaysInvalid, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			CONTEXTS.add( context );
+			return false;
+		}
+	}
+}
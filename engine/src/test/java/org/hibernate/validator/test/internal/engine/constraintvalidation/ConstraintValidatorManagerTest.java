@@ -12,10 +12,13 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import jakarta.validation.ClockProvider;
@@ -164,29 +167,59 @@ public void testConstraintValidatorInstancesAreCachedPerFactory() {
 	}
 
 	@Test
-	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoryAreCached() {
+	public void testOnlyTheInstancesForTheLeastRecentlyUsedCustomFactoriesAreCached() {
 		ConstraintDescriptorImpl<?> constraintDescriptor = getConstraintDescriptorForProperty( "s1" );
 
-		for ( int i = 0; i < 10; i++ ) {
+		int numberOfFactories = ConstraintValidatorManagerImpl.MAX_CACHED_NON_DEFAULT_SCOPES + 2;
+		List<MyCustomValidatorFactory> factories = new ArrayList<>();
+		for ( int i = 0; i < numberOfFactories; i++ ) {
+			MyCustomValidatorFactory factory = new MyCustomValidatorFactory();
+			factories.add( factory );
+
 			constraintValidatorManager.getInitializedValidator(
 					String.class,
 					constraintDescriptor,
-					new MyCustomValidatorFactory(),
+					factory,
 					getDummyConstraintValidatorInitializationContext()
 			);
 
 			assertEquals(
-					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(), 1,
-					"There should be only one instance cached"
+					constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
+					Math.min( i + 1, ConstraintValidatorManagerImpl.MAX_CACHED_NON_DEFAULT_SCOPES ),
+					"The instances of the least recently used factories should be evicted"
 			);
 		}
 
+		// the instances of the first factories have been released, the ones of the last factories are still cached
+		assertEquals( factories.get( 0 ).releasedInstances, 1 );
+		assertEquals( factories.get( 1 ).releasedInstances, 1 );
+		for ( int i = 2; i < numberOfFactories; i++ ) {
+			assertEquals( factories.get( i ).releasedInstances, 0 );
+		}
+
+		ConstraintValidator<?, ?> cachedConstraintValidator = constraintValidatorManager.getInitializedValidator(
+				String.class,
+				constraintDescriptor,
+				factories.get( numberOfFactories - 1 ),
+				getDummyConstraintValidatorInitializationContext()
+		);
+		assertSame(
+				constraintValidatorManager.getInitializedValidator(
+						String.class,
+						constraintDescriptor,
+						factories.get( numberOfFactories - 1 ),
+						getDummyConstraintValidatorInitializationContext()
+				),
+				cachedConstraintValidator
+		);
+
 		constraintValidatorManager.clear();
 		assertEquals(
 				constraintValidatorManager.numberOfCachedConstraintValidatorInstances(),
 				0,
 				"Cache should be empty"
 		);
+		assertEquals( factories.get( numberOfFactories - 1 ).releasedInstances, 1 );
 	}
 
 	@Test
@@ -485,6 +518,7 @@ public class Foo {
 
 	public class MyCustomValidatorFactory implements ConstraintValidatorFactory {
 		private final ConstraintValidatorFactory delegate;
+		private int releasedInstances;
 
 		public MyCustomValidatorFactory() {
 			delegate = new DefaultConstraintValidatorFactory();
@@ -497,6 +531,7 @@ public MyCustomValidatorFactory() {
 
 		@Override
 		public void releaseInstance(ConstraintValidator<?, ?> instance) {
+			releasedInstances++;
 			delegate.releaseInstance( instance );
 		}
 	}
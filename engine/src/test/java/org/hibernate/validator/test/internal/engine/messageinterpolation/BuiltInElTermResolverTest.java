@@ -0,0 +1,188 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import jakarta.el.ELManager;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.internal.engine.MessageInterpolatorContext;
+import org.hibernate.validator.internal.engine.messageinterpolation.BuiltInElTermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.ElTermResolver;
+import org.hibernate.validator.internal.metadata.core.ConstraintHelper;
+import org.hibernate.validator.internal.metadata.descriptor.ConstraintDescriptorImpl;
+import org.hibernate.validator.internal.metadata.location.ConstraintLocation.ConstraintLocationKind;
+import org.hibernate.validator.internal.util.annotation.ConstraintAnnotationDescriptor;
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the evaluation of the expressions by {@link BuiltInElTermResolver} with their evaluation by Jakarta EL.
+ */
+public class BuiltInElTermResolverTest {
+
+	private static final String[] DEFAULT_MESSAGE_EXPRESSIONS = {
+			"${inclusive == true ? 'or equal to ' : ''}",
+			"${inclusive == true ? ' or equal to' : ''}",
+			"${validatedValue}",
+			"${days == 0 ? '' : days == 1 ? ' 1 day' : ' ' += days += ' days'}",
+			"${hours == 0 ? '' : hours == 1 ? ' 1 hour' : ' ' += hours += ' hours'}",
+			"${days == 0 && hours == 0 && minutes == 0 && seconds == 0 && millis == 0 && nanos == 0 ? ' 0' : ''}",
+			"${formatter.format('%1$.2f', validatedValue)}"
+	};
+
+	private static final String[] VARIABLES = {
+			"validatedValue", "min", "max", "l", "i", "bd", "d", "f", "s", "t", "b", "nil", "e", "unknown"
+	};
+
+	private static final String[] LITERALS = {
+			"'a'", "\"b\"", "'it\\'s'", "'\\\\'", "0", "1", "12", "true", "false", "null"
+	};
+
+	private static final String[] BINARY_OPERATORS = {
+			"==", "!=", "<", ">", "<=", ">=", "eq", "ne", "lt", "gt", "le", "ge", "&&", "||", "and", "or", "+="
+	};
+
+	private static final Object[] VALIDATED_VALUES = {
+			null, 3, 3L, "abc", new BigDecimal( "3.0" ), 2.5d, Boolean.TRUE, Mode.ON
+	};
+
+	private ConstraintDescriptorImpl<Size> sizeDescriptor;
+
+	private BuiltInElTermResolver builtInElTermResolver;
+
+	private ElTermResolver elTermResolver;
+
+	@BeforeClass
+	public void setUp() {
+		sizeDescriptor = new ConstraintDescriptorImpl<>(
+				ConstraintHelper.forAllBuiltinConstraints(),
+				null,
+				new ConstraintAnnotationDescriptor.Builder<>( Size.class ).build(),
+				ConstraintLocationKind.FIELD
+		);
+		builtInElTermResolver = new BuiltInElTermResolver();
+		elTermResolver = new ElTermResolver( ELManager.getExpressionFactory() );
+	}
+
+	@Test
+	public void defaultMessageExpressionsAreEvaluated() {
+		Map<String, Object> expressionVariables = new HashMap<>();
+		expressionVariables.put( "inclusive", true );
+		expressionVariables.put( "days", 2L );
+		expressionVariables.put( "hours", 1L );
+		expressionVariables.put( "minutes", 0L );
+		expressionVariables.put( "seconds", 0L );
+		expressionVariables.put( "millis", 0L );
+		expressionVariables.put( "nanos", 0L );
+
+		for ( Object validatedValue : new Object[] { 1.5d, new BigDecimal( "10.25" ) } ) {
+			MessageInterpolator.Context context = createContext( validatedValue, expressionVariables );
+			for ( String expression : DEFAULT_MESSAGE_EXPRESSIONS ) {
+				String resolvedExpression = builtInElTermResolver.interpolate( context, Locale.FRANCE, expression );
+				assertNotNull( resolvedExpression, expression );
+				assertEquals( resolvedExpression, elTermResolver.interpolate( context, Locale.FRANCE, expression ), expression );
+			}
+		}
+	}
+
+	@Test
+	public void unsupportedExpressionsAreDelegated() {
+		MessageInterpolator.Context context = createContext( "abc", Collections.emptyMap() );
+
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${validatedValue.length()}" ) );
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${min + 1}" ) );
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${1.5}" ) );
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${unknown}" ) );
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${validatedValue == 1}" ) );
+		assertNull( builtInElTermResolver.interpolate( context, Locale.ROOT, "${validatedValue ? 'a' : 'b'}" ) );
+	}
+
+	@Test
+	public void sameResultAsExpressionLanguage() {
+		Map<String, Object> expressionVariables = new HashMap<>();
+		expressionVariables.put( "l", 3L );
+		expressionVariables.put( "i", 12 );
+		expressionVariables.put( "bd", new BigDecimal( "3.00" ) );
+		expressionVariables.put( "d", 0.1d );
+		expressionVariables.put( "f", 0.1f );
+		expressionVariables.put( "s", "abc" );
+		expressionVariables.put( "t", "abd" );
+		expressionVariables.put( "b", false );
+		expressionVariables.put( "nil", null );
+		expressionVariables.put( "e", Mode.OFF );
+
+		Random random = new Random( 42 );
+		int evaluatedExpressions = 0;
+		for ( int i = 0; i < 5_000; i++ ) {
+			String expression = "${" + randomExpression( random, 3 ) + "}";
+			for ( Object validatedValue : VALIDATED_VALUES ) {
+				MessageInterpolator.Context context = createContext( validatedValue, expressionVariables );
+				String resolvedExpression = builtInElTermResolver.interpolate( context, Locale.ROOT, expression );
+				if ( resolvedExpression != null ) {
+					evaluatedExpressions++;
+					assertEquals( resolvedExpression, elTermResolver.interpolate( context, Locale.ROOT, expression ),
+							"Expression: " + expression + ", validated value: " + validatedValue );
+				}
+			}
+		}
+		assertTrue( evaluatedExpressions > 5_000, "Too few expressions evaluated: " + evaluatedExpressions );
+	}
+
+	private MessageInterpolator.Context createContext(Object validatedValue, Map<String, Object> expressionVariables) {
+		return new MessageInterpolatorContext(
+				sizeDescriptor,
+				validatedValue,
+				null,
+				null,
+				Collections.emptyMap(),
+				expressionVariables,
+				ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+				true
+		);
+	}
+
+	private static String randomExpression(Random random, int depth) {
+		int choice = depth == 0 ? random.nextInt( 2 ) : random.nextInt( 7 );
+		switch ( choice ) {
+			case 0:
+				return LITERALS[random.nextInt( LITERALS.length )];
+			case 1:
+				return VARIABLES[random.nextInt( VARIABLES.length )];
+			case 2:
+				return randomExpression( random, depth - 1 ) + " ? " + randomExpression( random, depth - 1 )
+						+ " : " + randomExpression( random, depth - 1 );
+			case 3:
+				return ( random.nextBoolean() ? "!" : "not " ) + randomExpression( random, depth - 1 );
+			case 4:
+				return "(" + randomExpression( random, depth - 1 ) + ")";
+			case 5:
+				return "formatter.format(" + ( random.nextBoolean() ? "'%s-%s'" : "'%1$.2f'" ) + ", "
+						+ randomExpression( random, depth - 1 ) + ", " + randomExpression( random, depth - 1 ) + ")";
+			default:
+				return randomExpression( random, depth - 1 ) + " " + BINARY_OPERATORS[random.nextInt( BINARY_OPERATORS.length )]
+						+ " " + randomExpression( random, depth - 1 );
+		}
+	}
+
+	private enum Mode {
+		ON,
+		OFF
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.messageinterpolation;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import jakarta.validation.MessageInterpolator.Context;
+
+import org.hibernate.validator.internal.engine.messageinterpolation.CompiledMessageTemplate;
+import org.hibernate.validator.internal.engine.messageinterpolation.InterpolationTermType;
+import org.hibernate.validator.internal.engine.messageinterpolation.TermResolver;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.MessageDescriptorFormatException;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenCollector;
+import org.hibernate.validator.internal.engine.messageinterpolation.parser.TokenIterator;
+
+import org.testng.annotations.Test;
+
+/**
+ * Compares the single pass interpolation of {@link CompiledMessageTemplate} with the parameter pass followed by the EL
+ * pass, each one parsing the message.
+ */
+public class CompiledMessageTemplateTest {
+
+	private static final String[] FRAGMENTS = {
+			"a", " must be ", "$", "\\", "\\\\", "\\{", "\\}", "\\$", "$$",
+			"{min}", "{max}", "{empty}", "{meta}", "{unknown}",
+			"${min}", "${validatedValue > 1 ? 'a' : 'b'}", "${meta}", "${'\\{'}",
+			"{", "}"
+	};
+
+	private static final TermResolver TERM_RESOLVER = new TermResolver() {
+
+		@Override
+		public String interpolate(Context context, Locale locale, String term) {
+			if ( term.startsWith( "$" ) ) {
+				// some of the evaluated expressions contain meta characters
+				return term.length() % 2 == 0 ? "<" + term.length() + ">" : "\\$" + term.length();
+			}
+			switch ( term ) {
+				case "{min}":
+					return "1";
+				case "{max}":
+					return "10";
+				case "{empty}":
+					return "";
+				case "{meta}":
+					return "${min}";
+				default:
+					return term;
+			}
+		}
+	};
+
+	@Test
+	public void interpolatesParametersAndExpressions() {
+		CompiledMessageTemplate template = CompiledMessageTemplate.compile( "must be between {min} and {max}, ${validatedValue}" );
+
+		assertEquals( template.interpolate( null, Locale.ROOT, true, TERM_RESOLVER ), "must be between 1 and 10, \\$17" );
+		assertEquals( template.interpolate( null, Locale.ROOT, false, TERM_RESOLVER ), "must be between 1 and 10, ${validatedValue}" );
+	}
+
+	@Test
+	public void parameterValuesContainingExpressionsAreInterpolated() {
+		CompiledMessageTemplate template = CompiledMessageTemplate.compile( "value {meta}" );
+
+		assertEquals( template.interpolate( null, Locale.ROOT, true, TERM_RESOLVER ), "value <6>" );
+	}
+
+	@Test
+	public void sameResultAsParsingPasses() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			StringBuilder message = new StringBuilder();
+			int fragments = random.nextInt( 6 );
+			for ( int j = 0; j < fragments; j++ ) {
+				message.append( FRAGMENTS[random.nextInt( FRAGMENTS.length )] );
+			}
+
+			for ( boolean expressionLanguageEnabled : new boolean[] { true, false } ) {
+				assertEquals(
+						compiledInterpolation( message.toString(), expressionLanguageEnabled ),
+						parsingPassesInterpolation( message.toString(), expressionLanguageEnabled ),
+						"Message: " + message + ", EL enabled: " + expressionLanguageEnabled
+				);
+			}
+		}
+	}
+
+	private static List<String> compiledInterpolation(String message, boolean expressionLanguageEnabled) {
+		RecordingTermResolver termResolver = new RecordingTermResolver();
+		try {
+			termResolver.resolved.add( CompiledMessageTemplate.compile( message )
+					.interpolate( null, Locale.ROOT, expressionLanguageEnabled, termResolver ) );
+		}
+		catch (MessageDescriptorFormatException e) {
+			termResolver.resolved.add( "invalid" );
+		}
+		return termResolver.resolved;
+	}
+
+	private static List<String> parsingPassesInterpolation(String message, boolean expressionLanguageEnabled) {
+		RecordingTermResolver termResolver = new RecordingTermResolver();
+		try {
+			String interpolatedMessage = message;
+			if ( message.indexOf( '{' ) > -1 ) {
+				interpolatedMessage = interpolate( interpolatedMessage, InterpolationTermType.PARAMETER, termResolver );
+				if ( expressionLanguageEnabled ) {
+					interpolatedMessage = interpolate( interpolatedMessage, InterpolationTermType.EL, termResolver );
+				}
+			}
+			termResolver.resolved.add( interpolatedMessage );
+		}
+		catch (MessageDescriptorFormatException e) {
+			termResolver.resolved.add( "invalid" );
+		}
+		return termResolver.resolved;
+	}
+
+	private static String interpolate(String message, InterpolationTermType type, TermResolver termResolver) {
+		TokenIterator tokenIterator = new TokenIterator( message, new TokenCollector( message, type ).getTokenList() );
+		while ( tokenIterator.hasMoreInterpolationTerms() ) {
+			String term = tokenIterator.nextInterpolationTerm();
+			tokenIterator.replaceCurrentInterpolationTerm( termResolver.interpolate( null, Locale.ROOT, term ) );
+		}
+		return tokenIterator.getInterpolatedMessage();
+	}
+
+	/**
+	 * Records the resolved terms, in order, followed by the interpolated message.
+	 */
+	private static class RecordingTermResolver implements TermResolver {
+
+		private final List<String> resolved = new ArrayList<>();
+
+		@Override
+		public String interpolate(Context context, Locale locale, String term) {
+			resolved.add( term );
+			return TERM_RESOLVER.interpolate( context, locale, term );
+		}
+	}
+}
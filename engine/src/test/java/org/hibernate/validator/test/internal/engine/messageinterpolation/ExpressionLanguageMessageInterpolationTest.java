@@ -115,6 +115,27 @@ public void testExpressionLanguageGraphNavigationVariables() {
 		assertEquals( actual, expected, "Wrong substitution" );
 	}
 
+	@Test
+	public void testParsedExpressionIsEvaluatedWithTheValuesOfEachInterpolation() {
+		for ( int age = 18; age < 21; age++ ) {
+			User user = new User();
+			user.setAge( age );
+			MessageInterpolator.Context context = new MessageInterpolatorContext(
+					sizeDescriptor,
+					user,
+					null,
+					null,
+					Collections.<String, Object>emptyMap(),
+					Collections.<String, Object>singletonMap( "unit", "year" + age ),
+					ExpressionLanguageFeatureLevel.BEAN_PROPERTIES,
+					false );
+
+			String expected = age + " year" + age + " 0";
+			String actual = interpolatorUnderTest.interpolate( "${validatedValue.age += ' ' += unit += ' ' += min}", context );
+			assertEquals( actual, expected, "Wrong substitution" );
+		}
+	}
+
 	@Test
 	public void testUnknownPropertyInExpressionLanguageGraphNavigation() {
 		MessageInterpolator.Context context = new MessageInterpolatorContext(
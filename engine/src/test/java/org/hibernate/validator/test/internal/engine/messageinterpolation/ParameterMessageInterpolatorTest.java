@@ -9,12 +9,20 @@
 import static org.hibernate.validator.testutils.ValidatorUtil.getConfiguration;
 import static org.testng.Assert.assertTrue;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
 import java.util.Set;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
+import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.Size;
 
+import org.hibernate.validator.constraints.time.DurationMax;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+
 import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
 import org.hibernate.validator.testutil.TestForIssue;
 import org.hibernate.validator.testutils.ListAppender;
@@ -83,6 +91,29 @@ public void testParameterMessageInterpolatorIgnoresELExpressions() {
 				.anyMatch( m -> m.startsWith( "HV000185" ) ) );
 	}
 
+	@Test
+	public void testParameterMessageInterpolatorEvaluatesBuiltInExpressionsWhenEnabled() {
+		Validator builtInExpressionsValidator = getConfiguration()
+				.messageInterpolator( new ParameterMessageInterpolator( Collections.emptySet(), Locale.ENGLISH, new DefaultLocaleResolver(), false, true ) )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( builtInExpressionsValidator.validate( new Bar() ) ).containsOnlyViolations(
+				violationOf( Size.class )
+						.withProperty( "value" )
+						.withMessage( "123" ),
+				violationOf( DecimalMax.class )
+						.withProperty( "amount" )
+						.withMessage( "must be less than or equal to 10" ),
+				violationOf( DurationMax.class )
+						.withProperty( "duration" )
+						.withMessage( "must be shorter than or equal to 1 day 2 hours" ),
+				violationOf( Size.class )
+						.withProperty( "length" )
+						.withMessage( "${validatedValue.length()}" )
+		);
+	}
+
 	public static class Foo {
 		@Size(max = 1, message = "{max}")
 		private String snafu = "12";
@@ -90,4 +121,18 @@ public static class Foo {
 		@Size(max = 2, message = "${validatedValue}")
 		private String bar = "123";
 	}
+
+	public static class Bar {
+		@Size(max = 2, message = "${validatedValue}")
+		private String value = "123";
+
+		@DecimalMax("10")
+		private BigDecimal amount = BigDecimal.TEN.add( BigDecimal.ONE );
+
+		@DurationMax(days = 1, hours = 2)
+		private Duration duration = Duration.ofDays( 2 );
+
+		@Size(max = 2, message = "${validatedValue.length()}")
+		private String length = "123";
+	}
 }
@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.path;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.validation.Path;
+
+import org.hibernate.validator.internal.engine.path.MutablePath;
+
+import org.testng.annotations.Test;
+
+/**
+ * Compares the parsing of the string property paths with the parsing based on a regular expression used by the
+ * previous versions.
+ */
+public class PropertyPathParsingTest {
+
+	private static final Pattern PATH_PATTERN = Pattern.compile( "([^\\[\\.]++)(\\[(\\w*+)\\])?(\\.(.++))*+" );
+
+	private static final String[] FRAGMENTS = {
+			"a", "orders", "_b", "$c", "1", "[", "]", ".", "[0]", "[12]", "[key]", "[]", "[-1]", "[99999999999]", " ",
+			"\n", "\u00e9", "\u00a0", "\u2028", "-"
+	};
+
+	@Test
+	public void createdPathsAreIndependent() {
+		MutablePath path = MutablePath.createPathFromString( "orders[3].name" );
+		MutablePath otherPath = MutablePath.createPathFromString( "orders[3].name" );
+
+		assertNotSame( path.getLeafNode(), otherPath.getLeafNode() );
+
+		path.addPropertyNode( "other" );
+		assertEquals( path.asString(), "orders[3].name.other" );
+		assertEquals( otherPath.asString(), "orders[3].name" );
+	}
+
+	@Test
+	public void sameResultAsRegularExpression() {
+		Random random = new Random( 42 );
+		for ( int i = 0; i < 20_000; i++ ) {
+			StringBuilder propertyPath = new StringBuilder();
+			int fragments = 1 + random.nextInt( 6 );
+			for ( int j = 0; j < fragments; j++ ) {
+				propertyPath.append( FRAGMENTS[random.nextInt( FRAGMENTS.length )] );
+			}
+
+			// parse twice to also test the cached version
+			for ( int j = 0; j < 2; j++ ) {
+				assertEquals( describe( propertyPath.toString() ), describeWithRegularExpression( propertyPath.toString() ),
+						"Property path: " + propertyPath );
+			}
+		}
+	}
+
+	private static List<String> describe(String propertyPath) {
+		try {
+			return describe( MutablePath.createPathFromString( propertyPath ) );
+		}
+		catch (IllegalArgumentException e) {
+			return List.of( e.getMessage() );
+		}
+	}
+
+	private static List<String> describe(MutablePath path) {
+		List<String> description = new ArrayList<>();
+		for ( Path.Node node : path ) {
+			description.add( node.getName() + "|" + node.getKind() + "|" + node.isInIterable() + "|" + node.getIndex() + "|"
+					+ node.getKey() );
+		}
+		description.add( path.asString() );
+		return description;
+	}
+
+	private static List<String> describeWithRegularExpression(String propertyPath) {
+		try {
+			return describe( parseWithRegularExpression( propertyPath ) );
+		}
+		catch (IllegalArgumentException e) {
+			return List.of( e.getMessage() );
+		}
+	}
+
+	private static MutablePath parseWithRegularExpression(String propertyName) {
+		MutablePath path = MutablePath.createRootPath();
+		String tmp = propertyName;
+		do {
+			Matcher matcher = PATH_PATTERN.matcher( tmp );
+			if ( matcher.matches() ) {
+				String value = matcher.group( 1 );
+				if ( !isValidJavaIdentifier( value ) ) {
+					throw new IllegalArgumentException( "HV000034: " + value + " is not a valid Java Identifier." );
+				}
+
+				path.addPropertyNode( value );
+
+				if ( matcher.group( 2 ) != null ) {
+					path.makeLeafNodeIterable();
+				}
+
+				String indexOrKey = matcher.group( 3 );
+				if ( indexOrKey != null && !indexOrKey.isEmpty() ) {
+					try {
+						Integer index = Integer.parseInt( indexOrKey );
+						path.makeLeafNodeIterableAndSetIndex( index );
+					}
+					catch (NumberFormatException e) {
+						path.makeLeafNodeIterableAndSetMapKey( indexOrKey );
+					}
+				}
+
+				tmp = matcher.group( 5 );
+			}
+			else {
+				throw new IllegalArgumentException( "HV000035: Unable to parse property path " + propertyName + "." );
+			}
+		} while ( tmp != null );
+
+		if ( path.getLeafNode().isIterable() ) {
+			path.addBeanNode();
+		}
+
+		return path;
+	}
+
+	private static boolean isValidJavaIdentifier(String identifier) {
+		if ( identifier.isEmpty() || !Character.isJavaIdentifierStart( (int) identifier.charAt( 0 ) ) ) {
+			return false;
+		}
+		for ( int i = 1; i < identifier.length(); i++ ) {
+			if ( !Character.isJavaIdentifierPart( (int) identifier.charAt( i ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
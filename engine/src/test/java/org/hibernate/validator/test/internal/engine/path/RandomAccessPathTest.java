@@ -17,6 +17,33 @@
 
 public class RandomAccessPathTest {
 
+	@Test
+	public void testMaterializedPathsShareTheirPrefix() {
+		MutablePath mutablePath = MutablePath.createPathFromString( "orders" );
+		mutablePath.makeLeafNodeIterableAndSetIndex( 0 );
+		mutablePath.addPropertyNode( "name" );
+		RandomAccessPath first = (RandomAccessPath) mutablePath.materialize();
+
+		mutablePath.removeLeafNode();
+		mutablePath.addPropertyNode( "price" );
+		RandomAccessPath second = (RandomAccessPath) mutablePath.materialize();
+
+		assertThat( second.getNode( 0 ) ).isSameAs( first.getNode( 0 ) );
+		assertThat( first ).hasToString( "orders[0].name" );
+		assertThat( second ).hasToString( "orders[0].price" );
+
+		mutablePath.removeLeafNode();
+		mutablePath.makeLeafNodeIterableAndSetIndex( 1 );
+		mutablePath.addPropertyNode( "name" );
+		RandomAccessPath third = (RandomAccessPath) mutablePath.materialize();
+
+		assertThat( third.getNode( 0 ) ).isNotSameAs( first.getNode( 0 ) );
+		assertThat( third ).hasToString( "orders[1].name" );
+		assertThat( third ).isNotEqualTo( first );
+		assertThat( first ).hasToString( "orders[0].name" );
+		assertThat( first.getNode( 1 ).getIndex() ).isEqualTo( 0 );
+	}
+
 	@Test
 	public void testParsing() {
 		String property = "orders[3].deliveryAddress.addressline[1]";
@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.scripting;
+
+import static org.testng.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.validator.internal.engine.scripting.ExpressionScriptEvaluator;
+import org.hibernate.validator.spi.scripting.ScriptEvaluationException;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for {@link ExpressionScriptEvaluator}.
+ */
+public class ExpressionScriptEvaluatorTest {
+
+	private ExpressionScriptEvaluator evaluator;
+
+	private Map<String, Object> bindings;
+
+	@BeforeMethod
+	public void setUp() {
+		evaluator = new ExpressionScriptEvaluator();
+		bindings = new HashMap<>();
+		bindings.put( "_this", new Order( "ACME", 3, new BigDecimal( "12.50" ), List.of( "a", "b" ) ) );
+		bindings.put( "limit", 10 );
+	}
+
+	@Test
+	public void literals() {
+		assertEquals( evaluate( "true" ), true );
+		assertEquals( evaluate( "false" ), false );
+		assertEquals( evaluate( "null" ), null );
+		assertEquals( evaluate( "'single'" ), "single" );
+		assertEquals( evaluate( "\"double\"" ), "double" );
+		assertEquals( evaluate( "42" ), 42L );
+		assertEquals( evaluate( "4.2" ), new BigDecimal( "4.2" ) );
+	}
+
+	@Test
+	public void propertiesAndMethods() {
+		assertEquals( evaluate( "_this.customer" ), "ACME" );
+		assertEquals( evaluate( "_this.express" ), false );
+		assertEquals( evaluate( "_this.quantity" ), 3 );
+		assertEquals( evaluate( "_this.lines.size()" ), 2 );
+		assertEquals( evaluate( "_this.customer.startsWith('AC')" ), true );
+		assertEquals( evaluate( "_this.customer.substring(1, 3)" ), "CM" );
+		assertEquals( evaluate( "_this.hasLines()" ), true );
+	}
+
+	@Test
+	public void comparisons() {
+		assertEquals( evaluate( "_this.quantity < limit" ), true );
+		assertEquals( evaluate( "_this.quantity >= 3" ), true );
+		assertEquals( evaluate( "_this.quantity > 3" ), false );
+		assertEquals( evaluate( "_this.amount == 12.5" ), true );
+		assertEquals( evaluate( "_this.amount <= 12" ), false );
+		assertEquals( evaluate( "_this.customer == 'ACME'" ), true );
+		assertEquals( evaluate( "_this.customer != null" ), true );
+		assertEquals( evaluate( "_this.customer < 'BCME'" ), true );
+	}
+
+	@Test
+	public void logicalOperators() {
+		assertEquals( evaluate( "!_this.express" ), true );
+		assertEquals( evaluate( "_this.quantity > 0 && _this.quantity < limit" ), true );
+		assertEquals( evaluate( "_this.express || _this.quantity == 3" ), true );
+		assertEquals( evaluate( "!(_this.express || _this.quantity == 3)" ), false );
+		// the right operand is not evaluated
+		assertEquals( evaluate( "_this.express && unknown" ), false );
+		assertEquals( evaluate( "true || unknown" ), true );
+	}
+
+	@Test
+	public void notBindsTighterThanComparisons() {
+		assertEquals( evaluate( "!_this.express == true" ), true );
+		assertEquals( evaluate( "!_this.express != true" ), false );
+		assertEquals( evaluate( "!(_this.express == true)" ), true );
+		assertEquals( evaluate( "!_this.express == _this.hasLines() && _this.quantity == 3" ), true );
+	}
+
+	@Test
+	public void repeatedEvaluationUsesTheBindings() {
+		assertEquals( evaluate( "_this.quantity < limit" ), true );
+		bindings.put( "limit", 2 );
+		assertEquals( evaluate( "_this.quantity < limit" ), false );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000280.*")
+	public void unbalancedParenthesesRaiseException() {
+		evaluate( "(_this.quantity > 0" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000280.*")
+	public void trailingCharactersRaiseException() {
+		evaluate( "_this.quantity > 0 foo" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000281.*")
+	public void unknownVariableRaisesException() {
+		evaluate( "unknown.quantity > 0" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000282.*")
+	public void nullTargetRaisesException() {
+		bindings.put( "_this", null );
+		evaluate( "_this.quantity > 0" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000283.*")
+	public void unknownMemberRaisesException() {
+		evaluate( "_this.unknown > 0" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000283.*")
+	public void privateFieldIsNotAccessible() {
+		evaluate( "_this.secret == 'hidden'" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000285.*")
+	public void incomparableValuesRaiseException() {
+		evaluate( "_this.customer < 3" );
+	}
+
+	@Test(expectedExceptions = ScriptEvaluationException.class, expectedExceptionsMessageRegExp = "HV000286.*")
+	public void nonBooleanOperandRaisesException() {
+		evaluate( "_this.quantity && true" );
+	}
+
+	private Object evaluate(String expression) {
+		return evaluator.evaluate( expression, bindings );
+	}
+
+	@SuppressWarnings("unused")
+	private static class Order {
+
+		private final String customer;
+		private final int quantity;
+		private final BigDecimal amount;
+		private final List<String> lines;
+		private final String secret = "hidden";
+
+		private Order(String customer, int quantity, BigDecimal amount, List<String> lines) {
+			this.customer = customer;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.lines = lines;
+		}
+
+		public String getCustomer() {
+			return customer;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public boolean isExpress() {
+			return false;
+		}
+
+		public List<String> getLines() {
+			return lines;
+		}
+
+		public boolean hasLines() {
+			return !lines.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.engine.skipmessageinterpolation;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Payload;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Size;
+
+import org.hibernate.validator.HibernateValidator;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorContext;
+import org.hibernate.validator.engine.ConstraintViolationJsonWriter;
+import org.hibernate.validator.engine.HibernateConstraintViolation;
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the mode skipping the message interpolation and for {@link ConstraintViolationJsonWriter}.
+ */
+public class SkipMessageInterpolationTest {
+
+	@Test
+	public void testMessagesAreInterpolatedByDefault() {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class, Locale.ENGLISH )
+				.buildValidatorFactory()
+				.getValidator();
+
+		assertThat( validator.validate( new Foo( "a" ) ) ).containsOnlyViolations(
+				violationOf( Size.class ).withMessage( "size must be between 2 and 10" ),
+				violationOf( Forbidden.class ).withMessage( "bar is \"forbidden\"" )
+		);
+	}
+
+	@Test
+	public void testSkipMessageInterpolation() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.messageInterpolator( new FailingMessageInterpolator() )
+				.skipMessageInterpolation( true );
+
+		assertMessagesAreTemplates( configuration.buildValidatorFactory().getValidator() );
+	}
+
+	@Test
+	public void testSkipMessageInterpolationUsingProperty() {
+		HibernateValidatorConfiguration configuration = ValidatorUtil.getConfiguration( HibernateValidator.class );
+		configuration.messageInterpolator( new FailingMessageInterpolator() )
+				.addProperty( HibernateValidatorConfiguration.SKIP_MESSAGE_INTERPOLATION, Boolean.TRUE.toString() );
+
+		assertMessagesAreTemplates( configuration.buildValidatorFactory().getValidator() );
+	}
+
+	@Test
+	public void testSkipMessageInterpolationUsingValidatorContext() {
+		ValidatorFactory validatorFactory = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.messageInterpolator( new FailingMessageInterpolator() )
+				.buildValidatorFactory();
+
+		assertMessagesAreTemplates( validatorFactory.unwrap( HibernateValidatorFactory.class )
+				.usingContext()
+				.skipMessageInterpolation( true )
+				.getValidator() );
+	}
+
+	@Test
+	public void testViolationsAreWrittenAsJson() throws IOException {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class )
+				.skipMessageInterpolation( true )
+				.buildValidatorFactory()
+				.getValidator();
+
+		Set<ConstraintViolation<Bar>> constraintViolations = validator.validate( new Bar( "caf\u00e9" ) );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ConstraintViolationJsonWriter.write( constraintViolations, out );
+
+		String expected = "[{\"path\":\"name\",\"messageTemplate\":\"{value} is \\\"forbidden\\\"\","
+				+ "\"constraint\":\"" + Forbidden.class.getName() + "\",\"attributes\":{\"value\":\"bar\"},"
+				+ "\"messageParameters\":{\"name\":\"caf\u00e9\\n\"},\"expressionVariables\":{\"length\":4}}]";
+		assertEquals( new String( out.toByteArray(), StandardCharsets.UTF_8 ), expected );
+
+		ByteBuffer buffer = ByteBuffer.allocate( 1024 );
+		ConstraintViolationJsonWriter.write( constraintViolations, buffer );
+		assertEquals( new String( buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8 ), expected );
+	}
+
+	@Test
+	public void testInterpolatedMessagesAreWrittenAsJson() throws IOException {
+		Validator validator = ValidatorUtil.getConfiguration( HibernateValidator.class, Locale.ENGLISH )
+				.buildValidatorFactory()
+				.getValidator();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ConstraintViolationJsonWriter.write( validator.validate( new Baz() ), out );
+		String json = new String( out.toByteArray(), StandardCharsets.UTF_8 );
+
+		assertTrue( json.startsWith( "[{\"path\":\"values\",\"messageTemplate\":\"{jakarta.validation.constraints.Size.message}\","
+				+ "\"message\":\"size must be between 2 and 10\",\"constraint\":\"jakarta.validation.constraints.Size\"," ), json );
+		assertTrue( json.contains( "\"min\":2" ), json );
+		assertTrue( json.contains( "\"max\":10" ), json );
+		assertTrue( !json.contains( "\"groups\"" ) && !json.contains( "\"payload\"" ), json );
+	}
+
+	private static void assertMessagesAreTemplates(Validator validator) {
+		Set<ConstraintViolation<Foo>> constraintViolations = validator.validate( new Foo( "a" ) );
+
+		assertThat( constraintViolations ).containsOnlyViolations(
+				violationOf( Size.class ).withMessage( "{jakarta.validation.constraints.Size.message}" ),
+				violationOf( Forbidden.class ).withMessage( "{value} is \"forbidden\"" )
+		);
+		for ( ConstraintViolation<Foo> constraintViolation : constraintViolations ) {
+			if ( constraintViolation.getConstraintDescriptor().getAnnotation() instanceof Forbidden ) {
+				HibernateConstraintViolation<?> hibernateConstraintViolation = constraintViolation.unwrap( HibernateConstraintViolation.class );
+				assertEquals( hibernateConstraintViolation.getMessageParameters().get( "name" ), "a\n" );
+				assertEquals( hibernateConstraintViolation.getExpressionVariables().get( "length" ), 1 );
+			}
+		}
+	}
+
+	private static class Foo {
+
+		@Size(min = 2, max = 10)
+		@Forbidden("bar")
+		private final String name;
+
+		private Foo(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Bar {
+
+		@Forbidden("bar")
+		private final String name;
+
+		private Bar(String name) {
+			this.name = name;
+		}
+	}
+
+	private static class Baz {
+
+		@Size(min = 2, max = 10)
+		private final int[] values = { 1 };
+	}
+
+	@Target({ FIELD })
+	@Retention(RUNTIME)
+	@Constraint(validatedBy = { ForbiddenValidator.class })
+	public @interface Forbidden {
+
+		String value();
+
+		String message() default "{value} is \"forbidden\"";
+
+		Class<?>[] groups() default { };
+
+		Class<? extends Payload>[] payload() default { };
+	}
+
+	public static class ForbiddenValidator implements ConstraintValidator<Forbidden, String> {
+
+		@Override
+		public boolean isValid(String value, ConstraintValidatorContext context) {
+			// the non scalar values are not written by the JSON writer, even if they reference themselves
+			List<Object> selfReferencingList = new ArrayList<>();
+			selfReferencingList.add( selfReferencingList );
+
+			context.unwrap( HibernateConstraintValidatorContext.class )
+					.addMessageParameter( "name", value + "\n" )
+					.addMessageParameter( "bean", new Bar( value ) )
+					.addExpressionVariable( "length", value.length() )
+					.addExpressionVariable( "list", selfReferencingList );
+			return false;
+		}
+	}
+
+	private static class FailingMessageInterpolator implements MessageInterpolator {
+
+		@Override
+		public String interpolate(String messageTemplate, Context context) {
+			throw new IllegalStateException( "The message interpolator should not be called" );
+		}
+
+		@Override
+		public String interpolate(String messageTemplate, Context context, Locale locale) {
+			throw new IllegalStateException( "The message interpolator should not be called" );
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.metadata.core;
+
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.assertThat;
+import static org.hibernate.validator.testutil.ConstraintViolationAssert.violationOf;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.testutils.ValidatorUtil;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests that equivalent constraints share their descriptor.
+ */
+public class ConstraintInternerTest {
+
+	private Validator validator;
+
+	@BeforeClass
+	public void setUp() {
+		validator = ValidatorUtil.getValidator();
+	}
+
+	@Test
+	public void equivalent_constraints_share_their_descriptor() {
+		assertSame( getDescriptor( Foo.class, "name" ), getDescriptor( Foo.class, "description" ) );
+		assertSame( getDescriptor( Foo.class, "name" ), getDescriptor( Bar.class, "name" ) );
+	}
+
+	@Test
+	public void constraints_with_different_attributes_or_groups_are_not_shared() {
+		assertNotSame( getDescriptor( Foo.class, "code" ), getDescriptor( Bar.class, "code" ) );
+		assertNotSame( getDescriptor( Foo.class, "name" ), getDescriptor( Bar.class, "description" ) );
+	}
+
+	@Test
+	public void validation_is_not_affected_by_sharing() {
+		assertThat( validator.validate( new Foo() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( NotNull.class ).withProperty( "description" ),
+				violationOf( Size.class ).withProperty( "code" )
+		);
+		assertThat( validator.validate( new Bar() ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "name" ),
+				violationOf( Size.class ).withProperty( "code" )
+		);
+		assertThat( validator.validate( new Bar(), Group.class ) ).containsOnlyViolations(
+				violationOf( NotNull.class ).withProperty( "description" )
+		);
+	}
+
+	private ConstraintDescriptor<?> getDescriptor(Class<?> beanClass, String property) {
+		return validator.getConstraintsForClass( beanClass )
+				.getConstraintsForProperty( property )
+				.getConstraintDescriptors()
+				.iterator()
+				.next();
+	}
+
+	private interface Group {
+	}
+
+	private static class Foo {
+
+		@NotNull
+		private String name;
+
+		@NotNull
+		private String description;
+
+		@Size(min = 2)
+		private String code = "a";
+	}
+
+	private static class Bar {
+
+		@NotNull
+		private String name;
+
+		@NotNull(groups = Group.class)
+		private String description;
+
+		@Size(min = 3)
+		private String code = "ab";
+	}
+}
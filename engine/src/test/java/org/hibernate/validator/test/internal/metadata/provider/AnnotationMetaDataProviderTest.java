@@ -298,6 +298,17 @@ public void onlyLocallyDefinedConstraintsAreConsidered() {
 		assertThat( constraintInSubType.getAnnotation().annotationType() ).isEqualTo( ScriptAssert.class );
 	}
 
+	@Test
+	public void beanConfigurationIsRetrievedOnlyOnce() {
+		BeanConfiguration<PersonBase> beanConfiguration = provider.getBeanConfiguration( PersonBase.class );
+
+		assertThat( provider.getBeanConfiguration( PersonBase.class ) ).isSameAs( beanConfiguration );
+
+		provider.clear();
+
+		assertThat( provider.getBeanConfiguration( PersonBase.class ) ).isNotSameAs( beanConfiguration );
+	}
+
 	@Test(expectedExceptions = ConstraintDeclarationException.class, expectedExceptionsMessageRegExp = "HV000124.*")
 	public void groupConversionWithSameFromInSingleAndListAnnotationCauseException() {
 		provider.getBeanConfiguration( User3.class );
@@ -7,8 +7,11 @@
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.hibernate.validator.internal.util.ModUtil;
 import org.hibernate.validator.testutil.TestForIssue;
@@ -98,4 +101,49 @@ public void testFailMod11SelfValidation() throws Exception {
 		assertFalse( ModUtil.calculateModXCheckWithWeights( digits, 11, Integer.MAX_VALUE ) == 2 );
 	}
 
+	@Test
+	public void testCharSequenceChecksumsMatchListChecksums() {
+		Random random = new Random( 7 );
+		for ( int i = 0; i < 1_000; i++ ) {
+			StringBuilder value = new StringBuilder( "ab" );
+			List<Integer> digits = new ArrayList<>();
+			int numberOfDigits = random.nextInt( 20 );
+			for ( int j = 0; j < numberOfDigits; j++ ) {
+				int digit = random.nextInt( 10 );
+				digits.add( digit );
+				value.append( digit );
+				if ( random.nextInt( 4 ) == 0 ) {
+					value.append( '-' );
+				}
+			}
+			value.append( "cd" );
+			int endIndex = value.length() - 2;
+			int[] weights = random.nextBoolean() ? new int[] { 3, 7, 1 } : new int[0];
+
+			assertEquals( ModUtil.calculateLuhnMod10Check( value, 2, endIndex, true ), ModUtil.calculateLuhnMod10Check( digits ) );
+			assertEquals( ModUtil.calculateMod10Check( value, 2, endIndex, true, 3, 1 ), ModUtil.calculateMod10Check( digits, 3, 1 ) );
+			assertEquals( ModUtil.calculateModXCheckWithWeights( value, 2, endIndex, true, false, 11, 7, weights ),
+					ModUtil.calculateModXCheckWithWeights( digits, 11, 7, weights ) );
+			assertEquals( ModUtil.countDigits( value, 2, endIndex, true ), numberOfDigits );
+
+			List<Integer> reversedDigits = new ArrayList<>( digits );
+			Collections.reverse( reversedDigits );
+			assertEquals( ModUtil.calculateModXCheckWithWeights( value, 2, endIndex, true, true, 11, 7, weights ),
+					ModUtil.calculateModXCheckWithWeights( reversedDigits, 11, 7, weights ) );
+		}
+	}
+
+	@Test
+	public void testCharSequenceChecksumsWithNonDigitCharacters() {
+		assertEquals( ModUtil.calculateLuhnMod10Check( "7992-7398-71", 0, 12, false ), ModUtil.NOT_A_DIGIT );
+		assertEquals( ModUtil.calculateLuhnMod10Check( "7992-7398-71", 0, 12, true ), 3 );
+		assertEquals( ModUtil.calculateMod10Check( "331814296A", 0, 10, false, 3, 1 ), ModUtil.NOT_A_DIGIT );
+		assertEquals( ModUtil.calculateModXCheckWithWeights( "036 532", 0, 7, false, false, 11, Integer.MAX_VALUE ), ModUtil.NOT_A_DIGIT );
+		assertEquals( ModUtil.calculateModXCheckWithWeights( "036 532", 0, 7, true, false, 11, Integer.MAX_VALUE ), 7 );
+		assertEquals( ModUtil.countDigits( "036 532", 0, 7, false ), ModUtil.NOT_A_DIGIT );
+
+		// Unicode digits are accepted unless the non digit characters are ignored
+		assertEquals( ModUtil.calculateLuhnMod10Check( "\u0667", 0, 1, false ), 5 );
+		assertEquals( ModUtil.calculateLuhnMod10Check( "\u0667", 0, 1, true ), 0 );
+	}
 }
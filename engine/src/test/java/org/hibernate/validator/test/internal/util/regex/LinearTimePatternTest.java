@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.validator.test.internal.util.regex;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.hibernate.validator.internal.util.regex.LinearTimePattern;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Compares the results of {@link LinearTimePattern} with the ones of {@link Pattern}.
+ */
+public class LinearTimePatternTest {
+
+	private static final String[] INPUTS = {
+			"", "a", "A", "b", "ab", "aB", "abc", "abcabc", "aaa", "aaab", "ba", "foo", "foobar", "FooBar", "x_1", "a-b",
+			"a.b", "1", "42", "123-456", "12345", " ", "\t", "a b", "\n", "a\n", "\r\n", "\u0085", "\u2028", "\u00E9", "\u00C9",
+			"\uD83D\uDE00", "a\uD83D\uDE00", "\uD83D", "[", "]", "-", "^", "$", "\\", "a|b", "(a)", "{1}", "john.doe@example.com",
+			"john@localhost", "2024-02-29", "+33 6 12 34 56 78", "ABC-123", "abc-", "-abc", "a1b2c3", "Zz", "zZ"
+	};
+
+	@DataProvider(name = "supportedRegexps")
+	public Object[][] supportedRegexps() {
+		return new Object[][] {
+				{ "", 0 },
+				{ "a", 0 },
+				{ "abc", 0 },
+				{ "a|b", 0 },
+				{ "|^.*foo$", 0 },
+				{ "^foobar$", 0 },
+				{ "a$|^b", 0 },
+				{ "a*", 0 },
+				{ "a+b", 0 },
+				{ "a?b?c?", 0 },
+				{ "a*?b", 0 },
+				{ "(abc)+", 0 },
+				{ "(?:abc)*", 0 },
+				{ "(?<word>[a-z]+)(-[a-z]+)*", 0 },
+				{ "a{3}", 0 },
+				{ "a{2,}b", 0 },
+				{ "a{0,2}b?", 0 },
+				{ "(a|ab)(c|bcd)?", 0 },
+				{ "(a*)*", 0 },
+				{ "(a|b?)+", 0 },
+				{ "[abc]+", 0 },
+				{ "[^abc]*", 0 },
+				{ "[a-z]+", 0 },
+				{ "[a-zA-Z_0-9-]+", 0 },
+				{ "[-a]+", 0 },
+				{ "[a-]+", 0 },
+				{ "[\\w.]+", 0 },
+				{ "[^\\W\\d]+", 0 },
+				{ "[\\[\\]\\\\^$]+", 0 },
+				{ "[\\x41-\\u005A]+", 0 },
+				{ "\\d+", 0 },
+				{ "\\D+", 0 },
+				{ "\\w+", 0 },
+				{ "\\W*", 0 },
+				{ "\\s*", 0 },
+				{ "\\S+", 0 },
+				{ "\\d{3}-\\d{3}", 0 },
+				{ "\\d{4}-\\d{2}-\\d{2}", 0 },
+				{ "\\+?[0-9 ]+", 0 },
+				{ "[A-Z]{3}-\\d{3}", 0 },
+				{ "[a-z0-9._%+-]+@[a-z0-9.-]+(\\.[a-z]{2,})?", 0 },
+				{ "\\.\\*\\|\\(a\\)", 0 },
+				{ "\\Qa.b\\E", 0 },
+				{ "\\Q{1}", 0 },
+				{ "\\Qab\\E+", 0 },
+				{ "(\\Qab\\E){2}|\\Qa\\E?b", 0 },
+				{ "\\t|\\n|\\r\\n", 0 },
+				{ ".", 0 },
+				{ ".*", 0 },
+				{ ".+", Pattern.DOTALL },
+				{ ".*", Pattern.UNIX_LINES },
+				{ "\uD83D\uDE00|a.", 0 },
+				{ "[^a]", 0 },
+				{ "abc", Pattern.CASE_INSENSITIVE },
+				{ "[a-c]+", Pattern.CASE_INSENSITIVE },
+				{ "[^a-c]+", Pattern.CASE_INSENSITIVE },
+				{ "[X-c]+", Pattern.CASE_INSENSITIVE },
+				{ "\u00E9", Pattern.CASE_INSENSITIVE },
+				{ "foo.*", Pattern.CASE_INSENSITIVE | Pattern.MULTILINE },
+				{ "z*", Pattern.UNICODE_CASE },
+				{ "a}]", 0 },
+		};
+	}
+
+	@Test(dataProvider = "supportedRegexps")
+	public void matchesLikeJavaRegex(String regexp, int flags) {
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, flags );
+		assertNotNull( linearTimePattern, regexp );
+
+		Pattern pattern = Pattern.compile( regexp, flags );
+		for ( String input : INPUTS ) {
+			assertEquals( linearTimePattern.matches( input ), pattern.matcher( input ).matches(), "Regexp: " + regexp + ", input: " + input );
+		}
+	}
+
+	@Test
+	public void matchesLikeJavaRegexForRandomInputs() {
+		String[] regexps = { "(a|b)*abb", "(a|ab)*b?", "[ab]{2,5}a?", "(ab|ba|a)+", "a(b|c)*?c", "(a?){5}a{5}" };
+		Random random = new Random( 42 );
+
+		for ( String regexp : regexps ) {
+			LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, 0 );
+			Pattern pattern = Pattern.compile( regexp );
+			for ( int i = 0; i < 500; i++ ) {
+				StringBuilder input = new StringBuilder();
+				int length = random.nextInt( 12 );
+				for ( int j = 0; j < length; j++ ) {
+					input.append( "abc".charAt( random.nextInt( 3 ) ) );
+				}
+				assertEquals( linearTimePattern.matches( input ), pattern.matcher( input ).matches(), "Regexp: " + regexp + ", input: " + input );
+			}
+		}
+	}
+
+	@Test
+	public void quantifierFollowingQuotationAppliesToLastCharacter() {
+		String regexp = "\\Qab\\E+";
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, 0 );
+		Pattern pattern = Pattern.compile( regexp );
+
+		for ( String input : new String[] { "a", "ab", "abb", "abbb", "abab" } ) {
+			assertEquals( linearTimePattern.matches( input ), pattern.matcher( input ).matches(), input );
+		}
+		assertTrue( linearTimePattern.matches( "abbb" ) );
+		assertFalse( linearTimePattern.matches( "abab" ) );
+	}
+
+	@Test
+	public void largeAutomatonMatchesLikeJavaRegex() {
+		// more than 64 states, the bitmask optimization is not used
+		String regexp = "[a-z]{1,50}(\\.[a-z]{1,50})*";
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( regexp, 0 );
+		Pattern pattern = Pattern.compile( regexp );
+
+		for ( String input : new String[] { "a", "a.b", "a..b", "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz", "a.", "hibernate.validator" } ) {
+			assertEquals( linearTimePattern.matches( input ), pattern.matcher( input ).matches(), input );
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void matchingTimeIsLinear() {
+		LinearTimePattern linearTimePattern = LinearTimePattern.compile( "(a+)+b", 0 );
+		String input = "a".repeat( 100_000 ) + "c";
+
+		assertFalse( linearTimePattern.matches( input ) );
+		assertTrue( linearTimePattern.matches( "a".repeat( 100_000 ) + "b" ) );
+	}
+
+	@DataProvider(name = "unsupportedRegexps")
+	public Object[][] unsupportedRegexps() {
+		return new Object[][] {
+				{ "(a)\\1", 0 },
+				{ "a(?=b)b", 0 },
+				{ "a(?!b)c", 0 },
+				{ "(?<=a)b", 0 },
+				{ "(?>a+)b", 0 },
+				{ "(?i)abc", 0 },
+				{ "a++b", 0 },
+				{ "\\bword\\b", 0 },
+				{ "\\p{L}+", 0 },
+				{ "[a-z&&[^e]]", 0 },
+				{ "[a[bc]]", 0 },
+				{ "a^b", 0 },
+				{ "(^a)", 0 },
+				{ "a$b", 0 },
+				{ "\\x{1F600}", 0 },
+				{ "abc", Pattern.COMMENTS },
+				{ "abc", Pattern.CANON_EQ },
+				{ "abc", Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE },
+				{ "[a-z]{1,5000}", 0 },
+		};
+	}
+
+	@Test(dataProvider = "unsupportedRegexps")
+	public void unsupportedFeaturesAreDetected(String regexp, int flags) {
+		Pattern.compile( regexp, flags );
+
+		assertNull( LinearTimePattern.compile( regexp, flags ), regexp );
+	}
+}
@@ -19,6 +19,7 @@
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.MessageInterpolator;
@@ -35,7 +36,10 @@
 import jakarta.validation.constraints.Positive;
 
 import org.hibernate.validator.PredefinedScopeHibernateValidator;
+import org.hibernate.validator.internal.engine.messageinterpolation.DefaultLocaleResolver;
+import org.hibernate.validator.messageinterpolation.ResourceBundleMessageInterpolator;
 import org.hibernate.validator.metadata.BeanMetaDataClassNormalizer;
+import org.hibernate.validator.spi.resourceloading.ResourceBundleLocator;
 import org.hibernate.validator.testutil.TestForIssue;
 
 import org.assertj.core.api.Assertions;
@@ -369,6 +373,33 @@ public void testXmlDefinedConstraintsDiscoveryEnabled() {
 		}
 	}
 
+	@Test
+	public void testMessagesAreResolvedAtBootstrap() {
+		AtomicInteger resourceBundleLookups = new AtomicInteger();
+		ResourceBundleLocator userResourceBundleLocator = locale -> {
+			resourceBundleLookups.incrementAndGet();
+			return null;
+		};
+
+		try (
+				ValidatorFactory factory = Validation.byProvider( PredefinedScopeHibernateValidator.class )
+						.configure()
+						.builtinConstraints( new HashSet<>( Arrays.asList( Email.class.getName(), NotNull.class.getName() ) ) )
+						.initializeBeanMetaData( Collections.singleton( Bean.class ) )
+						.messageInterpolator( new ResourceBundleMessageInterpolator( userResourceBundleLocator,
+								Collections.singleton( Locale.ENGLISH ), Locale.ENGLISH, new DefaultLocaleResolver(), true ) )
+						.buildValidatorFactory()
+		) {
+			Assertions.assertThat( resourceBundleLookups.get() ).isPositive();
+			resourceBundleLookups.set( 0 );
+
+			assertThat( factory.getValidator().validate( new Bean( null, "invalid" ) ) ).containsOnlyViolations(
+					violationOf( NotNull.class ).withProperty( "property" ).withMessage( "must not be null" ),
+					violationOf( Email.class ).withProperty( "email" ).withMessage( "must be a well-formed email address" ) );
+			Assertions.assertThat( resourceBundleLookups.get() ).isZero();
+		}
+	}
+
 	private static ValidatorFactory getValidatorFactory() {
 		Set<Class<?>> beanMetaDataToInitialize = new HashSet<>();
 		beanMetaDataToInitialize.add( Bean.class );
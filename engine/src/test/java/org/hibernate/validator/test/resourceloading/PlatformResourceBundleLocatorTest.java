@@ -8,6 +8,8 @@
 import static org.hibernate.validator.internal.util.CollectionHelper.newArrayList;
 import static org.hibernate.validator.internal.util.CollectionHelper.newHashMap;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 import java.io.IOException;
 import java.net.URL;
@@ -21,6 +23,7 @@
 import java.util.Map;
 import java.util.ResourceBundle;
 
+import org.hibernate.validator.internal.engine.messageinterpolation.FlattenedResourceBundle;
 import org.hibernate.validator.resourceloading.PlatformResourceBundleLocator;
 
 import org.testng.annotations.BeforeMethod;
@@ -69,6 +72,27 @@ public void the_most_specific_key_value_pair_is_returned() {
 		);
 	}
 
+	@Test
+	public void the_bundle_is_flattened_once() {
+		ResourceBundle resourceBundle = bundleLocator.getResourceBundle( Locale.GERMAN );
+		assertThat( resourceBundle ).isInstanceOf( FlattenedResourceBundle.class );
+		assertSame( bundleLocator.getResourceBundle( Locale.GERMAN ), resourceBundle );
+
+		FlattenedResourceBundle flattenedResourceBundle = (FlattenedResourceBundle) resourceBundle;
+		assertEquals( flattenedResourceBundle.getMessage( "foo" ), "123_de" );
+		assertEquals( flattenedResourceBundle.getMessage( "bar" ), resourceBundle.getString( "bar" ) );
+		assertNull( flattenedResourceBundle.getMessage( "unknown" ) );
+	}
+
+	@Test
+	public void the_flattened_bundle_keeps_the_locale_and_base_name() {
+		ResourceBundle resourceBundle = new PlatformResourceBundleLocator( BASE_RESOURCE_NAME ).getResourceBundle( Locale.GERMAN );
+
+		assertThat( resourceBundle ).isInstanceOf( FlattenedResourceBundle.class );
+		assertEquals( resourceBundle.getLocale(), Locale.GERMAN );
+		assertEquals( resourceBundle.getBaseBundleName(), BASE_RESOURCE_NAME );
+	}
+
 	public class TestClassLoader extends URLClassLoader {
 		private final Map<String, List<String>> mappedResources;
 